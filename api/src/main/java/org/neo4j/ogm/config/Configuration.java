@@ -42,6 +42,17 @@ public class Configuration {
     private static final String GENERATED_INDEXES_OUTPUT_FILENAME = "indexes.auto.dump.filename";
     private static final String NEO4J_HA_PROPERTIES_FILE = "neo4j.ha.properties.file";
     private static final String NEO4J_VERSION = "neo4j.version";
+    private static final String QUERY_LOG_SLOW_THRESHOLD = "query.log.slow.threshold";
+    private static final String QUERY_LOG_SAMPLE_RATE = "query.log.sample.rate";
+    private static final String QUERY_LOG_PARAMETERS_MAX_LENGTH = "query.log.parameters.max.length";
+    private static final String HTTP_ASYNC = "http.async";
+    private static final String HTTP_COMPRESSION = "http.compression";
+    private static final String EMBEDDED_NATIVE = "embedded.native";
+    private static final String MAPPING_PARALLELISM = "mapping.parallelism";
+    private static final String MAPPING_PARALLEL_THRESHOLD = "mapping.parallel.threshold";
+    private static final String MAPPING_IDENTITY_REFERENCES = "mapping.identity.references";
+    private static final String MAPPING_IDENTITY_CAPACITY = "mapping.identity.capacity";
+    private static final String MAPPING_NATIVE_TYPES = "mapping.native.types";
 
     private final Properties properties;
     private Credentials credentials;
@@ -125,6 +136,86 @@ public class Configuration {
         return credentials;
     }
 
+    /**
+     * @return the time in milliseconds after which a statement is logged as slow, or a negative number if
+     * slow statements are not logged
+     */
+    public long getQueryLogSlowThreshold() {
+        return Long.parseLong(properties.getProperty(QUERY_LOG_SLOW_THRESHOLD, "1000"));
+    }
+
+    /**
+     * @return the fraction of statements, between 0 and 1, that are logged at debug level
+     */
+    public double getQueryLogSampleRate() {
+        return Double.parseDouble(properties.getProperty(QUERY_LOG_SAMPLE_RATE, "1.0"));
+    }
+
+    /**
+     * @return the maximum number of characters of the parameters of a statement that are logged
+     */
+    public int getQueryLogParametersMaxLength() {
+        return Integer.parseInt(properties.getProperty(QUERY_LOG_PARAMETERS_MAX_LENGTH, "256"));
+    }
+
+    /**
+     * @return true if the HTTP driver should send statements with its non-blocking client
+     */
+    public boolean getHttpAsync() {
+        return Boolean.parseBoolean(properties.getProperty(HTTP_ASYNC, "false"));
+    }
+
+    /**
+     * @return the encoding, gzip or deflate, with which the HTTP driver compresses request bodies, or null if it does not
+     */
+    public String getHttpCompression() {
+        return properties.getProperty(HTTP_COMPRESSION);
+    }
+
+    /**
+     * @return true if the embedded driver should load, update and delete nodes through the Core API rather than Cypher
+     */
+    public boolean getEmbeddedNative() {
+        return Boolean.parseBoolean(properties.getProperty(EMBEDDED_NATIVE, "false"));
+    }
+
+    /**
+     * @return the number of threads hydrating the node entities of a large result, 1 to hydrate them on the calling thread
+     */
+    public int getMappingParallelism() {
+        return Integer.parseInt(properties.getProperty(MAPPING_PARALLELISM, "1"));
+    }
+
+    /**
+     * @return the number of nodes a result must contain before they are hydrated by more than one thread
+     */
+    public int getMappingParallelThreshold() {
+        return Integer.parseInt(properties.getProperty(MAPPING_PARALLEL_THRESHOLD, "10000"));
+    }
+
+    /**
+     * @return the kind of reference, strong, weak or soft, through which a session holds the entities it has loaded
+     */
+    public String getIdentityMapReferences() {
+        return properties.getProperty(MAPPING_IDENTITY_REFERENCES, "strong");
+    }
+
+    /**
+     * @return the number of node entities a session holds before it evicts the least recently used ones, or 0 if
+     * the number is not bounded
+     */
+    public int getIdentityMapCapacity() {
+        return Integer.parseInt(properties.getProperty(MAPPING_IDENTITY_CAPACITY, "0"));
+    }
+
+    /**
+     * @return true if dates and byte arrays should be stored in the compact form the driver can carry, rather than as
+     * strings. Drivers that cannot carry a type natively keep storing it as a string.
+     */
+    public boolean getMappingNativeTypes() {
+        return Boolean.parseBoolean(properties.getProperty(MAPPING_NATIVE_TYPES, "false"));
+    }
+
     // SETTERS - TODO: Move to builder.
 
     public Configuration setAutoIndex(String value) {
@@ -190,6 +281,61 @@ public class Configuration {
         return this;
     }
 
+    public Configuration setQueryLogSlowThreshold(long milliseconds) {
+        properties.put(QUERY_LOG_SLOW_THRESHOLD, String.valueOf(milliseconds));
+        return this;
+    }
+
+    public Configuration setQueryLogSampleRate(double sampleRate) {
+        properties.put(QUERY_LOG_SAMPLE_RATE, String.valueOf(sampleRate));
+        return this;
+    }
+
+    public Configuration setQueryLogParametersMaxLength(int maxLength) {
+        properties.put(QUERY_LOG_PARAMETERS_MAX_LENGTH, String.valueOf(maxLength));
+        return this;
+    }
+
+    public Configuration setHttpAsync(boolean async) {
+        properties.put(HTTP_ASYNC, String.valueOf(async));
+        return this;
+    }
+
+    public Configuration setHttpCompression(String compression) {
+        properties.put(HTTP_COMPRESSION, compression);
+        return this;
+    }
+
+    public Configuration setEmbeddedNative(boolean embeddedNative) {
+        properties.put(EMBEDDED_NATIVE, String.valueOf(embeddedNative));
+        return this;
+    }
+
+    public Configuration setMappingParallelism(int parallelism) {
+        properties.put(MAPPING_PARALLELISM, String.valueOf(parallelism));
+        return this;
+    }
+
+    public Configuration setMappingParallelThreshold(int nodes) {
+        properties.put(MAPPING_PARALLEL_THRESHOLD, String.valueOf(nodes));
+        return this;
+    }
+
+    public Configuration setIdentityMapReferences(String references) {
+        properties.put(MAPPING_IDENTITY_REFERENCES, references);
+        return this;
+    }
+
+    public Configuration setIdentityMapCapacity(int capacity) {
+        properties.put(MAPPING_IDENTITY_CAPACITY, String.valueOf(capacity));
+        return this;
+    }
+
+    public Configuration setMappingNativeTypes(boolean nativeTypes) {
+        properties.put(MAPPING_NATIVE_TYPES, String.valueOf(nativeTypes));
+        return this;
+    }
+
     public void setCredentials(String username, String password) {
         credentials = new UsernamePasswordCredentials(username, password);
     }
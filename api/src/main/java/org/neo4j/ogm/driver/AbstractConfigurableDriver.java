@@ -16,6 +16,8 @@ package org.neo4j.ogm.driver;
 import java.net.URI;
 
 import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.request.QueryLogger;
+import org.neo4j.ogm.request.StatementShapes;
 import org.neo4j.ogm.transaction.TransactionManager;
 
 /**
@@ -45,10 +47,13 @@ public abstract class AbstractConfigurableDriver implements Driver {
 
     protected Configuration configuration;
     protected TransactionManager transactionManager;
+    protected QueryLogger queryLogger = QueryLogger.defaultLogger();
+    protected final StatementShapes statementShapes = new StatementShapes();
 
     @Override
     public void configure(Configuration config) {
         this.configuration = config;
+        this.queryLogger = new QueryLogger(config);
         setCredentials();
     }
 
@@ -58,6 +63,13 @@ public abstract class AbstractConfigurableDriver implements Driver {
         return configuration;
     }
 
+    /**
+     * @return the count of the distinct statements this driver has sent to the database
+     */
+    public StatementShapes statementShapes() {
+        return statementShapes;
+    }
+
     @Override
     public void setTransactionManager(TransactionManager transactionManager) {
         assert(transactionManager != null);
@@ -13,6 +13,9 @@
 
 package org.neo4j.ogm.driver;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.transaction.Transaction;
@@ -35,4 +38,12 @@ public interface Driver extends AutoCloseable {
     void setTransactionManager(TransactionManager tx);
 
     Configuration getConfiguration();
+
+    /**
+     * @return the Java types whose values this driver carries to and from the database in a compact form, so that they
+     * need not be stored as strings
+     */
+    default Set<Class<?>> nativeTypes() {
+        return Collections.emptySet();
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.instrumentation;
+
+/**
+ * The quantities counted by an {@link Instrumentation} during a session operation.
+ */
+public enum Counter {
+
+    /**
+     * Cypher statements sent to the database, or native operations performed in their place
+     */
+    STATEMENTS,
+
+    /**
+     * Rows read from the responses
+     */
+    ROWS,
+
+    /**
+     * Bytes of request bodies sent, for drivers that can measure them
+     */
+    REQUEST_BYTES,
+
+    /**
+     * Bytes of response bodies received, for drivers that can measure them
+     */
+    RESPONSE_BYTES
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.instrumentation;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link Instrumentation} that keeps a histogram of the timings of each phase of each operation, and the
+ * totals of each counter, in memory. It is intended for tests and diagnostics:
+ *
+ * <pre>
+ * InMemoryInstrumentation instrumentation = new InMemoryInstrumentation();
+ * sessionFactory.setInstrumentation(instrumentation);
+ * ...
+ * Histogram network = instrumentation.histogram(Operation.SAVE, Phase.NETWORK);
+ * long statements = instrumentation.counter(Operation.SAVE, Counter.STATEMENTS);
+ * </pre>
+ */
+public class InMemoryInstrumentation implements Instrumentation {
+
+    private final Map<Operation, Map<Phase, Histogram>> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Counter, LongAdder>> counters = new EnumMap<>(Operation.class);
+
+    public InMemoryInstrumentation() {
+        for (Operation operation : Operation.values()) {
+            Map<Phase, Histogram> phases = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                phases.put(phase, new Histogram());
+            }
+            histograms.put(operation, phases);
+
+            Map<Counter, LongAdder> totals = new EnumMap<>(Counter.class);
+            for (Counter counter : Counter.values()) {
+                totals.put(counter, new LongAdder());
+            }
+            counters.put(operation, totals);
+        }
+    }
+
+    @Override
+    public void timing(Operation operation, Phase phase, long nanos) {
+        histograms.get(operation).get(phase).record(nanos);
+    }
+
+    @Override
+    public void count(Operation operation, Counter counter, long amount) {
+        counters.get(operation).get(counter).add(amount);
+    }
+
+    /**
+     * @return the histogram of the timings reported for a phase of an operation
+     */
+    public Histogram histogram(Operation operation, Phase phase) {
+        return histograms.get(operation).get(phase);
+    }
+
+    /**
+     * @return the total reported for a counter of an operation
+     */
+    public long counter(Operation operation, Counter counter) {
+        return counters.get(operation).get(counter).sum();
+    }
+
+    public void reset() {
+        for (Operation operation : Operation.values()) {
+            for (Histogram histogram : histograms.get(operation).values()) {
+                histogram.reset();
+            }
+            for (LongAdder total : counters.get(operation).values()) {
+                total.reset();
+            }
+        }
+    }
+
+    /**
+     * A histogram of timings in nanoseconds, with buckets of increasing powers of two.
+     */
+    public static class Histogram {
+
+        private static final int BUCKETS = 64;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private volatile long max;
+
+        void record(long nanos) {
+            long value = Math.max(nanos, 0);
+            buckets.incrementAndGet(bucket(value));
+            count.increment();
+            total.add(value);
+            if (value > max) {
+                synchronized (this) {
+                    if (value > max) {
+                        max = value;
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return the number of timings recorded
+         */
+        public long count() {
+            return count.sum();
+        }
+
+        /**
+         * @return the sum of the timings recorded, in nanoseconds
+         */
+        public long total() {
+            return total.sum();
+        }
+
+        /**
+         * @return the longest timing recorded, in nanoseconds
+         */
+        public long max() {
+            return max;
+        }
+
+        /**
+         * @return the mean of the timings recorded in nanoseconds, or 0 if there are none
+         */
+        public double mean() {
+            long n = count.sum();
+            return n == 0 ? 0.0 : (double) total.sum() / n;
+        }
+
+        /**
+         * Estimates a percentile of the timings recorded. The estimate is the upper bound of the bucket containing
+         * the percentile, so it is at most twice the actual value.
+         *
+         * @param percentile the percentile, between 0 and 100
+         * @return the estimated timing in nanoseconds, or 0 if there are none
+         */
+        public long percentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+            long n = 0;
+            long[] snapshot = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = buckets.get(i);
+                n += snapshot[i];
+            }
+            if (n == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile / 100.0 * n);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank && snapshot[i] > 0) {
+                    return Math.min(upperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            total.reset();
+            max = 0;
+        }
+
+        // bucket i holds the values v with 2^(i-1) <= v < 2^i, bucket 0 holds 0
+        private static int bucket(long value) {
+            return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+        }
+
+        private static long upperBound(int bucket) {
+            return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, mean=%.0fns, p50=%dns, p99=%dns, max=%dns",
+                    count(), mean(), percentile(50), percentile(99), max());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.instrumentation;
+
+/**
+ * Receives the timings and counters of the phases of session operations.
+ *
+ * An implementation is registered on the SessionFactory and shared by all the sessions it opens, so it must
+ * be thread-safe. Its methods are called on the thread performing the operation and should return quickly.
+ *
+ * When no instrumentation is registered, {@link #NONE} is used and no measurements are taken at all.
+ */
+public interface Instrumentation {
+
+    Instrumentation NONE = new Instrumentation() {
+
+        @Override
+        public void timing(Operation operation, Phase phase, long nanos) {
+        }
+
+        @Override
+        public void count(Operation operation, Counter counter, long amount) {
+        }
+    };
+
+    /**
+     * Reports the time spent in a phase of an operation. A phase may be reported several times for
+     * one operation, for example once for each request sent.
+     *
+     * @param operation the operation being performed
+     * @param phase the phase of the operation
+     * @param nanos the time spent in the phase, in nanoseconds
+     */
+    void timing(Operation operation, Phase phase, long nanos);
+
+    /**
+     * Reports a quantity counted during an operation.
+     *
+     * @param operation the operation being performed
+     * @param counter what was counted
+     * @param amount the amount to add to the counter
+     */
+    void count(Operation operation, Counter counter, long amount);
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.instrumentation;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The instrumented operation in progress on the current thread.
+ *
+ * A scope is opened by the session when an operation starts and closed when it completes. The code performing
+ * the operation measures its phases with the static methods of this class, which do nothing at all - not even
+ * reading the clock - when there is no scope open:
+ *
+ * <pre>
+ * Iterable&lt;T&gt; entities = InstrumentationScope.time(Phase.HYDRATION, () -&gt; mapper.map(type, response));
+ * </pre>
+ *
+ * Phases may be nested. The time of a nested phase is deducted from the enclosing one, so each phase reports only
+ * the time spent in itself. Phases must be stopped in the reverse order they were started.
+ */
+public final class InstrumentationScope implements AutoCloseable {
+
+    /**
+     * Returned by {@link #start()} when there is no operation being instrumented
+     */
+    public static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private static final ThreadLocal<InstrumentationScope> current = new ThreadLocal<>();
+    private static final AtomicInteger openScopes = new AtomicInteger();
+
+    private final Instrumentation instrumentation;
+    private final Operation operation;
+    private final long started;
+
+    // the time spent in nested phases, per level of nesting
+    private long[] nested = new long[8];
+    private int depth;
+
+    private InstrumentationScope(Instrumentation instrumentation, Operation operation) {
+        this.instrumentation = instrumentation;
+        this.operation = operation;
+        this.started = System.nanoTime();
+    }
+
+    /**
+     * Opens a scope for an operation on the current thread. If an operation is already being instrumented on
+     * this thread, the operation is treated as part of it and no new scope is opened.
+     *
+     * @param instrumentation the instrumentation to report to
+     * @param operation the operation starting
+     * @return the scope, to be closed when the operation completes, or null if no scope was opened
+     */
+    public static InstrumentationScope open(Instrumentation instrumentation, Operation operation) {
+        if (instrumentation == Instrumentation.NONE || current.get() != null) {
+            return null;
+        }
+        InstrumentationScope scope = new InstrumentationScope(instrumentation, operation);
+        current.set(scope);
+        openScopes.incrementAndGet();
+        return scope;
+    }
+
+    /**
+     * @return true if an operation is being instrumented on the current thread
+     */
+    public static boolean isActive() {
+        return openScopes.get() > 0 && current.get() != null;
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @return the start time to pass to {@link #stop(Phase, long)}, or {@link #NOT_STARTED}
+     */
+    public static long start() {
+        if (openScopes.get() == 0) {
+            return NOT_STARTED;
+        }
+        InstrumentationScope scope = current.get();
+        if (scope == null) {
+            return NOT_STARTED;
+        }
+        scope.push();
+        return System.nanoTime();
+    }
+
+    /**
+     * Stops timing a phase and reports the time spent in it.
+     *
+     * @param phase the phase
+     * @param start the value returned by the corresponding {@link #start()}
+     */
+    public static void stop(Phase phase, long start) {
+        if (start == NOT_STARTED) {
+            return;
+        }
+        InstrumentationScope scope = current.get();
+        if (scope != null) {
+            scope.pop(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Times work as a phase of the operation being instrumented, if any.
+     *
+     * @param phase the phase the work belongs to
+     * @param work the work to do
+     * @return the result of the work
+     */
+    public static <T> T time(Phase phase, Supplier<T> work) {
+        long start = start();
+        try {
+            return work.get();
+        } finally {
+            stop(phase, start);
+        }
+    }
+
+    /**
+     * Times work as a phase of the operation being instrumented, if any.
+     *
+     * @param phase the phase the work belongs to
+     * @param work the work to do
+     */
+    public static void time(Phase phase, Runnable work) {
+        long start = start();
+        try {
+            work.run();
+        } finally {
+            stop(phase, start);
+        }
+    }
+
+    /**
+     * Reports a quantity counted in the operation being instrumented, if any.
+     *
+     * @param counter what was counted
+     * @param amount the amount to add to the counter
+     */
+    public static void count(Counter counter, long amount) {
+        if (openScopes.get() == 0) {
+            return;
+        }
+        InstrumentationScope scope = current.get();
+        if (scope != null) {
+            scope.instrumentation.count(scope.operation, counter, amount);
+        }
+    }
+
+    public Operation operation() {
+        return operation;
+    }
+
+    @Override
+    public void close() {
+        current.remove();
+        openScopes.decrementAndGet();
+        instrumentation.timing(operation, Phase.TOTAL, System.nanoTime() - started);
+    }
+
+    private void push() {
+        if (depth == nested.length) {
+            nested = Arrays.copyOf(nested, depth * 2);
+        }
+        nested[depth++] = 0;
+    }
+
+    private void pop(Phase phase, long elapsed) {
+        if (depth == 0) {
+            return; // unbalanced, the phase started outside this scope
+        }
+        long exclusive = elapsed - nested[--depth];
+        if (depth > 0) {
+            nested[depth - 1] += elapsed;
+        }
+        instrumentation.timing(operation, phase, exclusive);
+    }
+}
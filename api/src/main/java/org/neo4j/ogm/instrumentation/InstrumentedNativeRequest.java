@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.instrumentation;
+
+import java.util.Collection;
+
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.request.NativeRequest;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * An {@link InstrumentedRequest} for drivers with a {@link NativeRequest}. Each native operation is counted as
+ * one of the {@link Counter#STATEMENTS} it replaces, and the time spent performing it as {@link Phase#NETWORK}.
+ */
+public class InstrumentedNativeRequest extends InstrumentedRequest implements NativeRequest {
+
+    private final NativeRequest delegate;
+
+    public InstrumentedNativeRequest(NativeRequest delegate) {
+        super(delegate);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Response<GraphModel> expand(Collection<Long> ids, String label, int depth) {
+        InstrumentationScope.count(Counter.STATEMENTS, 1);
+        return new InstrumentedResponse<>(InstrumentationScope.time(Phase.NETWORK, () -> delegate.expand(ids, label, depth)));
+    }
+
+    @Override
+    public void updateNodes(Collection<? extends Node> nodes) {
+        InstrumentationScope.count(Counter.STATEMENTS, 1);
+        InstrumentationScope.time(Phase.NETWORK, () -> delegate.updateNodes(nodes));
+    }
+
+    @Override
+    public void deleteNodes(Collection<Long> ids) {
+        InstrumentationScope.count(Counter.STATEMENTS, 1);
+        InstrumentationScope.time(Phase.NETWORK, () -> delegate.deleteNodes(ids));
+    }
+}
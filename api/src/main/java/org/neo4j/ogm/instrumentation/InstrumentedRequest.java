@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.instrumentation;
+
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * A {@link Request} that reports the number of statements it executes, the time spent waiting for the driver
+ * to execute them as {@link Phase#NETWORK}, and the rows and {@link Phase#ADAPTATION} time of its responses.
+ */
+public class InstrumentedRequest implements Request {
+
+    private final Request delegate;
+
+    public InstrumentedRequest(Request delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Response<GraphModel> execute(GraphModelRequest query) {
+        countStatement(query.getStatement());
+        return new InstrumentedResponse<>(InstrumentationScope.time(Phase.NETWORK, () -> delegate.execute(query)));
+    }
+
+    @Override
+    public Response<RowModel> execute(RowModelRequest query) {
+        countStatement(query.getStatement());
+        return new InstrumentedResponse<>(InstrumentationScope.time(Phase.NETWORK, () -> delegate.execute(query)));
+    }
+
+    @Override
+    public Response<RowModel> execute(DefaultRequest query) {
+        InstrumentationScope.count(Counter.STATEMENTS, query.getStatements().size());
+        return new InstrumentedResponse<>(InstrumentationScope.time(Phase.NETWORK, () -> delegate.execute(query)));
+    }
+
+    @Override
+    public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+        countStatement(query.getStatement());
+        return new InstrumentedResponse<>(InstrumentationScope.time(Phase.NETWORK, () -> delegate.execute(query)));
+    }
+
+    @Override
+    public Response<RestModel> execute(RestModelRequest query) {
+        countStatement(query.getStatement());
+        return new InstrumentedResponse<>(InstrumentationScope.time(Phase.NETWORK, () -> delegate.execute(query)));
+    }
+
+    private static void countStatement(String statement) {
+        if (statement.length() > 0) {
+            InstrumentationScope.count(Counter.STATEMENTS, 1);
+        }
+    }
+
+    static class InstrumentedResponse<T> implements Response<T> {
+
+        private final Response<T> delegate;
+
+        InstrumentedResponse(Response<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T next() {
+            T next = InstrumentationScope.time(Phase.ADAPTATION, delegate::next);
+            if (next != null) {
+                InstrumentationScope.count(Counter.ROWS, 1);
+            }
+            return next;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        @Override
+        public String[] columns() {
+            return delegate.columns();
+        }
+    }
+}
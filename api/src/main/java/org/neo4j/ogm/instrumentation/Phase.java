@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.instrumentation;
+
+/**
+ * The phases of a session operation that are timed by an {@link Instrumentation}.
+ *
+ * Except for {@link #TOTAL}, the phases are exclusive: time spent in a phase nested inside another one,
+ * such as the adaptation of rows read while entities are being hydrated, is only reported for the inner phase.
+ */
+public enum Phase {
+
+    /**
+     * Mapping entities into a compile context and generating the Cypher statements to send
+     */
+    COMPILE,
+
+    /**
+     * Sending a request and consuming its response, other than the time spent in {@link #NETWORK} and
+     * {@link #ADAPTATION}: opening and committing transactions, reading back generated ids and closing the response
+     */
+    EXECUTE,
+
+    /**
+     * Waiting for the driver to execute a request
+     */
+    NETWORK,
+
+    /**
+     * Reading the rows of a response and adapting them into the OGM's result models
+     */
+    ADAPTATION,
+
+    /**
+     * Mapping result models onto entities
+     */
+    HYDRATION,
+
+    /**
+     * Registering the ids and state of saved or deleted entities in the mapping context
+     */
+    CONTEXT_UPDATE,
+
+    /**
+     * The whole operation, including all of the above
+     */
+    TOTAL
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.request;
+
+import java.util.Collection;
+
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * A {@link Request} able to load, update and delete nodes directly, without generating and executing Cypher.
+ *
+ * Drivers running in the same process as the database may implement this to skip parsing and planning of the
+ * simplest statements the OGM issues. Each operation has the same effect as the Cypher statement it replaces,
+ * and takes part in the current transaction, or in a transaction of its own if there is none.
+ */
+public interface NativeRequest extends Request {
+
+    /**
+     * Loads nodes together with their neighbourhood, as <code>MATCH p=(n)-[*0..depth]-(m) RETURN p</code> does.
+     *
+     * @param ids the ids of the nodes to load. Ids of nodes that do not exist are ignored
+     * @param label the label the nodes must have, or null to load them regardless of their labels
+     * @param depth the number of relationships to follow from each node, or a negative value to follow all of them
+     * @return a response holding a single {@link GraphModel} of all the nodes and relationships reached
+     */
+    Response<GraphModel> expand(Collection<Long> ids, String label, int depth);
+
+    /**
+     * Updates existing nodes: adds their labels, removes their removed labels, sets their properties and
+     * removes the properties whose value is null. Nodes that no longer exist are ignored.
+     *
+     * @param nodes the nodes to update
+     */
+    void updateNodes(Collection<? extends Node> nodes);
+
+    /**
+     * Deletes nodes together with their relationships. Nodes that no longer exist are ignored.
+     *
+     * @param ids the ids of the nodes to delete
+     */
+    void deleteNodes(Collection<Long> ids);
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.request;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs the Cypher statements executed by the drivers.
+ *
+ * Statements whose execution takes at least the configured threshold are logged as slow at WARN level. The other
+ * statements are logged at DEBUG level, or only a sample of them if a sample rate lower than 1 is configured.
+ *
+ * Parameters are rendered only when a statement is actually logged, and rendering stops once the configured maximum
+ * length has been reached, so large parameter maps such as the rows of an UNWIND are never converted to text in full.
+ */
+public class QueryLogger {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryLogger.class);
+
+    private static final QueryLogger defaultLogger = new QueryLogger(new Configuration());
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final int maxParametersLength;
+
+    public QueryLogger(Configuration configuration) {
+        long threshold = configuration.getQueryLogSlowThreshold();
+        this.slowThresholdNanos = threshold < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(threshold);
+        this.sampleRate = configuration.getQueryLogSampleRate();
+        this.maxParametersLength = configuration.getQueryLogParametersMaxLength();
+    }
+
+    /**
+     * @return a logger using the default settings
+     */
+    public static QueryLogger defaultLogger() {
+        return defaultLogger;
+    }
+
+    /**
+     * Statements are logged with the time taken to execute them only if slow statements are logged or if debug
+     * logging is enabled. Otherwise a driver need not wait for a statement to be executed before logging it.
+     *
+     * @return true if the time taken by a statement may be logged
+     */
+    public boolean isTiming() {
+        return (slowThresholdNanos >= 0 && LOGGER.isWarnEnabled()) || (sampleRate > 0 && LOGGER.isDebugEnabled());
+    }
+
+    /**
+     * Logs a statement, if it was slow or if it is sampled for debugging.
+     *
+     * @param statement the statement executed
+     * @param startNanos the value of {@link System#nanoTime()} when the execution started
+     */
+    public void log(Statement statement, long startNanos) {
+        log(Collections.singletonList(statement), startNanos);
+    }
+
+    /**
+     * Logs statements executed together in one request, if the request was slow or if it is sampled for debugging.
+     *
+     * @param statements the statements executed
+     * @param startNanos the value of {@link System#nanoTime()} when the execution started
+     */
+    public void log(List<? extends Statement> statements, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        if (slowThresholdNanos >= 0 && elapsed >= slowThresholdNanos) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Slow query ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(elapsed), new Rendering(statements, maxParametersLength));
+            }
+        } else if (LOGGER.isDebugEnabled() && sampled()) {
+            LOGGER.debug("Query ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(elapsed), new Rendering(statements, maxParametersLength));
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * Renders statements and their parameters when the log message is built.
+     */
+    static class Rendering {
+
+        private static final String ELLIPSIS = "...";
+
+        private final List<? extends Statement> statements;
+        private final int maxParametersLength;
+
+        Rendering(List<? extends Statement> statements, int maxParametersLength) {
+            this.statements = statements;
+            this.maxParametersLength = maxParametersLength;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (Statement statement : statements) {
+                if (sb.length() > 0) {
+                    sb.append("; ");
+                }
+                sb.append(statement.getStatement());
+                Map<String, ?> parameters = statement.getParameters();
+                if (parameters != null && !parameters.isEmpty()) {
+                    sb.append(" with params ");
+                    StringBuilder params = new StringBuilder();
+                    render(parameters, params);
+                    sb.append(params);
+                }
+            }
+            return sb.toString();
+        }
+
+        // appends the value until the maximum length is reached, returns false once it has been
+        private boolean render(Object value, StringBuilder sb) {
+            if (sb.length() >= maxParametersLength) {
+                return truncate(sb);
+            }
+            if (value instanceof Map) {
+                sb.append('{');
+                Iterator<? extends Map.Entry<?, ?>> entries = ((Map<?, ?>) value).entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<?, ?> entry = entries.next();
+                    if (!append(String.valueOf(entry.getKey()), sb) || !append("=", sb) || !render(entry.getValue(), sb)) {
+                        return false;
+                    }
+                    if (entries.hasNext() && !append(", ", sb)) {
+                        return false;
+                    }
+                }
+                return append("}", sb);
+            }
+            if (value instanceof Collection) {
+                return renderElements(((Collection<?>) value).iterator(), sb);
+            }
+            if (value != null && value.getClass().isArray()) {
+                int length = Array.getLength(value);
+                sb.append('[');
+                for (int i = 0; i < length; i++) {
+                    if ((i > 0 && !append(", ", sb)) || !render(Array.get(value, i), sb)) {
+                        return false;
+                    }
+                }
+                return append("]", sb);
+            }
+            return append(String.valueOf(value), sb);
+        }
+
+        private boolean renderElements(Iterator<?> elements, StringBuilder sb) {
+            sb.append('[');
+            while (elements.hasNext()) {
+                if (!render(elements.next(), sb)) {
+                    return false;
+                }
+                if (elements.hasNext() && !append(", ", sb)) {
+                    return false;
+                }
+            }
+            return append("]", sb);
+        }
+
+        private boolean append(String text, StringBuilder sb) {
+            int remaining = maxParametersLength - sb.length();
+            if (text.length() <= remaining) {
+                sb.append(text);
+                return true;
+            }
+            sb.append(text, 0, Math.max(remaining, 0));
+            return truncate(sb);
+        }
+
+        private boolean truncate(StringBuilder sb) {
+            if (sb.length() > maxParametersLength) {
+                sb.setLength(maxParametersLength);
+            }
+            sb.append(ELLIPSIS);
+            return false;
+        }
+    }
+}
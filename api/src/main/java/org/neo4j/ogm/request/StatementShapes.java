@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.request;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the distinct Cypher statement texts sent to the database by a driver.
+ *
+ * The server caches query plans by statement text, so every distinct text costs a planning cycle. When all
+ * variable values are passed as parameters, the number of distinct shapes stays small and stops growing once
+ * the application has exercised its queries, regardless of the number of statements executed. A number of
+ * shapes that keeps growing indicates that values are being rendered into the statement text.
+ *
+ * Each driver keeps its own count. The statements generated by the OGM take their text from
+ * <code>StatementTemplateCache</code>, which hands out the same instance for every statement
+ * of a shape, so recording one costs a reference comparison: the text of a statement is only hashed and compared
+ * in full the first time it is recorded, or when it is built anew for each statement.
+ *
+ * At most {@link #MAX_TRACKED_SHAPES} distinct statements are tracked; reaching that limit is itself a sign that
+ * statements are not being parameterised.
+ */
+public class StatementShapes {
+
+    public static final int MAX_TRACKED_SHAPES = 10000;
+
+    private final Set<String> shapes = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final AtomicLong statements = new AtomicLong();
+
+    /**
+     * Records the execution of a statement
+     *
+     * @param statement the Cypher text of the statement
+     */
+    public void record(String statement) {
+        statements.incrementAndGet();
+        if (shapes.size() < MAX_TRACKED_SHAPES) {
+            shapes.add(statement);
+        }
+    }
+
+    /**
+     * @return the number of distinct statement texts executed since the last reset
+     */
+    public int distinctShapes() {
+        return shapes.size();
+    }
+
+    /**
+     * @return the total number of statements executed since the last reset
+     */
+    public long statements() {
+        return statements.get();
+    }
+
+    /**
+     * @return a copy of the distinct statement texts executed since the last reset
+     */
+    public Set<String> shapes() {
+        return new HashSet<>(shapes);
+    }
+
+    public void reset() {
+        shapes.clear();
+        statements.set(0);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.response.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+
+/**
+ * A bounded table of canonical instances of the labels, relationship types and property keys read from the database.
+ *
+ * Every result parsed by a driver contains fresh copies of the same few names, and some of them are held for the
+ * lifetime of a session by mapped entities and the mapping context. The response adapters replace each name by its
+ * canonical instance, so only one copy of each name is kept and comparisons between names usually succeed on
+ * identity alone.
+ *
+ * The names known to the mapping metadata are registered up front and are always retained. Other names are
+ * admitted as they are read until the table reaches its capacity, after which they are returned unchanged, so
+ * an unbounded number of distinct names cannot exhaust the heap.
+ */
+public class NameTable {
+
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    private static final NameTable instance = new NameTable(DEFAULT_CAPACITY);
+
+    private final ConcurrentMap<String, String> names = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    public NameTable(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than zero");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the table shared by the response adapters
+     */
+    public static NameTable names() {
+        return instance;
+    }
+
+    /**
+     * Registers a name known to the mapping metadata. Registered names are retained regardless of the capacity.
+     *
+     * @param name the label, relationship type or property key
+     */
+    public void register(String name) {
+        if (name != null) {
+            names.putIfAbsent(name, name);
+        }
+    }
+
+    /**
+     * Returns the canonical instance of a name, admitting it to the table if it is not known and there is room.
+     *
+     * @param name the label, relationship type or property key
+     * @return the canonical instance of the name, or the name itself if the table is full
+     */
+    public String intern(String name) {
+        if (name == null) {
+            return null;
+        }
+        String canonical = names.get(name);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (names.size() >= capacity) {
+            return name;
+        }
+        canonical = names.putIfAbsent(name, name);
+        return canonical == null ? name : canonical;
+    }
+
+    /**
+     * Replaces each of the given names by its canonical instance.
+     *
+     * @param names the labels, relationship types or property keys
+     * @return the same array
+     */
+    public String[] intern(String[] names) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                names[i] = intern(names[i]);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Replaces the labels and relationship types of a graph model parsed by a driver by their canonical instances.
+     *
+     * @param graphModel the graph model
+     */
+    public void intern(GraphModel graphModel) {
+        for (Node node : graphModel.getNodes()) {
+            intern(node.getLabels());
+        }
+        for (Edge edge : graphModel.getRelationships()) {
+            if (edge instanceof RelationshipModel) {
+                RelationshipModel relationshipModel = (RelationshipModel) edge;
+                relationshipModel.setType(intern(relationshipModel.getType()));
+            }
+        }
+    }
+
+    public int size() {
+        return names.size();
+    }
+}
@@ -16,7 +16,6 @@ package org.neo4j.ogm.response.model;
 import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.model.Property;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -29,11 +28,11 @@ public class NodeModel implements Node {
     private Long id;
     private String[] labels;
     private String[] removedLabels;
-    private List<Property<String, Object>> properties = new ArrayList<>();
+    private PropertyList properties = new PropertyList();
     private String primaryIndex;
 
     @Override
-    public List<Property<String, Object>> getPropertyList() {
+    public PropertyList getPropertyList() {
         return properties;
     }
 
@@ -47,10 +46,7 @@ public class NodeModel implements Node {
     }
 
     public void setProperties(Map<String, Object> properties) {
-        this.properties = new ArrayList<>();
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
-            this.properties.add(new PropertyModel<>(entry.getKey(), entry.getValue()));
-        }
+        this.properties = new PropertyList(properties);
     }
 
     @Override
@@ -74,7 +70,7 @@ public class NodeModel implements Node {
     }
 
     public void setPropertyList(List<Property<String, Object>> properties) {
-        this.properties = properties;
+        this.properties = PropertyList.of(properties);
     }
 
     public void setLabels(String[] labels) {
@@ -86,10 +82,7 @@ public class NodeModel implements Node {
     }
 
     public Object property(String key) {
-        for (Property property : properties) {
-            if (property.getKey().equals(key)) return property.getValue();
-        }
-        return null;
+        return properties.value(key);
     }
 
     @Override
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.response.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.neo4j.ogm.model.Property;
+
+/**
+ * The properties of a {@link NodeModel} or {@link RelationshipModel}, held as parallel arrays of keys and values.
+ *
+ * A graph entity has only a handful of properties, so a pair of arrays scanned from the front is both smaller and
+ * faster than a list of {@link PropertyModel} objects or a hash map. Callers that know they have a
+ * {@link PropertyList} can read it by index through {@link #key(int)} and {@link #value(int)} without allocating;
+ * the {@link java.util.List} methods are still supported and create a {@link PropertyModel} per element read.
+ */
+public class PropertyList extends AbstractList<Property<String, Object>> implements RandomAccess {
+
+    private static final String[] NO_KEYS = new String[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private String[] keys;
+    private Object[] values;
+    private int size;
+
+    public PropertyList() {
+        this.keys = NO_KEYS;
+        this.values = NO_VALUES;
+    }
+
+    public PropertyList(int capacity) {
+        this.keys = capacity == 0 ? NO_KEYS : new String[capacity];
+        this.values = capacity == 0 ? NO_VALUES : new Object[capacity];
+    }
+
+    /**
+     * Constructs a {@link PropertyList} of properties read from the database, replacing each key by its
+     * canonical instance in the {@link NameTable}.
+     *
+     * @param properties the properties
+     */
+    public PropertyList(Map<String, ?> properties) {
+        this(properties.size());
+        NameTable names = NameTable.names();
+        for (Map.Entry<String, ?> entry : properties.entrySet()) {
+            keys[size] = names.intern(entry.getKey());
+            values[size++] = entry.getValue();
+        }
+    }
+
+    /**
+     * Returns the given list if it is already a {@link PropertyList}, otherwise a copy of it.
+     *
+     * @param properties the properties
+     * @return a {@link PropertyList} of the given properties
+     */
+    public static PropertyList of(List<Property<String, Object>> properties) {
+        if (properties instanceof PropertyList) {
+            return (PropertyList) properties;
+        }
+        PropertyList propertyList = new PropertyList(properties.size());
+        for (Property<String, Object> property : properties) {
+            propertyList.append(property.getKey(), property.getValue());
+        }
+        return propertyList;
+    }
+
+    public String key(int index) {
+        checkIndex(index);
+        return keys[index];
+    }
+
+    public Object value(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * @param key the property key
+     * @return the position of the property with the given key, or -1 if there is none
+     */
+    public int indexOfKey(String key) {
+        for (int i = 0; i < size; i++) {
+            if (key.equals(keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param key the property key
+     * @return the value of the property with the given key, or null if there is none
+     */
+    public Object value(String key) {
+        int index = indexOfKey(key);
+        return index < 0 ? null : values[index];
+    }
+
+    /**
+     * Appends a property without checking whether its key is already present.
+     *
+     * @param key the property key
+     * @param value the property value
+     */
+    public void append(String key, Object value) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        values[size++] = value;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Property<String, Object> get(int index) {
+        checkIndex(index);
+        return new PropertyModel<>(keys[index], values[index]);
+    }
+
+    @Override
+    public Property<String, Object> set(int index, Property<String, Object> property) {
+        Property<String, Object> previous = get(index);
+        keys[index] = property.getKey();
+        values[index] = property.getValue();
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Property<String, Object> property) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        append(null, null);
+        System.arraycopy(keys, index, keys, index + 1, size - index - 1);
+        System.arraycopy(values, index, values, index + 1, size - index - 1);
+        keys[index] = property.getKey();
+        values[index] = property.getValue();
+    }
+
+    @Override
+    public Property<String, Object> remove(int index) {
+        Property<String, Object> previous = get(index);
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        keys[--size] = null;
+        values[size] = null;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
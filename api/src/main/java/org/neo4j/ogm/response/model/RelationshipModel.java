@@ -16,7 +16,6 @@ package org.neo4j.ogm.response.model;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.Property;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -29,7 +28,7 @@ public class RelationshipModel implements Edge {
     private String type;
     private Long startNode;
     private Long endNode;
-    private List<Property<String, Object>> properties = new ArrayList<>();
+    private PropertyList properties = new PropertyList();
 
     public Long getId() {
         return id;
@@ -63,7 +62,7 @@ public class RelationshipModel implements Edge {
         this.endNode = endNode;
     }
 
-    public List<Property<String, Object>> getPropertyList() {
+    public PropertyList getPropertyList() {
         return properties;
     }
 
@@ -76,14 +75,11 @@ public class RelationshipModel implements Edge {
 //    }
 
     public void setProperties(Map<String, Object> properties) {
-        this.properties = new ArrayList<>();
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
-            this.properties.add(new PropertyModel<>(entry.getKey(), entry.getValue()));
-        }
+        this.properties = new PropertyList(properties);
     }
 
     public void setPropertyList(List<Property<String, Object>> properties) {
-        this.properties = properties;
+        this.properties = PropertyList.of(properties);
     }
 
 
@@ -22,7 +22,9 @@ import java.util.Set;
 
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NameTable;
 import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.PropertyList;
 import org.neo4j.ogm.response.model.RelationshipModel;
 
 /**
@@ -101,9 +103,9 @@ public abstract class GraphModelAdapter implements ResultAdapter<Map<String, Obj
             nodeModel.setId(nodeId(node));
             List<String> labelNames = labels(node);
 
-            nodeModel.setLabels(labelNames.toArray(new String[] {}));
+            nodeModel.setLabels(NameTable.names().intern(labelNames.toArray(new String[] {})));
 
-            nodeModel.setProperties(convertArrayPropertiesToIterable(properties(node)));
+            nodeModel.setPropertyList(propertyList(properties(node)));
 
             graphModel.getNodes().add(nodeModel);
         }
@@ -117,20 +119,37 @@ public abstract class GraphModelAdapter implements ResultAdapter<Map<String, Obj
 
             RelationshipModel edgeModel = new RelationshipModel();
             edgeModel.setId(relationshipId(relationship));
-            edgeModel.setType(relationshipType(relationship));
+            edgeModel.setType(NameTable.names().intern(relationshipType(relationship)));
             edgeModel.setStartNode(startNodeId(relationship));
             edgeModel.setEndNode(endNodeId(relationship));
 
-            edgeModel.setProperties(convertArrayPropertiesToIterable(properties(relationship)));
+            edgeModel.setPropertyList(propertyList(properties(relationship)));
             graphModel.getRelationships().add(edgeModel);
         }
     }
 
+    /**
+     * Copies the properties of a node or relationship into a {@link PropertyList}, converting arrays other than byte arrays to iterables
+     * and replacing each key by its canonical instance in the {@link NameTable}.
+     *
+     * @param properties the properties as returned by the driver
+     * @return the properties of the model
+     */
+    public PropertyList propertyList(Map<String, Object> properties) {
+        PropertyList propertyList = new PropertyList(properties.size());
+        NameTable names = NameTable.names();
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            Object value = entry.getValue();
+            propertyList.append(names.intern(entry.getKey()), value.getClass().isArray() && !(value instanceof byte[]) ? AdapterUtils.convertToIterable(value) : value);
+        }
+        return propertyList;
+    }
+
     public Map<String, Object> convertArrayPropertiesToIterable(Map<String, Object> properties) {
         Map<String, Object> props = new HashMap<>();
         for (String k : properties.keySet()) {
             Object v = properties.get(k);
-            if (v.getClass().isArray()) {
+            if (v.getClass().isArray() && !(v instanceof byte[])) {
                 props.put(k, AdapterUtils.convertToIterable(v));
             } else {
                 props.put(k, v);
@@ -19,6 +19,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.neo4j.ogm.response.model.NameTable;
 import org.neo4j.ogm.response.model.NodeModel;
 import org.neo4j.ogm.response.model.RelationshipModel;
 
@@ -63,7 +64,7 @@ public abstract class RestModelAdapter implements ResultAdapter<Map<String,Objec
 		NodeModel nodeModel = new NodeModel();
 		nodeModel.setId(nodeId(node));
 		List<String> labels = labels(node);
-		nodeModel.setLabels(labels.toArray(new String[labels.size()]));
+		nodeModel.setLabels(NameTable.names().intern(labels.toArray(new String[labels.size()])));
 		nodeModel.setProperties(properties(node));
 		return nodeModel;
 	}
@@ -73,7 +74,7 @@ public abstract class RestModelAdapter implements ResultAdapter<Map<String,Objec
 		relationshipModel.setId(relationshipId(relationship));
 		relationshipModel.setStartNode(startNodeId(relationship));
 		relationshipModel.setEndNode(endNodeId(relationship));
-		relationshipModel.setType(relationshipType(relationship));
+		relationshipModel.setType(NameTable.names().intern(relationshipType(relationship)));
 		relationshipModel.setProperties(properties(relationship));
 		return relationshipModel;
 	}
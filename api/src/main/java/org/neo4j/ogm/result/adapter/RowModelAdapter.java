@@ -63,9 +63,9 @@ public abstract class RowModelAdapter implements ResultAdapter<Map<String, Objec
 
             if (value!=null && value.getClass().isArray()) {
                 values.add(AdapterUtils.convertToIterable(value));
+            } else {
+                values.add(value);
             }
-
-            values.add(value);
         }
 
         return new DefaultRowModel(values.toArray(new Object[] {}), variables.toArray(new String[] {}));
@@ -15,6 +15,9 @@ package org.neo4j.ogm.drivers.bolt.driver;
 
 import java.io.File;
 import java.net.URI;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Set;
 
 import org.neo4j.driver.v1.*;
 import org.neo4j.driver.v1.exceptions.ClientException;
@@ -88,7 +91,16 @@ public class BoltDriver extends AbstractConfigurableDriver {
 
     @Override
     public Request request() {
-        return new BoltRequest(transactionManager);
+        return new BoltRequest(transactionManager, queryLogger, statementShapes);
+    }
+
+    /**
+     * Dates are stored as epoch milliseconds. Byte arrays are still stored as strings, since the version of the
+     * Bolt protocol this driver speaks has no byte array type.
+     */
+    @Override
+    public Set<Class<?>> nativeTypes() {
+        return Collections.<Class<?>>singleton(Date.class);
     }
 
     private Session newSession(Transaction.Type type) {
@@ -14,6 +14,7 @@
 package org.neo4j.ogm.drivers.bolt.request;
 
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +25,7 @@ import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.ogm.drivers.bolt.response.GraphModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.GraphRowModelResponse;
+import org.neo4j.ogm.drivers.bolt.response.MultiStatementRowModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.RestModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.RowModelResponse;
 import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
@@ -37,15 +39,15 @@ import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.request.DefaultRequest;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.QueryLogger;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.request.RestModelRequest;
 import org.neo4j.ogm.request.RowModelRequest;
 import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.StatementShapes;
 import org.neo4j.ogm.response.EmptyResponse;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.transaction.TransactionManager;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * @author vince
@@ -54,14 +56,24 @@ import org.slf4j.LoggerFactory;
 public class BoltRequest implements Request {
 
 	private final TransactionManager transactionManager;
+	private final QueryLogger queryLogger;
+	private final StatementShapes statementShapes;
 
 	private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
 
-	private final Logger LOGGER = LoggerFactory.getLogger(BoltRequest.class);
-
 
 	public BoltRequest(TransactionManager transactionManager) {
+		this(transactionManager, QueryLogger.defaultLogger());
+	}
+
+	public BoltRequest(TransactionManager transactionManager, QueryLogger queryLogger) {
+		this(transactionManager, queryLogger, new StatementShapes());
+	}
+
+	public BoltRequest(TransactionManager transactionManager, QueryLogger queryLogger, StatementShapes statementShapes) {
 		this.transactionManager = transactionManager;
+		this.queryLogger = queryLogger;
+		this.statementShapes = statementShapes;
 	}
 
 	@Override
@@ -81,45 +93,39 @@ public class BoltRequest implements Request {
 		return new RowModelResponse(executeRequest(request), transactionManager);
 	}
 
+	/**
+	 * Sends all the statements before reading any of their results, so that they are executed in a single
+	 * round trip. Without a current transaction, the statements are committed together in one transaction.
+	 */
 	@Override
 	public Response<RowModel> execute(DefaultRequest query) {
-		final List<RowModel> rowmodels = new ArrayList<>();
-		String[] columns = null;
-		for (Statement statement : query.getStatements()) {
-			StatementResult result = executeRequest(statement);
-			if (columns == null) {
-				List<String> columnSet = result.keys();
-				columns = columnSet.toArray(new String[columnSet.size()]);
-			}
-			RowModelResponse rowModelResponse = new RowModelResponse(result, transactionManager);
-			RowModel model;
-			while ((model = rowModelResponse.next()) != null) {
-				rowmodels.add(model);
-			}
-			  result.consume();
+		List<Statement> statements = query.getStatements();
+		if (statements.isEmpty()) {
+			return new EmptyResponse();
 		}
-
-		final String[] finalColumns = columns;
-		return new Response<RowModel>() {
-			int currentRow = 0;
-
-			@Override
-			public RowModel next() {
-				if (currentRow < rowmodels.size()) {
-					return rowmodels.get(currentRow++);
+		BoltTransaction tx;
+		try {
+			long start = System.nanoTime();
+			List<StatementResult> results = new ArrayList<>(statements.size());
+			if (transactionManager.getCurrentTransaction() == null) {
+				tx = (BoltTransaction) transactionManager.openTransaction();
+				for (Statement statement : statements) {
+					results.add(run(tx, statement));
 				}
-				return null;
-			}
-
-			@Override
-			public void close() {
+				tx.commit();
+				tx.close();
+				queryLogger.log(statements, start);
+				return new MultiStatementRowModelResponse(results, transactionManager, () -> {});
 			}
-
-			@Override
-			public String[] columns() {
-				return finalColumns;
+			tx = (BoltTransaction) transactionManager.getCurrentTransaction();
+			for (Statement statement : statements) {
+				results.add(run(tx, statement));
 			}
-		};
+			// the statements are logged once their rows have been read, waiting for them here would stop the rows streaming
+			return new MultiStatementRowModelResponse(results, transactionManager, () -> queryLogger.log(statements, start));
+		} catch (Exception e) {
+			throw translate(e);
+		}
 	}
 
 	@Override
@@ -142,37 +148,54 @@ public class BoltRequest implements Request {
 	private StatementResult executeRequest(Statement request) {
 		BoltTransaction tx;
 		try {
-			String params = mapper.writeValueAsString(request.getParameters());
-			TypeReference<HashMap<String, Object>> typeRef = new TypeReference<HashMap<String, Object>>() {
-			};
-			HashMap<String, Object> parameterMap = mapper.readValue(params.getBytes(), typeRef);
-
-			LOGGER.info("Request: {} with params {}", request.getStatement(), parameterMap);
-
+			long start = System.nanoTime();
 			if (transactionManager.getCurrentTransaction() == null) {
 				org.neo4j.ogm.transaction.Transaction autoCommitTx = transactionManager.openTransaction();
 				tx = (BoltTransaction) autoCommitTx;
-				StatementResult statementResult = tx.nativeBoltTransaction().run(request.getStatement(), parameterMap);
+				StatementResult statementResult = run(tx, request);
 				tx.commit();
 				tx.close();
+				queryLogger.log(request, start);
 				return statementResult;
 			}
 			tx = (BoltTransaction) transactionManager.getCurrentTransaction();
-			return tx.nativeBoltTransaction().run(request.getStatement(), parameterMap);
-		} catch (CypherException|ConnectionException ce) {
-			throw ce;
-		} catch (ClientException ce) {
-			tx = (BoltTransaction) transactionManager.getCurrentTransaction();
-			if (tx != null) {
-				tx.rollback();
+			StatementResult statementResult = run(tx, request);
+			if (queryLogger.isTiming()) {
+				statementResult.hasNext(); // wait for the first record, so the time logged includes the execution
 			}
-			throw new CypherException("Error executing Cypher", ce, ce.neo4jErrorCode(), ce.getMessage());
+			queryLogger.log(request, start);
+			return statementResult;
 		} catch (Exception e) {
-			tx = (BoltTransaction) transactionManager.getCurrentTransaction();
-			if (tx != null) {
-				tx.rollback();
-			}
-			throw new RuntimeException(e);
+			throw translate(e);
+		}
+	}
+
+	/**
+	 * Sends a statement on the transaction without waiting for its result.
+	 */
+	private StatementResult run(BoltTransaction tx, Statement request) throws IOException {
+		String params = mapper.writeValueAsString(request.getParameters());
+		TypeReference<HashMap<String, Object>> typeRef = new TypeReference<HashMap<String, Object>>() {
+		};
+		HashMap<String, Object> parameterMap = mapper.readValue(params.getBytes(), typeRef);
+
+		statementShapes.record(request.getStatement());
+
+		return tx.nativeBoltTransaction().run(request.getStatement(), parameterMap);
+	}
+
+	private RuntimeException translate(Exception e) {
+		if (e instanceof CypherException || e instanceof ConnectionException) {
+			return (RuntimeException) e;
+		}
+		BoltTransaction tx = (BoltTransaction) transactionManager.getCurrentTransaction();
+		if (tx != null) {
+			tx.rollback();
+		}
+		if (e instanceof ClientException) {
+			ClientException ce = (ClientException) e;
+			return new CypherException("Error executing Cypher", ce, ce.neo4jErrorCode(), ce.getMessage());
 		}
+		return new RuntimeException(e);
 	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.drivers.bolt.response;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+/**
+ * The rows of several statements that were sent together, returned in statement order.
+ *
+ * The statements are all sent before any of their results are read, so their results arrive in a single
+ * round trip. Each result is only adapted once the rows of the previous one have been returned.
+ */
+public class MultiStatementRowModelResponse implements Response<RowModel> {
+
+	private final List<StatementResult> results;
+	private final Iterator<StatementResult> remaining;
+	private final TransactionManager transactionManager;
+	private final Runnable onCompletion;
+
+	private RowModelResponse current;
+	private boolean completed;
+
+	/**
+	 * @param results the results of the statements, in the order they were sent
+	 * @param transactionManager the transaction manager of the driver
+	 * @param onCompletion run once, when the last row has been read or the response is closed
+	 */
+	public MultiStatementRowModelResponse(List<StatementResult> results, TransactionManager transactionManager, Runnable onCompletion) {
+		this.results = results;
+		this.remaining = results.iterator();
+		this.transactionManager = transactionManager;
+		this.onCompletion = onCompletion;
+	}
+
+	@Override
+	public RowModel next() {
+		try {
+			while (true) {
+				if (current == null) {
+					if (!remaining.hasNext()) {
+						complete();
+						return null;
+					}
+					current = new RowModelResponse(remaining.next(), transactionManager);
+				}
+				RowModel model = current.next();
+				if (model != null) {
+					return model;
+				}
+				current = null;
+			}
+		} catch (ClientException ce) {
+			throw cypherException(ce);
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			// if there is no current transaction available, the results are already closed.
+			if (transactionManager.getCurrentTransaction() != null) {
+				if (current != null) {
+					current.close();
+				}
+				while (remaining.hasNext()) {
+					remaining.next().consume();
+				}
+			}
+		} catch (ClientException ce) {
+			throw cypherException(ce);
+		} finally {
+			complete();
+		}
+	}
+
+	@Override
+	public String[] columns() {
+		if (results.isEmpty()) {
+			return null;
+		}
+		List<String> columns = results.get(0).keys();
+		return columns.toArray(new String[columns.size()]);
+	}
+
+	private void complete() {
+		if (!completed) {
+			completed = true;
+			onCompletion.run();
+		}
+	}
+
+	private CypherException cypherException(ClientException ce) {
+		BoltTransaction tx = (BoltTransaction) transactionManager.getCurrentTransaction();
+		if (tx != null) {
+			tx.rollback();
+		}
+		return new CypherException("Error executing Cypher", ce, ce.neo4jErrorCode(), ce.getMessage());
+	}
+}
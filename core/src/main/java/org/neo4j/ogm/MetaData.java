@@ -16,11 +16,12 @@ package org.neo4j.ogm;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
@@ -28,6 +29,8 @@ import org.neo4j.ogm.exception.AmbiguousBaseClassException;
 import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.DomainInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.response.model.NameTable;
 import org.neo4j.ogm.typeconversion.ConversionCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,14 +45,58 @@ public class MetaData {
     private static final Logger LOGGER = LoggerFactory.getLogger(MetaData.class);
 
     private final DomainInfo domainInfo;
-    private Map<String, ClassInfo> classInfos = new HashMap<>();
+    // shared by the sessions of a SessionFactory and by parallel mapping threads
+    private final Map<String, ClassInfo> classInfos = new ConcurrentHashMap<>();
+    private final Set<String> unknownNames = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
     public MetaData(String... packages) {
         domainInfo = new DomainInfo(packages);
+        registerNames();
     }
 
     public MetaData(Class... classes) {
         domainInfo = new DomainInfo(classes);
+        registerNames();
+    }
+
+    /**
+     * @param nativeTypes the types the driver stores in a compact form rather than as strings
+     * @param packages the packages to scan for domain classes
+     */
+    public MetaData(Set<Class<?>> nativeTypes, String... packages) {
+        domainInfo = new DomainInfo(nativeTypes, packages);
+        registerNames();
+    }
+
+    public MetaData(Set<Class<?>> nativeTypes, Class... classes) {
+        domainInfo = new DomainInfo(nativeTypes, classes);
+        registerNames();
+    }
+
+    /**
+     * Registers the labels, relationship types and property keys of the domain with the {@link NameTable}, so that
+     * the response adapters share these instances instead of keeping a copy of them per result.
+     */
+    private void registerNames() {
+        NameTable names = NameTable.names();
+        for (ClassInfo classInfo : persistentEntities()) {
+            if (classInfo.isEnum() || classInfo.isTransient()) {
+                continue;
+            }
+            if (classInfo.isRelationshipEntity()) {
+                names.register(classInfo.neo4jName());
+            } else {
+                for (String label : classInfo.staticLabels()) {
+                    names.register(label);
+                }
+            }
+            for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+                names.register(fieldInfo.property());
+            }
+            for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
+                names.register(fieldInfo.relationship());
+            }
+        }
     }
 
     /**
@@ -61,11 +108,15 @@ public class MetaData {
      * @return A ClassInfo matching the supplied name, or null if it doesn't exist
      */
     public ClassInfo classInfo(String name) {
-        if (classInfos.containsKey(name)) {
-            return classInfos.get(name);
+        if (name == null) {
+            return null;
+        }
+        ClassInfo classInfo = classInfos.get(name);
+        if (classInfo != null || unknownNames.contains(name)) {
+            return classInfo;
         }
 
-        ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
+        classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
         if (classInfo != null) {
             classInfos.put(name, classInfo);
             return classInfo;
@@ -84,7 +135,7 @@ public class MetaData {
         }
 
         // not found
-        classInfos.put(name, null);
+        unknownNames.add(name);
         return null;
     }
 
@@ -15,6 +15,7 @@ package org.neo4j.ogm.compiler;
 
 import java.util.List;
 
+import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.StatementFactory;
 
@@ -95,6 +96,15 @@ public interface Compiler {
      */
     List<Statement> createRelationshipsStatements();
 
+    /**
+     * Retrieves the Cypher statements that create the nodes and relationships built up through this {@link Compiler}
+     * together, so that relationships referring to new nodes do not have to wait for the ids of those nodes.
+     * This replaces both {@link #createNodesStatements()} and {@link #createRelationshipsStatements()}.
+     *
+     * @return A {@link List} of Cypher queries to be executed or an empty list if there aren't any, never <code>null</code>
+     */
+    List<Statement> createNodesAndRelationshipsStatements();
+
     /**
      * Retrieves the Cypher statements that update nodes built up through this {@link Compiler}.
      *
@@ -148,6 +158,18 @@ public interface Compiler {
      */
     boolean hasStatementsDependentOnNewNodes();
 
+    /**
+     * Whether the only changes compiled are updates of existing nodes, which neither create nor delete anything
+     * @return true if there are updated nodes and no other changes
+     */
+    boolean hasOnlyNodeUpdates();
+
+    /**
+     * Returns the existing nodes to be updated
+     * @return the existing nodes compiled so far
+     */
+    List<Node> existingNodes();
+
 	/**
      * Specify the {@link StatementFactory} that this {@link Compiler} will useto produce {@link Statement}s
      * @param statementFactory The {@link StatementFactory}
@@ -119,55 +119,40 @@ public class MultiStatementCypherCompiler implements Compiler {
     @Override
     public List<Statement> createRelationshipsStatements() {
         assertStatementFactoryExists();
-        //Group relationships by type and non-null properties
-        //key: relationship type, value: Map where key=Set<Property strings>, value: Set of edges with those properties
-        Map<String, Map<Set<String>, Set<Edge>>> relsByTypeAndProps = new HashMap<>();
-        for (RelationshipBuilder relationshipBuilder : newRelationshipBuilders) {
-            if (relationshipBuilder.edge().getStartNode() == null || relationshipBuilder.edge().getEndNode() == null) {
-                continue; //TODO this is a carry forward from the old emitters. We want to prevent this rel builder getting created or remove it
-            }
-            if (!relsByTypeAndProps.containsKey(relationshipBuilder.type())) {
-                relsByTypeAndProps.put(relationshipBuilder.type(), new HashMap<>());
-            }
-            RelationshipModel edge = (RelationshipModel) relationshipBuilder.edge();
-            Set<String> nonNullPropertyKeys = new HashSet<>();
-            Iterator<Property<String, Object>> propertyIterator = edge.getPropertyList().iterator();
-            while (propertyIterator.hasNext()) {
-                Property property = propertyIterator.next();
-                if (property.getValue() == null) {
-                    propertyIterator.remove();
-                } else {
-                    nonNullPropertyKeys.add((String) property.getKey());
-                }
-            }
-            if (!relsByTypeAndProps.get(relationshipBuilder.type()).containsKey(nonNullPropertyKeys)) {
-                relsByTypeAndProps.get(relationshipBuilder.type()).put(nonNullPropertyKeys, new HashSet<>());
-            }
-            edge.setStartNode(context.getId(edge.getStartNode()));
-            edge.setEndNode(context.getId(edge.getEndNode()));
-            relsByTypeAndProps.get(relationshipBuilder.type()).get(nonNullPropertyKeys).add(edge);
-        }
-
         List<Statement> statements = new ArrayList<>();
-        //For each relationship type
-        for (Map<Set<String>, Set<Edge>> edgesByProperties : relsByTypeAndProps.values()) {
-            //For each set of unique property keys
-            for (Set<Edge> edges : edgesByProperties.values()) {
-                NewRelationshipStatementBuilder newRelationshipBuilder = new NewRelationshipStatementBuilder(edges, statementFactory);
-                statements.add(newRelationshipBuilder.build());
-            }
+        for (Set<Edge> edges : groupNewRelationshipsByTypeAndProperties()) {
+            NewRelationshipStatementBuilder newRelationshipBuilder = new NewRelationshipStatementBuilder(edges, statementFactory);
+            statements.add(newRelationshipBuilder.build());
         }
 
         return statements;
     }
 
+    @Override
+    public List<Statement> createNodesAndRelationshipsStatements() {
+        assertStatementFactoryExists();
+        List<Set<Node>> nodeGroups = new ArrayList<>(groupNodesByLabel(newNodeBuilders).values());
+        List<Set<Edge>> edgeGroups = groupNewRelationshipsByTypeAndProperties();
+        if (nodeGroups.isEmpty()) {
+            return createRelationshipsStatements();
+        }
+        NewNodesAndRelationshipsStatementBuilder builder = new NewNodesAndRelationshipsStatementBuilder(nodeGroups, edgeGroups, statementFactory);
+        return Collections.singletonList(builder.build());
+    }
+
     @Override
     public List<Statement> updateNodesStatements() {
         assertStatementFactoryExists();
-        Map<String, Set<Node>> existingNodesByLabels = groupNodesByLabel(existingNodeBuilders);
+        //Group nodes by labels and by the properties they remove
+        Map<List<Object>, Set<Node>> existingNodesByLabelsAndRemovedProperties = new HashMap<>();
+        for (NodeBuilder nodeBuilder : existingNodeBuilders) {
+            List<Object> key = Arrays.asList(join(nodeBuilder.addedLabels()),
+                    ExistingNodeStatementBuilder.removedProperties(nodeBuilder.node()));
+            existingNodesByLabelsAndRemovedProperties.computeIfAbsent(key, k -> new HashSet<>()).add(nodeBuilder.node());
+        }
 
-        List<Statement> statements = new ArrayList<>(existingNodesByLabels.size());
-        for (Set<Node> nodeModels : existingNodesByLabels.values()) {
+        List<Statement> statements = new ArrayList<>(existingNodesByLabelsAndRemovedProperties.size());
+        for (Set<Node> nodeModels : existingNodesByLabelsAndRemovedProperties.values()) {
             ExistingNodeStatementBuilder existingNodeBuilder = new ExistingNodeStatementBuilder(nodeModels, statementFactory);
             statements.add(existingNodeBuilder.build());
         }
@@ -178,12 +163,18 @@ public class MultiStatementCypherCompiler implements Compiler {
     @Override
     public List<Statement> updateRelationshipStatements() {
         assertStatementFactoryExists();
-        Set<Edge> relationships = new HashSet<>(existingRelationshipBuilders.size());
-        List<Statement> statements = new ArrayList<>(existingRelationshipBuilders.size());
-        if (existingRelationshipBuilders.size() > 0) {
-            for (RelationshipBuilder relBuilder : existingRelationshipBuilders) {
-                relationships.add(relBuilder.edge());
+        //Group relationships by the properties they remove
+        Map<Set<String>, Set<Edge>> relationshipsByRemovedProperties = new HashMap<>();
+        for (RelationshipBuilder relBuilder : existingRelationshipBuilders) {
+            if (relBuilder.edge().getPropertyList().isEmpty()) {
+                // an unchanged relationship entity has no properties to set or remove
+                continue;
             }
+            relationshipsByRemovedProperties.computeIfAbsent(ExistingRelationshipStatementBuilder.removedProperties(relBuilder.edge()),
+                    k -> new HashSet<>()).add(relBuilder.edge());
+        }
+        List<Statement> statements = new ArrayList<>(relationshipsByRemovedProperties.size());
+        for (Set<Edge> relationships : relationshipsByRemovedProperties.values()) {
             ExistingRelationshipStatementBuilder existingRelationshipBuilder = new ExistingRelationshipStatementBuilder(relationships, statementFactory);
             statements.add(existingRelationshipBuilder.build());
         }
@@ -251,6 +242,22 @@ public class MultiStatementCypherCompiler implements Compiler {
         return false;
     }
 
+    @Override
+    public boolean hasOnlyNodeUpdates() {
+        return !existingNodeBuilders.isEmpty() && newNodeBuilders.isEmpty() && newRelationshipBuilders.isEmpty()
+                && existingRelationshipBuilders.isEmpty() && deletedRelationshipBuilders.isEmpty()
+                && deletedRelationshipEntityBuilders.isEmpty();
+    }
+
+    @Override
+    public List<Node> existingNodes() {
+        List<Node> nodes = new ArrayList<>(existingNodeBuilders.size());
+        for (NodeBuilder nodeBuilder : existingNodeBuilders) {
+            nodes.add(nodeBuilder.node());
+        }
+        return nodes;
+    }
+
     @Override
     public void useStatementFactory(StatementFactory statementFactory) {
         this.statementFactory = statementFactory;
@@ -299,6 +306,45 @@ public class MultiStatementCypherCompiler implements Compiler {
         return nodesByLabels;
     }
 
+    private List<Set<Edge>> groupNewRelationshipsByTypeAndProperties() {
+        //Group relationships by type and non-null properties
+        //key: relationship type, value: Map where key=Set<Property strings>, value: Set of edges with those properties
+        Map<String, Map<Set<String>, Set<Edge>>> relsByTypeAndProps = new HashMap<>();
+        for (RelationshipBuilder relationshipBuilder : newRelationshipBuilders) {
+            if (relationshipBuilder.edge().getStartNode() == null || relationshipBuilder.edge().getEndNode() == null) {
+                continue; //TODO this is a carry forward from the old emitters. We want to prevent this rel builder getting created or remove it
+            }
+            if (!relsByTypeAndProps.containsKey(relationshipBuilder.type())) {
+                relsByTypeAndProps.put(relationshipBuilder.type(), new HashMap<>());
+            }
+            RelationshipModel edge = (RelationshipModel) relationshipBuilder.edge();
+            Set<String> nonNullPropertyKeys = new HashSet<>();
+            Iterator<Property<String, Object>> propertyIterator = edge.getPropertyList().iterator();
+            while (propertyIterator.hasNext()) {
+                Property property = propertyIterator.next();
+                if (property.getValue() == null) {
+                    propertyIterator.remove();
+                } else {
+                    nonNullPropertyKeys.add((String) property.getKey());
+                }
+            }
+            if (!relsByTypeAndProps.get(relationshipBuilder.type()).containsKey(nonNullPropertyKeys)) {
+                relsByTypeAndProps.get(relationshipBuilder.type()).put(nonNullPropertyKeys, new HashSet<>());
+            }
+            edge.setStartNode(context.getId(edge.getStartNode()));
+            edge.setEndNode(context.getId(edge.getEndNode()));
+            relsByTypeAndProps.get(relationshipBuilder.type()).get(nonNullPropertyKeys).add(edge);
+        }
+
+        List<Set<Edge>> groups = new ArrayList<>();
+        //For each relationship type
+        for (Map<Set<String>, Set<Edge>> edgesByProperties : relsByTypeAndProps.values()) {
+            //For each set of unique property keys
+            groups.addAll(edgesByProperties.values());
+        }
+        return groups;
+    }
+
     private Map<String, Set<Edge>> groupRelationshipsByType(List<RelationshipBuilder> relationshipBuilders) {
         Map<String, Set<Edge>> relsByType = new HashMap<>();
         for (RelationshipBuilder relationshipBuilder : relationshipBuilders) {
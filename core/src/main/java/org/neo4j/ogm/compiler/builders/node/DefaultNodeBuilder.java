@@ -14,15 +14,13 @@
 package org.neo4j.ogm.compiler.builders.node;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 
 import org.neo4j.ogm.compiler.NodeBuilder;
 import org.neo4j.ogm.exception.MappingException;
 import org.neo4j.ogm.model.Node;
-import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.response.model.NodeModel;
-import org.neo4j.ogm.response.model.PropertyModel;
+import org.neo4j.ogm.response.model.PropertyList;
 
 /**
  * @author Luanne Misquitta
@@ -39,15 +37,13 @@ public class DefaultNodeBuilder implements NodeBuilder {
 
     @Override
     public NodeBuilder addProperty(String key, Object value) {
-        List<Property<String, Object>> propertyList = node.getPropertyList();
+        PropertyList propertyList = node.getPropertyList();
 
-        for (Property<String, Object> property : propertyList) {
-            if (property.getKey().equals(key)) {
-                throw new MappingException("Node model already contains property: " + key);
-            }
+        if (propertyList.indexOfKey(key) >= 0) {
+            throw new MappingException("Node model already contains property: " + key);
         }
 
-        propertyList.add(new PropertyModel<>(key, value));
+        propertyList.append(key, value);
         return this;
     }
 
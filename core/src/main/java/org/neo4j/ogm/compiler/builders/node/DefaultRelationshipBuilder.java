@@ -15,7 +15,6 @@ package org.neo4j.ogm.compiler.builders.node;
 
 import org.neo4j.ogm.compiler.RelationshipBuilder;
 import org.neo4j.ogm.model.Edge;
-import org.neo4j.ogm.response.model.PropertyModel;
 import org.neo4j.ogm.response.model.RelationshipModel;
 
 /**
@@ -55,7 +54,7 @@ public class DefaultRelationshipBuilder implements RelationshipBuilder {
 
 	@Override
 	public void addProperty(String key, Object value) {
-		relationship.getPropertyList().add(new PropertyModel<>(key, value));
+		relationship.getPropertyList().append(key, value);
 	}
 
 
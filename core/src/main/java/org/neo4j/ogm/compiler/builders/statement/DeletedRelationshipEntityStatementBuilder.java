@@ -26,6 +26,8 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class DeletedRelationshipEntityStatementBuilder implements CypherStatementBuilder {
 
+    private static final String STATEMENT = "START r=rel({relIds}) DELETE r";
+
     private final StatementFactory statementFactory;
 
     private final Set<Edge> deletedEdges;
@@ -39,11 +41,11 @@ public class DeletedRelationshipEntityStatementBuilder implements CypherStatemen
     public Statement build() {
 
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String query = "";
 
         if (deletedEdges != null && deletedEdges.size() > 0) {
 
-            queryBuilder.append("START r=rel({relIds}) DELETE r");
+            query = STATEMENT;
 
             List<Long> relIds = new ArrayList<>(deletedEdges.size());
             List<Map> rows = new ArrayList<>();
@@ -56,6 +58,6 @@ public class DeletedRelationshipEntityStatementBuilder implements CypherStatemen
             parameters.put("rows", rows);
             parameters.put("relIds", relIds);
         }
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(query, parameters);
     }
 }
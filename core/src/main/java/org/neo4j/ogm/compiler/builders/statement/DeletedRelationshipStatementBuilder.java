@@ -13,9 +13,12 @@
 
 package org.neo4j.ogm.compiler.builders.statement;
 
+import static org.neo4j.ogm.cypher.query.StatementTemplateCache.shape;
+
 import java.util.*;
 
 import org.neo4j.ogm.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.query.StatementTemplateCache;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.StatementFactory;
@@ -26,6 +29,8 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class DeletedRelationshipStatementBuilder implements CypherStatementBuilder {
 
+    private static final StatementTemplateCache TEMPLATES = StatementTemplateCache.templates();
+
     private final StatementFactory statementFactory;
 
     private final Set<Edge> deletedEdges;
@@ -39,16 +44,18 @@ public class DeletedRelationshipStatementBuilder implements CypherStatementBuild
     @Override
     public Statement build() {
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String query = "";
 
         if (deletedEdges != null && deletedEdges.size() > 0) {
             Edge firstEdge = deletedEdges.iterator().next();
 
-            queryBuilder.append("UNWIND {rows} as row ")
-                    .append("MATCH (startNode) WHERE ID(startNode) = row.startNodeId ")
-                    .append("MATCH (endNode) WHERE ID(endNode) = row.endNodeId ")
-                    .append("MATCH (startNode)-[rel:`").append(firstEdge.getType()).append("`]->(endNode) ")
-                    .append("DELETE rel");
+            query = TEMPLATES.get(shape("compiler.deletedRelationship", firstEdge.getType()),
+                    () -> new StringBuilder("UNWIND {rows} as row ")
+                            .append("MATCH (startNode) WHERE ID(startNode) = row.startNodeId ")
+                            .append("MATCH (endNode) WHERE ID(endNode) = row.endNodeId ")
+                            .append("MATCH (startNode)-[rel:`").append(firstEdge.getType()).append("`]->(endNode) ")
+                            .append("DELETE rel")
+                            .toString());
 
             List<Map> rows = new ArrayList<>();
             for (Edge edge : deletedEdges) {
@@ -60,6 +67,6 @@ public class DeletedRelationshipStatementBuilder implements CypherStatementBuild
             parameters.put("rows", rows);
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(query, parameters);
     }
 }
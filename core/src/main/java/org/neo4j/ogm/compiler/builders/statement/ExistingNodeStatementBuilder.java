@@ -13,13 +13,19 @@
 
 package org.neo4j.ogm.compiler.builders.statement;
 
+import static org.neo4j.ogm.cypher.query.StatementTemplateCache.shape;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.neo4j.ogm.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.query.StatementTemplateCache;
 import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.Statement;
@@ -31,6 +37,8 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class ExistingNodeStatementBuilder implements CypherStatementBuilder {
 
+    private static final StatementTemplateCache TEMPLATES = StatementTemplateCache.templates();
+
     private final StatementFactory statementFactory;
 
     private final Set<Node> existingNodes;
@@ -44,27 +52,17 @@ public class ExistingNodeStatementBuilder implements CypherStatementBuilder {
     public Statement build() {
 
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String query = "";
 
         if (existingNodes != null && existingNodes.size() > 0) {
             Node firstNode = existingNodes.iterator().next();
 
-            queryBuilder.append("UNWIND {rows} as row ")
-                    .append("MATCH (n) WHERE ID(n)=row.nodeId ");
-
             String[] removedLabels = firstNode.getRemovedLabels();
-            if (removedLabels != null && removedLabels.length > 0) {
-                for (String label : removedLabels) {
-                    queryBuilder.append(String.format(" REMOVE n:`%s` ", label));
-                }
-            }
+            Set<String> removedProperties = removedProperties(firstNode);
+            query = TEMPLATES.get(shape("compiler.existingNode", Arrays.asList(firstNode.getLabels()),
+                    removedLabels == null ? Collections.emptyList() : Arrays.asList(removedLabels), removedProperties),
+                    () -> statement(firstNode, removedProperties));
 
-            queryBuilder.append("SET n");
-            for (String label : firstNode.getLabels()) {
-                queryBuilder.append(":`").append(label).append("`");
-            }
-
-            queryBuilder.append(" SET n += row.props RETURN row.nodeId as ref, ID(n) as id, row.type as type");
             List<Map> rows = new ArrayList<>();
             for (Node node : existingNodes) {
                 Map<String, Object> rowMap = new HashMap<>();
@@ -72,7 +70,9 @@ public class ExistingNodeStatementBuilder implements CypherStatementBuilder {
                 rowMap.put("type", "node");
                 Map<String, Object> props = new HashMap<>();
                 for (Property property : node.getPropertyList()) {
-                    props.put((String) property.getKey(), property.getValue());
+                    if (property.getValue() != null) {
+                        props.put((String) property.getKey(), property.getValue());
+                    }
                 }
                 rowMap.put("props", props);
                 rows.add(rowMap);
@@ -80,6 +80,49 @@ public class ExistingNodeStatementBuilder implements CypherStatementBuilder {
             parameters.put("rows", rows);
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(query, parameters);
+    }
+
+    /**
+     * Properties set to null are removed explicitly rather than being sent in the row. The compiler groups nodes
+     * so that all the nodes in a statement remove the same properties.
+     */
+    public static Set<String> removedProperties(Node node) {
+        Set<String> removedProperties = new TreeSet<>();
+        for (Property<String, Object> property : node.getPropertyList()) {
+            if (property.getValue() == null) {
+                removedProperties.add(property.getKey());
+            }
+        }
+        return removedProperties;
+    }
+
+    private static String statement(Node firstNode, Set<String> removedProperties) {
+        final StringBuilder queryBuilder = new StringBuilder();
+
+        queryBuilder.append("UNWIND {rows} as row ")
+                .append("MATCH (n) WHERE ID(n)=row.nodeId ");
+
+        String[] removedLabels = firstNode.getRemovedLabels();
+        if (removedLabels != null && removedLabels.length > 0) {
+            for (String label : removedLabels) {
+                queryBuilder.append(String.format(" REMOVE n:`%s` ", label));
+            }
+        }
+
+        queryBuilder.append("SET n");
+        for (String label : firstNode.getLabels()) {
+            queryBuilder.append(":`").append(label).append("`");
+        }
+
+        queryBuilder.append(" SET n += row.props");
+        String separator = " REMOVE ";
+        for (String property : removedProperties) {
+            queryBuilder.append(separator).append("n.`").append(property).append("`");
+            separator = ", ";
+        }
+
+        queryBuilder.append(" RETURN row.nodeId as ref, ID(n) as id, row.type as type");
+        return queryBuilder.toString();
     }
 }
@@ -13,9 +13,12 @@
 
 package org.neo4j.ogm.compiler.builders.statement;
 
+import static org.neo4j.ogm.cypher.query.StatementTemplateCache.shape;
+
 import java.util.*;
 
 import org.neo4j.ogm.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.query.StatementTemplateCache;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.Statement;
@@ -27,6 +30,8 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class ExistingRelationshipStatementBuilder implements CypherStatementBuilder {
 
+    private static final StatementTemplateCache TEMPLATES = StatementTemplateCache.templates();
+
     private final StatementFactory statementFactory;
 
     private final Set<Edge> edges;
@@ -40,12 +45,11 @@ public class ExistingRelationshipStatementBuilder implements CypherStatementBuil
     @Override
     public Statement build() {
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String query = "";
 
         if (edges.size() > 0) {
-            //queryBuilder.append("START r=rels({relIds}) SET r += ({rows}[toString(id(r))]).props"); //TODO 2.3+
-            queryBuilder.append("START r=rel({relIds}) FOREACH (row in filter(row in {rows} where row.relId = id(r)) | SET r += row.props) ");
-            queryBuilder.append("RETURN ID(r) as ref, ID(r) as id, {type} as type");
+            Set<String> removedProperties = removedProperties(edges.iterator().next());
+            query = TEMPLATES.get(shape("compiler.existingRelationship", removedProperties), () -> statement(removedProperties));
             List<Long> relIds = new ArrayList<>(edges.size());
             List<Map> rows = new ArrayList<>();
             for (Edge edge : edges) {
@@ -53,7 +57,9 @@ public class ExistingRelationshipStatementBuilder implements CypherStatementBuil
                 rowMap.put("relId", edge.getId());
                 Map<String, Object> props = new HashMap<>();
                 for (Property property : edge.getPropertyList()) {
-                    props.put((String) property.getKey(), property.getValue());
+                    if (property.getValue() != null) {
+                        props.put((String) property.getKey(), property.getValue());
+                    }
                 }
                 rowMap.put("props", props);
                 rows.add(rowMap);
@@ -64,6 +70,35 @@ public class ExistingRelationshipStatementBuilder implements CypherStatementBuil
             parameters.put("type", "rel");
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(query, parameters);
+    }
+
+    /**
+     * Properties set to null are removed explicitly rather than being sent in the row. The compiler groups
+     * relationships so that all the relationships in a statement remove the same properties.
+     */
+    public static Set<String> removedProperties(Edge edge) {
+        Set<String> removedProperties = new TreeSet<>();
+        for (Property<String, Object> property : edge.getPropertyList()) {
+            if (property.getValue() == null) {
+                removedProperties.add(property.getKey());
+            }
+        }
+        return removedProperties;
+    }
+
+    private static String statement(Set<String> removedProperties) {
+        final StringBuilder queryBuilder = new StringBuilder();
+
+        //queryBuilder.append("START r=rels({relIds}) SET r += ({rows}[toString(id(r))]).props"); //TODO 2.3+
+        queryBuilder.append("START r=rel({relIds}) FOREACH (row in filter(row in {rows} where row.relId = id(r)) | SET r += row.props");
+        String separator = " REMOVE ";
+        for (String property : removedProperties) {
+            queryBuilder.append(separator).append("r.`").append(property).append("`");
+            separator = ", ";
+        }
+        queryBuilder.append(") ");
+        queryBuilder.append("RETURN ID(r) as ref, ID(r) as id, {type} as type");
+        return queryBuilder.toString();
     }
 }
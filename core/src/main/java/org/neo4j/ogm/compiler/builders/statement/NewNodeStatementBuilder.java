@@ -13,9 +13,12 @@
 
 package org.neo4j.ogm.compiler.builders.statement;
 
+import static org.neo4j.ogm.cypher.query.StatementTemplateCache.shape;
+
 import java.util.*;
 
 import org.neo4j.ogm.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.query.StatementTemplateCache;
 import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.Statement;
@@ -27,6 +30,8 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class NewNodeStatementBuilder implements CypherStatementBuilder {
 
+    private static final StatementTemplateCache TEMPLATES = StatementTemplateCache.templates();
+
     private final StatementFactory statementFactory;
 
     private final Set<Node> newNodes;
@@ -40,32 +45,14 @@ public class NewNodeStatementBuilder implements CypherStatementBuilder {
     public Statement build() {
 
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String query = "";
 
         if (newNodes != null && newNodes.size() > 0) {
             Node firstNode = newNodes.iterator().next();
 
-            queryBuilder.append("UNWIND {rows} as row ");
+            query = TEMPLATES.get(shape("compiler.newNode", Arrays.asList(firstNode.getLabels()), firstNode.getPrimaryIndex()),
+                    () -> statement(firstNode));
 
-            if (firstNode.getPrimaryIndex() != null) {
-                queryBuilder.append("MERGE (n");
-            } else {
-                queryBuilder.append("CREATE (n");
-            }
-
-            for (String label : firstNode.getLabels()) {
-                queryBuilder.append(":`").append(label).append("`");
-            }
-
-            if (firstNode.getPrimaryIndex() != null) {
-                queryBuilder.append("{")
-                        .append(firstNode.getPrimaryIndex())
-                        .append(": row.props.")
-                        .append(firstNode.getPrimaryIndex())
-                        .append("}");
-            }
-
-            queryBuilder.append(") SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, row.type as type");
             List<Map> rows = new ArrayList<>();
             for (Node node : newNodes) {
                 Map<String, Object> rowMap = new HashMap<>();
@@ -83,6 +70,39 @@ public class NewNodeStatementBuilder implements CypherStatementBuilder {
             parameters.put("rows", rows);
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(query, parameters);
+    }
+
+    private static String statement(Node firstNode) {
+        return "UNWIND {rows} as row " + createClause(firstNode) + " RETURN row.nodeRef as ref, ID(n) as id, row.type as type";
+    }
+
+    /**
+     * @return the clause creating (or merging on its primary index) the node <code>n</code> for a <code>row</code>
+     * having the labels and primary index of the given node
+     */
+    static String createClause(Node firstNode) {
+        final StringBuilder queryBuilder = new StringBuilder();
+
+        if (firstNode.getPrimaryIndex() != null) {
+            queryBuilder.append("MERGE (n");
+        } else {
+            queryBuilder.append("CREATE (n");
+        }
+
+        for (String label : firstNode.getLabels()) {
+            queryBuilder.append(":`").append(label).append("`");
+        }
+
+        if (firstNode.getPrimaryIndex() != null) {
+            queryBuilder.append("{")
+                    .append(firstNode.getPrimaryIndex())
+                    .append(": row.props.")
+                    .append(firstNode.getPrimaryIndex())
+                    .append("}");
+        }
+
+        queryBuilder.append(") SET n=row.props");
+        return queryBuilder.toString();
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.compiler.builders.statement;
+
+import static org.neo4j.ogm.cypher.query.StatementTemplateCache.shape;
+
+import java.util.*;
+
+import org.neo4j.ogm.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.query.StatementTemplateCache;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.StatementFactory;
+
+/**
+ * Builds a single statement that creates new nodes together with new relationships, some of which may
+ * refer to those nodes.
+ *
+ * Each new node is given a position in the list of node ids collected as the nodes are created. A relationship
+ * row refers to a new node by its position rather than by its id, which is not known until the node is created,
+ * so the relationships can be created in the same statement instead of waiting for the ids of the new nodes to be
+ * returned. Relationships between existing nodes refer to them by id, as usual.
+ *
+ * The statement returns a row with the reference, id and type of each new node and relationship, in the same form
+ * as {@link NewNodeStatementBuilder} and {@link NewRelationshipStatementBuilder}. As with separate statements, a
+ * relationship is not created if one of its existing nodes no longer exists, while the new nodes still are.
+ */
+public class NewNodesAndRelationshipsStatementBuilder implements CypherStatementBuilder {
+
+    private static final StatementTemplateCache TEMPLATES = StatementTemplateCache.templates();
+
+    private final StatementFactory statementFactory;
+
+    private final List<Set<Node>> nodeGroups;
+
+    private final List<Set<Edge>> edgeGroups;
+
+    /**
+     * @param nodeGroups new nodes, grouped so that all the nodes in a group have the same labels and primary index
+     * @param edgeGroups new relationships, grouped so that all the relationships in a group have the same type and
+     *                   property keys
+     * @param statementFactory the factory for the statement
+     */
+    public NewNodesAndRelationshipsStatementBuilder(List<Set<Node>> nodeGroups, List<Set<Edge>> edgeGroups, StatementFactory statementFactory) {
+        this.nodeGroups = nodeGroups;
+        this.edgeGroups = edgeGroups;
+        this.statementFactory = statementFactory;
+    }
+
+    @Override
+    public Statement build() {
+        final Map<String, Object> parameters = new HashMap<>();
+        final List<Object> shape = new ArrayList<>();
+        shape.add("compiler.newNodesAndRelationships");
+
+        Map<Long, Integer> nodeIndexes = new HashMap<>();
+        List<Long> nodeRefs = new ArrayList<>();
+        List<Node> firstNodes = new ArrayList<>(nodeGroups.size());
+        for (Set<Node> nodes : nodeGroups) {
+            Node firstNode = nodes.iterator().next();
+            firstNodes.add(firstNode);
+            shape.add(Arrays.asList(firstNode.getLabels()));
+            shape.add(firstNode.getPrimaryIndex());
+
+            List<Map> rows = new ArrayList<>(nodes.size());
+            for (Node node : nodes) {
+                Map<String, Object> rowMap = new HashMap<>();
+                rowMap.put("nodeIndex", nodeRefs.size());
+                Map<String, Object> props = new HashMap<>();
+                for (Property property : node.getPropertyList()) {
+                    if (property.getValue() != null) {
+                        props.put((String) property.getKey(), property.getValue());
+                    }
+                }
+                rowMap.put("props", props);
+                rows.add(rowMap);
+                nodeIndexes.put(node.getId(), nodeRefs.size());
+                nodeRefs.add(node.getId());
+            }
+            parameters.put("nodes" + (firstNodes.size() - 1), rows);
+        }
+        parameters.put("nodeRefs", nodeRefs);
+
+        List<Edge> firstEdges = new ArrayList<>(edgeGroups.size());
+        for (Set<Edge> edges : edgeGroups) {
+            Edge firstEdge = edges.iterator().next();
+            firstEdges.add(firstEdge);
+            shape.add(firstEdge.getType());
+            shape.add(NewRelationshipStatementBuilder.propertyKeys(firstEdge));
+
+            List<Map> rows = new ArrayList<>(edges.size());
+            for (Edge edge : edges) {
+                Map<String, Object> rowMap = new HashMap<>();
+                rowMap.put("startNodeId", edge.getStartNode());
+                rowMap.put("startNodeIndex", nodeIndexes.get(edge.getStartNode()));
+                rowMap.put("endNodeId", edge.getEndNode());
+                rowMap.put("endNodeIndex", nodeIndexes.get(edge.getEndNode()));
+                rowMap.put("relRef", edge.getId());
+                if (!edge.getPropertyList().isEmpty()) {
+                    Map<String, Object> props = new HashMap<>();
+                    for (Property property : edge.getPropertyList()) {
+                        props.put((String) property.getKey(), property.getValue());
+                    }
+                    rowMap.put("props", props);
+                }
+                rows.add(rowMap);
+            }
+            parameters.put("rels" + (firstEdges.size() - 1), rows);
+        }
+
+        String query = TEMPLATES.get(shape, () -> statement(firstNodes, firstEdges));
+        return statementFactory.statement(query, parameters);
+    }
+
+    private static String statement(List<Node> firstNodes, List<Edge> firstEdges) {
+        final StringBuilder queryBuilder = new StringBuilder("WITH [] as nodeIds, [] as rels ");
+
+        for (int i = 0; i < firstNodes.size(); i++) {
+            // nodes are collected in the order of their positions, so that nodeIds[nodeIndex] is the id of the node
+            queryBuilder.append("UNWIND {nodes").append(i).append("} as row ")
+                    .append(NewNodeStatementBuilder.createClause(firstNodes.get(i)))
+                    .append(" WITH nodeIds, rels, row, n ORDER BY row.nodeIndex")
+                    .append(" WITH nodeIds, rels, collect(ID(n)) as ids")
+                    .append(" WITH nodeIds + ids as nodeIds, rels ");
+        }
+
+        for (int i = 0; i < firstEdges.size(); i++) {
+            Edge firstEdge = firstEdges.get(i);
+            String pattern = NewRelationshipStatementBuilder.pattern(firstEdge.getType(), NewRelationshipStatementBuilder.propertyKeys(firstEdge));
+            // a row whose existing node has been deleted in the meantime must not be filtered out, or the aggregation
+            // would produce no row at all and the ids of the new nodes would be lost: such a row creates no relationship.
+            // The pattern may match several parallel relationships with the same type and properties, all of which
+            // MERGE would have matched, so each row is given exactly one of them
+            queryBuilder.append("UNWIND {rels").append(i).append("} as row ")
+                    .append("OPTIONAL MATCH (startNode) WHERE ID(startNode) = CASE WHEN row.startNodeIndex IS NULL THEN row.startNodeId ELSE nodeIds[row.startNodeIndex] END ")
+                    .append("OPTIONAL MATCH (endNode) WHERE ID(endNode) = CASE WHEN row.endNodeIndex IS NULL THEN row.endNodeId ELSE nodeIds[row.endNodeIndex] END ")
+                    .append("FOREACH (ignored IN CASE WHEN startNode IS NULL OR endNode IS NULL THEN [] ELSE [1] END | MERGE ").append(pattern).append(")")
+                    .append(" WITH nodeIds, rels, row, startNode, endNode")
+                    .append(" OPTIONAL MATCH ").append(pattern)
+                    .append(" WITH nodeIds, rels, row.relRef as relRef, min(ID(rel)) as relId")
+                    .append(" WITH nodeIds, rels, collect(CASE WHEN relId IS NULL THEN null ELSE {ref: relRef, id: relId, type: 'rel'} END) as ids")
+                    .append(" WITH nodeIds, rels + ids as rels ");
+        }
+
+        queryBuilder.append("UNWIND [i IN range(0, size(nodeIds) - 1) | {ref: {nodeRefs}[i], id: nodeIds[i], type: 'node'}] + rels as result ")
+                .append("RETURN result.ref as ref, result.id as id, result.type as type");
+        return queryBuilder.toString();
+    }
+}
@@ -13,9 +13,12 @@
 
 package org.neo4j.ogm.compiler.builders.statement;
 
+import static org.neo4j.ogm.cypher.query.StatementTemplateCache.shape;
+
 import java.util.*;
 
 import org.neo4j.ogm.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.query.StatementTemplateCache;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.Statement;
@@ -27,6 +30,8 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
 
+    private static final StatementTemplateCache TEMPLATES = StatementTemplateCache.templates();
+
     private final StatementFactory statementFactory;
 
     private final Set<Edge> edges;
@@ -40,41 +45,18 @@ public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
     public Statement build() {
 
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String query = "";
 
         boolean hasProperties = false;
         if (edges != null && edges.size() > 0) {
             Edge firstEdge = edges.iterator().next();
-            String relType = firstEdge.getType();
             if (firstEdge.getPropertyList().size() > 0) {
                 hasProperties = true;
             }
 
-            queryBuilder.append("UNWIND {rows} as row ")
-                    .append("MATCH (startNode) WHERE ID(startNode) = row.startNodeId ")
-                    .append("MATCH (endNode) WHERE ID(endNode) = row.endNodeId ")
-                    .append("MERGE (startNode)-[rel:`").append(relType).append("`");
-
-            if (hasProperties) {
-                boolean firstProperty = true;
-                queryBuilder.append("{ ");
-                Set<String> sortedProperties = new TreeSet<>();
-                for (Property property : firstEdge.getPropertyList()) {
-                    sortedProperties.add("`" + property.getKey() + "`: row.props." + property.getKey());
-                }
-
-                for (String propertyString : sortedProperties) {
-                    if (!firstProperty) {
-                        queryBuilder.append(", ");
-                    }
-                    queryBuilder.append(propertyString);
-                    firstProperty = false;
-                }
-                queryBuilder.append("}");
-            }
-
-            queryBuilder.append("]->(endNode) ")
-                    .append("RETURN row.relRef as ref, ID(rel) as id, row.type as type");
+            Set<String> propertyKeys = propertyKeys(firstEdge);
+            query = TEMPLATES.get(shape("compiler.newRelationship", firstEdge.getType(), propertyKeys),
+                    () -> statement(firstEdge.getType(), propertyKeys));
 
             List<Map> rows = new ArrayList<>();
             for (Edge edge : edges) {
@@ -95,6 +77,61 @@ public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
             parameters.put("rows", rows);
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(query, parameters);
+    }
+
+    static Set<String> propertyKeys(Edge edge) {
+        Set<String> propertyKeys = new TreeSet<>();
+        for (Property<String, Object> property : edge.getPropertyList()) {
+            propertyKeys.add(property.getKey());
+        }
+        return propertyKeys;
+    }
+
+    private static String statement(String relType, Set<String> propertyKeys) {
+        return "UNWIND {rows} as row "
+                + "MATCH (startNode) WHERE ID(startNode) = row.startNodeId "
+                + "MATCH (endNode) WHERE ID(endNode) = row.endNodeId "
+                + mergeClause(relType, propertyKeys)
+                + " RETURN row.relRef as ref, ID(rel) as id, row.type as type";
+    }
+
+    /**
+     * @return the clause merging the relationship <code>rel</code> between <code>startNode</code> and
+     * <code>endNode</code> for a <code>row</code> having the given type and property keys
+     */
+    static String mergeClause(String relType, Set<String> propertyKeys) {
+        return "MERGE " + pattern(relType, propertyKeys);
+    }
+
+    /**
+     * @return the pattern of the relationship <code>rel</code> between <code>startNode</code> and
+     * <code>endNode</code> for a <code>row</code> having the given type and property keys
+     */
+    static String pattern(String relType, Set<String> propertyKeys) {
+        final StringBuilder queryBuilder = new StringBuilder();
+
+        queryBuilder.append("(startNode)-[rel:`").append(relType).append("`");
+
+        if (!propertyKeys.isEmpty()) {
+            boolean firstProperty = true;
+            queryBuilder.append("{ ");
+            Set<String> sortedProperties = new TreeSet<>();
+            for (String propertyKey : propertyKeys) {
+                sortedProperties.add("`" + propertyKey + "`: row.props." + propertyKey);
+            }
+
+            for (String propertyString : sortedProperties) {
+                if (!firstProperty) {
+                    queryBuilder.append(", ");
+                }
+                queryBuilder.append(propertyString);
+                firstProperty = false;
+            }
+            queryBuilder.append("}");
+        }
+
+        queryBuilder.append("]->(endNode)");
+        return queryBuilder.toString();
     }
 }
@@ -17,6 +17,8 @@ package org.neo4j.ogm.context;
 import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.annotation.Relationship;
@@ -236,8 +238,12 @@ public class EntityGraphMapper implements EntityMapper {
             LOGGER.debug("{} has changed", entity);
             context.register(entity);
             ClassInfo classInfo = metaData.classInfo(entity);
-            Collection<PropertyReader> propertyReaders = EntityAccessManager.getPropertyReaders(classInfo);
-            for (PropertyReader propertyReader : propertyReaders) {
+            Set<String> changedProperties = mappingContext.changedProperties(entity);
+            for (Map.Entry<FieldInfo, PropertyReader> entry : EntityAccessManager.getPropertyReadersByField(classInfo).entrySet()) {
+                if (!isChanged(entry.getKey(), changedProperties)) {
+                    continue;
+                }
+                PropertyReader propertyReader = entry.getValue();
                 if (propertyReader.isComposite()) {
                     nodeBuilder.addProperties(propertyReader.readComposite(entity));
                 } else {
@@ -629,11 +635,25 @@ public class EntityGraphMapper implements EntityMapper {
             context.registerNewObject(reIdentity, relationshipEntity);
         }
 
-        for (PropertyReader propertyReader : EntityAccessManager.getPropertyReaders(relEntityClassInfo)) {
-            relationshipBuilder.addProperty(propertyReader.propertyName(), propertyReader.readProperty(relationshipEntity));
+        Set<String> changedProperties = mappingContext.changedProperties(relationshipEntity);
+        for (Map.Entry<FieldInfo, PropertyReader> entry : EntityAccessManager.getPropertyReadersByField(relEntityClassInfo).entrySet()) {
+            if (isChanged(entry.getKey(), changedProperties)) {
+                PropertyReader propertyReader = entry.getValue();
+                relationshipBuilder.addProperty(propertyReader.propertyName(), propertyReader.readProperty(relationshipEntity));
+            }
         }
     }
 
+    /**
+     * @param fieldInfo the property field read to write the property
+     * @param changedProperties the properties of the changed fields, or null if all properties are to be written
+     * @return true if the property should be written to the graph
+     */
+    private static boolean isChanged(FieldInfo fieldInfo, Set<String> changedProperties) {
+        return changedProperties == null
+                || changedProperties.contains(fieldInfo.property());
+    }
+
     private Object getStartEntity(ClassInfo relEntityClassInfo, Object relationshipEntity) {
         RelationalReader actualStartNodeReader = EntityAccessManager.getStartNodeReader(relEntityClassInfo);
         if (actualStartNodeReader != null) {
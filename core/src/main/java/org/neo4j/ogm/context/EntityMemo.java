@@ -31,9 +31,9 @@ class EntityMemo {
     // objects with no properties will always hash to this value.
     private static final long SEED = 0xDEADBEEF / (11 * 257);
 
-    private final Map<Long, Long> nodeHash;
+    private final Map<Long, long[]> nodeHash;
 
-    private final Map<Long, Long> relEntityHash;
+    private final Map<Long, long[]> relEntityHash;
 
     private final MetaData metaData;
 
@@ -44,26 +44,38 @@ class EntityMemo {
     }
 
     /**
-     * constructs a 64-bit hash of this object's node properties
-     * and maps the object to that hash. The object must not be null
+     * constructs a 64-bit hash of each of this object's node properties
+     * and maps the object to those hashes. The object must not be null
      *
      * @param entityId the id of the entity
      * @param object the object whose persistable properties we want to hash
      * @param classInfo metadata about the object
      */
     public void remember(Long entityId, Object object, ClassInfo classInfo) {
+        remember(entityId, classInfo, hashes(object, classInfo));
+    }
+
+    /**
+     * maps the object with the given id to hashes computed by {@link #hashes(Object, ClassInfo)}
+     * beforehand, possibly on another thread.
+     *
+     * @param entityId the id of the entity
+     * @param classInfo metadata about the object
+     * @param hashes the hashes of the object's persistable properties
+     */
+    void remember(Long entityId, ClassInfo classInfo, long[] hashes) {
         if (metaData.isRelationshipEntity(classInfo.name())) {
-            relEntityHash.put(entityId, hash(object, classInfo));
+            relEntityHash.put(entityId, hashes);
         } else {
-            nodeHash.put(entityId, hash(object, classInfo));
+            nodeHash.put(entityId, hashes);
         }
     }
 
     /**
      * determines whether the specified has already
      * been memorised. The object must not be null. An object
-     * is regarded as memorised if its hash value in the memo hash
-     * is identical to a recalculation of its hash value.
+     * is regarded as memorised if its hash values in the memo hash
+     * are identical to a recalculation of its hash values.
      *
      * @param entityId the id of the entity
      * @param object the object whose persistable properties we want to check
@@ -71,24 +83,69 @@ class EntityMemo {
      * @return true if the object hasn't changed since it was remembered, false otherwise
      */
     boolean remembered(Long entityId, Object object, ClassInfo classInfo) {
-        boolean isRelEntity = false;
+        long[] expected = expected(entityId, classInfo);
+        return expected != null && Arrays.equals(expected, hashes(object, classInfo));
+    }
 
-        if (entityId != null) {
-            if (metaData.isRelationshipEntity(classInfo.name())) {
-                isRelEntity = true;
+    /**
+     * determines which of the specified object's properties have changed since it
+     * was memorised. The object must not be null.
+     *
+     * @param entityId the id of the entity
+     * @param object the object whose persistable properties we want to check
+     * @param classInfo metadata about the object
+     * @return the names of the graph properties whose values have changed, or null if the object
+     * has not been memorised, in which case all of its properties must be regarded as changed
+     */
+    Set<String> changedProperties(Long entityId, Object object, ClassInfo classInfo) {
+        long[] expected = expected(entityId, classInfo);
+        if (expected == null) {
+            return null;
+        }
+        Set<String> changed = new HashSet<>();
+        int i = 0;
+        for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+            Field field = classInfo.getField(fieldInfo);
+            if (hash(FieldWriter.read(field, object)) != expected[i++]) {
+                changed.add(fieldInfo.property());
             }
+        }
+        return changed;
+    }
 
-            if ((!isRelEntity && !nodeHash.containsKey(entityId)) ||
-                    (isRelEntity && !relEntityHash.containsKey(entityId))) {
-                return false;
-            }
+    /**
+     * forgets the hashes of the entity with the given id, if they have been memorised
+     *
+     * @param entityId the id of the entity
+     * @param classInfo metadata about the entity
+     */
+    void forget(Long entityId, ClassInfo classInfo) {
+        if (metaData.isRelationshipEntity(classInfo.name())) {
+            relEntityHash.remove(entityId);
+        } else {
+            nodeHash.remove(entityId);
+        }
+    }
 
-            long actual = hash(object, classInfo);
-            long expected = isRelEntity ? relEntityHash.get(entityId) : nodeHash.get(entityId);
+    /**
+     * @return the number of entities whose hashes have been memorised
+     */
+    int size() {
+        return nodeHash.size() + relEntityHash.size();
+    }
 
-            return (actual == expected);
+    /**
+     * @return the total number of hashes memorised for all entities
+     */
+    long hashCount() {
+        long count = 0;
+        for (long[] hashes : nodeHash.values()) {
+            count += hashes.length;
+        }
+        for (long[] hashes : relEntityHash.values()) {
+            count += hashes.length;
         }
-        return false;
+        return count;
     }
 
     void clear() {
@@ -96,26 +153,41 @@ class EntityMemo {
         relEntityHash.clear();
     }
 
+    private long[] expected(Long entityId, ClassInfo classInfo) {
+        if (entityId == null) {
+            return null;
+        }
+        return metaData.isRelationshipEntity(classInfo.name()) ? relEntityHash.get(entityId) : nodeHash.get(entityId);
+    }
 
-    private static long hash(Object object, ClassInfo classInfo) {
-        long hash = SEED;
-
-        List<FieldInfo> hashFields = new ArrayList<>(classInfo.propertyFields());
-        if (classInfo.labelFieldOrNull() != null) {
-            hashFields.add(classInfo.labelFieldOrNull());
+    /**
+     * The hashes of the property fields, in the order given by {@link ClassInfo#propertyFields()},
+     * followed by the hash of the label field, if there is one.
+     */
+    static long[] hashes(Object object, ClassInfo classInfo) {
+        Collection<FieldInfo> propertyFields = classInfo.propertyFields();
+        FieldInfo labelField = classInfo.labelFieldOrNull();
+
+        long[] hashes = new long[propertyFields.size() + (labelField != null ? 1 : 0)];
+        int i = 0;
+        for (FieldInfo fieldInfo : propertyFields) {
+            hashes[i++] = hash(FieldWriter.read(classInfo.getField(fieldInfo), object));
+        }
+        if (labelField != null) {
+            hashes[i] = hash(FieldWriter.read(classInfo.getField(labelField), object));
         }
+        return hashes;
+    }
 
-        for (FieldInfo fieldInfo : hashFields) {
-            Field field = classInfo.getField(fieldInfo);
-            Object value = FieldWriter.read(field, object);
-            if (value != null) {
-                if (value.getClass().isArray()) {
-                    hash = hash * 31L + Arrays.hashCode(convertToObjectArray(value));
-                } else if (value instanceof Iterable) {
-                    hash = hash * 31L + value.hashCode();
-                } else {
-                    hash = hash * 31L + hash(value.toString());
-                }
+    private static long hash(Object value) {
+        long hash = SEED;
+        if (value != null) {
+            if (value.getClass().isArray()) {
+                hash = hash * 31L + Arrays.hashCode(convertToObjectArray(value));
+            } else if (value instanceof Iterable) {
+                hash = hash * 31L + value.hashCode();
+            } else {
+                hash = hash * 31L + hash(value.toString());
             }
         }
         return hash;
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.context;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Approximate sizes, in bytes, of the structures a {@link MappingContext} keeps, for a 64-bit JVM using compressed
+ * references. They are estimates for monitoring purposes, not measurements.
+ */
+final class Footprint {
+
+    /**
+     * a hash map entry with a boxed id as its key, and its slot in the table
+     */
+    static final long REGISTER_ENTRY = 56;
+
+    /**
+     * a weak or soft reference remembering the id and type of its entity
+     */
+    static final long REFERENCE = 40;
+
+    /**
+     * a mapped relationship and its slot in the array of the register
+     */
+    static final long MAPPED_RELATIONSHIP = 64;
+
+    /**
+     * a label history and the set of its previous labels, without the labels themselves
+     */
+    static final long LABEL_HISTORY = 120;
+
+    private static final long OBJECT_HEADER = 12;
+    private static final long ARRAY_HEADER = 16;
+    private static final long REFERENCE_FIELD = 4;
+
+    private static final ConcurrentMap<Class<?>, Long> shallowSizes = new ConcurrentHashMap<>();
+
+    private Footprint() {
+    }
+
+    /**
+     * @param entries the number of entities whose hashes are memorised
+     * @param hashes the total number of hashes memorised
+     * @return the size of the memo entries
+     */
+    static long memo(long entries, long hashes) {
+        return entries * (REGISTER_ENTRY + ARRAY_HEADER) + hashes * Long.BYTES;
+    }
+
+    /**
+     * @param type the class of an object
+     * @return the size of an instance of the class, not including the objects its fields refer to
+     */
+    static long shallowSize(Class<?> type) {
+        Long size = shallowSizes.get(type);
+        if (size == null) {
+            long fields = 0;
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        fields += fieldSize(field.getType());
+                    }
+                }
+            }
+            size = align(OBJECT_HEADER + fields);
+            shallowSizes.putIfAbsent(type, size);
+        }
+        return size;
+    }
+
+    private static long fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_FIELD;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
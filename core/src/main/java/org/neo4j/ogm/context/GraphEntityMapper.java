@@ -18,6 +18,9 @@ import static org.neo4j.ogm.annotation.Relationship.*;
 import static org.neo4j.ogm.entity.io.EntityAccessManager.*;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.annotation.EndNode;
@@ -33,7 +36,8 @@ import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.response.Response;
-import org.neo4j.ogm.response.model.PropertyModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.PropertyList;
 import org.neo4j.ogm.utils.ClassUtils;
 import org.neo4j.ogm.utils.EntityUtils;
 import org.neo4j.ogm.utils.PropertyUtils;
@@ -51,11 +55,29 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
     private final MappingContext mappingContext;
     private final EntityFactory entityFactory;
     private final MetaData metadata;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
 
     public GraphEntityMapper(MetaData metaData, MappingContext mappingContext) {
+        this(metaData, mappingContext, null, 0);
+    }
+
+    /**
+     * Constructs a mapper that hydrates the node entities of a {@link GraphModel} holding at least
+     * <code>parallelThreshold</code> nodes on a fork-join pool. The entities are registered with the
+     * {@link MappingContext}, and relationships are mapped, on the calling thread once they have all been hydrated.
+     *
+     * @param metaData the mapping metadata
+     * @param mappingContext the mapping context the entities are registered with
+     * @param pool the pool hydrating node entities, or null to hydrate them on the calling thread
+     * @param parallelThreshold the number of nodes above which they are hydrated on the pool
+     */
+    public GraphEntityMapper(MetaData metaData, MappingContext mappingContext, ForkJoinPool pool, int parallelThreshold) {
         this.metadata = metaData;
         this.entityFactory = new EntityFactory(metadata);
         this.mappingContext = mappingContext;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
     }
 
     @Override
@@ -141,15 +163,17 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
 
     private void mapNodes(GraphModel graphModel, Set<Long> nodeIds) {
 
+        if (pool != null && graphModel.getNodes().size() >= parallelThreshold) {
+            mapNodesInParallel(graphModel, nodeIds);
+            return;
+        }
+
         for (Node node : graphModel.getNodes()) {
             if (!nodeIds.contains(node.getId())) {
                 Object entity = mappingContext.getNodeEntity(node.getId());
                 try {
                     if (entity == null) {
-                        entity = entityFactory.newObject(node);
-                        setIdentity(entity, node.getId());
-                        setProperties(node, entity);
-                        setLabels(node, entity);
+                        entity = hydrate(node);
                         mappingContext.addNodeEntity(entity, node.getId());
                     }
                     nodeIds.add(node.getId());
@@ -160,6 +184,97 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         }
     }
 
+    /**
+     * Hydrates the nodes not yet known to the mapping context on the fork-join pool, then registers them on the calling
+     * thread in the order of the model, so that the contents of the mapping context and of <code>nodeIds</code> are the
+     * same as when mapping sequentially. Hydrating an entity, and hashing it for the entity memo, only reads the shared
+     * metadata and writes to the entity itself.
+     *
+     * Some drivers return views of nodes that can only be read in the transaction of the thread that loaded them, so the
+     * nodes to hydrate are copied on the calling thread first.
+     */
+    private void mapNodesInParallel(GraphModel graphModel, Set<Long> nodeIds) {
+
+        Node[] nodes = new Node[graphModel.getNodes().size()];
+        Object[] entities = new Object[nodes.length];
+        long[][] hashes = new long[nodes.length][];
+        int[] pending = new int[nodes.length];
+        int pendingCount = 0;
+
+        Set<Long> seen = new HashSet<>();
+        int count = 0;
+        for (Node node : graphModel.getNodes()) {
+            if (!nodeIds.contains(node.getId()) && seen.add(node.getId())) {
+                Object entity = mappingContext.getNodeEntity(node.getId());
+                if (entity == null) {
+                    pending[pendingCount++] = count;
+                    node = detached(node);
+                }
+                entities[count] = entity;
+                nodes[count++] = node;
+            }
+        }
+
+        final int hydrations = pendingCount;
+        try {
+            pool.submit(() -> IntStream.range(0, hydrations).parallel().forEach(i -> {
+                int n = pending[i];
+                try {
+                    Object entity = hydrate(nodes[n]);
+                    if (!mappingContext.isReadOnly()) {
+                        hashes[n] = EntityMemo.hashes(entity, metadata.classInfo(entity));
+                    }
+                    entities[n] = entity;
+                } catch (BaseClassNotFoundException e) {
+                    logger.debug(e.getMessage());
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MappingException("Interrupted while mapping nodes", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MappingException("Unable to map nodes", e);
+        }
+
+        for (int i = 0, p = 0; i < count; i++) {
+            if (p < hydrations && pending[p] == i) {
+                p++;
+                if (entities[i] == null) {
+                    continue;
+                }
+                mappingContext.addNodeEntity(entities[i], nodes[i].getId(), hashes[i]);
+            }
+            nodeIds.add(nodes[i].getId());
+        }
+    }
+
+    private Object hydrate(Node node) {
+        Object entity = entityFactory.newObject(node);
+        setIdentity(entity, node.getId());
+        setProperties(node, entity);
+        setLabels(node, entity);
+        return entity;
+    }
+
+    /**
+     * @return the node itself if it is a {@link NodeModel}, otherwise a {@link NodeModel} holding a copy of its labels
+     * and properties
+     */
+    private static Node detached(Node node) {
+        if (node instanceof NodeModel) {
+            return node;
+        }
+        NodeModel copy = new NodeModel();
+        copy.setId(node.getId());
+        copy.setLabels(node.getLabels());
+        copy.setPrimaryIndex(node.getPrimaryIndex());
+        copy.setPropertyList(node.getPropertyList());
+        return copy;
+    }
+
     private void setIdentity(Object instance, Long id) {
         ClassInfo classInfo = metadata.classInfo(instance);
         FieldInfo fieldInfo = classInfo.identityField();
@@ -180,15 +295,25 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
             }
         }
 
-        for (Property<?, ?> property : propertyList) {
-            writeProperty(classInfo, instance, property);
-        }
+        writeProperties(classInfo, instance, propertyList);
     }
 
     private void setProperties(Edge relationshipModel, Object instance) {
         ClassInfo classInfo = metadata.classInfo(instance);
-        for (Property<?, ?> property : relationshipModel.getPropertyList()) {
-            writeProperty(classInfo, instance, property);
+        writeProperties(classInfo, instance, relationshipModel.getPropertyList());
+    }
+
+    private void writeProperties(ClassInfo classInfo, Object instance, List<Property<String, Object>> propertyList) {
+        PropertyWritePlan plan = EntityAccessManager.getPropertyWritePlan(classInfo);
+        if (propertyList instanceof PropertyList) {
+            PropertyList properties = (PropertyList) propertyList;
+            for (int i = 0; i < properties.size(); i++) {
+                writeProperty(classInfo, instance, plan.step(properties.key(i)), properties.value(i));
+            }
+        } else {
+            for (Property<String, Object> property : propertyList) {
+                writeProperty(classInfo, instance, plan.step(property.getKey()), property.getValue());
+            }
         }
     }
 
@@ -203,33 +328,19 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
                     dynamicLabels.add(label);
                 }
             }
-            writeProperty(classInfo, instance, PropertyModel.with(labelFieldInfo.getName(), dynamicLabels));
+            writeProperty(classInfo, instance, labelFieldInfo.getName(), dynamicLabels);
         }
     }
 
-    private void writeProperty(ClassInfo classInfo, Object instance, Property<?, ?> property) {
-
-        PropertyWriter writer = EntityAccessManager.getPropertyWriter(classInfo, property.getKey().toString());
+    private void writeProperty(ClassInfo classInfo, Object instance, String key, Object value) {
+        writeProperty(classInfo, instance, EntityAccessManager.getPropertyWritePlan(classInfo).step(key), value);
+    }
 
-        if (writer == null) {
-            logger.debug("Unable to find property: {} on class: {} for writing", property.getKey(), classInfo.name());
+    private void writeProperty(ClassInfo classInfo, Object instance, PropertyWritePlan.Step step, Object value) {
+        if (step.hasWriter()) {
+            step.write(instance, value);
         } else {
-            Object value = property.getValue();
-            // merge iterable / arrays and co-erce to the correct attribute type
-            if (writer.type().isArray() || Iterable.class.isAssignableFrom(writer.type())) {
-                PropertyReader reader = EntityAccessManager.getPropertyReader(classInfo, property.getKey().toString());
-                if (reader != null) {
-                    Object currentValue = reader.readProperty(instance);
-                    Class<?> paramType = writer.type();
-                    Class elementType = underlyingElementType(classInfo, property.getKey().toString());
-                    if (paramType.isArray()) {
-                        value = EntityAccess.merge(paramType, value, (Object[]) currentValue, elementType);
-                    } else {
-                        value = EntityAccess.merge(paramType, value, (Collection) currentValue, elementType);
-                    }
-                }
-            }
-            writer.write(instance, value);
+            logger.debug("Unable to find property: {} on class: {} for writing", step.key(), classInfo.name());
         }
     }
 
@@ -428,6 +539,10 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
             }
         }
 
+        if (mappingContext.isReadOnly()) {
+            return;
+        }
+
         // now register all the relationships we've mapped as iterable types into the mapping context
         for (MappedRelationship mappedRelationship : relationshipsToRegister) {
             mappingContext.addRelationship(mappedRelationship);
@@ -602,21 +717,4 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         }
         return false;
     }
-
-    private Class underlyingElementType(ClassInfo classInfo, String propertyName) {
-        FieldInfo fieldInfo = fieldInfoForPropertyName(propertyName, classInfo);
-        Class clazz = null;
-        if (fieldInfo != null) {
-            clazz = ClassUtils.getType(fieldInfo.getTypeDescriptor());
-        }
-        return clazz;
-    }
-
-    private FieldInfo fieldInfoForPropertyName(String propertyName, ClassInfo classInfo) {
-        FieldInfo labelField = classInfo.labelFieldOrNull();
-        if (labelField != null && labelField.getName().toLowerCase().equals(propertyName.toLowerCase())) {
-            return labelField;
-        }
-        return classInfo.propertyField(propertyName);
-    }
 }
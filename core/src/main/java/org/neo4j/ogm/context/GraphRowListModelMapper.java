@@ -32,10 +32,19 @@ public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel
 
     private final MetaData metaData;
     private final MappingContext mappingContext;
+    private final GraphEntityMapper entityMapper;
 
     public GraphRowListModelMapper(MetaData metaData, MappingContext mappingContext) {
+        this(metaData, mappingContext, new GraphEntityMapper(metaData, mappingContext));
+    }
+
+    /**
+     * @param entityMapper the mapper of the graphs of the rows onto entities
+     */
+    public GraphRowListModelMapper(MetaData metaData, MappingContext mappingContext, GraphEntityMapper entityMapper) {
         this.metaData = metaData;
         this.mappingContext = mappingContext;
+        this.entityMapper = entityMapper;
     }
 
     public <T> Iterable<T> map(Class<T> type, Response<GraphRowListModel> response) {
@@ -46,7 +55,7 @@ public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel
 
         Set<Long> nodeIds = new LinkedHashSet<>();
         Set<Long> edgeIds = new LinkedHashSet<>();
-        GraphEntityMapper ogm = new GraphEntityMapper(metaData, mappingContext);
+        GraphEntityMapper ogm = entityMapper;
 
         GraphRowListModel graphRowsModel;
 
@@ -19,8 +19,11 @@ import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.classloader.MetaDataClassLoader;
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.context.register.EntityRegister;
 import org.neo4j.ogm.context.register.LabelHistoryRegister;
+import org.neo4j.ogm.context.register.ReferenceType;
 import org.neo4j.ogm.context.register.TypeRegister;
 import org.neo4j.ogm.entity.io.*;
 import org.neo4j.ogm.metadata.ClassInfo;
@@ -56,20 +59,76 @@ public class MappingContext {
 
     private final MetaData metaData;
 
+    private final boolean readOnly;
+
+    private final ReferenceType referenceType;
+
+    private final int capacity;
+
+    /**
+     * the entities registered since the context was last trimmed, which must not be collected before the operation
+     * registering them has completed
+     */
+    private final List<Object> pinned = new ArrayList<>();
+
+    private long evictions;
+
 
     public MappingContext(MetaData metaData) {
+        this(metaData, false);
+    }
+
+    /**
+     * Constructs a mapping context which, if it is read-only, only maintains the identity of the entities it holds.
+     * It does not remember their state or their relationships, which are only needed to work out what a later save
+     * should write, so hydrating an entity into it costs less.
+     *
+     * The references through which it holds its entities, and the number of node entities it holds, are configured by the
+     * identity map settings of the OGM configuration.
+     *
+     * @param metaData the metadata of the domain
+     * @param readOnly true if the entities in this context will never be saved
+     */
+    public MappingContext(MetaData metaData, boolean readOnly) {
+        this(metaData, readOnly, Components.getConfiguration());
+    }
+
+    private MappingContext(MetaData metaData, boolean readOnly, Configuration configuration) {
+        this(metaData, readOnly, ReferenceType.of(configuration.getIdentityMapReferences()), configuration.getIdentityMapCapacity());
+    }
+
+    /**
+     * Constructs a mapping context holding its entities through references of the given type. A context with a capacity
+     * evicts the least recently used of its clean node entities when {@link #trim()} finds it holding more than that.
+     *
+     * @param metaData the metadata of the domain
+     * @param readOnly true if the entities in this context will never be saved
+     * @param referenceType the kind of reference through which the entities are held
+     * @param capacity the number of node entities held after a trim, or 0 if the number is not bounded
+     */
+    public MappingContext(MetaData metaData, boolean readOnly, ReferenceType referenceType, int capacity) {
         this.metaData = metaData;
+        this.readOnly = readOnly;
+        this.referenceType = referenceType;
+        this.capacity = capacity;
         this.objectMemo = new EntityMemo(metaData);
-        this.typeRegister = new TypeRegister();
-        this.nodeEntityRegister = new EntityRegister<>();
-        this.primaryIndexNodeRegister = new EntityRegister<>();
-        this.relationshipEntityRegister = new EntityRegister<>();
+        this.typeRegister = new TypeRegister(referenceType);
+        this.nodeEntityRegister = new EntityRegister<>(referenceType, capacity > 0);
+        this.primaryIndexNodeRegister = new EntityRegister<>(referenceType, false);
+        this.relationshipEntityRegister = new EntityRegister<>(referenceType, false);
         // NOTE: The use of CopyOnWriteArraySet here is to prevent ConcurrentModificationException from occurring when
         // the purge() method is called.
         this.relationshipRegister = new CopyOnWriteArraySet<>();
         this.labelHistoryRegister = new LabelHistoryRegister();
     }
 
+    /**
+     * @return true if this context does not track the state of its entities
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
     public Object getNodeEntity(Object id) {
 
         Object result = null;
@@ -86,12 +145,31 @@ public class MappingContext {
     }
 
     public Object addNodeEntity(Object entity, Long id) {
+        return addNodeEntity(entity, id, null);
+    }
+
+    /**
+     * Registers a node entity whose memo hashes have already been computed, so that they need not be computed
+     * on the registering thread.
+     *
+     * @param entity the node entity
+     * @param id the id of its node
+     * @param hashes the hashes computed by {@link EntityMemo#hashes(Object, ClassInfo)}, or null to compute them
+     * @return the registered entity
+     */
+    Object addNodeEntity(Object entity, Long id, long[] hashes) {
 
         if (nodeEntityRegister.add(id, entity)) {
-            entity = nodeEntityRegister.get(id);
+            pin(entity);
             addType(entity.getClass(), entity, id);
-            remember(entity);
-            collectLabelHistory(entity);
+            if (!readOnly) {
+                if (hashes == null) {
+                    remember(entity);
+                } else {
+                    objectMemo.remember(id, metaData.classInfo(entity), hashes);
+                }
+                collectLabelHistory(entity);
+            }
             final ClassInfo primaryIndexClassInfo = metaData.classInfo(entity);
             final FieldInfo primaryIndexField = primaryIndexClassInfo.primaryIndexField(); // also need to add the class to key to prevent collisions.
             if (primaryIndexField != null) {
@@ -160,6 +238,20 @@ public class MappingContext {
         return !objectMemo.remembered((Long) id, entity, classInfo);
     }
 
+    /**
+     * Returns the names of the properties of an entity that have changed since it was loaded
+     * or last saved.
+     *
+     * @param entity the entity to check
+     * @return the names of the changed graph properties, or null if the entity is new or its
+     * state is unknown, in which case all its properties should be regarded as changed
+     */
+    public Set<String> changedProperties(Object entity) {
+        ClassInfo classInfo = metaData.classInfo(entity);
+        Object id = EntityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity);
+        return objectMemo.changedProperties((Long) id, entity, classInfo);
+    }
+
     public boolean containsRelationship(MappedRelationship relationship) {
         return relationshipRegister.contains(relationship);
     }
@@ -169,6 +261,9 @@ public class MappingContext {
     }
 
     public void addRelationship(MappedRelationship relationship) {
+        if (readOnly) {
+            return;
+        }
         if (relationship.getRelationshipId() != null && relationshipEntityRegister.get(relationship.getRelationshipId()) == null) {
             relationship.setRelationshipId(null); //We're only interested in id's of relationship entities
         }
@@ -176,6 +271,7 @@ public class MappingContext {
     }
 
     public void clear() {
+        pinned.clear();
         objectMemo.clear();
         relationshipRegister.clear();
         nodeEntityRegister.clear();
@@ -185,15 +281,105 @@ public class MappingContext {
         labelHistoryRegister.clear();
     }
 
+    /**
+     * Trims the context to its configured bounds. The session trims its context at the start of each operation that
+     * is not part of another, so that the entities registered by an operation remain available to it until it
+     * completes.
+     *
+     * The entities registered since the last trim are released, so that weakly or softly held ones can be
+     * garbage collected, and the entities that have been collected are removed from the context. If the context has
+     * a capacity, the least recently used node entities are then evicted until the context holds no more than
+     * that, skipping those with unsaved changes. Evicting a node entity detaches it, along with the relationships
+     * and relationship entities it takes part in.
+     */
+    public void trim() {
+        if (referenceType == ReferenceType.STRONG && capacity == 0) {
+            return;
+        }
+        pinned.clear();
+
+        Set<Long> evictedNodes = new HashSet<>();
+        for (Map.Entry<Long, Class<?>> collected : nodeEntityRegister.expunge().entrySet()) {
+            forget(collected.getValue(), collected.getKey());
+            evictedNodes.add(collected.getKey());
+        }
+        primaryIndexNodeRegister.expunge();
+        for (Map.Entry<Long, Class<?>> collected : relationshipEntityRegister.expunge().entrySet()) {
+            forget(collected.getValue(), collected.getKey());
+        }
+
+        if (capacity > 0 && nodeEntityRegister.size() > capacity) {
+            Set<Object> evicted = Collections.newSetFromMap(new IdentityHashMap<>());
+            Iterator<Long> leastRecentlyUsed = nodeEntityRegister.iterator();
+            while (leastRecentlyUsed.hasNext() && nodeEntityRegister.size() > capacity) {
+                Long id = leastRecentlyUsed.next();
+                Object entity = nodeEntityRegister.get(id);
+                if (entity != null && (readOnly || !isDirty(entity))) {
+                    evictNodeEntity(entity, id);
+                    evicted.add(entity);
+                    evictedNodes.add(id);
+                }
+            }
+            evictDependentRelationshipEntities(evicted);
+        }
+
+        if (!evictedNodes.isEmpty()) {
+            relationshipRegister.removeIf(relationship -> evictedNodes.contains(relationship.getStartNodeId())
+                    || evictedNodes.contains(relationship.getEndNodeId()));
+        }
+    }
+
+    /**
+     * @return the number of entities evicted from this context, or garbage collected, since it was created
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * Counts the entities and the change tracking information this context holds, and estimates the memory they retain.
+     *
+     * @return a snapshot of the statistics of this context
+     */
+    public MappingContextStatistics statistics() {
+        Map<Class<?>, Integer> entitiesByType = new HashMap<>();
+        long entityBytes = 0;
+
+        List<Object> nodeEntities = nodeEntityRegister.entities();
+        List<Object> relationshipEntities = relationshipEntityRegister.entities();
+        for (List<Object> entities : Arrays.asList(nodeEntities, relationshipEntities)) {
+            for (Object entity : entities) {
+                entitiesByType.merge(entity.getClass(), 1, Integer::sum);
+                entityBytes += Footprint.shallowSize(entity.getClass());
+            }
+        }
+
+        long registerEntries = (long) nodeEntityRegister.size() + primaryIndexNodeRegister.size()
+                + relationshipEntityRegister.size() + typeRegister.size();
+        long registerBytes = registerEntries * (Footprint.REGISTER_ENTRY + (referenceType == ReferenceType.STRONG ? 0 : Footprint.REFERENCE));
+
+        int memoEntries = objectMemo.size();
+        int mappedRelationships = relationshipRegister.size();
+        int labelHistories = labelHistoryRegister.size();
+        long trackingBytes = Footprint.memo(memoEntries, objectMemo.hashCount())
+                + mappedRelationships * Footprint.MAPPED_RELATIONSHIP
+                + labelHistories * (Footprint.REGISTER_ENTRY + Footprint.LABEL_HISTORY);
+
+        return new MappingContextStatistics(1, nodeEntities.size(), relationshipEntities.size(), mappedRelationships,
+                memoEntries, labelHistories, evictions, entitiesByType, entityBytes + registerBytes + trackingBytes);
+    }
+
     public Object getRelationshipEntity(Long relationshipId) {
         return relationshipEntityRegister.get(relationshipId);
     }
 
     public Object addRelationshipEntity(Object relationshipEntity, Long id) {
         if (relationshipEntityRegister.add(id, relationshipEntity)) {
-            relationshipEntity = relationshipEntityRegister.get(id);
+            pin(relationshipEntity);
             addType(relationshipEntity.getClass(), relationshipEntity, id);
-            remember(relationshipEntity);
+            if (!readOnly) {
+                remember(relationshipEntity);
+            }
         }
         return relationshipEntity;
     }
@@ -330,6 +516,10 @@ public class MappingContext {
         while (relationshipEntityIdIterator.hasNext()) {
             Long relationshipEntityId = relationshipEntityIdIterator.next();
             Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
+            if (relationshipEntity == null) {
+                // collected since the register was last trimmed
+                continue;
+            }
             RelationalReader startNodeReader = EntityAccessManager.getStartNodeReader(metaData.classInfo(relationshipEntity));
             RelationalReader endNodeReader = EntityAccessManager.getEndNodeReader(metaData.classInfo(relationshipEntity));
             if (startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader.read(relationshipEntity)) {
@@ -399,6 +589,56 @@ public class MappingContext {
         }
     }
 
+    private void pin(Object entity) {
+        if (referenceType != ReferenceType.STRONG) {
+            pinned.add(entity);
+        }
+    }
+
+    private void evictNodeEntity(Object entity, Long id) {
+        nodeEntityRegister.remove(id);
+        ClassInfo classInfo = metaData.classInfo(entity);
+        FieldInfo primaryIndexField = classInfo.primaryIndexField();
+        if (primaryIndexField != null) {
+            primaryIndexNodeRegister.remove(new FieldReader(classInfo, primaryIndexField).read(entity));
+        }
+        forget(entity.getClass(), id);
+    }
+
+    private void evictDependentRelationshipEntities(Set<Object> evictedNodeEntities) {
+        if (evictedNodeEntities.isEmpty()) {
+            return;
+        }
+        Iterator<Long> relationshipEntityIds = relationshipEntityRegister.iterator();
+        while (relationshipEntityIds.hasNext()) {
+            Long id = relationshipEntityIds.next();
+            Object relationshipEntity = relationshipEntityRegister.get(id);
+            if (relationshipEntity != null) {
+                ClassInfo classInfo = metaData.classInfo(relationshipEntity);
+                if (evictedNodeEntities.contains(EntityAccessManager.getStartNodeReader(classInfo).read(relationshipEntity))
+                        || evictedNodeEntities.contains(EntityAccessManager.getEndNodeReader(classInfo).read(relationshipEntity))) {
+                    relationshipEntityIds.remove();
+                    forget(relationshipEntity.getClass(), id);
+                }
+            }
+        }
+    }
+
+    /**
+     * removes what the context remembers about an entity which is no longer registered
+     */
+    private void forget(Class<?> type, Long id) {
+        typeRegister.evict(metaData, type, id);
+        ClassInfo classInfo = metaData.classInfo(type.getName());
+        if (classInfo != null) {
+            objectMemo.forget(id, classInfo);
+            if (!metaData.isRelationshipEntity(classInfo.name())) {
+                labelHistoryRegister.remove(id);
+            }
+        }
+        evictions++;
+    }
+
     private void addType(Class type, Object entity, Object id) {
         typeRegister.add(metaData, type, entity, id);
     }
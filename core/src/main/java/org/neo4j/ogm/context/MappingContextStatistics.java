@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A snapshot of what one or more mapping contexts hold, and so of how much memory the sessions owning them retain.
+ *
+ * The estimated footprint covers the registers of the contexts and the shallow size of the entities they hold, but not
+ * the objects the entities refer to, such as strings and collections, so it is a lower bound of the memory that clearing
+ * the sessions would release.
+ */
+public class MappingContextStatistics {
+
+    /**
+     * Statistics covering no mapping context
+     */
+    public static final MappingContextStatistics NONE = new MappingContextStatistics(0, 0, 0, 0, 0, 0, 0, Collections.emptyMap(), 0);
+
+    private final int contexts;
+    private final int nodeEntities;
+    private final int relationshipEntities;
+    private final int mappedRelationships;
+    private final int memoEntries;
+    private final int labelHistories;
+    private final long evictions;
+    private final Map<Class<?>, Integer> entitiesByType;
+    private final long estimatedBytes;
+
+    public MappingContextStatistics(int contexts, int nodeEntities, int relationshipEntities, int mappedRelationships, int memoEntries,
+                                    int labelHistories, long evictions, Map<Class<?>, Integer> entitiesByType, long estimatedBytes) {
+        this.contexts = contexts;
+        this.nodeEntities = nodeEntities;
+        this.relationshipEntities = relationshipEntities;
+        this.mappedRelationships = mappedRelationships;
+        this.memoEntries = memoEntries;
+        this.labelHistories = labelHistories;
+        this.evictions = evictions;
+        this.entitiesByType = Collections.unmodifiableMap(entitiesByType);
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * @return the number of mapping contexts, one per session, these statistics cover
+     */
+    public int getContexts() {
+        return contexts;
+    }
+
+    public int getNodeEntities() {
+        return nodeEntities;
+    }
+
+    public int getRelationshipEntities() {
+        return relationshipEntities;
+    }
+
+    /**
+     * @return the number of relationships remembered in order to detect the ones removed before a save
+     */
+    public int getMappedRelationships() {
+        return mappedRelationships;
+    }
+
+    /**
+     * @return the number of entities whose property hashes are remembered in order to detect changes
+     */
+    public int getMemoEntries() {
+        return memoEntries;
+    }
+
+    /**
+     * @return the number of node entities whose labels are remembered in order to detect the ones removed
+     */
+    public int getLabelHistories() {
+        return labelHistories;
+    }
+
+    /**
+     * @return the number of entities evicted or garbage collected from the contexts, see
+     * {@link MappingContext#evictions()}
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the number of node and relationship entities of each class
+     */
+    public Map<Class<?>, Integer> getEntitiesByType() {
+        return entitiesByType;
+    }
+
+    /**
+     * @return the approximate number of bytes retained by the contexts
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * @param other the statistics of other mapping contexts
+     * @return statistics covering the contexts of both these statistics and the others
+     */
+    public MappingContextStatistics plus(MappingContextStatistics other) {
+        Map<Class<?>, Integer> byType = new HashMap<>(entitiesByType);
+        for (Map.Entry<Class<?>, Integer> entry : other.entitiesByType.entrySet()) {
+            byType.merge(entry.getKey(), entry.getValue(), Integer::sum);
+        }
+        return new MappingContextStatistics(contexts + other.contexts,
+                nodeEntities + other.nodeEntities,
+                relationshipEntities + other.relationshipEntities,
+                mappedRelationships + other.mappedRelationships,
+                memoEntries + other.memoEntries,
+                labelHistories + other.labelHistories,
+                evictions + other.evictions,
+                byType,
+                estimatedBytes + other.estimatedBytes);
+    }
+
+    @Override
+    public String toString() {
+        return "MappingContextStatistics{" +
+                "contexts=" + contexts +
+                ", nodeEntities=" + nodeEntities +
+                ", relationshipEntities=" + relationshipEntities +
+                ", mappedRelationships=" + mappedRelationships +
+                ", memoEntries=" + memoEntries +
+                ", labelHistories=" + labelHistories +
+                ", evictions=" + evictions +
+                ", estimatedBytes=" + estimatedBytes +
+                '}';
+    }
+}
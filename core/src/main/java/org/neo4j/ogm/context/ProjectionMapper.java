@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.context;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.annotation.EndNode;
+import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.annotation.StartNode;
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.exception.MappingException;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.typeconversion.AttributeConverter;
+
+/**
+ * Maps the rows of a projection query directly onto a projection type, without hydrating entities.
+ *
+ * A projection is a class or an interface declaring a subset of the properties of an entity, by the names of the
+ * entity's fields. Interfaces declare a getter for each property and are implemented by a proxy; classes must have
+ * a no-argument constructor and their fields are written directly. A property that names a relationship field of the
+ * entity is itself a projection, of the related node entity or relationship entity, so that a projection may describe
+ * a tree of related values.
+ *
+ * The projection is compiled from the metadata once, into the return clause of a query on the entity bound to
+ * <code>n</code>, and each row returned by that query is read straight into a new projection instance. Nothing is
+ * registered in the mapping context, and the projections are not entities: they cannot be saved or reloaded.
+ *
+ * Related values are selected with pattern comprehensions, so projections of relationship fields require Neo4j 3.1
+ * or later.
+ */
+public class ProjectionMapper<P> {
+
+    private final MetaData metaData;
+    private final double neo4jVersion;
+    private final Projection root;
+    private int variables;
+
+    public ProjectionMapper(MetaData metaData, Class<?> entityType, Class<P> projectionType) {
+        this(metaData, entityType, projectionType, Components.neo4jVersion());
+    }
+
+    /**
+     * @param neo4jVersion the major and minor version of the database the query will run on
+     */
+    public ProjectionMapper(MetaData metaData, Class<?> entityType, Class<P> projectionType, double neo4jVersion) {
+        this.metaData = metaData;
+        this.neo4jVersion = neo4jVersion;
+        ClassInfo classInfo = metaData.classInfo(entityType.getName());
+        if (classInfo == null || classInfo.isRelationshipEntity()) {
+            throw new MappingException(entityType.getName() + " is not a node entity and cannot be projected");
+        }
+        this.root = compile(projectionType, classInfo, "n", null, null, new ArrayDeque<>());
+    }
+
+    /**
+     * @return the return clause selecting the values of the projection from the entity bound to <code>n</code>
+     */
+    public String returnClause() {
+        StringBuilder sb = new StringBuilder("RETURN ");
+        for (int i = 0; i < root.properties.size(); i++) {
+            ProjectedProperty property = root.properties.get(i);
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(property.expression).append(" AS `").append(property.name).append('`');
+        }
+        return sb.toString();
+    }
+
+    public Collection<P> map(Response<RowModel> response) {
+        List<P> result = new ArrayList<>();
+        RowModel row;
+        while ((row = response.next()) != null) {
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < row.variables().length; i++) {
+                values.put(row.variables()[i], row.getValues()[i]);
+            }
+            result.add((P) root.instantiate(values));
+        }
+        return result;
+    }
+
+    /**
+     * Compiles a projection of the node or relationship entity described by classInfo.
+     *
+     * @param variable the Cypher variable bound to the entity
+     * @param startNode the variable bound to the start node, if the entity is a relationship entity
+     * @param endNode the variable bound to the end node, if the entity is a relationship entity
+     * @param path the projection types enclosing this one, to detect projections that contain themselves
+     */
+    private Projection compile(Class<?> type, ClassInfo classInfo, String variable, String startNode, String endNode, Deque<Class<?>> path) {
+        if (path.contains(type)) {
+            throw new MappingException("Projection " + type.getName() + " contains itself");
+        }
+        path.push(type);
+        Projection projection = new Projection(type);
+        FieldInfo identity = classInfo.identityField();
+
+        for (ProjectedProperty property : projection.properties) {
+            FieldInfo fieldInfo;
+            if (identity != null && identity.getName().equals(property.name)) {
+                property.expression = "ID(" + variable + ")";
+            } else if ((fieldInfo = propertyField(classInfo, property.name)) != null) {
+                if (fieldInfo.hasCompositeConverter()) {
+                    throw new MappingException("Composite property " + property.name + " of " + classInfo.name() + " cannot be projected");
+                }
+                property.expression = variable + ".`" + fieldInfo.property() + "`";
+                property.converter = fieldInfo.getPropertyConverter();
+            } else if (classInfo.isRelationshipEntity() && (fieldInfo = nodeField(classInfo, property.name)) != null) {
+                String node = fieldInfo.hasAnnotation(StartNode.CLASS) ? startNode : endNode;
+                property.nested = compile(property.elementType, targetOf(classInfo, fieldInfo), node, null, null, path);
+                property.expression = property.nested.mapLiteral();
+            } else if (!classInfo.isRelationshipEntity() && (fieldInfo = classInfo.relationshipFieldByName(property.name)) != null) {
+                property.expression = relatedValues(classInfo, fieldInfo, variable, property, path);
+            } else {
+                throw new MappingException("Projection " + type.getName() + " declares " + property.name + " which is not a property of " + classInfo.name());
+            }
+        }
+        path.pop();
+        return projection;
+    }
+
+    private String relatedValues(ClassInfo classInfo, FieldInfo fieldInfo, String variable, ProjectedProperty property, Deque<Class<?>> path) {
+        if (variable.contains("(")) {
+            throw new MappingException("Relationship " + property.name + " of " + classInfo.name() + " cannot be projected from an undirected relationship entity");
+        }
+        if (neo4jVersion < 3.1) {
+            throw new MappingException("Relationship " + property.name + " of " + classInfo.name() + " cannot be projected: projecting relationships requires Neo4j 3.1 or later");
+        }
+        ClassInfo target = targetOf(classInfo, fieldInfo);
+        String direction = fieldInfo.relationshipDirection(Relationship.OUTGOING);
+        String left = Relationship.INCOMING.equals(direction) ? "<-" : "-";
+        String right = Relationship.OUTGOING.equals(direction) ? "->" : "-";
+        int index = ++variables;
+        String node = "_n" + index;
+
+        String pattern;
+        if (target.isRelationshipEntity()) {
+            String relationship = "_r" + index;
+            String start = variable;
+            String end = node;
+            if (Relationship.INCOMING.equals(direction)) {
+                start = node;
+                end = variable;
+            } else if (Relationship.UNDIRECTED.equals(direction)) {
+                start = "startNode(" + relationship + ")";
+                end = "endNode(" + relationship + ")";
+            }
+            property.nested = compile(property.elementType, target, relationship, start, end, path);
+            pattern = String.format("(%s)%s[%s:`%s`]%s(%s)", variable, left, relationship, target.neo4jName(), right, node);
+        } else {
+            property.nested = compile(property.elementType, target, node, null, null, path);
+            String label = target.staticLabels().contains(target.neo4jName()) ? ":`" + target.neo4jName() + "`" : "";
+            pattern = String.format("(%s)%s[:`%s`]%s(%s%s)", variable, left, fieldInfo.relationship(), right, node, label);
+        }
+        String expression = "[" + pattern + " | " + property.nested.mapLiteral() + "]";
+        return property.many ? expression : "head(" + expression + ")";
+    }
+
+    private static FieldInfo propertyField(ClassInfo classInfo, String name) {
+        FieldInfo fieldInfo = classInfo.propertyFieldByName(name);
+        return fieldInfo != null ? fieldInfo : classInfo.propertyField(name);
+    }
+
+    private static FieldInfo nodeField(ClassInfo classInfo, String name) {
+        for (String annotation : new String[] {StartNode.CLASS, EndNode.CLASS}) {
+            for (FieldInfo fieldInfo : classInfo.findFields(annotation)) {
+                if (fieldInfo.getName().equals(name)) {
+                    return fieldInfo;
+                }
+            }
+        }
+        return null;
+    }
+
+    private ClassInfo targetOf(ClassInfo classInfo, FieldInfo fieldInfo) {
+        Field field = classInfo.getField(fieldInfo);
+        Class<?> type = elementType(field.getGenericType(), field.getType());
+        ClassInfo target = metaData.classInfo(type.getName());
+        if (target == null) {
+            throw new MappingException("Relationship " + fieldInfo.getName() + " of " + classInfo.name() + " does not refer to a mapped entity");
+        }
+        return target;
+    }
+
+    private static Class<?> elementType(Type genericType, Class<?> rawType) {
+        if (rawType.isArray()) {
+            return rawType.getComponentType();
+        }
+        if (Iterable.class.isAssignableFrom(rawType)) {
+            if (genericType instanceof ParameterizedType) {
+                Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                if (argument instanceof Class) {
+                    return (Class<?>) argument;
+                }
+                if (argument instanceof ParameterizedType) {
+                    return (Class<?>) ((ParameterizedType) argument).getRawType();
+                }
+            }
+            return Object.class;
+        }
+        return rawType;
+    }
+
+    /**
+     * A compiled projection type, together with the properties it declares.
+     */
+    private static class Projection {
+
+        private final Class<?> type;
+        private final List<ProjectedProperty> properties = new ArrayList<>();
+        private final Map<String, String> getters = new HashMap<>();
+        private final Constructor<?> constructor;
+
+        Projection(Class<?> type) {
+            this.type = type;
+            if (type.isInterface()) {
+                this.constructor = null;
+                for (Method method : type.getMethods()) {
+                    if (method.isDefault() || Modifier.isStatic(method.getModifiers())
+                            || method.getParameterCount() > 0 || method.getReturnType() == void.class) {
+                        continue;
+                    }
+                    String name = propertyName(method);
+                    getters.put(method.getName(), name);
+                    properties.add(new ProjectedProperty(name, method.getReturnType(), method.getGenericReturnType(), null));
+                }
+            } else {
+                try {
+                    this.constructor = type.getDeclaredConstructor();
+                    this.constructor.setAccessible(true);
+                } catch (NoSuchMethodException e) {
+                    throw new MappingException("Projection " + type.getName() + " must have a no-argument constructor", e);
+                }
+                for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                            continue;
+                        }
+                        field.setAccessible(true);
+                        properties.add(new ProjectedProperty(field.getName(), field.getType(), field.getGenericType(), field));
+                    }
+                }
+            }
+            if (properties.isEmpty()) {
+                throw new MappingException("Projection " + type.getName() + " does not declare any properties");
+            }
+        }
+
+        String mapLiteral() {
+            StringBuilder sb = new StringBuilder("{");
+            for (int i = 0; i < properties.size(); i++) {
+                ProjectedProperty property = properties.get(i);
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append('`').append(property.name).append("`: ").append(property.expression);
+            }
+            return sb.append('}').toString();
+        }
+
+        Object instantiate(Map<String, ?> row) {
+            Map<String, Object> values = new HashMap<>();
+            for (ProjectedProperty property : properties) {
+                values.put(property.name, property.convert(row.get(property.name)));
+            }
+            if (type.isInterface()) {
+                return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, new ProjectionHandler(type, getters, values));
+            }
+            try {
+                Object instance = constructor.newInstance();
+                for (ProjectedProperty property : properties) {
+                    property.field.set(instance, values.get(property.name));
+                }
+                return instance;
+            } catch (ReflectiveOperationException e) {
+                throw new MappingException("Unable to instantiate projection " + type.getName(), e);
+            }
+        }
+
+        private static String propertyName(Method method) {
+            String name = method.getName();
+            if (name.startsWith("get") && name.length() > 3) {
+                name = name.substring(3);
+            } else if (name.startsWith("is") && name.length() > 2
+                    && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+                name = name.substring(2);
+            } else {
+                return name;
+            }
+            return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+        }
+    }
+
+    /**
+     * A property declared by a projection type, the Cypher expression selecting its value and how that value is read.
+     */
+    private static class ProjectedProperty {
+
+        private final String name;
+        private final Class<?> type;
+        private final Class<?> elementType;
+        private final boolean many;
+        private final Field field;
+        private String expression;
+        private AttributeConverter converter;
+        private Projection nested;
+
+        ProjectedProperty(String name, Class<?> type, Type genericType, Field field) {
+            this.name = name;
+            this.type = type;
+            this.field = field;
+            this.many = type.isArray() || Iterable.class.isAssignableFrom(type);
+            this.elementType = elementType(genericType, type);
+        }
+
+        Object convert(Object value) {
+            if (value == null) {
+                return type.isPrimitive() ? Utils.coerceTypes(type, null) : null;
+            }
+            if (converter != null && !box(type).isInstance(value)) {
+                return converter.toEntityAttribute(value);
+            }
+            if (!many) {
+                return single(value);
+            }
+            List<Object> elements = new ArrayList<>();
+            if (value.getClass().isArray()) {
+                for (int i = 0; i < Array.getLength(value); i++) {
+                    elements.add(single(Array.get(value, i)));
+                }
+            } else if (value instanceof Iterable) {
+                for (Object element : (Iterable<?>) value) {
+                    elements.add(single(element));
+                }
+            } else {
+                elements.add(single(value));
+            }
+            return collection(elements);
+        }
+
+        private Object single(Object value) {
+            if (value == null) {
+                return null;
+            }
+            if (nested != null) {
+                return nested.instantiate((Map<String, ?>) value);
+            }
+            return Utils.coerceTypes(elementType, value);
+        }
+
+        private Object collection(List<Object> elements) {
+            if (type.isArray()) {
+                Object array = Array.newInstance(elementType, elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    Array.set(array, i, elements.get(i));
+                }
+                return array;
+            }
+            if (type.isAssignableFrom(ArrayList.class)) {
+                return elements;
+            }
+            if (type.isAssignableFrom(LinkedHashSet.class)) {
+                return new LinkedHashSet<>(elements);
+            }
+            try {
+                Collection<Object> collection = (Collection<Object>) type.newInstance();
+                collection.addAll(elements);
+                return collection;
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new MappingException("Unable to create a " + type.getName() + " for projected property " + name, e);
+            }
+        }
+
+        private static Class<?> box(Class<?> type) {
+            return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0).getClass() : type;
+        }
+    }
+
+    /**
+     * Implements an interface projection over the values read for it.
+     */
+    private static class ProjectionHandler implements InvocationHandler {
+
+        private final Class<?> type;
+        private final Map<String, String> getters;
+        private final Map<String, Object> values;
+
+        ProjectionHandler(Class<?> type, Map<String, String> getters, Map<String, Object> values) {
+            this.type = type;
+            this.getters = getters;
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String property = getters.get(method.getName());
+            if (property != null && method.getParameterCount() == 0) {
+                return values.get(property);
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0] || (args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                            && Proxy.getInvocationHandler(args[0]) instanceof ProjectionHandler
+                            && values.equals(((ProjectionHandler) Proxy.getInvocationHandler(args[0])).values));
+                case "hashCode":
+                    return values.hashCode();
+                case "toString":
+                    return type.getSimpleName() + values;
+                default:
+                    throw new UnsupportedOperationException(method.getName() + " is not a property of projection " + type.getName());
+            }
+        }
+    }
+}
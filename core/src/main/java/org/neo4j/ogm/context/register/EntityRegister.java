@@ -13,8 +13,13 @@
 
 package org.neo4j.ogm.context.register;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -28,27 +33,43 @@ public class EntityRegister<T> {
 
     private final Logger LOGGER = LoggerFactory.getLogger(EntityRegister.class);
 
-    private final Map<T, Object> register = new HashMap<>();
+    private final Map<T, Object> register;
+    private final ReferenceType referenceType;
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    public EntityRegister() {
+        this(ReferenceType.STRONG, false);
+    }
+
+    /**
+     * @param referenceType the kind of reference through which the entities are held
+     * @param accessOrder true to iterate the ids from the least to the most recently used entity, rather than in
+     * no particular order
+     */
+    public EntityRegister(ReferenceType referenceType, boolean accessOrder) {
+        this.referenceType = referenceType;
+        this.register = accessOrder ? new LinkedHashMap<>(16, 0.75f, true) : new HashMap<>();
+    }
 
     public Object get(T id) {
-        return register.get(id);
+        return ReferenceType.dereference(register.get(id));
     }
 
     public boolean add(T id, Object entity) {
-        final Object existing = register.get(id);
+        final Object existing = get(id);
 
         if (existing != null) {
             LOGGER.debug("Object already in node registry: {}, {}", id, entity);
             return false;
         }
 
-        register.put(id, entity);
+        register.put(id, referenceType.reference(id, entity, queue));
         LOGGER.debug("Added object to node registry: {}, {}", id, entity);
         return true;
     }
 
     public boolean contains(T id) {
-        return register.containsKey(id);
+        return get(id) != null;
     }
 
 
@@ -62,7 +83,71 @@ public class EntityRegister<T> {
         register.clear();
     }
 
+    public int size() {
+        return register.size();
+    }
+
+    /**
+     * @return the registered entities which have not been garbage collected
+     */
+    public List<Object> entities() {
+        List<Object> entities = new ArrayList<>(register.size());
+        for (Object value : register.values()) {
+            Object entity = ReferenceType.dereference(value);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Iterates over a copy of the ids, so that entities can be looked up and removed while iterating.
+     *
+     * @return an iterator over the ids of the registered entities
+     */
     public Iterator<T> iterator() {
-        return register.keySet().iterator();
+        final Iterator<T> ids = new ArrayList<>(register.keySet()).iterator();
+        return new Iterator<T>() {
+
+            private T current;
+
+            @Override
+            public boolean hasNext() {
+                return ids.hasNext();
+            }
+
+            @Override
+            public T next() {
+                current = ids.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                register.remove(current);
+            }
+        };
+    }
+
+    /**
+     * Removes the entities that have been garbage collected since the last call.
+     *
+     * @return the ids of the collected entities, each mapped to the class of its entity
+     */
+    @SuppressWarnings("unchecked")
+    public Map<T, Class<?>> expunge() {
+        Map<T, Class<?>> collected = new HashMap<>();
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            ReferenceType.EntityReference entityReference = (ReferenceType.EntityReference) reference;
+            T id = (T) entityReference.id();
+            // the id may have been registered again since, in which case it holds another reference
+            if (register.get(id) == reference) {
+                register.remove(id);
+                collected.put(id, entityReference.type());
+            }
+        }
+        return collected;
     }
 }
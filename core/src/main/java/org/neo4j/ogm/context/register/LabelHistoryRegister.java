@@ -31,6 +31,14 @@ public class LabelHistoryRegister {
         register.clear();
     }
 
+    public int size() {
+        return register.size();
+    }
+
+    public void remove(Long identity) {
+        register.remove(identity);
+    }
+
     public LabelHistory get(Long identity) {
 
 		LabelHistory labelHistory = register.computeIfAbsent(identity, k -> new LabelHistory());
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.context.register;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+/**
+ * The kind of reference through which the registers of a mapping context hold their entities.
+ *
+ * A strongly held entity stays in the register until it is removed. A weakly held entity is removed once the
+ * application no longer references it, and a softly held one once, in addition, the JVM needs the memory.
+ */
+public enum ReferenceType {
+
+    STRONG, WEAK, SOFT;
+
+    /**
+     * @param name the name of a reference type, in any case
+     * @return the reference type with that name
+     */
+    public static ReferenceType of(String name) {
+        for (ReferenceType referenceType : values()) {
+            if (referenceType.name().equalsIgnoreCase(name)) {
+                return referenceType;
+            }
+        }
+        throw new IllegalArgumentException("Unknown identity map reference type: " + name);
+    }
+
+    /**
+     * Wraps an entity in a reference of this type.
+     *
+     * @param id the id under which the entity is registered
+     * @param entity the entity
+     * @param queue the queue the reference is enqueued on once the entity has been collected, or null
+     * @return the entity itself if this type is STRONG, otherwise a reference to it
+     */
+    Object reference(Object id, Object entity, ReferenceQueue<Object> queue) {
+        switch (this) {
+            case WEAK:
+                return new WeakEntityReference(id, entity, queue);
+            case SOFT:
+                return new SoftEntityReference(id, entity, queue);
+            default:
+                return entity;
+        }
+    }
+
+    /**
+     * @param value a value returned by {@link #reference(Object, Object, ReferenceQueue)}
+     * @return the entity it refers to, or null if the entity has been collected
+     */
+    static Object dereference(Object value) {
+        return value instanceof Reference ? ((Reference<?>) value).get() : value;
+    }
+
+    /**
+     * A reference which remembers the id and type of its entity, so that they are still known once the entity
+     * has been collected.
+     */
+    interface EntityReference {
+
+        Object id();
+
+        Class<?> type();
+    }
+
+    private static class WeakEntityReference extends WeakReference<Object> implements EntityReference {
+
+        private final Object id;
+        private final Class<?> type;
+
+        WeakEntityReference(Object id, Object entity, ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.id = id;
+            this.type = entity.getClass();
+        }
+
+        @Override
+        public Object id() {
+            return id;
+        }
+
+        @Override
+        public Class<?> type() {
+            return type;
+        }
+    }
+
+    private static class SoftEntityReference extends SoftReference<Object> implements EntityReference {
+
+        private final Object id;
+        private final Class<?> type;
+
+        SoftEntityReference(Object id, Object entity, ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.id = id;
+            this.type = entity.getClass();
+        }
+
+        @Override
+        public Object id() {
+            return id;
+        }
+
+        @Override
+        public Class<?> type() {
+            return type;
+        }
+    }
+}
@@ -30,6 +30,18 @@ import org.neo4j.ogm.MetaData;
 public class TypeRegister {
 
     private final Map<Class<?>, Map<Object, Object>> register = new HashMap<>();
+    private final ReferenceType referenceType;
+
+    public TypeRegister() {
+        this(ReferenceType.STRONG);
+    }
+
+    /**
+     * @param referenceType the kind of reference through which the entities are held
+     */
+    public TypeRegister(ReferenceType referenceType) {
+        this.referenceType = referenceType;
+    }
 
     /**
      * Finds the map associated with an entity's class and removes the entity's id from the map (if found)
@@ -51,13 +63,60 @@ public class TypeRegister {
     }
 
     /**
-     * Returns an immutable map of the objects associated with the given type
+     * Removes an entity which has been evicted from the mapping context, or garbage collected, from the map of its class
+     * and from those of all the types it was added under
+     *
+     * @param metaData the domain model metadata
+     * @param type the class of the entity
+     * @param id the id of the entity
+     */
+    public void evict(MetaData metaData, Class type, Object id) {
+        Map<Object, Object> entities = register.get(type);
+        if (entities != null) {
+            entities.remove(id);
+        }
+        if (type.getSuperclass() != null
+                && metaData != null
+                && metaData.classInfo(type.getSuperclass().getName()) != null
+                && !type.getSuperclass().getName().equals("java.lang.Object")) {
+            evict(metaData, type.getSuperclass(), id);
+        }
+        if (type.getInterfaces() != null
+                && metaData != null) {
+            for (Class interfaceClass : type.getInterfaces()) {
+                if (metaData.classInfo(interfaceClass.getName()) != null) {
+                    evict(metaData, interfaceClass, id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns an immutable copy of the map of the objects associated with the given type
      *
      * @param type the class whose map entries we want to return
      * @return the map's entries
      */
     public Map<Object, Object> get(Class<?> type) {
-        return Collections.unmodifiableMap(objectMap(type));
+        Map<Object, Object> entities = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : objectMap(type).entrySet()) {
+            Object entity = ReferenceType.dereference(entry.getValue());
+            if (entity != null) {
+                entities.put(entry.getKey(), entity);
+            }
+        }
+        return Collections.unmodifiableMap(entities);
+    }
+
+    /**
+     * @return the number of entries in the TypeRegister, counting an object once for each type it is registered under
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Object, Object> entities : register.values()) {
+            size += entities.size();
+        }
+        return size;
     }
 
     /**
@@ -76,7 +135,7 @@ public class TypeRegister {
      * @param id the id of the entity to be added
      */
     public void add(MetaData metaData, Class type, Object entity, Object id) {
-        objectMap(type).put(id, entity);
+        objectMap(type).put(id, referenceType.reference(id, entity, null));
         if (type.getSuperclass() != null
                 && metaData != null
                 && metaData.classInfo(type.getSuperclass().getName()) != null
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.cypher.query;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+/**
+ * A {@link Pagination} which seeks past the last row of the previous page instead of skipping over it.
+ *
+ * Rather than rendering <code>SKIP n</code>, the query is restricted to the rows that sort after the
+ * sort key values and id of the last row seen, so the cost of fetching a page does not grow with its
+ * position in the result. The position is handed to the caller as an opaque cursor after each load,
+ * which is passed back in to fetch the following page:
+ *
+ * <pre>
+ * KeysetPagination page = new KeysetPagination(100);
+ * Collection&lt;Film&gt; films = session.loadAll(Film.class, new SortOrder().add("title"), page);
+ * while (page.hasNext()) {
+ *     page = page.next();
+ *     films = session.loadAll(Film.class, new SortOrder().add("title"), page);
+ * }
+ * </pre>
+ *
+ * The same sort order must be used for every page of an iteration. The entity id is always used as the final
+ * sort key, so rows with equal sort key values are neither skipped nor repeated. Sort properties should not be null,
+ * since null values cannot be compared against the cursor. An offset cannot be set, since the cursor determines where
+ * each page starts.
+ *
+ * Keyset pagination is supported when loading entities by type, but not by id, by instance or as projections.
+ */
+public class KeysetPagination extends Pagination {
+
+    private static final String CURSOR_PARAMETER = "_cursor_";
+    private static final String CURSOR_ID_PARAMETER = "_cursor_id";
+
+    private final Long lastId;
+    private final List<Object> lastValues;
+    private String nextCursor;
+
+    /**
+     * Constructs a {@link KeysetPagination} for the first page of results.
+     *
+     * @param pageSize the number of records per page
+     */
+    public KeysetPagination(int pageSize) {
+        this(pageSize, null);
+    }
+
+    /**
+     * Constructs a {@link KeysetPagination} for the page following the given cursor.
+     *
+     * @param pageSize the number of records per page
+     * @param cursor a cursor obtained from {@link #getNextCursor()}, or null for the first page
+     */
+    public KeysetPagination(int pageSize, String cursor) {
+        super(0, pageSize);
+        if (cursor == null) {
+            this.lastId = null;
+            this.lastValues = Collections.emptyList();
+        } else {
+            List<Object> decoded = decode(cursor);
+            this.lastId = ((Number) decoded.get(0)).longValue();
+            this.lastValues = decoded.subList(1, decoded.size());
+        }
+    }
+
+    /**
+     * @return true if this page continues from a cursor, false if it is the first page
+     */
+    public boolean hasCursor() {
+        return lastId != null;
+    }
+
+    /**
+     * @return the cursor positioned after the last row loaded with this pagination, or null
+     * if that load returned the final page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return true if a load with this pagination produced a cursor for a further page
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * @return a {@link KeysetPagination} of the same size, positioned at the next page
+     */
+    public KeysetPagination next() {
+        if (nextCursor == null) {
+            throw new RuntimeException("There is no next page");
+        }
+        return new KeysetPagination(getPageSize(), nextCursor);
+    }
+
+    /**
+     * Builds the predicate that selects the rows sorting after this cursor. The entity is referred to
+     * as <code>$</code>, in the same way as {@link SortClause}.
+     *
+     * @param sortOrder the sort order of the query being paged
+     * @return a Cypher predicate
+     */
+    public String seekPredicate(SortOrder sortOrder) {
+        List<String> keys = new ArrayList<>();
+        List<SortOrder.Direction> directions = new ArrayList<>();
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                keys.add("$." + property);
+                directions.add(sortClause.getDirection());
+            }
+        }
+        if (keys.size() != lastValues.size()) {
+            throw new RuntimeException("The cursor does not match the sort order of the query");
+        }
+        keys.add("ID($)");
+        directions.add(SortOrder.Direction.ASC);
+
+        StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) {
+                sb.append(" OR ");
+            }
+            sb.append("(");
+            for (int j = 0; j < i; j++) {
+                sb.append(keys.get(j)).append(" = ").append(parameter(j, keys.size())).append(" AND ");
+            }
+            sb.append(keys.get(i))
+                    .append(directions.get(i) == SortOrder.Direction.DESC ? " < " : " > ")
+                    .append(parameter(i, keys.size()));
+            sb.append(")");
+        }
+        return sb.append(")").toString();
+    }
+
+    /**
+     * @throws IllegalArgumentException always, since the cursor determines where each page starts
+     */
+    @Override
+    public void setOffset(Integer offset) {
+        throw new IllegalArgumentException("An offset cannot be set on keyset pagination, which starts each page after the cursor");
+    }
+
+    /**
+     * @return the values of the page size and of the parameters referenced by {@link #seekPredicate(SortOrder)}
+     */
+    @Override
+    public Map<String, Object> parameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(LIMIT_PARAMETER, getPageSize());
+        if (hasCursor()) {
+            for (int i = 0; i < lastValues.size(); i++) {
+                parameters.put(CURSOR_PARAMETER + i, lastValues.get(i));
+            }
+            parameters.put(CURSOR_ID_PARAMETER, lastId);
+        }
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return " LIMIT { `" + LIMIT_PARAMETER + "` }";
+    }
+
+    /**
+     * Encodes the position of a row as an opaque cursor.
+     *
+     * @param id the id of the last row returned
+     * @param sortValues the values of the sort properties of that row, in sort order
+     * @return the cursor
+     */
+    public static String cursor(Long id, List<Object> sortValues) {
+        List<Object> position = new ArrayList<>();
+        position.add(id);
+        position.addAll(sortValues);
+        try {
+            byte[] json = ObjectMapperFactory.objectMapper().writeValueAsBytes(position);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to encode cursor", e);
+        }
+    }
+
+    private static List<Object> decode(String cursor) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            List<Object> position = ObjectMapperFactory.objectMapper().readValue(json, List.class);
+            if (position.isEmpty() || !(position.get(0) instanceof Number)) {
+                throw new RuntimeException("Invalid cursor: " + cursor);
+            }
+            return position;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private static String parameter(int index, int keyCount) {
+        String name = index == keyCount - 1 ? CURSOR_ID_PARAMETER : CURSOR_PARAMETER + index;
+        return "{ `" + name + "` }";
+    }
+}
@@ -12,11 +12,17 @@
  */
 package org.neo4j.ogm.cypher.query;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Vince Bickers
  */
 public class Pagination {
 
+    static final String SKIP_PARAMETER = "_skip";
+    static final String LIMIT_PARAMETER = "_limit";
+
     private final Integer index;
     private final Integer size;
     private Integer offset;
@@ -47,10 +53,28 @@ public class Pagination {
         this.offset = offset;
     }
 
+    /**
+     * @return the maximum number of records returned per page
+     */
+    public int getPageSize() {
+        return size;
+    }
+
+    /**
+     * @return the values of the parameters referenced by {@link #toString()}
+     */
+    public Map<String, Object> parameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(SKIP_PARAMETER, offset != null ? offset : index * size);
+        parameters.put(LIMIT_PARAMETER, size);
+        return parameters;
+    }
+
+    /**
+     * The skip and limit are rendered as parameters, so that the text of a paged query
+     * is the same for every page and can be planned once by the server.
+     */
     public String toString() {
-        if (offset != null) {
-            return " SKIP " + offset + " LIMIT " + size;
-        }
-        return " SKIP " + (index * size) + " LIMIT " + size;
+        return " SKIP { `" + SKIP_PARAMETER + "` } LIMIT { `" + LIMIT_PARAMETER + "` }";
     }
 }
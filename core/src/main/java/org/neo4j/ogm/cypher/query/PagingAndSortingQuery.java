@@ -36,6 +36,16 @@ public class PagingAndSortingQuery extends CypherQuery implements PagingAndSorti
         String stmt = statement.trim();
         String sorting = sortOrder().toString();
         String pagination = paging == null ? "" : page().toString();
+        String seek = "";
+
+        // keyset pagination always orders by id last, so that the cursor identifies a unique position
+        if (paging instanceof KeysetPagination) {
+            KeysetPagination keyset = (KeysetPagination) paging;
+            sorting = sorting.length() > 0 ? sorting + ",ID($)" : " ORDER BY ID($)";
+            if (keyset.hasCursor()) {
+                seek = " WHERE " + keyset.seekPredicate(sortOrder());
+            }
+        }
 
         // these transformations are entirely dependent on the form of our base queries and
         // binding the sorting properties to the default query variables is a terrible hack. All this
@@ -44,46 +54,76 @@ public class PagingAndSortingQuery extends CypherQuery implements PagingAndSorti
         if (sorting.length() > 0 || pagination.length() > 0) {
 
             if (withIndex > -1) {
-                int nextClauseIndex = stmt.indexOf(" MATCH", withIndex);
+                int nextClauseIndex = nextClauseIndex(stmt, withIndex);
                 String withClause = stmt.substring(withIndex, nextClauseIndex);
                 String newWithClause = withClause;
+                String identifier;
                 if (stmt.contains(")-[r0")) {
-                    sorting = sorting.replace("$", "r0");
+                    identifier = "r0";
                     if (!withClause.contains(",r0") && (!withClause.contains("r0,"))) {
                         newWithClause = newWithClause + ",r0";
                     }
                 } else {
-                    sorting = sorting.replace("$", "n");
+                    identifier = "n";
                 }
-                stmt = stmt.replace(withClause, newWithClause + sorting + pagination);
+                sorting = sorting.replace("$", identifier);
+                String seekClause = "";
+                if (seek.length() > 0) {
+                    String seekWith = withClause.startsWith("WITH r") ? "WITH r0" : newWithClause;
+                    seekClause = seekWith + seek.replace("$", identifier) + " ";
+                }
+                stmt = stmt.replace(withClause, seekClause + newWithClause + sorting + pagination);
                 //If a path is returned, also return the original entities in the page
-                if (stmt.contains("MATCH p=(") && !stmt.contains("RETURN p, ID(n)")) {
+                if (stmt.contains("MATCH p=(n)") && !stmt.contains("RETURN p, ID(n)")) {
                     stmt = stmt.replace("RETURN p","RETURN p, ID(n)");
                 }
             } else {
                 if (stmt.startsWith("MATCH p=(")) {
                     String withClause = "WITH p";
+                    String identifier = "n";
                     if (stmt.contains(")-[r")) {
                         withClause = withClause + ",r0";
-                        sorting = sorting.replace("$", "r0");
-                    } else {
-                        sorting = sorting.replace("$", "n");
+                        identifier = "r0";
                     }
-                    stmt = stmt.replace("RETURN ", withClause + sorting + pagination + " RETURN ");
+                    sorting = sorting.replace("$", identifier);
+                    String seekClause = seek.length() > 0 ? withClause + seek.replace("$", identifier) + " " : "";
+                    stmt = stmt.replace("RETURN ", seekClause + withClause + sorting + pagination + " RETURN ");
                 } else {
                     sorting = sorting.replace("$", "n");
-                    stmt = stmt.replace("RETURN ", "WITH n" + sorting + pagination + " RETURN ");
+                    String seekClause = seek.length() > 0 ? "WITH n" + seek.replace("$", "n") + " " : "";
+                    stmt = stmt.replace("RETURN ", seekClause + "WITH n" + sorting + pagination + " RETURN ");
                 }
                 if (stmt.contains("MATCH p=(") && stmt.contains("WITH n") && !stmt.contains("RETURN p, ID(n)")) {
                     stmt = stmt.replace("RETURN p","RETURN p, ID(n)");
                 }
             }
+            // keyset pages are mapped from rows, so the ids of the entities in the page must be returned
+            if (paging instanceof KeysetPagination && stmt.endsWith("RETURN n")) {
+                stmt = stmt + ", ID(n)";
+            }
         }
 
         return stmt;
 
     }
 
+    private static int nextClauseIndex(String stmt, int withIndex) {
+        int matchIndex = stmt.indexOf(" MATCH", withIndex);
+        int unwindIndex = stmt.indexOf(" UNWIND", withIndex);
+        if (unwindIndex > -1 && (matchIndex == -1 || unwindIndex < matchIndex)) {
+            return unwindIndex;
+        }
+        return matchIndex;
+    }
+
+    @Override
+    public Map<String, Object> getParameters() {
+        if (paging != null) {
+            parameters.putAll(paging.parameters());
+        }
+        return parameters;
+    }
+
     @Override
     public PagingAndSortingQuery setPagination(Pagination paging) {
         this.paging = paging;
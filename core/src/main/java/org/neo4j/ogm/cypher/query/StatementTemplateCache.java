@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.cypher.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of generated Cypher statement texts, keyed by the shape of the statement.
+ *
+ * The shape is everything that determines the text of a statement - the kind of statement together with labels,
+ * relationship types, property keys, depth and so on - but none of its parameter values. The OGM generates the same
+ * few shapes over and over, so the text is built once per shape and only the parameters are built per call.
+ *
+ * The cache is shared by all the statement generators. When it reaches its capacity it is emptied and starts
+ * filling again, so an application generating an unbounded number of shapes cannot exhaust the heap.
+ */
+public class StatementTemplateCache {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final StatementTemplateCache instance = new StatementTemplateCache(DEFAULT_CAPACITY);
+
+    private final ConcurrentMap<List<Object>, String> templates = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public StatementTemplateCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than zero");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the cache shared by the OGM's statement generators
+     */
+    public static StatementTemplateCache templates() {
+        return instance;
+    }
+
+    /**
+     * Builds the key identifying a statement shape. The first part should name the statement being generated,
+     * the remainder are the values the statement text depends on.
+     *
+     * @param parts the parts of the shape
+     * @return a key suitable for {@link #get(List, Supplier)}
+     */
+    public static List<Object> shape(Object... parts) {
+        return Arrays.asList(parts);
+    }
+
+    /**
+     * Returns the statement text for the given shape, building it if it is not cached.
+     *
+     * @param shape the shape of the statement
+     * @param builder builds the statement text for the shape
+     * @return the statement text
+     */
+    public String get(List<Object> shape, Supplier<String> builder) {
+        String template = templates.get(shape);
+        if (template != null) {
+            hits.increment();
+            return template;
+        }
+        misses.increment();
+        template = builder.get();
+        if (templates.size() >= capacity) {
+            templates.clear();
+        }
+        templates.putIfAbsent(shape, template);
+        return template;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the fraction of lookups answered from the cache, or 0 if there have been none
+     */
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+        hits.reset();
+        misses.reset();
+    }
+}
@@ -12,6 +12,7 @@
 package org.neo4j.ogm.entity.io;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.Property;
@@ -49,16 +50,18 @@ public class EntityAccessManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(EntityAccessManager.class);
 
     //TODO make these LRU caches with configurable size
-    private static Map<ClassInfo, Map<DirectedRelationship,RelationalReader>> relationalReaderCache = new HashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType,RelationalWriter>> relationalWriterCache = new HashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType,RelationalWriter>> iterableWriterCache = new HashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType,RelationalReader>> iterableReaderCache = new HashMap<>();
-    private static Map<ClassInfo, Map<Class, RelationalWriter>> relationshipEntityWriterCache = new HashMap<>();
-    private static Map<ClassInfo, Map<String, EntityAccess>> propertyWriterCache = new HashMap<>();
-    private static Map<ClassInfo, Map<String, PropertyReader>> propertyReaderCache = new HashMap<>();
-    private static Map<ClassInfo, Collection<PropertyReader>> propertyReaders = new HashMap<>();
-    private static Map<ClassInfo, PropertyReader> identityPropertyReaderCache = new HashMap<>();
-    private static Map<ClassInfo, Collection<RelationalReader>> relationalReaders = new HashMap<>();
+    // shared by all sessions and by parallel mapping threads, so they must tolerate concurrent population
+    private static Map<ClassInfo, Map<DirectedRelationship,RelationalReader>> relationalReaderCache = new ConcurrentHashMap<>();
+    private static Map<ClassInfo, Map<DirectedRelationshipForType,RelationalWriter>> relationalWriterCache = new ConcurrentHashMap<>();
+    private static Map<ClassInfo, Map<DirectedRelationshipForType,RelationalWriter>> iterableWriterCache = new ConcurrentHashMap<>();
+    private static Map<ClassInfo, Map<DirectedRelationshipForType,RelationalReader>> iterableReaderCache = new ConcurrentHashMap<>();
+    private static Map<ClassInfo, Map<Class, RelationalWriter>> relationshipEntityWriterCache = new ConcurrentHashMap<>();
+    private static Map<ClassInfo, Map<String, EntityAccess>> propertyWriterCache = new ConcurrentHashMap<>();
+    private static Map<ClassInfo, Map<String, PropertyReader>> propertyReaderCache = new ConcurrentHashMap<>();
+    private static Map<ClassInfo, Map<FieldInfo, PropertyReader>> propertyReaders = new ConcurrentHashMap<>();
+    private static Map<ClassInfo, PropertyReader> identityPropertyReaderCache = new ConcurrentHashMap<>();
+    private static Map<ClassInfo, Collection<RelationalReader>> relationalReaders = new ConcurrentHashMap<>();
+    private static Map<ClassInfo, PropertyWritePlan> propertyWritePlans = new ConcurrentHashMap<>();
 
     private static final boolean STRICT_MODE = true; //strict mode for matching readers and writers, will only look for explicit annotations
     private static final boolean INFERRED_MODE = false; //inferred mode for matching readers and writers, will infer the relationship type from the getter/setter
@@ -72,7 +75,7 @@ public class EntityAccessManager {
      */
     public static EntityAccess getPropertyWriter(final ClassInfo classInfo, String propertyName) {
         if(!propertyWriterCache.containsKey(classInfo)) {
-            propertyWriterCache.put(classInfo, new HashMap<>());
+            propertyWriterCache.putIfAbsent(classInfo, newAccessorMap());
         }
         Map<String, EntityAccess> entityAccessMap = propertyWriterCache.get(classInfo);
         if(entityAccessMap.containsKey(propertyName)) {
@@ -97,6 +100,16 @@ public class EntityAccessManager {
         return propertyWriter;
     }
 
+    /**
+     * Returns the plan for writing properties read from the graph to objects of the given class
+     *
+     * @param classInfo A ClassInfo declaring the properties
+     * @return The PropertyWritePlan of the class
+     */
+    public static PropertyWritePlan getPropertyWritePlan(ClassInfo classInfo) {
+        return propertyWritePlans.computeIfAbsent(classInfo, PropertyWritePlan::new);
+    }
+
     /**
      * Returns a PropertyReader for the property of an object in the graph
      *
@@ -107,7 +120,7 @@ public class EntityAccessManager {
     public static PropertyReader getPropertyReader(final ClassInfo classInfo, String propertyName) {
 
         if(!propertyReaderCache.containsKey(classInfo)) {
-            propertyReaderCache.put(classInfo, new HashMap<>());
+            propertyReaderCache.putIfAbsent(classInfo, newAccessorMap());
         }
         if(propertyReaderCache.get(classInfo).containsKey(propertyName)) {
             return propertyReaderCache.get(classInfo).get(propertyName);
@@ -156,7 +169,7 @@ public class EntityAccessManager {
     public static RelationalWriter getRelationalWriter(ClassInfo classInfo, String relationshipType, String relationshipDirection, Class<?> objectType) {
 
         if (!relationalWriterCache.containsKey(classInfo)) {
-            relationalWriterCache.put(classInfo, new HashMap<>());
+            relationalWriterCache.putIfAbsent(classInfo, newAccessorMap());
         }
 
         DirectedRelationshipForType directedRelationship = new DirectedRelationshipForType(relationshipType, relationshipDirection, objectType);
@@ -289,7 +302,7 @@ public class EntityAccessManager {
     public static RelationalReader getRelationalReader(ClassInfo classInfo, String relationshipType, String relationshipDirection) {
 
         if(!relationalReaderCache.containsKey(classInfo)) {
-            relationalReaderCache.put(classInfo, new HashMap<>());
+            relationalReaderCache.putIfAbsent(classInfo, newAccessorMap());
         }
 
         DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType,relationshipDirection);
@@ -362,21 +375,33 @@ public class EntityAccessManager {
      * @return a Collection of PropertyReader instances which will be empty if no primitive properties are defined by the ClassInfo
      */
     public static Collection<PropertyReader> getPropertyReaders(ClassInfo classInfo) {
+        return getPropertyReadersByField(classInfo).values();
+    }
+
+    /**
+     * Returns all the PropertyReader instances for this ClassInfo, keyed on the property field each of them reads.
+     * A reader may read the field through a getter whose property name differs from that of the field.
+     *
+     * @param classInfo The ClassInfo whose PropertyReaders we want
+     * @return the PropertyReader of each property field, in the order of {@link ClassInfo#propertyFields()}
+     */
+    public static Map<FieldInfo, PropertyReader> getPropertyReadersByField(ClassInfo classInfo) {
         // do we care about "implicit" fields?  i.e., setX/getX with no matching X field
         if(propertyReaders.containsKey(classInfo)) {
             return propertyReaders.get(classInfo);
         }
-        Collection<PropertyReader> readers = new ArrayList<>();
+        Map<FieldInfo, PropertyReader> readers = new LinkedHashMap<>();
         for (FieldInfo fieldInfo : classInfo.propertyFields()) {
             MethodInfo getterInfo = classInfo.propertyGetter(fieldInfo.property());
             if (getterInfo != null) { //if we have a getter
                 if (getterInfo.hasAnnotation(Property.CLASS) || fieldInfo.getAnnotations().isEmpty()) { //and the getter is annotated with @Property OR the field is not annotated
-                    readers.add(new MethodReader(classInfo, getterInfo)); //use the getter
+                    readers.put(fieldInfo, new MethodReader(classInfo, getterInfo)); //use the getter
                     continue;
                 }
             }
-            readers.add(new FieldReader(classInfo, fieldInfo)); //otherwise use the field
+            readers.put(fieldInfo, new FieldReader(classInfo, fieldInfo)); //otherwise use the field
         }
+        readers = Collections.unmodifiableMap(readers);
         propertyReaders.put(classInfo, readers);
         return readers;
     }
@@ -417,7 +442,7 @@ public class EntityAccessManager {
      */
     public static RelationalWriter getIterableWriter(ClassInfo classInfo, Class<?> parameterType, String relationshipType, String relationshipDirection) {
         if(!iterableWriterCache.containsKey(classInfo)) {
-            iterableWriterCache.put(classInfo, new HashMap<>());
+            iterableWriterCache.putIfAbsent(classInfo, newAccessorMap());
         }
         DirectedRelationshipForType directedRelationshipForType = new DirectedRelationshipForType(relationshipType,relationshipDirection, parameterType);
         if(iterableWriterCache.get(classInfo).containsKey(directedRelationshipForType)) {
@@ -479,7 +504,7 @@ public class EntityAccessManager {
      */
     public static RelationalReader getIterableReader(ClassInfo classInfo, Class<?> parameterType, String relationshipType, String relationshipDirection) {
         if(!iterableReaderCache.containsKey(classInfo)) {
-            iterableReaderCache.put(classInfo, new HashMap<>());
+            iterableReaderCache.putIfAbsent(classInfo, newAccessorMap());
         }
         DirectedRelationshipForType directedRelationshipForType = new DirectedRelationshipForType(relationshipType,relationshipDirection, parameterType);
         if(iterableReaderCache.get(classInfo).containsKey(directedRelationshipForType)) {
@@ -585,7 +610,7 @@ public class EntityAccessManager {
             throw new RuntimeException(entityAnnotation.getSimpleName() + " is not defined on " + classInfo.name());
         }
 
-        relationshipEntityWriterCache.computeIfAbsent(classInfo, k -> new HashMap<>());
+        relationshipEntityWriterCache.computeIfAbsent(classInfo, k -> newAccessorMap());
         if (relationshipEntityWriterCache.get(classInfo).containsKey(entityAnnotation)) {
             return relationshipEntityWriterCache.get(classInfo).get(entityAnnotation);
         }
@@ -777,6 +802,13 @@ public class EntityAccessManager {
         return getterNameBuilder.insert(0, "get").toString();
     }
 
+    /**
+     * Accessors may be cached as null to record that none exists, which a ConcurrentHashMap cannot hold.
+     */
+    private static <K, V> Map<K, V> newAccessorMap() {
+        return Collections.synchronizedMap(new HashMap<>());
+    }
+
     /** Used internally to hide differences in object construction from strategy algorithm. */
     private interface AccessorFactory<T> {
         T makeMethodAccessor(MethodInfo methodInfo);
@@ -14,8 +14,8 @@ package org.neo4j.ogm.entity.io;
 
 import java.lang.reflect.Constructor;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.classloader.MetaDataClassLoader;
@@ -32,7 +32,7 @@ import org.neo4j.ogm.model.Node;
  */
 public class EntityFactory {
 
-    private final Map<String, String> taxaLeafClass = new HashMap<>();
+    private final Map<String, String> taxaLeafClass = new ConcurrentHashMap<>();
 
     private final MetaData metadata;
 
@@ -12,6 +12,7 @@
 package org.neo4j.ogm.entity.io;
 
 import java.lang.reflect.Field;
+import java.util.function.UnaryOperator;
 
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.metadata.ClassInfo;
@@ -28,11 +29,16 @@ public class FieldWriter extends EntityAccess {
     private final FieldInfo fieldInfo;
     private final Field field;
     private final Class<?> fieldType;
+    private final UnaryOperator<Object> coercion;
 
     public FieldWriter(ClassInfo classInfo, FieldInfo fieldInfo) {
         this.fieldInfo = fieldInfo;
         this.field = classInfo.getField(fieldInfo);
         this.fieldType = this.field.getType();
+        this.field.setAccessible(true);
+        // resolved once here rather than for every value written, only scalar values are coerced
+        Class<?> scalarType = fieldInfo.isScalar() ? ClassUtils.getType(fieldInfo.getTypeDescriptor()) : null;
+        this.coercion = scalarType != null ? Utils.coercion(scalarType) : UnaryOperator.identity();
     }
 
     public static void write(Field field, Object instance, Object value) {
@@ -58,14 +64,13 @@ public class FieldWriter extends EntityAccess {
 
         if (fieldInfo.hasPropertyConverter()) {
             value = fieldInfo.getPropertyConverter().toEntityAttribute(value);
-            FieldWriter.write(field, instance, value);
+        } else {
+            value = coercion.apply(value);
         }
-        else {
-            if (fieldInfo.isScalar()) {
-                String descriptor = fieldInfo.getTypeDescriptor();
-                value = Utils.coerceTypes(ClassUtils.getType(descriptor), value);
-            }
-            FieldWriter.write(field, instance, value);
+        try {
+            field.set(instance, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
     }
 
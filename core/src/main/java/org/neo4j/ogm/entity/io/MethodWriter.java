@@ -12,6 +12,7 @@
 package org.neo4j.ogm.entity.io;
 
 import java.lang.reflect.Method;
+import java.util.function.UnaryOperator;
 
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.metadata.ClassInfo;
@@ -28,11 +29,13 @@ public class MethodWriter extends EntityAccess {
 	private final MethodInfo setterMethodInfo;
 	private final Class<?> parameterType;
 	private final Method method;
+	private final UnaryOperator<Object> coercion;
 
 	MethodWriter(ClassInfo classInfo, MethodInfo methodInfo) {
 		this.setterMethodInfo = methodInfo;
 		this.method = classInfo.getMethod(setterMethodInfo);
 		this.parameterType = method.getParameterTypes()[0];
+		this.coercion = methodInfo.isScalar() ? Utils.coercion(parameterType) : UnaryOperator.identity();
 	}
 
 	private static void write(Method method, Object instance, Object value) {
@@ -60,10 +63,8 @@ public class MethodWriter extends EntityAccess {
 			value = setterMethodInfo.getPropertyConverter().toEntityAttribute(value);
 			MethodWriter.write(method, instance, value);
 		} else {
-			if (setterMethodInfo.isScalar()) {
-				if ((value != null && value.getClass() != parameterType) || value == null) {
-					value = Utils.coerceTypes(parameterType, value);
-				}
+			if (value == null || value.getClass() != parameterType) {
+				value = coercion.apply(value);
 			}
 			MethodWriter.write(method, instance, value);
 		}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.entity.io;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MethodInfo;
+import org.neo4j.ogm.response.model.NameTable;
+import org.neo4j.ogm.utils.ClassUtils;
+
+/**
+ * The steps taken to write the properties read from the database to an entity of a given class.
+ *
+ * Each step is resolved once per class and property key: the writer, its target type, whether the value is merged
+ * into an array or collection, and the reader and element type needed to do so. Hydrating an entity is then a scan
+ * of a short array per property, instead of looking up the writer and reader, and working out the types, for every
+ * value written.
+ *
+ * Steps for the property fields and setters of the class are compiled with the plan. Other keys that have a writer
+ * are resolved when they are first read and added to the plan. Keys without a writer are not added to it: schemaless
+ * data may carry any number of them, so at most {@link #MAX_MISSES} of these misses are remembered, and any further
+ * ones are resolved each time they are read.
+ */
+public class PropertyWritePlan {
+
+    static final int MAX_MISSES = 256;
+
+    private final ClassInfo classInfo;
+    private final Map<String, Step> misses = new ConcurrentHashMap<>();
+    private final AtomicInteger reservedMisses = new AtomicInteger();
+    private volatile Step[] steps;
+
+    PropertyWritePlan(ClassInfo classInfo) {
+        this.classInfo = classInfo;
+        NameTable names = NameTable.names();
+        Collection<FieldInfo> fields = classInfo.propertyFields();
+        Collection<MethodInfo> setters = classInfo.propertySetters();
+        Step[] compiled = new Step[0];
+        for (FieldInfo fieldInfo : fields) {
+            compiled = add(compiled, names.intern(fieldInfo.property()));
+        }
+        for (MethodInfo methodInfo : setters) {
+            compiled = add(compiled, names.intern(methodInfo.property()));
+        }
+        this.steps = compiled;
+    }
+
+    /**
+     * @param key the key of a property read from the database
+     * @return the step writing the property, which may not have a writer
+     */
+    public Step step(String key) {
+        Step[] current = steps;
+        // keys read from the database are usually the same instances as the keys of the plan
+        for (Step step : current) {
+            if (step.key == key) {
+                return step;
+            }
+        }
+        for (Step step : current) {
+            if (step.key.equals(key)) {
+                return step;
+            }
+        }
+        Step miss = misses.get(key);
+        if (miss != null) {
+            return miss;
+        }
+        return resolve(key);
+    }
+
+    private Step resolve(String key) {
+        Step step = new Step(classInfo, key);
+        if (step.hasWriter()) {
+            synchronized (this) {
+                Step existing = find(steps, key);
+                if (existing != null) {
+                    return existing;
+                }
+                steps = add(steps, step);
+                return step;
+            }
+        }
+        // a slot is reserved before a miss is added, so that concurrent reads cannot add more than MAX_MISSES of them
+        if (reservedMisses.incrementAndGet() <= MAX_MISSES) {
+            Step existing = misses.putIfAbsent(key, step);
+            if (existing == null) {
+                return step;
+            }
+            reservedMisses.decrementAndGet();
+            return existing;
+        }
+        reservedMisses.decrementAndGet();
+        return step;
+    }
+
+    /**
+     * @return the number of steps with a writer in this plan
+     */
+    int size() {
+        return steps.length;
+    }
+
+    /**
+     * @return the number of keys without a writer remembered by this plan
+     */
+    int misses() {
+        return misses.size();
+    }
+
+    private Step[] add(Step[] current, String key) {
+        if (key == null) {
+            return current;
+        }
+        Step step = new Step(classInfo, key);
+        return step.hasWriter() ? add(current, step) : current;
+    }
+
+    private static Step[] add(Step[] current, Step step) {
+        if (find(current, step.key) != null) {
+            return current;
+        }
+        Step[] extended = Arrays.copyOf(current, current.length + 1);
+        extended[current.length] = step;
+        return extended;
+    }
+
+    private static Step find(Step[] current, String key) {
+        for (Step step : current) {
+            if (step.key.equals(key)) {
+                return step;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes a single property of an entity.
+     */
+    public static final class Step {
+
+        private final String key;
+        private final PropertyWriter writer;
+        private final PropertyReader mergeReader;
+        private final Class<?> mergeType;
+        private final Class<?> elementType;
+
+        private Step(ClassInfo classInfo, String key) {
+            this.key = key;
+            this.writer = EntityAccessManager.getPropertyWriter(classInfo, key);
+            Class<?> type = writer == null ? null : writer.type();
+            if (type != null && (type.isArray() || Iterable.class.isAssignableFrom(type))) {
+                // arrays and collections are merged with the values already held by the entity
+                this.mergeReader = EntityAccessManager.getPropertyReader(classInfo, key);
+                this.mergeType = type;
+                this.elementType = underlyingElementType(classInfo, key);
+            } else {
+                this.mergeReader = null;
+                this.mergeType = null;
+                this.elementType = null;
+            }
+        }
+
+        public String key() {
+            return key;
+        }
+
+        /**
+         * @return false if the class has no property the value can be written to
+         */
+        public boolean hasWriter() {
+            return writer != null;
+        }
+
+        /**
+         * Writes a value read from the database to the entity.
+         *
+         * @param instance the entity
+         * @param value the value of the property
+         */
+        @SuppressWarnings("rawtypes")
+        public void write(Object instance, Object value) {
+            if (mergeReader != null) {
+                Object currentValue = mergeReader.readProperty(instance);
+                if (mergeType.isArray()) {
+                    value = EntityAccess.merge(mergeType, value, (Object[]) currentValue, elementType);
+                } else {
+                    value = EntityAccess.merge(mergeType, value, (Collection) currentValue, elementType);
+                }
+            }
+            writer.write(instance, value);
+        }
+
+        private static Class<?> underlyingElementType(ClassInfo classInfo, String propertyName) {
+            FieldInfo fieldInfo;
+            FieldInfo labelField = classInfo.labelFieldOrNull();
+            if (labelField != null && labelField.getName().toLowerCase().equals(propertyName.toLowerCase())) {
+                fieldInfo = labelField;
+            } else {
+                fieldInfo = classInfo.propertyField(propertyName);
+            }
+            return fieldInfo == null ? null : ClassUtils.getType(fieldInfo.getTypeDescriptor());
+        }
+    }
+}
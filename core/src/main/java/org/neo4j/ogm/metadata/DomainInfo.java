@@ -40,6 +40,9 @@ public class DomainInfo implements ClassFileProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassFileProcessor.class);
 
     private static final String dateSignature = "java/util/Date";
+    private static final String instantSignature = "Ljava/time/Instant;";
+    private static final String localDateSignature = "Ljava/time/LocalDate;";
+    private static final String localDateTimeSignature = "Ljava/time/LocalDateTime;";
     private static final String bigDecimalSignature = "java/math/BigDecimal";
     private static final String bigIntegerSignature = "java/math/BigInteger";
     private static final String byteArraySignature = "[B";
@@ -57,14 +60,31 @@ public class DomainInfo implements ClassFileProcessor {
 
     private final ConversionCallbackRegistry conversionCallbackRegistry = new ConversionCallbackRegistry();
 
+    private final Set<Class<?>> nativeTypes;
+
     public DomainInfo(String... packages) {
+        this(Collections.emptySet(), packages);
+    }
+
+    public DomainInfo(Class... classes) {
+        this(Collections.emptySet(), classes);
+    }
+
+    /**
+     * @param nativeTypes the types the driver stores in a compact form, for which the default converters
+     *                    to strings are replaced by converters to native values
+     * @param packages the packages to scan for domain classes
+     */
+    public DomainInfo(Set<Class<?>> nativeTypes, String... packages) {
+        this.nativeTypes = nativeTypes;
         long startTime = System.nanoTime();
         load(packages);
 
         LOGGER.info("{} classes loaded in {} nanoseconds", classNameToClassInfo.entrySet().size(), (System.nanoTime() - startTime));
     }
 
-    public DomainInfo(Class... classes) {
+    public DomainInfo(Set<Class<?>> nativeTypes, Class... classes) {
+        this.nativeTypes = nativeTypes;
         long startTime = System.nanoTime();
         load(classes);
 
@@ -373,14 +393,22 @@ public class DomainInfo implements ClassFileProcessor {
         if (!methodInfo.hasPropertyConverter() && !methodInfo.hasCompositeConverter() && (methodInfo.isGetter() || methodInfo.isSetter())) {
             if (methodInfo.getTypeDescriptor().contains(dateSignature)) {
                 setDateMethodConverter(methodInfo);
+            } else if (methodInfo.getTypeDescriptor().contains(instantSignature) && !methodInfo.isArray() && !methodInfo.isIterable()) {
+                methodInfo.setPropertyConverter(ConvertibleTypes.getInstantConverter());
+            } else if (methodInfo.getTypeDescriptor().contains(localDateSignature) && !methodInfo.isArray() && !methodInfo.isIterable()) {
+                methodInfo.setPropertyConverter(ConvertibleTypes.getLocalDateConverter());
+            } else if (methodInfo.getTypeDescriptor().contains(localDateTimeSignature) && !methodInfo.isArray() && !methodInfo.isIterable()) {
+                methodInfo.setPropertyConverter(ConvertibleTypes.getLocalDateTimeConverter());
             } else if (methodInfo.getTypeDescriptor().contains(bigIntegerSignature)) {
                 setBigIntegerMethodConverter(methodInfo);
             } else if (methodInfo.getTypeDescriptor().contains(bigDecimalSignature)) {
                 setBigDecimalMethodConverter(methodInfo);
             } else if (methodInfo.getTypeDescriptor().contains(byteArraySignature)) {
-                methodInfo.setPropertyConverter(ConvertibleTypes.getByteArrayBase64Converter());
+                methodInfo.setPropertyConverter(nativeTypes.contains(byte[].class)
+                        ? ConvertibleTypes.getByteArrayNativeConverter() : ConvertibleTypes.getByteArrayBase64Converter());
             } else if (methodInfo.getTypeDescriptor().contains(byteArrayWrapperSignature)) {
-                methodInfo.setPropertyConverter(ConvertibleTypes.getByteArrayWrapperBase64Converter());
+                methodInfo.setPropertyConverter(nativeTypes.contains(Byte[].class)
+                        ? ConvertibleTypes.getByteArrayWrapperNativeConverter() : ConvertibleTypes.getByteArrayWrapperBase64Converter());
             } else {
                 // could do 'if annotated @Convert but no converter set then proxy one' but not sure if that's worthwhile
                 // FIXME: this won't really work unless I infer the source and target types from the descriptor here
@@ -459,7 +487,8 @@ public class DomainInfo implements ClassFileProcessor {
         } else if (methodInfo.isIterable()) {
             methodInfo.setPropertyConverter(ConvertibleTypes.getDateCollectionConverter(methodInfo.getCollectionClassname()));
         } else {
-            methodInfo.setPropertyConverter(ConvertibleTypes.getDateConverter());
+            methodInfo.setPropertyConverter(nativeTypes.contains(Date.class)
+                    ? ConvertibleTypes.getDateNativeConverter() : ConvertibleTypes.getDateConverter());
         }
     }
 
@@ -469,14 +498,22 @@ public class DomainInfo implements ClassFileProcessor {
 
             if (fieldInfo.getTypeDescriptor().contains(dateSignature)) {
                 setDateFieldConverter(fieldInfo);
+            } else if (fieldInfo.getTypeDescriptor().contains(instantSignature) && !fieldInfo.isArray() && !fieldInfo.isIterable()) {
+                fieldInfo.setPropertyConverter(ConvertibleTypes.getInstantConverter());
+            } else if (fieldInfo.getTypeDescriptor().contains(localDateSignature) && !fieldInfo.isArray() && !fieldInfo.isIterable()) {
+                fieldInfo.setPropertyConverter(ConvertibleTypes.getLocalDateConverter());
+            } else if (fieldInfo.getTypeDescriptor().contains(localDateTimeSignature) && !fieldInfo.isArray() && !fieldInfo.isIterable()) {
+                fieldInfo.setPropertyConverter(ConvertibleTypes.getLocalDateTimeConverter());
             } else if (fieldInfo.getTypeDescriptor().contains(bigIntegerSignature)) {
                 setBigIntegerFieldConverter(fieldInfo);
             } else if (fieldInfo.getTypeDescriptor().contains(bigDecimalSignature)) {
                 setBigDecimalConverter(fieldInfo);
             } else if (fieldInfo.getTypeDescriptor().contains(byteArraySignature)) {
-                fieldInfo.setPropertyConverter(ConvertibleTypes.getByteArrayBase64Converter());
+                fieldInfo.setPropertyConverter(nativeTypes.contains(byte[].class)
+                        ? ConvertibleTypes.getByteArrayNativeConverter() : ConvertibleTypes.getByteArrayBase64Converter());
             } else if (fieldInfo.getTypeDescriptor().contains(byteArrayWrapperSignature)) {
-                fieldInfo.setPropertyConverter(ConvertibleTypes.getByteArrayWrapperBase64Converter());
+                fieldInfo.setPropertyConverter(nativeTypes.contains(Byte[].class)
+                        ? ConvertibleTypes.getByteArrayWrapperNativeConverter() : ConvertibleTypes.getByteArrayWrapperBase64Converter());
             } else {
                 if (fieldInfo.getAnnotations().get(Convert.CLASS) != null) {
                     // no converter's been set but this method is annotated with @Convert so we need to proxy it
@@ -548,7 +585,8 @@ public class DomainInfo implements ClassFileProcessor {
         } else if (fieldInfo.isIterable()) {
             fieldInfo.setPropertyConverter(ConvertibleTypes.getDateCollectionConverter(fieldInfo.getCollectionClassname()));
         } else {
-            fieldInfo.setPropertyConverter(ConvertibleTypes.getDateConverter());
+            fieldInfo.setPropertyConverter(nativeTypes.contains(Date.class)
+                    ? ConvertibleTypes.getDateNativeConverter() : ConvertibleTypes.getDateConverter());
         }
     }
 
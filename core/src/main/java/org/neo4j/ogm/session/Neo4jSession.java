@@ -18,23 +18,34 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.StartNode;
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.context.GraphEntityMapper;
 import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.context.MappingContextStatistics;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortClause;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.exception.ReadOnlySessionException;
+import org.neo4j.ogm.instrumentation.Instrumentation;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.instrumentation.InstrumentedNativeRequest;
+import org.neo4j.ogm.instrumentation.InstrumentedRequest;
+import org.neo4j.ogm.instrumentation.Operation;
 import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.request.NativeRequest;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.session.delegates.*;
 import org.neo4j.ogm.session.event.Event;
@@ -66,24 +77,43 @@ public class Neo4jSession implements Session {
     private final LoadByTypeDelegate loadByTypeHandler = new LoadByTypeDelegate(this);
     private final LoadByIdsDelegate loadByIdsHandler = new LoadByIdsDelegate(this);
     private final LoadByInstancesDelegate loadByInstancesDelegate = new LoadByInstancesDelegate(this);
+    private final LoadProjectionsDelegate loadProjectionsDelegate = new LoadProjectionsDelegate(this);
     private final SaveDelegate saveDelegate = new SaveDelegate(this);
     private final DeleteDelegate deleteDelegate = new DeleteDelegate(this);
     private final ExecuteQueriesDelegate executeQueriesDelegate = new ExecuteQueriesDelegate(this);
     private final TransactionsDelegate transactionsDelegate = new TransactionsDelegate(this);
     private final GraphIdDelegate graphIdDelegate = new GraphIdDelegate(this);
 
+    private final boolean readOnly;
+
     private Driver driver;
     private String bookmark;
+    private Instrumentation instrumentation = Instrumentation.NONE;
+    private ForkJoinPool mappingPool;
+    private int operationDepth;
 
     private List<EventListener> registeredEventListeners = new LinkedList<>();
 
     public Neo4jSession(MetaData metaData, Driver driver) {
+        this(metaData, driver, false);
+    }
+
+    /**
+     * Constructs a session which, if it is read-only, rejects all writes, begins READ_ONLY transactions and does not
+     * keep track of the state of the entities it loads.
+     *
+     * @param metaData the metadata of the domain
+     * @param driver the driver to use
+     * @param readOnly true to construct a read-only session
+     */
+    public Neo4jSession(MetaData metaData, Driver driver, boolean readOnly) {
 
         this.metaData = metaData;
         this.driver = driver;
+        this.readOnly = readOnly;
 
-        this.mappingContext = new MappingContext(metaData);
-        this.txManager = new DefaultTransactionManager(this, driver);
+        this.mappingContext = new MappingContext(metaData, readOnly);
+        this.txManager = new DefaultTransactionManager(this, driver, readOnly ? Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE);
     }
 
     public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners) {
@@ -91,6 +121,26 @@ public class Neo4jSession implements Session {
         registeredEventListeners.addAll(eventListeners);
     }
 
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, Instrumentation instrumentation) {
+        this(metaData, driver, eventListeners);
+        this.instrumentation = instrumentation;
+    }
+
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, Instrumentation instrumentation, boolean readOnly) {
+        this(metaData, driver, readOnly);
+        registeredEventListeners.addAll(eventListeners);
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * @param mappingPool the pool on which large results are hydrated, owned by the caller, or null to hydrate
+     * them on the loading thread
+     */
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, Instrumentation instrumentation, boolean readOnly, ForkJoinPool mappingPool) {
+        this(metaData, driver, eventListeners, instrumentation, readOnly);
+        this.mappingPool = mappingPool;
+    }
+
     @Override
     public EventListener register(EventListener eventListener) {
         registeredEventListeners.add(eventListener);
@@ -276,6 +326,26 @@ public class Neo4jSession implements Session {
         return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth);
     }
 
+    /*
+     *----------------------------------------------------------------------------------------------------------
+     * LoadProjectionsDelegate
+     *----------------------------------------------------------------------------------------------------------
+     */
+    @Override
+    public <T, P> Collection<P> loadProjections(Class<T> type, Class<P> projection) {
+        return loadProjectionsDelegate.loadProjections(type, projection);
+    }
+
+    @Override
+    public <T, P> Collection<P> loadProjections(Class<T> type, Class<P> projection, Filters filters) {
+        return loadProjectionsDelegate.loadProjections(type, projection, filters);
+    }
+
+    @Override
+    public <T, P> Collection<P> loadProjections(Class<T> type, Class<P> projection, Filters filters, SortOrder sortOrder, Pagination pagination) {
+        return loadProjectionsDelegate.loadProjections(type, projection, filters, sortOrder, pagination);
+    }
+
     /*
      *----------------------------------------------------------------------------------------------------------
      * loadByIdsHandler (no filters yet)
@@ -409,6 +479,7 @@ public class Neo4jSession implements Session {
     */
     @Override
     public void purgeDatabase() {
+        assertWritable();
         deleteDelegate.purgeDatabase();
     }
 
@@ -419,16 +490,19 @@ public class Neo4jSession implements Session {
 
     @Override
     public <T> void delete(T object) {
+        assertWritable();
         deleteDelegate.delete(object);
     }
 
     @Override
     public <T> void deleteAll(Class<T> type) {
+        assertWritable();
         deleteDelegate.deleteAll(type);
     }
 
     @Override
     public <T> Object delete(Class<T> type, Iterable<Filter> filters, boolean listResults) {
+        assertWritable();
         return deleteDelegate.delete(type, filters, listResults);
     }
 
@@ -439,11 +513,13 @@ public class Neo4jSession implements Session {
     */
     @Override
     public <T> void save(T object) {
+        assertWritable();
         saveDelegate.save(object);
     }
 
     @Override
     public <T> void save(T object, int depth) {
+        assertWritable();
         saveDelegate.save(object, depth);
     }
 
@@ -494,6 +570,11 @@ public class Neo4jSession implements Session {
         return graphIdDelegate.detachRelationshipEntity(id);
     }
 
+    @Override
+    public MappingContextStatistics statistics() {
+        return mappingContext.statistics();
+    }
+
     //
     // These helper methods for the delegates are deliberately NOT defined on the Session interface
     //
@@ -510,6 +591,13 @@ public class Neo4jSession implements Session {
         return metaData.entityType(name);
     }
 
+    /**
+     * @return true if this session rejects writes and does not keep track of the state of the entities it loads
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
     public MappingContext context() {
         return mappingContext;
     }
@@ -524,7 +612,57 @@ public class Neo4jSession implements Session {
     }
 
     public Request requestHandler() {
-        return driver.request();
+        Request request = driver.request();
+        return instrumentation == Instrumentation.NONE ? request : new InstrumentedRequest(request);
+    }
+
+    /**
+     * @return a mapper of graph models onto the entities of this session, which hydrates the node entities of results
+     * of at least the configured number of nodes on the mapping pool of this session, if it has one
+     */
+    public GraphEntityMapper graphEntityMapper() {
+        return new GraphEntityMapper(metaData, mappingContext, mappingPool, Components.getConfiguration().getMappingParallelThreshold());
+    }
+
+    /**
+     * @return the driver's request if it can load, update and delete nodes without Cypher, otherwise null
+     */
+    public NativeRequest nativeRequestHandler() {
+        Request request = driver.request();
+        if (!(request instanceof NativeRequest)) {
+            return null;
+        }
+        return instrumentation == Instrumentation.NONE ? (NativeRequest) request : new InstrumentedNativeRequest((NativeRequest) request);
+    }
+
+    /**
+     * Starts a session operation. Unless the operation is part of another one, the mapping context is first trimmed
+     * to its configured bounds, so the entities registered by an operation remain available to it until it completes.
+     *
+     * @param operation the operation starting
+     * @return the scope to close when the operation completes
+     */
+    public OperationScope operation(Operation operation) {
+        if (operationDepth == 0) {
+            mappingContext.trim();
+        }
+        operationDepth++;
+        return new OperationScope(this, instrument(operation));
+    }
+
+    void completeOperation() {
+        operationDepth--;
+    }
+
+    /**
+     * Opens the instrumentation scope of a session operation on the current thread.
+     *
+     * @param operation the operation starting
+     * @return the scope to close when the operation completes, or null if the session is not instrumented
+     * or the operation is part of one already being instrumented
+     */
+    public InstrumentationScope instrument(Operation operation) {
+        return InstrumentationScope.open(instrumentation, operation);
     }
 
     public DefaultTransactionManager transactionManager() {
@@ -574,7 +712,10 @@ public class Neo4jSession implements Session {
         if (sortOrder != null) {
             for (SortClause sortClause : sortOrder.sortClauses()) {
                 for (int i = 0; i < sortClause.getProperties().length; i++) {
-                    sortClause.getProperties()[i] = String.format(escapedProperty, resolvePropertyName(entityType, sortClause.getProperties()[i]));
+                    // a sort order that has already been used for a query is escaped already
+                    if (!sortClause.getProperties()[i].startsWith("`")) {
+                        sortClause.getProperties()[i] = String.format(escapedProperty, resolvePropertyName(entityType, sortClause.getProperties()[i]));
+                    }
                 }
             }
         }
@@ -624,4 +765,10 @@ public class Neo4jSession implements Session {
     public void withBookmark(String bookmark) {
         this.bookmark = bookmark;
     }
+
+    private void assertWritable() {
+        if (readOnly) {
+            throw new ReadOnlySessionException("Entities cannot be saved or deleted in a read-only session");
+        }
+    }
 }
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import static org.neo4j.ogm.cypher.query.StatementTemplateCache.shape;
+
+import java.util.*;
+
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.compiler.NodeBuilder;
+import org.neo4j.ogm.compiler.RelationshipBuilder;
+import org.neo4j.ogm.compiler.builders.node.DefaultNodeBuilder;
+import org.neo4j.ogm.compiler.builders.node.DefaultRelationshipBuilder;
+import org.neo4j.ogm.compiler.builders.statement.NewNodeStatementBuilder;
+import org.neo4j.ogm.compiler.builders.statement.NewRelationshipStatementBuilder;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.entity.io.EntityAccessManager;
+import org.neo4j.ogm.entity.io.FieldWriter;
+import org.neo4j.ogm.entity.io.PropertyReader;
+import org.neo4j.ogm.exception.ResultProcessingException;
+import org.neo4j.ogm.instrumentation.Instrumentation;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.request.DefaultRequest;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.utils.EntityUtils;
+
+/**
+ * A {@link StatelessSession} backed by a {@link Neo4jSession} whose mapping context is emptied after every load,
+ * and which inserts entities without using the mapping context at all.
+ */
+public class Neo4jStatelessSession implements StatelessSession {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final Neo4jSession session;
+    private final MetaData metaData;
+    private final int batchSize;
+
+    public Neo4jStatelessSession(MetaData metaData, Driver driver, Instrumentation instrumentation, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than zero");
+        }
+        this.session = new Neo4jSession(metaData, driver, Collections.emptyList(), instrumentation);
+        this.metaData = metaData;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public <T> List<Long> insert(Iterable<T> entities) {
+        List<Long> ids = new ArrayList<>();
+        try (OperationScope scope = session.operation(Operation.SAVE)) {
+            List<Object> batch = new ArrayList<>(batchSize);
+            for (T entity : entities) {
+                batch.add(entity);
+                if (batch.size() == batchSize) {
+                    ids.addAll(insertBatch(batch));
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                ids.addAll(insertBatch(batch));
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, Pagination pagination) {
+        return loadAll(type, new SortOrder(), pagination, 1);
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination) {
+        return loadAll(type, sortOrder, pagination, 1);
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination, int depth) {
+        try {
+            return session.loadAll(type, sortOrder, pagination, depth);
+        } finally {
+            session.context().clear();
+        }
+    }
+
+    @Override
+    public <T> Iterable<T> query(Class<T> objectType, String cypher, Map<String, ?> parameters) {
+        try {
+            return session.query(objectType, cypher, parameters);
+        } finally {
+            session.context().clear();
+        }
+    }
+
+    @Override
+    public Result query(String cypher, Map<String, ?> parameters) {
+        try {
+            return session.query(cypher, parameters);
+        } finally {
+            session.context().clear();
+        }
+    }
+
+    @Override
+    public Transaction beginTransaction() {
+        return session.beginTransaction();
+    }
+
+    @Override
+    public Transaction getTransaction() {
+        return session.getTransaction();
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Creates the entities of a batch with one statement per label set or relationship type and property keys,
+     * referring to each entity by its position in the batch.
+     */
+    private List<Long> insertBatch(List<Object> batch) {
+
+        Map<List<Object>, Set<Node>> nodes = new LinkedHashMap<>();
+        Map<List<Object>, Set<Edge>> edges = new LinkedHashMap<>();
+
+        for (int i = 0; i < batch.size(); i++) {
+            Object entity = batch.get(i);
+            ClassInfo classInfo = metaData.classInfo(entity);
+            if (classInfo == null) {
+                throw new RuntimeException(entity.getClass().getName() + " is not a persistable class");
+            }
+            if (EntityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity) != null) {
+                throw new RuntimeException("Only new entities can be inserted by a stateless session: " + entity);
+            }
+            if (classInfo.isRelationshipEntity()) {
+                Edge edge = edge(entity, classInfo, (long) i);
+                edges.computeIfAbsent(shape(edge.getType(), propertyKeys(edge)), k -> new LinkedHashSet<>()).add(edge);
+            } else {
+                Node node = node(entity, classInfo, (long) i);
+                nodes.computeIfAbsent(shape(Arrays.asList(node.getLabels()), node.getPrimaryIndex()), k -> new LinkedHashSet<>()).add(node);
+            }
+        }
+
+        RowStatementFactory statementFactory = new RowStatementFactory();
+        List<Statement> statements = new ArrayList<>();
+        for (Set<Node> group : nodes.values()) {
+            statements.add(new NewNodeStatementBuilder(group, statementFactory).build());
+        }
+        for (Set<Edge> group : edges.values()) {
+            statements.add(new NewRelationshipStatementBuilder(group, statementFactory).build());
+        }
+
+        Long[] ids = new Long[batch.size()];
+        DefaultRequest request = new DefaultRequest();
+        request.setStatements(statements);
+
+        Transaction tx = session.getTransaction();
+        boolean newTransaction = tx == null;
+        if (newTransaction) {
+            tx = session.beginTransaction();
+        }
+        try (Response<RowModel> response = session.requestHandler().execute(request)) {
+            RowModel rowModel;
+            while ((rowModel = response.next()) != null) {
+                readId(rowModel, ids);
+            }
+            if (Arrays.asList(ids).contains(null)) {
+                throw new ResultProcessingException("The ids of the inserted entities were not returned. The start or end node of a relationship entity may have been deleted.");
+            }
+        } catch (RuntimeException e) {
+            if (newTransaction) {
+                tx.rollback();
+                tx.close();
+            }
+            throw e;
+        }
+        if (newTransaction) {
+            tx.commit();
+            tx.close();
+        }
+
+        for (int i = 0; i < ids.length; i++) {
+            Object entity = batch.get(i);
+            ClassInfo classInfo = metaData.classInfo(entity);
+            FieldWriter.write(classInfo.getField(classInfo.identityField()), entity, ids[i]);
+        }
+        return Arrays.asList(ids);
+    }
+
+    private Node node(Object entity, ClassInfo classInfo, Long ref) {
+        NodeBuilder nodeBuilder = new DefaultNodeBuilder(ref)
+                .addLabels(EntityUtils.labels(entity, metaData))
+                .setPrimaryIndex(classInfo.primaryIndexField() != null ? classInfo.primaryIndexField().property() : null);
+        for (PropertyReader propertyReader : EntityAccessManager.getPropertyReaders(classInfo)) {
+            if (propertyReader.isComposite()) {
+                nodeBuilder.addProperties(propertyReader.readComposite(entity));
+            } else {
+                nodeBuilder.addProperty(propertyReader.propertyName(), propertyReader.readProperty(entity));
+            }
+        }
+        return nodeBuilder.node();
+    }
+
+    private Edge edge(Object entity, ClassInfo classInfo, Long ref) {
+        RelationshipBuilder relationshipBuilder = new DefaultRelationshipBuilder(classInfo.neo4jName(), false);
+        relationshipBuilder.setReference(ref);
+        relationshipBuilder.relate(endpointId(EntityAccessManager.getStartNodeReader(classInfo).read(entity), entity),
+                endpointId(EntityAccessManager.getEndNodeReader(classInfo).read(entity), entity));
+        // a new relationship has no previous values to clear, and is merged on its property values, which cannot be null
+        for (PropertyReader propertyReader : EntityAccessManager.getPropertyReaders(classInfo)) {
+            Object value = propertyReader.readProperty(entity);
+            if (value != null) {
+                relationshipBuilder.addProperty(propertyReader.propertyName(), value);
+            }
+        }
+        return relationshipBuilder.edge();
+    }
+
+    private Long endpointId(Object node, Object relationshipEntity) {
+        Long id = node == null ? null : (Long) EntityAccessManager.getIdentityPropertyReader(metaData.classInfo(node)).readProperty(node);
+        if (id == null) {
+            throw new RuntimeException("The start and end nodes of a relationship entity must exist before it is inserted: " + relationshipEntity);
+        }
+        return id;
+    }
+
+    private static Set<String> propertyKeys(Edge edge) {
+        Set<String> propertyKeys = new TreeSet<>();
+        for (Property<String, Object> property : edge.getPropertyList()) {
+            propertyKeys.add(property.getKey());
+        }
+        return propertyKeys;
+    }
+
+    private static void readId(RowModel rowModel, Long[] ids) {
+        Object[] values = rowModel.getValues();
+        String[] variables = rowModel.variables();
+        Number ref = null;
+        Number id = null;
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].equals("ref")) {
+                ref = (Number) values[i];
+            } else if (variables[i].equals("id")) {
+                id = (Number) values[i];
+            }
+        }
+        if (ref != null && id != null) {
+            ids[ref.intValue()] = id.longValue();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.session;
+
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+
+/**
+ * A session operation in progress, opened by {@link Neo4jSession#operation(org.neo4j.ogm.instrumentation.Operation)}
+ * and closed when the operation completes.
+ */
+public final class OperationScope implements AutoCloseable {
+
+    private final Neo4jSession session;
+    private final InstrumentationScope instrumentationScope;
+
+    OperationScope(Neo4jSession session, InstrumentationScope instrumentationScope) {
+        this.session = session;
+        this.instrumentationScope = instrumentationScope;
+    }
+
+    @Override
+    public void close() {
+        session.completeOperation();
+        if (instrumentationScope != null) {
+            instrumentationScope.close();
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Map;
 
 import org.neo4j.ogm.annotation.GraphId;
+import org.neo4j.ogm.context.MappingContextStatistics;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.Pagination;
@@ -120,6 +121,29 @@ public interface Session {
 
     <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth);
 
+    /**
+     * Loads a projection of every entity of the given type. Only the properties declared by the projection are
+     * read from the database, and the entities themselves are neither hydrated nor tracked by the session.
+     *
+     * @param type the node entity type to project
+     * @param projection a class or interface declaring the properties to load, by the field names of the entity
+     * @return a projection of each entity of the given type
+     */
+    default <T, P> Collection<P> loadProjections(Class<T> type, Class<P> projection) {
+        return loadProjections(type, projection, new Filters(), new SortOrder(), null);
+    }
+
+    default <T, P> Collection<P> loadProjections(Class<T> type, Class<P> projection, Filters filters) {
+        return loadProjections(type, projection, filters, new SortOrder(), null);
+    }
+
+    /**
+     * @throws UnsupportedOperationException if this session cannot load projections
+     */
+    default <T, P> Collection<P> loadProjections(Class<T> type, Class<P> projection, Filters filters, SortOrder sortOrder, Pagination pagination) {
+        throw new UnsupportedOperationException(getClass().getName() + " cannot load projections");
+    }
+
     <T, ID extends Serializable> T load(Class<T> type, ID id);
 
     <T, ID extends Serializable> T load(Class<T> type, ID id, int depth);
@@ -271,6 +295,17 @@ public interface Session {
      */
     boolean detachRelationshipEntity(Long id);
 
+    /**
+     * Counts the entities this session holds, together with the information it keeps to detect changes to them, and
+     * estimates the memory they retain. Useful to decide when a long-lived session should be cleared.
+     *
+     * @return a snapshot of the statistics of this session
+     * @throws UnsupportedOperationException if this session does not keep statistics
+     */
+    default MappingContextStatistics statistics() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not keep statistics");
+    }
+
     /**
      * Register an event listener with this session.
      *
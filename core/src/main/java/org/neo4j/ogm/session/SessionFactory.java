@@ -14,13 +14,23 @@
 package org.neo4j.ogm.session;
 
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.autoindex.AutoIndexManager;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.context.MappingContextStatistics;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.instrumentation.Instrumentation;
 import org.neo4j.ogm.session.event.EventListener;
 
 /**
@@ -34,15 +44,23 @@ public class SessionFactory {
 
     private final MetaData metaData;
     private final List<EventListener> eventListeners;
+    private final Set<Session> sessions = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private volatile Instrumentation instrumentation = Instrumentation.NONE;
+    private final ForkJoinPool mappingPool;
 
-    private SessionFactory(Configuration configuration, MetaData metaData) {
+    private SessionFactory(Configuration configuration, Function<Set<Class<?>>, MetaData> metaData) {
         if (configuration != null) {
             Components.configure(configuration);
         }
-        this.metaData = metaData;
-        AutoIndexManager autoIndexManager = new AutoIndexManager(this.metaData, Components.driver());
+        Driver driver = Components.driver();
+        Set<Class<?>> nativeTypes = Components.getConfiguration().getMappingNativeTypes()
+                ? driver.nativeTypes() : Collections.emptySet();
+        this.metaData = metaData.apply(nativeTypes);
+        AutoIndexManager autoIndexManager = new AutoIndexManager(this.metaData, driver);
         autoIndexManager.build();
         this.eventListeners = new CopyOnWriteArrayList<>();
+        int parallelism = Components.getConfiguration().getMappingParallelism();
+        this.mappingPool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
     }
 
     /**
@@ -58,7 +76,7 @@ public class SessionFactory {
      * @param packages The packages to scan for domain objects
      */
     public SessionFactory(String... packages) {
-        this(null, new MetaData(packages));
+        this(null, nativeTypes -> new MetaData(nativeTypes, packages));
     }
 
     /**
@@ -72,7 +90,7 @@ public class SessionFactory {
      * @param classes The classes to load as domain objects
      */
     public SessionFactory(Class... classes) {
-        this(null, new MetaData(classes));
+        this(null, nativeTypes -> new MetaData(nativeTypes, classes));
     }
 
     /**
@@ -89,7 +107,7 @@ public class SessionFactory {
      * @param packages The packages to scan for domain objects
      */
     public SessionFactory(Configuration configuration, String... packages) {
-        this(configuration, new MetaData(packages));
+        this(configuration, nativeTypes -> new MetaData(nativeTypes, packages));
     }
 
     /**
@@ -104,7 +122,7 @@ public class SessionFactory {
      * @param classes The classes to load as domain objects
      */
     public SessionFactory(Configuration configuration, Class... classes) {
-        this(configuration, new MetaData(classes));
+        this(configuration, nativeTypes -> new MetaData(nativeTypes, classes));
     }
 
     /**
@@ -124,7 +142,38 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, Components.driver(), eventListeners);
+        return track(new Neo4jSession(metaData, Components.driver(), eventListeners, instrumentation, false, mappingPool));
+    }
+
+    /**
+     * Opens a new read-only Neo4j mapping {@link Session}. A read-only session runs its requests in READ_ONLY transactions,
+     * so that they can be routed to read replicas, and rejects saves, deletes and Cypher statements that modify the graph.
+     * The entities it loads are not tracked for changes, which makes loading them cheaper.
+     *
+     * @return A new read-only {@link Session}
+     */
+    public Session openReadOnlySession() {
+        return track(new Neo4jSession(metaData, Components.driver(), eventListeners, instrumentation, true, mappingPool));
+    }
+
+    /**
+     * Opens a new {@link StatelessSession}, which loads and inserts entities without keeping track of them and inserts
+     * entities in batches of {@link Neo4jStatelessSession#DEFAULT_BATCH_SIZE}.
+     *
+     * @return A new {@link StatelessSession}
+     */
+    public StatelessSession openStatelessSession() {
+        return openStatelessSession(Neo4jStatelessSession.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Opens a new {@link StatelessSession}, which loads and inserts entities without keeping track of them.
+     *
+     * @param batchSize the number of entities inserted by each statement
+     * @return A new {@link StatelessSession}
+     */
+    public StatelessSession openStatelessSession(int batchSize) {
+        return new Neo4jStatelessSession(metaData, Components.driver(), instrumentation, batchSize);
     }
 
     /**
@@ -145,6 +194,66 @@ public class SessionFactory {
         eventListeners.remove(eventListener);
     }
 
+    /**
+     * Registers the {@link Instrumentation} to which the <code>Session</code>s opened by <code>this SessionFactory</code>
+     * report the timings and counters of their operations. Sessions already open are not affected.
+     *
+     * @param instrumentation The instrumentation to register, or null to stop instrumenting new sessions.
+     */
+    public void setInstrumentation(Instrumentation instrumentation) {
+        this.instrumentation = instrumentation == null ? Instrumentation.NONE : instrumentation;
+    }
+
+    public Instrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Adds up the statistics of the sessions opened by <code>this SessionFactory</code> which the application still
+     * references. Sessions are usually used by other threads while this runs, so the result is approximate.
+     *
+     * @return the aggregated statistics of the open sessions
+     */
+    public MappingContextStatistics statistics() {
+        List<Session> openSessions;
+        synchronized (sessions) {
+            openSessions = new ArrayList<>(sessions);
+        }
+        MappingContextStatistics statistics = MappingContextStatistics.NONE;
+        for (Session session : openSessions) {
+            statistics = statistics.plus(statistics(session));
+        }
+        return statistics;
+    }
+
+    /**
+     * Stops the threads mapping the results of the sessions opened by <code>this SessionFactory</code> in parallel.
+     * Sessions must not be used once their factory has been closed.
+     */
     public void close() {
+        if (mappingPool != null) {
+            mappingPool.shutdown();
+        }
+    }
+
+    private Session track(Session session) {
+        sessions.add(session);
+        return session;
+    }
+
+    /**
+     * Reads the statistics of a session which may be in use by another thread, retrying if its registers change while
+     * they are being read.
+     */
+    private static MappingContextStatistics statistics(Session session) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return session.statistics();
+            } catch (ConcurrentModificationException e) {
+                if (attempt == 3) {
+                    return MappingContextStatistics.NONE;
+                }
+            }
+        }
     }
 }
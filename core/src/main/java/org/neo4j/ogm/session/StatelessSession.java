@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * A {@link StatelessSession} loads and inserts entities without keeping track of them, for bulk imports and exports
+ * whose memory use must not grow with the number of entities processed.
+ *
+ * Unlike a {@link Session}, it has no identity map and takes no snapshots of the entities it handles: each load maps
+ * its results into fresh instances which the session forgets as soon as they are returned, and each insert writes the
+ * entities' properties without registering them. Relationships are only written by inserting relationship entities,
+ * and no events are fired.
+ *
+ * @see SessionFactory#openStatelessSession()
+ */
+public interface StatelessSession {
+
+    /**
+     * Creates a node for each new node entity and a relationship for each new relationship entity, writing them in
+     * batches of one statement per label set or relationship type. The start and end nodes of relationship entities must
+     * already exist. The ids of the new nodes and relationships are assigned to the entities.
+     *
+     * When no transaction is open, each batch is committed in its own transaction.
+     *
+     * @param entities the entities to create, none of which may have an id
+     * @param <T> the type of the entities
+     * @return the ids of the entities, in the order of the entities
+     */
+    <T> List<Long> insert(Iterable<T> entities);
+
+    <T> Collection<T> loadAll(Class<T> type, Pagination pagination);
+
+    <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination);
+
+    <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination, int depth);
+
+    <T> Iterable<T> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
+    Result query(String cypher, Map<String, ?> parameters);
+
+    Transaction beginTransaction();
+
+    Transaction getTransaction();
+
+    /**
+     * @return the number of entities inserted by each statement
+     */
+    int getBatchSize();
+}
@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import org.neo4j.ogm.model.Property;
 
@@ -26,6 +27,13 @@ import org.neo4j.ogm.model.Property;
  */
 public class Utils {
 
+    private static final ClassValue<UnaryOperator<Object>> coercions = new ClassValue<UnaryOperator<Object>>() {
+        @Override
+        protected UnaryOperator<Object> computeValue(Class<?> type) {
+            return newCoercion(type);
+        }
+    };
+
     public static Map<String, Object> map(final Object... keysAndValues) {
         return new HashMap<String, Object>() {
             {
@@ -77,139 +85,196 @@ public class Utils {
      * @return converted value
      */
     public static Object coerceTypes(Class clazz, Object value) {
-        if (clazz.isPrimitive() && value==null) {
-            return defaultForPrimitive(clazz,value);
-        }
-        if (value != null) {
-            String className = clazz.getName();
-            // downcast to int from long
-            if ("int".equals(className) || Integer.class.equals(clazz)) {
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to int without an overflow.");
-                    }
-                    return longValue.intValue();
-                }
+        return coercions.get(clazz).apply(value);
+    }
+
+    /**
+     * Returns the coercion applied by {@link #coerceTypes(Class, Object)} to values of the given type, so that
+     * callers writing many values to the same type can select it once.
+     *
+     * @param clazz the entity field type
+     * @return a function coercing property values to the type
+     */
+    public static UnaryOperator<Object> coercion(Class<?> clazz) {
+        return coercions.get(clazz);
+    }
+
+    private static UnaryOperator<Object> newCoercion(Class<?> clazz) {
+        UnaryOperator<Object> coercion;
+        if (clazz == int.class || clazz == Integer.class) {
+            coercion = Utils::toInteger;
+        } else if (clazz == float.class || clazz == Float.class) {
+            coercion = Utils::toFloat;
+        } else if (clazz == byte.class || clazz == Byte.class) {
+            coercion = Utils::toByte;
+        } else if (clazz == double.class || clazz == Double.class) {
+            coercion = Utils::toDouble;
+        } else if (clazz == long.class || clazz == Long.class) {
+            coercion = Utils::toLong;
+        } else if (clazz == short.class || clazz == Short.class) {
+            coercion = Utils::toShort;
+        } else if (clazz == char.class || clazz == Character.class) {
+            coercion = Utils::toCharacter;
+        } else {
+            coercion = UnaryOperator.identity();
+        }
+        if (clazz.isPrimitive()) {
+            Object defaultValue = defaultForPrimitive(clazz, null);
+            UnaryOperator<Object> valueCoercion = coercion;
+            return value -> value == null ? defaultValue : valueCoercion.apply(value);
+        }
+        return coercion;
+    }
+
+    // downcast to int from long
+    private static Object toInteger(Object value) {
+        if (value != null && value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to int without an overflow.");
             }
-            // downcast to float from double or cross-cast from int or long
-            if ("float".equals(className) || (Float.class.equals(clazz))) {
-                if (value.getClass().equals(Double.class)) {
-                    Double dblValue = (Double) value;
-                    if (dblValue < -(Float.MAX_VALUE) || dblValue > Float.MAX_VALUE) {
-                        throw new IllegalArgumentException(dblValue + " cannot be cast to float without an overflow.");
-                    }
-                    return dblValue.floatValue();
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to float without an overflow.");
-                    }
-                    return intValue.floatValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < -(Double.MAX_VALUE) || longValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to float without an overflow.");
-                    }
-                    return longValue.floatValue();
-                }
+            return longValue.intValue();
+        }
+        return value;
+    }
+
+    // downcast to float from double or cross-cast from int or long
+    private static Object toFloat(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.getClass().equals(Double.class)) {
+            Double dblValue = (Double) value;
+            if (dblValue < -(Float.MAX_VALUE) || dblValue > Float.MAX_VALUE) {
+                throw new IllegalArgumentException(dblValue + " cannot be cast to float without an overflow.");
             }
-            // down-cast to byte from integer or long
-            if ("byte".equals(className) || Byte.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Byte.MIN_VALUE || intValue > Byte.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to byte without an overflow.");
-                    }
-                    return intValue.byteValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Byte.MIN_VALUE || longValue > Byte.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to byte without an overflow.");
-                    }
-                    return longValue.byteValue();
-                }
+            return dblValue.floatValue();
+        }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to float without an overflow.");
+            }
+            return intValue.floatValue();
+        }
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < -(Double.MAX_VALUE) || longValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to float without an overflow.");
+            }
+            return longValue.floatValue();
+        }
+        return value;
+    }
 
+    // down-cast to byte from integer or long
+    private static Object toByte(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < Byte.MIN_VALUE || intValue > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to byte without an overflow.");
             }
-            // cross-cast to double from int or long or up-cast from float
-            if ("double".equals(className) || Double.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to double without an overflow.");
-                    }
-                    return intValue.doubleValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long testValue = (Long) value;
-                    if (testValue < -(Double.MAX_VALUE) || testValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(testValue + " cannot be cast to double without an overflow.");
-                    }
-                    return testValue.doubleValue();
-                }
-                if (value.getClass().equals(Float.class)) {
-                    Float floatValue = (Float) value;
-                    return floatValue.doubleValue();
-                }
+            return intValue.byteValue();
+        }
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < Byte.MIN_VALUE || longValue > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to byte without an overflow.");
             }
-            // up-cast to long from int
-            if ("long".equals(className) || Long.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    return intValue.longValue();
-                }
+            return longValue.byteValue();
+        }
+        return value;
+    }
+
+    // cross-cast to double from int or long or up-cast from float
+    private static Object toDouble(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to double without an overflow.");
+            }
+            return intValue.doubleValue();
+        }
+        if (value.getClass().equals(Long.class)) {
+            Long testValue = (Long) value;
+            if (testValue < -(Double.MAX_VALUE) || testValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(testValue + " cannot be cast to double without an overflow.");
             }
+            return testValue.doubleValue();
+        }
+        if (value.getClass().equals(Float.class)) {
+            Float floatValue = (Float) value;
+            return floatValue.doubleValue();
+        }
+        return value;
+    }
 
-            // down-cast to short from int or long
-            if ("short".equals(className) || Short.class.equals(clazz)) {
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Short.MIN_VALUE || longValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to short without an overflow.");
-                    }
-                    return longValue.shortValue();
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
-                    }
-                    return intValue.shortValue();
-                }
+    // up-cast to long from int
+    private static Object toLong(Object value) {
+        if (value != null && value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            return intValue.longValue();
+        }
+        return value;
+    }
+
+    // down-cast to short from int or long
+    private static Object toShort(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < Short.MIN_VALUE || longValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to short without an overflow.");
+            }
+            return longValue.shortValue();
+        }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
             }
+            return intValue.shortValue();
+        }
+        return value;
+    }
 
-            // down-cast to char from String
-            if ("char".equals(className) || Character.class.equals(clazz)) {
-                if (value.getClass().equals(String.class)) {
-                    String stringValue = (String) value;
-                    if (stringValue.length() == 1) {
-                        return stringValue.charAt(0);
-                    }
-                    else {
-                        try {
-                            return (char) Integer.parseInt(stringValue);
-                        }
-                        catch (NumberFormatException nfe) {
-                            throw new IllegalArgumentException(stringValue + " cannot be cast to char");
-                        }
-                    }
+    // down-cast to char from String
+    private static Object toCharacter(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.getClass().equals(String.class)) {
+            String stringValue = (String) value;
+            if (stringValue.length() == 1) {
+                return stringValue.charAt(0);
+            }
+            else {
+                try {
+                    return (char) Integer.parseInt(stringValue);
                 }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
-                    }
-                    return intValue.shortValue();
+                catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException(stringValue + " cannot be cast to char");
                 }
             }
         }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
+            }
+            return intValue.shortValue();
+        }
         return value;
     }
 
-
     private static Object defaultForPrimitive(Class clazz, Object value) {
         String className = clazz.getName();
         if ("int".equals(className) || "byte".equals(className) || "short".equals(className)) {
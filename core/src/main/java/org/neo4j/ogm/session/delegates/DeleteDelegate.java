@@ -19,13 +19,16 @@ import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
 import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
 import org.neo4j.ogm.entity.io.FieldWriter;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.instrumentation.Phase;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.model.Result;
-import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.NativeRequest;
 import org.neo4j.ogm.request.RowModelRequest;
 import org.neo4j.ogm.request.Statement;
-import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.OperationScope;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.PersistenceEvent;
 import org.neo4j.ogm.session.request.strategy.DeleteStatements;
@@ -69,6 +72,12 @@ public class DeleteDelegate  {
     }
 
     public <T> void delete(T object) {
+        try (OperationScope scope = session.operation(Operation.DELETE)) {
+            deleteObjects(object);
+        }
+    }
+
+    private <T> void deleteObjects(T object) {
         if (object.getClass().isArray() || Iterable.class.isAssignableFrom(object.getClass())) {
             deleteAll(object);
         } else {
@@ -99,24 +108,33 @@ public class DeleteDelegate  {
                 Field identityField = classInfo.getField(classInfo.identityField());
                 Long identity = (Long) FieldWriter.read(identityField, object);
                 if (identity != null) {
-                    Statement request = getDeleteStatementsBasedOnType(object.getClass()).delete(identity);
+                    boolean relationshipEntity = session.metaData().isRelationshipEntity(classInfo.name());
                     if (session.eventsEnabled()) {
                         if (!notified.contains(object)) {
                             session.notifyListeners(new PersistenceEvent(object, Event.TYPE.PRE_DELETE));
                             notified.add(object);
                         }
                     }
-                    RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
-                    try (Response<RowModel> response = session.requestHandler().execute(query)) {
-                        if (session.metaData().isRelationshipEntity(classInfo.name())) {
+                    NativeRequest nativeRequest = relationshipEntity ? null : session.nativeRequestHandler();
+                    if (nativeRequest != null) {
+                        InstrumentationScope.time(Phase.EXECUTE, () -> nativeRequest.deleteNodes(Collections.singletonList(identity)));
+                    } else {
+                        RowModelRequest query = InstrumentationScope.time(Phase.COMPILE, () -> {
+                            Statement request = getDeleteStatementsBasedOnType(object.getClass()).delete(identity);
+                            return new DefaultRowModelRequest(request.getStatement(), request.getParameters());
+                        });
+                        InstrumentationScope.time(Phase.EXECUTE, () -> session.requestHandler().execute(query).close());
+                    }
+                    InstrumentationScope.time(Phase.CONTEXT_UPDATE, () -> {
+                        if (relationshipEntity) {
                             session.detachRelationshipEntity(identity);
                         } else {
                             session.detachNodeEntity(identity);
                         }
-                        if (session.eventsEnabled()) {
-                            if (notified.contains(object)) {
-                               session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
-                            }
+                    });
+                    if (session.eventsEnabled()) {
+                        if (notified.contains(object)) {
+                           session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
                         }
                     }
                 }
@@ -136,16 +154,23 @@ public class DeleteDelegate  {
     }
 
     public <T> void deleteAll(Class<T> type) {
+        try (OperationScope scope = session.operation(Operation.DELETE)) {
+            deleteAllOfType(type);
+        }
+    }
+
+    private <T> void deleteAllOfType(Class<T> type) {
         ClassInfo classInfo = session.metaData().classInfo(type.getName());
         if (classInfo != null) {
-            Statement request = getDeleteStatementsBasedOnType(type).delete(session.entityType(classInfo.name()));
-            RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
+            RowModelRequest query = InstrumentationScope.time(Phase.COMPILE, () -> {
+                Statement request = getDeleteStatementsBasedOnType(type).delete(session.entityType(classInfo.name()));
+                return new DefaultRowModelRequest(request.getStatement(), request.getParameters());
+            });
             session.notifyListeners(new PersistenceEvent(type, Event.TYPE.PRE_DELETE));
-            try (Response<RowModel> response = session.requestHandler().execute(query)) {
-                session.context().removeType(type);
-                if (session.eventsEnabled()) {
-                    session.notifyListeners(new PersistenceEvent(type, Event.TYPE.POST_DELETE));
-                }
+            InstrumentationScope.time(Phase.EXECUTE, () -> session.requestHandler().execute(query).close());
+            InstrumentationScope.time(Phase.CONTEXT_UPDATE, () -> session.context().removeType(type));
+            if (session.eventsEnabled()) {
+                session.notifyListeners(new PersistenceEvent(type, Event.TYPE.POST_DELETE));
             }
         } else {
             session.warn(type.getName() + " is not a persistable class");
@@ -153,20 +178,24 @@ public class DeleteDelegate  {
     }
 
     public <T> Object delete(Class<T> clazz, Iterable<Filter> filters, boolean listResults) {
+        try (OperationScope scope = session.operation(Operation.DELETE)) {
+            return deleteWithFilters(clazz, filters, listResults);
+        }
+    }
+
+    private <T> Object deleteWithFilters(Class<T> clazz, Iterable<Filter> filters, boolean listResults) {
 
         ClassInfo classInfo = session.metaData().classInfo(clazz.getSimpleName());
 
         if (classInfo != null) {
 
-            session.resolvePropertyAnnotations(clazz, filters);
-
-            CypherQuery query;
-
-            if (classInfo.isRelationshipEntity()) {
-                query = new RelationshipDeleteStatements().deleteAndList(classInfo.neo4jName(), filters);
-            } else {
-                query = new NodeDeleteStatements().deleteAndList(classInfo.neo4jName(), filters);
-            }
+            CypherQuery query = InstrumentationScope.time(Phase.COMPILE, () -> {
+                session.resolvePropertyAnnotations(clazz, filters);
+                if (classInfo.isRelationshipEntity()) {
+                    return new RelationshipDeleteStatements().deleteAndList(classInfo.neo4jName(), filters);
+                }
+                return new NodeDeleteStatements().deleteAndList(classInfo.neo4jName(), filters);
+            });
 
             if (listResults) {
                 return list(query, classInfo.isRelationshipEntity());
@@ -236,29 +265,36 @@ public class DeleteDelegate  {
      */
     private void postDelete(Long identity, boolean isRelationshipEntity) {
 
-        Object object;
-
-        if (isRelationshipEntity) {
-            object = session.context().getRelationshipEntity(identity);
-            if (object != null) {
-                session.detachRelationshipEntity(identity);
+        Object object = InstrumentationScope.time(Phase.CONTEXT_UPDATE, () -> {
+            if (isRelationshipEntity) {
+                Object entity = session.context().getRelationshipEntity(identity);
+                if (entity != null) {
+                    session.detachRelationshipEntity(identity);
+                }
+                return entity;
             }
-        } else {
-            object = session.context().getNodeEntity(identity);
-            if (object != null) {
+            Object entity = session.context().getNodeEntity(identity);
+            if (entity != null) {
                 session.detachNodeEntity(identity);
             }
-        }
+            return entity;
+        });
         if (session.eventsEnabled() && object != null) {
             session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
         }
     }
 
     public void purgeDatabase() {
+        try (OperationScope scope = session.operation(Operation.DELETE)) {
+            purge();
+        }
+    }
+
+    private void purge() {
         Statement stmt = new NodeDeleteStatements().deleteAll();
         RowModelRequest query = new DefaultRowModelRequest(stmt.getStatement(), stmt.getParameters());
-        session.requestHandler().execute(query).close();
-        session.context().clear();
+        InstrumentationScope.time(Phase.EXECUTE, () -> session.requestHandler().execute(query).close());
+        InstrumentationScope.time(Phase.CONTEXT_UPDATE, () -> session.context().clear());
     }
 
 
@@ -27,6 +27,10 @@ import org.neo4j.ogm.cypher.query.CypherQuery;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultRestModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.exception.ReadOnlySessionException;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.instrumentation.Phase;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
@@ -39,6 +43,7 @@ import org.neo4j.ogm.request.RowModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.QueryResultModel;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.OperationScope;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.session.request.strategy.impl.CountStatements;
 import org.neo4j.ogm.utils.ClassUtils;
@@ -87,46 +92,82 @@ public class ExecuteQueriesDelegate {
 	}
 
 	public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
+		try (OperationScope scope = session.operation(Operation.QUERY)) {
+			return executeQuery(cypher, parameters, readOnly);
+		}
+	}
+
+	private Result executeQuery(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
 		validateQuery(cypher, parameters, readOnly);
 
 		RestModelRequest request = new DefaultRestModelRequest(cypher, parameters);
-		ResponseMapper mapper = new RestModelMapper(new GraphEntityMapper(session.metaData(), session.context()), session.metaData());
+		ResponseMapper mapper = new RestModelMapper(session.graphEntityMapper(), session.metaData());
 
-		try (Response<RestModel> response = session.requestHandler().execute(request)) {
-			Iterable<RestStatisticsModel> mappedModel = mapper.map(null, response);
-			RestStatisticsModel restStatisticsModel = mappedModel.iterator().next();
+		return InstrumentationScope.time(Phase.EXECUTE, () -> {
+			try (Response<RestModel> response = session.requestHandler().execute(request)) {
+				Iterable<RestStatisticsModel> mappedModel = InstrumentationScope.time(Phase.HYDRATION, () -> mapper.map(null, response));
+				RestStatisticsModel restStatisticsModel = mappedModel.iterator().next();
 
-			if (readOnly) {
-				return new QueryResultModel(restStatisticsModel.getResult(), null);
-			} else {
-				return new QueryResultModel(restStatisticsModel.getResult(), restStatisticsModel.getStatistics());
+				if (readOnly) {
+					return new QueryResultModel(restStatisticsModel.getResult(), null);
+				} else {
+					return new QueryResultModel(restStatisticsModel.getResult(), restStatisticsModel.getStatistics());
+				}
 			}
-		}
+		});
 	}
 
 	private <T> Iterable<T> executeAndMap(Class<T> type, String cypher, Map<String, ?> parameters, ResponseMapper mapper) {
+		try (OperationScope scope = session.operation(Operation.QUERY)) {
+			return map(type, cypher, parameters, mapper);
+		}
+	}
+
+	private <T> Iterable<T> map(Class<T> type, String cypher, Map<String, ?> parameters, ResponseMapper mapper) {
 
 		if (type != null && session.metaData().classInfo(type.getSimpleName()) != null) {
 			GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
-			try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-				return new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
-			}
+			return InstrumentationScope.time(Phase.EXECUTE, () -> {
+				try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+					return InstrumentationScope.time(Phase.HYDRATION, () ->
+							session.graphEntityMapper().map(type, response));
+				}
+			});
 		} else {
 			RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
-			try (Response<RowModel> response = session.requestHandler().execute(request)) {
-				return mapper.map(type, response);
-			}
+			return InstrumentationScope.time(Phase.EXECUTE, () -> {
+				try (Response<RowModel> response = session.requestHandler().execute(request)) {
+					return InstrumentationScope.time(Phase.HYDRATION, () -> mapper.map(type, response));
+				}
+			});
 		}
 	}
 
 	public long countEntitiesOfType(Class<?> entity) {
+		try (OperationScope scope = session.operation(Operation.QUERY)) {
+			return countOfType(entity);
+		}
+	}
+
+	private long countOfType(Class<?> entity) {
 
 		ClassInfo classInfo = session.metaData().classInfo(entity.getName());
 		if (classInfo == null) {
 			return 0;
 		}
 
+		CypherQuery countStatement = InstrumentationScope.time(Phase.COMPILE, () -> countStatement(classInfo));
+		return InstrumentationScope.time(Phase.EXECUTE, () -> {
+			try (Response<RowModel> response = session.requestHandler().execute((RowModelRequest) countStatement)) {
+				RowModel queryResult = response.next();
+				return queryResult == null ? 0 : ((Number) queryResult.getValues()[0]).longValue();
+			}
+		});
+	}
+
+	private CypherQuery countStatement(ClassInfo classInfo) {
+
 		CypherQuery countStatement;
 		if (classInfo.isRelationshipEntity()) {
 
@@ -152,27 +193,28 @@ public class ExecuteQueriesDelegate {
 			Collection<String> labels = classInfo.staticLabels();
 			countStatement = new CountStatements().countNodes(labels);
 		}
-		try (Response<RowModel> response = session.requestHandler().execute((RowModelRequest) countStatement)) {
-			RowModel queryResult = response.next();
-			return queryResult == null ? 0 : ((Number) queryResult.getValues()[0]).longValue();
-		}
+		return countStatement;
 	}
 
 	public long count(Class<?> clazz, Iterable<Filter> filters) {
+		try (OperationScope scope = session.operation(Operation.QUERY)) {
+			return countWithFilters(clazz, filters);
+		}
+	}
+
+	private long countWithFilters(Class<?> clazz, Iterable<Filter> filters) {
 
 		ClassInfo classInfo = session.metaData().classInfo(clazz.getSimpleName());
 
 		if (classInfo != null) {
 
-			session.resolvePropertyAnnotations(clazz, filters);
-
-			CypherQuery query;
-
-			if (classInfo.isRelationshipEntity()) {
-				query = new CountStatements().countEdges(classInfo.neo4jName(), filters);
-			} else {
-				query = new CountStatements().countNodes(classInfo.neo4jName(), filters);
-			}
+			CypherQuery query = InstrumentationScope.time(Phase.COMPILE, () -> {
+				session.resolvePropertyAnnotations(clazz, filters);
+				if (classInfo.isRelationshipEntity()) {
+					return new CountStatements().countEdges(classInfo.neo4jName(), filters);
+				}
+				return new CountStatements().countNodes(classInfo.neo4jName(), filters);
+			});
 			return count(query, classInfo.isRelationshipEntity());
 		}
 
@@ -205,6 +247,10 @@ public class ExecuteQueriesDelegate {
 			throw new RuntimeException("Cypher query must not modify the graph if readOnly=true");
 		}
 
+		if (session.isReadOnly() && !isReadOnly(cypher)) {
+			throw new ReadOnlySessionException("Cypher query must not modify the graph in a read-only session");
+		}
+
 		if (StringUtils.isEmpty(cypher)) {
 			throw new RuntimeException("Supplied cypher statement must not be null or empty.");
 		}
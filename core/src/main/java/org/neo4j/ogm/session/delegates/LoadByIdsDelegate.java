@@ -17,18 +17,23 @@ import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
-import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.entity.io.EntityAccessManager;
 import org.neo4j.ogm.entity.io.FieldReader;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.instrumentation.Phase;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.NativeRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.OperationScope;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 
 /**
@@ -45,16 +50,47 @@ public class LoadByIdsDelegate {
     }
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder, Pagination pagination, int depth) {
+        if (pagination instanceof KeysetPagination) {
+            throw new IllegalArgumentException("Keyset pagination is not supported when loading by id");
+        }
+        try (OperationScope scope = session.operation(Operation.LOAD)) {
+            return loadByIds(type, ids, sortOrder, pagination, depth);
+        }
+    }
+
+    private <T, ID extends Serializable> Collection<T> loadByIds(Class<T> type, Collection<ID> ids, SortOrder sortOrder, Pagination pagination, int depth) {
 
         String entityType = session.entityType(type.getName());
-        QueryStatements queryStatements = session.queryStatementsFor(type);
+        // the native request expands graph ids, so it cannot be used when the ids may be primary index values
+        if ((sortOrder == null || sortOrder.sortClauses().isEmpty()) && pagination == null && !session.metaData().isRelationshipEntity(type.getName())
+                && session.metaData().classInfo(type.getName()).primaryIndexField() == null && allLongs(ids)) {
+            NativeRequest nativeRequest = session.nativeRequestHandler();
+            if (nativeRequest != null) {
+                return InstrumentationScope.time(Phase.EXECUTE, () -> {
+                    try (Response<GraphModel> response = nativeRequest.expand((Collection<Long>) ids, entityType, depth)) {
+                        return results(type, ids, response);
+                    }
+                });
+            }
+        }
 
-        PagingAndSortingQuery qry = queryStatements.findAllByType(entityType, ids, depth)
-                .setSortOrder(sortOrder)
-                .setPagination(pagination);
+        PagingAndSortingQuery qry = InstrumentationScope.time(Phase.COMPILE, () -> {
+            QueryStatements queryStatements = session.queryStatementsFor(type);
+            return queryStatements.findAllByType(entityType, ids, depth)
+                    .setSortOrder(sortOrder)
+                    .setPagination(pagination);
+        });
 
-        try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) qry)) {
-            Iterable<T> mapped = new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+        return InstrumentationScope.time(Phase.EXECUTE, () -> {
+            try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) qry)) {
+                return results(type, ids, response);
+            }
+        });
+    }
+
+    private <T, ID extends Serializable> Collection<T> results(Class<T> type, Collection<ID> ids, Response<GraphModel> response) {
+        return InstrumentationScope.time(Phase.HYDRATION, () -> {
+            Iterable<T> mapped = session.graphEntityMapper().map(type, response);
             Set<T> results = new LinkedHashSet<>();
             for (T entity : mapped) {
                 if (includeMappedEntity(ids, entity)) {
@@ -62,7 +98,16 @@ public class LoadByIdsDelegate {
                 }
             }
             return results;
+        });
+    }
+
+    private static boolean allLongs(Collection<?> ids) {
+        for (Object id : ids) {
+            if (!(id instanceof Long)) {
+                return false;
+            }
         }
+        return true;
     }
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids) {
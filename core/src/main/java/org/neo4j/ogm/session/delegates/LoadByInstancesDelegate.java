@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.entity.io.FieldWriter;
@@ -36,6 +37,10 @@ public class LoadByInstancesDelegate {
 
 	public <T> Collection<T> loadAll(Collection<T> objects, SortOrder sortOrder, Pagination pagination, int depth) {
 
+		if (pagination instanceof KeysetPagination) {
+			throw new IllegalArgumentException("Keyset pagination is not supported when loading by instance");
+		}
+
 		if (objects == null || objects.isEmpty()) {
 			return objects;
 		}
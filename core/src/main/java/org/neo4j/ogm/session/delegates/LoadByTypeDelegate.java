@@ -12,23 +12,34 @@
  */
 package org.neo4j.ogm.session.delegates;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
-import org.neo4j.ogm.context.GraphEntityMapper;
 import org.neo4j.ogm.context.GraphRowListModelMapper;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortClause;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.entity.io.EntityAccessManager;
+import org.neo4j.ogm.entity.io.PropertyReader;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.instrumentation.Phase;
+import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.request.GraphRowListModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.OperationScope;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.utils.EntityUtils;
 
 /**
  * @author Vince Bickers
@@ -43,6 +54,12 @@ public class LoadByTypeDelegate {
 	}
 
 	public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth) {
+		try (OperationScope scope = session.operation(Operation.LOAD)) {
+			return loadByType(type, filters, sortOrder, pagination, depth);
+		}
+	}
+
+	private <T> Collection<T> loadByType(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth) {
 
 		//session.ensureTransaction();
 		String entityType = session.entityType(type.getName());
@@ -54,40 +71,86 @@ public class LoadByTypeDelegate {
 		// it should be possible for the response handler to select based on the model implementation
 		// and we should have a single method loadAll(...). Filters should not be a special case
 		// though they are at the moment because of the problems with "graph" response format.
+		boolean keyset = pagination instanceof KeysetPagination;
+		Collection<T> results;
+
 		if (filters.isEmpty()) {
 
-			PagingAndSortingQuery qry = queryStatements.findByType(entityType, depth)
-					.setSortOrder(sortOrder)
-					.setPagination(pagination);
+			PagingAndSortingQuery qry = InstrumentationScope.time(Phase.COMPILE, () ->
+					queryStatements.findByType(entityType, depth)
+							.setSortOrder(sortOrder)
+							.setPagination(pagination));
 
-			if (depth == 0 || (pagination == null && sortOrder.toString().length() == 0)) { //if there is no sorting or paging or the depth=0, we don't want the row response back as well
-				try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) qry)) {
-					return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
-				}
+			if (!keyset && (depth == 0 || (pagination == null && sortOrder.toString().length() == 0))) { //if there is no sorting or paging or the depth=0, we don't want the row response back as well
+				results = loadGraph(type, (GraphModelRequest) qry);
 			} else {
-				DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(qry.getStatement(), qry.getParameters());
-				try (Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest)) {
-					return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context()).map(type, response);
-				}
+				results = loadGraphRows(type, new DefaultGraphRowListModelRequest(qry.getStatement(), qry.getParameters()));
 			}
 		} else {
 
-			session.resolvePropertyAnnotations(type, filters);
-
-			PagingAndSortingQuery query = queryStatements.findByType(entityType, filters, depth)
-					.setSortOrder(sortOrder)
-					.setPagination(pagination);
+			PagingAndSortingQuery query = InstrumentationScope.time(Phase.COMPILE, () -> {
+				session.resolvePropertyAnnotations(type, filters);
+				return queryStatements.findByType(entityType, filters, depth)
+						.setSortOrder(sortOrder)
+						.setPagination(pagination);
+			});
 
 			if (depth != 0) {
-				try (Response<GraphRowListModel> response = session.requestHandler().execute((GraphRowListModelRequest) query)) {
-					return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context()).map(type, response);
-				}
+				results = loadGraphRows(type, (GraphRowListModelRequest) query);
+			} else if (keyset) {
+				// the page must be read back in row order to position the cursor
+				results = loadGraphRows(type, new DefaultGraphRowListModelRequest(query.getStatement(), query.getParameters()));
 			} else {
-				try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) query)) {
-					return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
-				}
+				results = loadGraph(type, (GraphModelRequest) query);
+			}
+		}
+
+		if (keyset) {
+			updateCursor(results, sortOrder, (KeysetPagination) pagination);
+		}
+		return results;
+	}
+
+	private <T> Collection<T> loadGraph(Class<T> type, GraphModelRequest request) {
+		return InstrumentationScope.time(Phase.EXECUTE, () -> {
+			try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+				return InstrumentationScope.time(Phase.HYDRATION, () ->
+						(Collection<T>) session.graphEntityMapper().map(type, response));
+			}
+		});
+	}
+
+	private <T> Collection<T> loadGraphRows(Class<T> type, GraphRowListModelRequest request) {
+		return InstrumentationScope.time(Phase.EXECUTE, () -> {
+			try (Response<GraphRowListModel> response = session.requestHandler().execute(request)) {
+				return InstrumentationScope.time(Phase.HYDRATION, () ->
+						(Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context(), session.graphEntityMapper()).map(type, response));
+			}
+		});
+	}
+
+	/**
+	 * Positions the cursor of a keyset pagination after the last entity of the page just loaded,
+	 * or clears it if the page was not full and there are no further results.
+	 */
+	private <T> void updateCursor(Collection<T> results, SortOrder sortOrder, KeysetPagination pagination) {
+		if (results.size() < pagination.getPageSize()) {
+			pagination.setNextCursor(null);
+			return;
+		}
+		T last = null;
+		for (T result : results) {
+			last = result;
+		}
+		ClassInfo classInfo = session.metaData().classInfo(last);
+		List<Object> sortValues = new ArrayList<>();
+		for (SortClause sortClause : sortOrder.sortClauses()) {
+			for (String property : sortClause.getProperties()) {
+				PropertyReader reader = EntityAccessManager.getPropertyReader(classInfo, property.replace("`", ""));
+				sortValues.add(reader == null ? null : reader.readProperty(last));
 			}
 		}
+		pagination.setNextCursor(KeysetPagination.cursor(EntityUtils.identity(last, session.metaData()), sortValues));
 	}
 
 
@@ -13,17 +13,22 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.Collections;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
-import org.neo4j.ogm.context.GraphEntityMapper;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.instrumentation.Phase;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.NativeRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jException;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.OperationScope;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 
 /**
@@ -43,19 +48,47 @@ public class LoadOneDelegate {
 	}
 
 	public <T, ID extends Serializable> T load(Class<T> type, ID id, int depth) {
+		try (OperationScope scope = session.operation(Operation.LOAD)) {
+			return loadOne(type, id, depth);
+		}
+	}
 
-		final FieldInfo primaryIndexField = session.metaData().classInfo(type.getName()).primaryIndexField();
+	private <T, ID extends Serializable> T loadOne(Class<T> type, ID id, int depth) {
+
+		final ClassInfo classInfo = session.metaData().classInfo(type.getName());
+		final FieldInfo primaryIndexField = classInfo.primaryIndexField();
 		if (primaryIndexField != null && !primaryIndexField.isTypeOf(id.getClass())) {
 			throw new Neo4jException("Supplied id does not match primary index type on supplied class.");
 		}
 
-		QueryStatements queryStatements = session.queryStatementsFor(type);
-		PagingAndSortingQuery qry = queryStatements.findOne(id, depth);
+		if (primaryIndexField == null && id instanceof Long && !classInfo.isRelationshipEntity()) {
+			NativeRequest nativeRequest = session.nativeRequestHandler();
+			if (nativeRequest != null) {
+				return InstrumentationScope.time(Phase.EXECUTE, () -> {
+					try (Response<GraphModel> response = nativeRequest.expand(Collections.singletonList((Long) id), null, depth)) {
+						return hydrate(type, id, response);
+					}
+				});
+			}
+		}
+
+		PagingAndSortingQuery qry = InstrumentationScope.time(Phase.COMPILE, () -> {
+			QueryStatements queryStatements = session.queryStatementsFor(type);
+			return queryStatements.findOne(id, depth);
+		});
+
+		return InstrumentationScope.time(Phase.EXECUTE, () -> {
+			try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) qry)) {
+				return hydrate(type, id, response);
+			}
+		});
+	}
 
-		try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) qry)) {
-			new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+	private <T, U> T hydrate(Class<T> type, U id, Response<GraphModel> response) {
+		return InstrumentationScope.time(Phase.HYDRATION, () -> {
+			session.graphEntityMapper().map(type, response);
 			return lookup(type, id);
-		}
+		});
 	}
 
 	private <T, U> T lookup(Class<T> type, U id) {
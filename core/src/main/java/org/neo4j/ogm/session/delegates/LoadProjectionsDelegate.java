@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.session.delegates;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.neo4j.ogm.context.ProjectionMapper;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.instrumentation.Phase;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.OperationScope;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.request.FilteredQuery;
+import org.neo4j.ogm.session.request.FilteredQueryBuilder;
+
+/**
+ * Loads projections of node entities, returning only the requested properties as rows
+ * rather than the entities themselves.
+ */
+public class LoadProjectionsDelegate {
+
+	private final Neo4jSession session;
+
+	public LoadProjectionsDelegate(Neo4jSession session) {
+		this.session = session;
+	}
+
+	public <T, P> Collection<P> loadProjections(Class<T> type, Class<P> projection, Filters filters, SortOrder sortOrder, Pagination pagination) {
+		if (pagination instanceof KeysetPagination) {
+			throw new IllegalArgumentException("Keyset pagination is not supported for projections");
+		}
+		try (OperationScope scope = session.operation(Operation.LOAD)) {
+
+			ProjectionMapper<P> mapper = new ProjectionMapper<>(session.metaData(), type, projection);
+			DefaultRowModelRequest request = InstrumentationScope.time(Phase.COMPILE, () ->
+					projectionRequest(type, mapper, filters, sortOrder, pagination));
+
+			return InstrumentationScope.time(Phase.EXECUTE, () -> {
+				try (Response<RowModel> response = session.requestHandler().execute((RowModelRequest) request)) {
+					return InstrumentationScope.time(Phase.HYDRATION, () -> mapper.map(response));
+				}
+			});
+		}
+	}
+
+	private <T, P> DefaultRowModelRequest projectionRequest(Class<T> type, ProjectionMapper<P> mapper, Filters filters, SortOrder sortOrder, Pagination pagination) {
+		String label = session.entityType(type.getName());
+		session.resolvePropertyAnnotations(type, sortOrder);
+
+		String statement;
+		Map<String, Object> parameters;
+		if (filters.isEmpty()) {
+			statement = "MATCH (n:`" + label + "`) " + mapper.returnClause();
+			parameters = Utils.map();
+		} else {
+			session.resolvePropertyAnnotations(type, filters);
+			FilteredQuery query = FilteredQueryBuilder.buildNodeQuery(label, filters);
+			query.setReturnClause(" " + mapper.returnClause());
+			statement = query.statement();
+			parameters = query.parameters();
+		}
+		DefaultRowModelRequest request = new DefaultRowModelRequest(statement, parameters);
+		request.setSortOrder(sortOrder).setPagination(pagination);
+		return request;
+	}
+
+	public <T, P> Collection<P> loadProjections(Class<T> type, Class<P> projection) {
+		return loadProjections(type, projection, new Filters(), new SortOrder(), null);
+	}
+
+	public <T, P> Collection<P> loadProjections(Class<T> type, Class<P> projection, Filters filters) {
+		return loadProjections(type, projection, filters, new SortOrder(), null);
+	}
+}
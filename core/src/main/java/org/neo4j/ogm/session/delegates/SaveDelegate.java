@@ -19,8 +19,12 @@ import java.util.List;
 
 import org.neo4j.ogm.compiler.CompileContext;
 import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.instrumentation.Phase;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.OperationScope;
 import org.neo4j.ogm.session.event.SaveEventDelegate;
 import org.neo4j.ogm.session.request.RequestExecutor;
 
@@ -43,6 +47,12 @@ public class SaveDelegate {
 	}
 
 	public <T> void save(T object, int depth) {
+		try (OperationScope scope = session.operation(Operation.SAVE)) {
+			saveObjects(object, depth);
+		}
+	}
+
+	private <T> void saveObjects(T object, int depth) {
 
 		SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
 
@@ -63,7 +73,8 @@ public class SaveDelegate {
 				if (session.eventsEnabled()) {
 					eventsDelegate.preSave(object);
 				}
-				contexts.add(new EntityGraphMapper(session.metaData(), session.context()).map(element, depth));
+				contexts.add(InstrumentationScope.time(Phase.COMPILE, () ->
+						new EntityGraphMapper(session.metaData(), session.context()).map(element, depth)));
 			}
 			requestExecutor.executeSave(contexts);
 			if (session.eventsEnabled()) {
@@ -77,7 +88,8 @@ public class SaveDelegate {
 					eventsDelegate.preSave(object);
 				}
 
-				CompileContext context = new EntityGraphMapper(session.metaData(), session.context()).map(object, depth);
+				CompileContext context = InstrumentationScope.time(Phase.COMPILE, () ->
+						new EntityGraphMapper(session.metaData(), session.context()).map(object, depth));
 
 				requestExecutor.executeSave(context);
 
@@ -12,6 +12,7 @@
  */
 package org.neo4j.ogm.session.delegates;
 
+import org.neo4j.ogm.exception.TransactionException;
 import org.neo4j.ogm.session.GraphCallback;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.transaction.Transaction;
@@ -39,6 +40,10 @@ public class TransactionsDelegate {
 
 	public Transaction beginTransaction(Transaction.Type type) {
 
+		if (session.isReadOnly() && type != Transaction.Type.READ_ONLY) {
+			throw new TransactionException("A read-only session can only begin READ_ONLY transactions");
+		}
+
 		session.debug("beginTransaction()");
 		session.debug("Neo4jSession identity: " + this);
 
@@ -18,6 +18,8 @@ import java.util.*;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.cypher.BooleanOperator;
 import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.function.PropertyComparison;
+import org.neo4j.ogm.cypher.query.StatementTemplateCache;
 import org.neo4j.ogm.exception.MissingOperatorException;
 
 /**
@@ -29,6 +31,8 @@ import org.neo4j.ogm.exception.MissingOperatorException;
  */
 public class FilteredQueryBuilder {
 
+	private static final StatementTemplateCache TEMPLATES = StatementTemplateCache.templates();
+
 	/**
 	 * Create a {@link FilteredQuery} which matches nodes filtered by one or more property expressions
 	 *
@@ -37,7 +41,12 @@ public class FilteredQueryBuilder {
 	 * @return a {@link FilteredQuery} whose statement() method contains the appropriate Cypher
 	 */
 	public static FilteredQuery buildNodeQuery(String nodeLabel, Iterable<Filter> filterList) {
-		return new NodeQueryBuilder(nodeLabel, filterList).build();
+		List<Object> shape = shapeOf("filtered.node", nodeLabel, filterList);
+		if (shape == null) {
+			return new NodeQueryBuilder(nodeLabel, filterList).build();
+		}
+		String template = TEMPLATES.get(shape, () -> new NodeQueryBuilder(nodeLabel, filterList).build().statement());
+		return new FilteredQuery(new StringBuilder(template), parametersOf(filterList));
 	}
 
 	/**
@@ -48,6 +57,12 @@ public class FilteredQueryBuilder {
 	 * @return a {@link FilteredQuery} whose statement() method contains the appropriate Cypher
 	 */
 	public static FilteredQuery buildRelationshipQuery(String relationshipType, Iterable<Filter> filterList) {
+		List<Object> shape = shapeOf("filtered.relationship", relationshipType, filterList);
+		if (shape != null) {
+			String template = TEMPLATES.get(shape,
+					() -> constructRelationshipQuery(relationshipType, filterList, new HashMap<>()).toString());
+			return new FilteredQuery(new StringBuilder(template), parametersOf(filterList));
+		}
 		Map<String, Object> properties = new HashMap<>();
 		StringBuilder sb = constructRelationshipQuery(relationshipType, filterList, properties);
 		return new FilteredQuery(sb, properties);
@@ -133,4 +148,41 @@ public class FilteredQueryBuilder {
 			properties.putAll(filter.getFunction().parameters());
 		}
 	}
+
+	/**
+	 * The shape of a filtered query is everything about its filters that goes into the Cypher text. Only filters
+	 * using {@link PropertyComparison} are described this way, since the text of other filter functions may depend on
+	 * their values.
+	 *
+	 * @return the shape of the query, or null if the query should not be cached
+	 */
+	private static List<Object> shapeOf(String kind, String labelOrType, Iterable<Filter> filters) {
+		List<Object> shape = new ArrayList<>();
+		shape.add(kind);
+		shape.add(labelOrType);
+		for (Filter filter : filters) {
+			if (filter.getFunction() == null || filter.getFunction().getClass() != PropertyComparison.class) {
+				return null;
+			}
+			shape.add(filter.uniqueParameterName());
+			shape.add(filter.getPropertyName());
+			shape.add(filter.getComparisonOperator());
+			shape.add(filter.getBooleanOperator());
+			shape.add(filter.isNegated());
+			shape.add(filter.getNestedPropertyName());
+			shape.add(filter.getNestedEntityTypeLabel());
+			shape.add(filter.getRelationshipType());
+			shape.add(filter.getRelationshipDirection());
+			shape.add(filter.isNestedRelationshipEntity());
+		}
+		return shape;
+	}
+
+	private static Map<String, Object> parametersOf(Iterable<Filter> filters) {
+		Map<String, Object> parameters = new HashMap<>();
+		for (Filter filter : filters) {
+			parameters.putAll(filter.parameters());
+		}
+		return parameters;
+	}
 }
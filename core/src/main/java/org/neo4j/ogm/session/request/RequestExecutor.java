@@ -28,8 +28,12 @@ import org.neo4j.ogm.context.TransientRelationship;
 import org.neo4j.ogm.entity.io.EntityAccessManager;
 import org.neo4j.ogm.entity.io.FieldWriter;
 import org.neo4j.ogm.entity.io.PropertyReader;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.instrumentation.Phase;
 import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.NativeRequest;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
@@ -253,55 +257,65 @@ public class RequestExecutor {
 			newTransaction = true;
 		}
 
+		NativeRequest nativeRequest = compiler.hasOnlyNodeUpdates() ? session.nativeRequestHandler() : null;
+
 		//If there are statements that depend on new nodes i.e. relationships created between new nodes,
-		//we must create the new nodes first, and then use their node IDs when creating relationships between them
+		//the new nodes and relationships are created by a single statement in which relationships refer
+		//to the new nodes by their position in the statement, rather than by ids that are not yet known
 		if (compiler.hasStatementsDependentOnNewNodes()) {
 
-			DefaultRequest createNodesRowRequest = new DefaultRequest();
-			createNodesRowRequest.setStatements(compiler.createNodesStatements());
-
-			// execute the statements to create new nodes. The ids will be returned
-			// and will be used in subsequent statements that refer to these new nodes.
-			try (Response<RowModel> response = session.requestHandler().execute(createNodesRowRequest)) {
-				registerEntityIds(context, response, entityReferenceMappings, relReferenceMappings);
-			}
-
-			List<Statement> statements = new ArrayList<>();
-			statements.addAll(compiler.createRelationshipsStatements());
-			statements.addAll(compiler.updateNodesStatements());
-			statements.addAll(compiler.updateRelationshipStatements());
-			statements.addAll(compiler.deleteRelationshipStatements());
-			statements.addAll(compiler.deleteRelationshipEntityStatements());
-
-			DefaultRequest defaultRequest = new DefaultRequest();
-			defaultRequest.setStatements(statements);
-
-			try (Response<RowModel> response = session.requestHandler().execute(defaultRequest)) {
-				registerEntityIds(context, response, entityReferenceMappings, relReferenceMappings);
-				registerNewRelIds(response, relReferenceMappings);
-			}
+			List<Statement> statements = InstrumentationScope.time(Phase.COMPILE, () -> {
+				List<Statement> dependentStatements = new ArrayList<>();
+				dependentStatements.addAll(compiler.createNodesAndRelationshipsStatements());
+				dependentStatements.addAll(compiler.updateNodesStatements());
+				dependentStatements.addAll(compiler.updateRelationshipStatements());
+				dependentStatements.addAll(compiler.deleteRelationshipStatements());
+				dependentStatements.addAll(compiler.deleteRelationshipEntityStatements());
+				return dependentStatements;
+			});
+			execute(context, statements, entityReferenceMappings, relReferenceMappings);
+
+		} else if (nativeRequest != null) {
+			// existing nodes keep their ids, so there is nothing to read back from the database
+			List<Node> nodes = InstrumentationScope.time(Phase.COMPILE, compiler::existingNodes);
+			InstrumentationScope.time(Phase.EXECUTE, () -> nativeRequest.updateNodes(nodes));
 
 		} else { // only update / delete statements
-			List<Statement> statements = compiler.getAllStatements();
+			List<Statement> statements = InstrumentationScope.time(Phase.COMPILE, compiler::getAllStatements);
 			if (statements.size() > 0) {
-				DefaultRequest defaultRequest = new DefaultRequest();
-				defaultRequest.setStatements(statements);
-				try (Response<RowModel> response = session.requestHandler().execute(defaultRequest)) {
-					registerEntityIds(context, response, entityReferenceMappings, relReferenceMappings);
-					registerNewRelIds(response, relReferenceMappings);
-				}
+				execute(context, statements, entityReferenceMappings, relReferenceMappings);
 			}
 		}
 
 		if (transactionRequired && newTransaction) {
-			tx.commit();
-			tx.close();
+			Transaction newTx = tx;
+			InstrumentationScope.time(Phase.EXECUTE, () -> {
+				newTx.commit();
+				newTx.close();
+			});
 		}
 
 		//Update the mapping context now that the request is successful
-		updateNodeEntities(context, session, entityReferenceMappings);
-		updateRelationshipEntities(context, session, relReferenceMappings);
-		updateRelationships(context, session, relReferenceMappings);
+		InstrumentationScope.time(Phase.CONTEXT_UPDATE, () -> {
+			updateNodeEntities(context, session, entityReferenceMappings);
+			updateRelationshipEntities(context, session, relReferenceMappings);
+			updateRelationships(context, session, relReferenceMappings);
+		});
+	}
+
+	/**
+	 * Executes the statements of a save and reads back the ids of the entities and relationships they created or updated.
+	 */
+	private void execute(CompileContext context, List<Statement> statements, List<ReferenceMapping> entityReferenceMappings, List<ReferenceMapping> relReferenceMappings) {
+		DefaultRequest defaultRequest = new DefaultRequest();
+		defaultRequest.setStatements(statements);
+
+		InstrumentationScope.time(Phase.EXECUTE, () -> {
+			try (Response<RowModel> response = session.requestHandler().execute(defaultRequest)) {
+				registerEntityIds(context, response, entityReferenceMappings, relReferenceMappings);
+				registerNewRelIds(response, relReferenceMappings);
+			}
+		});
 	}
 
 	/**
@@ -13,6 +13,8 @@
 
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import static org.neo4j.ogm.cypher.query.StatementTemplateCache.shape;
+
 import java.io.Serializable;
 import java.util.Collection;
 
@@ -20,6 +22,7 @@ import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.StatementTemplateCache;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.session.request.FilteredQuery;
 import org.neo4j.ogm.session.request.FilteredQueryBuilder;
@@ -32,6 +35,8 @@ import org.neo4j.ogm.session.request.strategy.QueryStatements;
  */
 public class NodeQueryStatements<ID extends Serializable> implements QueryStatements<ID> {
 
+    private static final StatementTemplateCache TEMPLATES = StatementTemplateCache.templates();
+
     private String primaryIndex;
 
     public NodeQueryStatements() {
@@ -52,9 +57,11 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         if (max > 0) {
             String qry;
             if (primaryIndex != null) {
-                qry = String.format("MATCH (n) WHERE n." + primaryIndex + " = { id } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", min, max);
+                qry = TEMPLATES.get(shape("node.findOne.primaryIndex", primaryIndex, min, max),
+                        () -> String.format("MATCH (n) WHERE n." + primaryIndex + " = { id } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", min, max));
             } else {
-                qry = String.format("MATCH (n) WHERE ID(n) = { id } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", min, max);
+                qry = TEMPLATES.get(shape("node.findOne", min, max),
+                        () -> String.format("MATCH (n) WHERE ID(n) = { id } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", min, max));
             }
             return new DefaultGraphModelRequest(qry, Utils.map("id", id));
         } else {
@@ -70,7 +77,8 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
             return InfiniteDepthReadStrategy.findAll(ids);
         }
         if (max > 0) {
-            String qry = String.format("MATCH (n) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", min, max);
+            String qry = TEMPLATES.get(shape("node.findAll", min, max),
+                    () -> String.format("MATCH (n) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", min, max));
             return new DefaultGraphModelRequest(qry, Utils.map("ids", ids));
         } else {
             return DepthZeroReadStrategy.findAll(ids);
@@ -85,7 +93,8 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
             return InfiniteDepthReadStrategy.findAllByLabel(label, ids);
         }
         if (max > 0) {
-            String qry = String.format("MATCH (n:`%s`) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", label, min, max);
+            String qry = TEMPLATES.get(shape("node.findAllByType", label, min, max),
+                    () -> String.format("MATCH (n:`%s`) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", label, min, max));
             return new DefaultGraphModelRequest(qry, Utils.map("ids", ids));
         } else {
             return DepthZeroReadStrategy.findAllByLabel(label, ids);
@@ -105,7 +114,8 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
             return InfiniteDepthReadStrategy.findByLabel(label);
         }
         if (max > 0) {
-            String qry = String.format("MATCH (n:`%s`) WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", label, min, max);
+            String qry = TEMPLATES.get(shape("node.findByType", label, min, max),
+                    () -> String.format("MATCH (n:`%s`) WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", label, min, max));
             return new DefaultGraphModelRequest(qry, Utils.map());
         } else {
             return DepthZeroReadStrategy.findByLabel(label);
@@ -121,7 +131,8 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         }
         if (max > 0) {
             FilteredQuery query = FilteredQueryBuilder.buildNodeQuery(label, parameters);
-            query.setReturnClause(String.format("WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p, ID(n)", min, max));
+            query.setReturnClause(TEMPLATES.get(shape("node.findByProperties", min, max),
+                    () -> String.format("WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p, ID(n)", min, max)));
             return new DefaultGraphRowListModelRequest(query.statement(), query.parameters());
         } else {
             return DepthZeroReadStrategy.findByProperties(label, parameters);
@@ -140,7 +151,8 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
 
         public static <ID extends Serializable> DefaultGraphModelRequest findOne(ID id, String primaryIndex) {
             if (primaryIndex != null) {
-                return new DefaultGraphModelRequest("MATCH (n) WHERE n." + primaryIndex + " = { id } RETURN n", Utils.map("id", id));
+                return new DefaultGraphModelRequest(TEMPLATES.get(shape("node.findOne.primaryIndex.depthZero", primaryIndex),
+                        () -> "MATCH (n) WHERE n." + primaryIndex + " = { id } RETURN n"), Utils.map("id", id));
             }
             return new DefaultGraphModelRequest("MATCH (n) WHERE ID(n) = { id } RETURN n", Utils.map("id", id));
         }
@@ -150,12 +162,14 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         }
 
         public static <ID extends Serializable> DefaultGraphModelRequest findAllByLabel(String label, Collection<ID> ids) {
-            return new DefaultGraphModelRequest(String.format("MATCH (n:`%s`) WHERE ID(n) IN { ids } RETURN n", label), Utils.map("ids", ids));
+            return new DefaultGraphModelRequest(TEMPLATES.get(shape("node.findAllByType.depthZero", label),
+                    () -> String.format("MATCH (n:`%s`) WHERE ID(n) IN { ids } RETURN n", label)), Utils.map("ids", ids));
         }
 
 
         public static DefaultGraphModelRequest findByLabel(String label) {
-            return new DefaultGraphModelRequest(String.format("MATCH (n:`%s`) RETURN n", label), Utils.map());
+            return new DefaultGraphModelRequest(TEMPLATES.get(shape("node.findByType.depthZero", label),
+                    () -> String.format("MATCH (n:`%s`) RETURN n", label)), Utils.map());
         }
 
         public static DefaultGraphModelRequest findByProperties(String label, Filters parameters) {
@@ -169,7 +183,8 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
 
         public static <ID extends Serializable> DefaultGraphModelRequest findOne(ID id, String primaryIndex) {
             if (primaryIndex != null) {
-                return new DefaultGraphModelRequest("MATCH (n) WHERE n." + primaryIndex + " = { id } WITH n MATCH p=(n)-[*0..]-(m) RETURN p", Utils.map("id", id));
+                return new DefaultGraphModelRequest(TEMPLATES.get(shape("node.findOne.primaryIndex.infiniteDepth", primaryIndex),
+                        () -> "MATCH (n) WHERE n." + primaryIndex + " = { id } WITH n MATCH p=(n)-[*0..]-(m) RETURN p"), Utils.map("id", id));
             }
             return new DefaultGraphModelRequest("MATCH (n) WHERE ID(n) = { id } WITH n MATCH p=(n)-[*0..]-(m) RETURN p", Utils.map("id", id));
         }
@@ -179,11 +194,13 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         }
 
         public static <ID extends Serializable> DefaultGraphModelRequest findAllByLabel(String label, Collection<ID> ids) {
-            return new DefaultGraphModelRequest(String.format("MATCH (n:`%s`) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*0..]-(m) RETURN p", label), Utils.map("ids", ids));
+            return new DefaultGraphModelRequest(TEMPLATES.get(shape("node.findAllByType.infiniteDepth", label),
+                    () -> String.format("MATCH (n:`%s`) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*0..]-(m) RETURN p", label)), Utils.map("ids", ids));
         }
 
         public static  DefaultGraphModelRequest findByLabel(String label) {
-            return new DefaultGraphModelRequest(String.format("MATCH (n:`%s`) WITH n MATCH p=(n)-[*0..]-(m) RETURN p", label), Utils.map());
+            return new DefaultGraphModelRequest(TEMPLATES.get(shape("node.findByType.infiniteDepth", label),
+                    () -> String.format("MATCH (n:`%s`) WITH n MATCH p=(n)-[*0..]-(m) RETURN p", label)), Utils.map());
         }
 
         public static  DefaultGraphRowListModelRequest findByProperties(String label, Filters parameters) {
@@ -13,6 +13,8 @@
 
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import static org.neo4j.ogm.cypher.query.StatementTemplateCache.shape;
+
 import java.io.Serializable;
 import java.util.Collection;
 
@@ -20,6 +22,7 @@ import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.StatementTemplateCache;
 import org.neo4j.ogm.exception.InvalidDepthException;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.session.request.FilteredQuery;
@@ -27,32 +30,36 @@ import org.neo4j.ogm.session.request.FilteredQueryBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 
 /**
+ * Loads relationship entities together with their start and end nodes and the neighbourhoods of those nodes.
+ *
+ * Relationships are matched in their own direction, so each is found once. The neighbourhoods are streamed as
+ * one path per row rather than collected into lists on the server. When the relationship entities are loaded by id,
+ * each start or end node is expanded only once however many of the loaded relationships it takes part in. Loads by
+ * type return the id of the relationship entity with every row, which paged and sorted loads need in order to
+ * identify the entities of the page.
+ *
  * @author Luanne Misquitta
  */
 public class RelationshipQueryStatements<ID extends Serializable> implements QueryStatements<ID> {
 
-    private static final String MATCH_WITH_ID = "MATCH ()-[r0]-() WHERE ID(r0)={id} ";
-    private static final String MATCH_WITH_IDS = "MATCH ()-[r0]-() WHERE ID(r0) IN {ids} ";
-    private static final String MATCH_WITH_TYPE_AND_IDS = "MATCH ()-[r0:`%s`]-() WHERE ID(r0) IN {ids} ";
-    private static final String MATCH_PATHS_WITH_REL_ID = " WITH r0,startnode(r0) AS n, endnode(r0) AS m " +
-            "MATCH p1 = (n)-[*%d..%d]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-            "MATCH p2 = (m)-[*%d..%d]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-            "WITH ID(r0) AS rId,startPaths + endPaths  AS paths " +
-            "UNWIND paths AS p " +
-            "RETURN DISTINCT p, rId";
-    private static final String MATCH_PATHS = " WITH STARTNODE(r0) AS n, ENDNODE(r0) AS m " +
-            "MATCH p1 = (n)-[*%d..%d]-() WITH COLLECT(DISTINCT p1) AS startPaths, m " +
-            "MATCH p2 = (m)-[*%d..%d]-() WITH startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-            "WITH startPaths + endPaths AS paths " +
-            "UNWIND paths AS p " +
-            "RETURN DISTINCT p";
+    private static final StatementTemplateCache TEMPLATES = StatementTemplateCache.templates();
+
+    private static final String MATCH_WITH_ID = "MATCH (n)-[r0]->(m) WHERE ID(r0)={id} ";
+    private static final String MATCH_WITH_IDS = "MATCH (n)-[r0]->(m) WHERE ID(r0) IN {ids} ";
+    private static final String MATCH_WITH_TYPE_AND_IDS = "MATCH (n)-[r0:`%s`]->(m) WHERE ID(r0) IN {ids} ";
+    private static final String MATCH_WITH_TYPE = "MATCH (n)-[r0:`%s`]->(m) ";
+    private static final String MATCH_NEIGHBOURHOODS = "WITH r0,n,m UNWIND [n, m] AS e WITH DISTINCT e " +
+            "MATCH p=(e)-[*%d..%d]-() RETURN p";
+    private static final String MATCH_NEIGHBOURHOODS_WITH_REL_ID = "WITH r0,n,m UNWIND [n, m] AS e " +
+            "MATCH p=(e)-[*%d..%d]-() RETURN p, ID(r0)";
 
     @Override
     public PagingAndSortingQuery findOne(ID id, int depth) {
         int max = max(depth);
         int min = min(max);
         if (max > 0) {
-            String qry = String.format(MATCH_WITH_ID + MATCH_PATHS,min,max,min,max);
+            String qry = TEMPLATES.get(shape("relationship.findOne", min, max),
+                    () -> String.format(MATCH_WITH_ID + MATCH_NEIGHBOURHOODS, min, max));
             return new DefaultGraphModelRequest(qry, Utils.map("id", id));
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
@@ -64,7 +71,8 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
         int max = max(depth);
         int min = min(max);
         if (max > 0) {
-            String qry = String.format(MATCH_WITH_IDS + MATCH_PATHS_WITH_REL_ID, min,max,min,max);
+            String qry = TEMPLATES.get(shape("relationship.findAll", min, max),
+                    () -> String.format(MATCH_WITH_IDS + MATCH_NEIGHBOURHOODS, min, max));
             return new DefaultGraphModelRequest(qry, Utils.map("ids", ids));
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
@@ -76,7 +84,8 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
         int max = max(depth);
         int min = min(max);
         if (max > 0) {
-            String qry = String.format(MATCH_WITH_TYPE_AND_IDS + MATCH_PATHS_WITH_REL_ID, type,min,max,max,max);
+            String qry = TEMPLATES.get(shape("relationship.findAllByType", type, min, max),
+                    () -> String.format(MATCH_WITH_TYPE_AND_IDS + MATCH_NEIGHBOURHOODS, type, min, max));
             return new DefaultGraphModelRequest(qry, Utils.map("ids", ids));
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
@@ -91,8 +100,10 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
     @Override
     public PagingAndSortingQuery findByType(String type, int depth) {
         int max = max(depth);
+        int min = min(max);
         if (max > 0) {
-           String qry = String.format("MATCH ()-[r0:`%s`]-() " + MATCH_PATHS_WITH_REL_ID, type, 0, max, 0, max);
+            String qry = TEMPLATES.get(shape("relationship.findByType", type, min, max),
+                    () -> String.format(MATCH_WITH_TYPE + MATCH_NEIGHBOURHOODS_WITH_REL_ID, type, min, max));
             return new DefaultGraphModelRequest(qry, Utils.map());
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
@@ -106,7 +117,8 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
 		int min = min(max);
 		if (max > 0) {
             FilteredQuery query = FilteredQueryBuilder.buildRelationshipQuery(type, parameters);
-			query.setReturnClause(String.format(MATCH_PATHS_WITH_REL_ID, min, max, min, max));
+			query.setReturnClause(TEMPLATES.get(shape("relationship.findByProperties", min, max),
+					() -> String.format(MATCH_NEIGHBOURHOODS_WITH_REL_ID, min, max)));
 			return new DefaultGraphRowListModelRequest(query.statement(), query.parameters());
 		} else {
 			throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
@@ -30,6 +30,7 @@ public class DefaultTransactionManager implements TransactionManager {
 
 	private final Driver driver;
 	private final Session session;
+	private final Transaction.Type defaultType;
 
 	private static final ThreadLocal<Transaction> TRANSACTION_THREAD_LOCAL = new ThreadLocal<>();
 
@@ -38,7 +39,18 @@ public class DefaultTransactionManager implements TransactionManager {
 	}
 
 	public DefaultTransactionManager(Session session, Driver driver) {
+		this(session, driver, Transaction.Type.READ_WRITE);
+	}
+
+	/**
+	 * @param session the session whose transactions are managed
+	 * @param driver the driver creating the transactions
+	 * @param defaultType the type of the transactions opened when no type is specified, including those
+	 * opened by the drivers to auto-commit a request
+	 */
+	public DefaultTransactionManager(Session session, Driver driver, Transaction.Type defaultType) {
 		this.driver = driver;
+		this.defaultType = defaultType;
 		this.driver.setTransactionManager(this);
 		this.session = session;
 
@@ -54,7 +66,7 @@ public class DefaultTransactionManager implements TransactionManager {
 	public Transaction openTransaction() {
 		AbstractTransaction tx = ((AbstractTransaction) TRANSACTION_THREAD_LOCAL.get());
 		if (tx == null) {
-			return openTransaction(Transaction.Type.READ_WRITE);
+			return openTransaction(defaultType);
 		} else {
 			return openTransaction(tx.type());
 		}
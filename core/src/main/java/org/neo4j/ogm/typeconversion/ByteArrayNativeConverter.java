@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.typeconversion;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.codec.binary.Base64;
+
+/**
+ * Stores byte[] objects as they are, for drivers that can carry byte arrays to the database.
+ *
+ * Byte arrays stored as Base64 strings by {@link ByteArrayBase64Converter}, and byte arrays returned
+ * as lists of numbers, are read as well, so that existing data remains readable.
+ */
+public class ByteArrayNativeConverter implements AttributeConverter<byte[], Object> {
+
+    // declared as Object, so that the mapper does not merge the stored value as it would an array property
+    @Override
+    public Object toGraphProperty(byte[] value) {
+        return value;
+    }
+
+    @Override
+    public byte[] toEntityAttribute(Object value) {
+        if (value == null) return null;
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        if (value instanceof String) {
+            return Base64.decodeBase64((String) value);
+        }
+        List<Object> elements = new ArrayList<>();
+        if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                elements.add(element);
+            }
+        } else if (value.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(value); i++) {
+                elements.add(Array.get(value, i));
+            }
+        } else {
+            throw new IllegalArgumentException("Unable to read a byte array from " + value.getClass().getName());
+        }
+        byte[] bytes = new byte[elements.size()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = ((Number) elements.get(i)).byteValue();
+        }
+        return bytes;
+    }
+}
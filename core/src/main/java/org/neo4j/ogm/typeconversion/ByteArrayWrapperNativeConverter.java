@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.typeconversion;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * Stores Byte[] wrapped byte[] objects as primitive byte arrays, for drivers that can carry byte arrays
+ * to the database. Values stored as Base64 strings are read as well.
+ *
+ * @see ByteArrayNativeConverter
+ */
+public class ByteArrayWrapperNativeConverter implements AttributeConverter<Byte[], Object> {
+
+    private final ByteArrayNativeConverter converter = new ByteArrayNativeConverter();
+
+    // declared as Object, so that the mapper does not merge the stored value as it would an array property
+    @Override
+    public Object toGraphProperty(Byte[] value) {
+        if (value == null) return null;
+        return ArrayUtils.toPrimitive(value);
+    }
+
+    @Override
+    public Byte[] toEntityAttribute(Object value) {
+        byte[] bytes = converter.toEntityAttribute(value);
+        if (bytes == null) return null;
+        Byte[] wrapper = new Byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            wrapper[i] = bytes[i];
+        }
+        return wrapper;
+    }
+}
@@ -42,6 +42,18 @@ public abstract class ConvertibleTypes {
         }
     }
 
+    public static AttributeConverter<?, ?> getInstantConverter() {
+        return new InstantStringConverter();
+    }
+
+    public static AttributeConverter<?, ?> getLocalDateConverter() {
+        return new LocalDateStringConverter();
+    }
+
+    public static AttributeConverter<?, ?> getLocalDateTimeConverter() {
+        return new LocalDateTimeStringConverter();
+    }
+
     public static AttributeConverter<?, ?> getEnumConverter(Class enumClass) {
             return new EnumStringConverter(enumClass);
     }
@@ -99,4 +111,16 @@ public abstract class ConvertibleTypes {
         return new ByteArrayWrapperBase64Converter();
     }
 
+    public static AttributeConverter<?, ?> getDateNativeConverter() {
+        return new DateNativeConverter();
+    }
+
+    public static AttributeConverter<?, ?> getByteArrayNativeConverter() {
+        return new ByteArrayNativeConverter();
+    }
+
+    public static AttributeConverter<?, ?> getByteArrayWrapperNativeConverter() {
+        return new ByteArrayWrapperNativeConverter();
+    }
+
 }
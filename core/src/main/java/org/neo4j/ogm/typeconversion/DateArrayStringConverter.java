@@ -15,7 +15,6 @@ package org.neo4j.ogm.typeconversion;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.TimeZone;
 
 /**
  * By default the OGM will map date arrays to UTC-based ISO8601 compliant
@@ -33,10 +32,10 @@ import java.util.TimeZone;
  */
 public class DateArrayStringConverter implements AttributeConverter<Date[], String[]> {
 
-    private String format;
+    private final ThreadLocal<SimpleDateFormat> format;
 
     public DateArrayStringConverter(String userDefinedFormat) {
-        this.format = userDefinedFormat;
+        this.format = DateStringConverter.utcFormat(userDefinedFormat);
     }
 
 
@@ -47,8 +46,7 @@ public class DateArrayStringConverter implements AttributeConverter<Date[], Stri
         }
         String[] values = new String[(value.length)];
 
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        SimpleDateFormat simpleDateFormat = format.get();
         int i = 0;
         for (Date date : value) {
             values[i++] = simpleDateFormat.format(date);
@@ -63,10 +61,11 @@ public class DateArrayStringConverter implements AttributeConverter<Date[], Stri
         }
         Date[] dates = new Date[dateValues.length];
 
+        SimpleDateFormat simpleDateFormat = format.get();
         int i = 0;
         try {
             for (String date : dateValues) {
-                dates[i++] = new SimpleDateFormat(format).parse(date);
+                dates[i++] = simpleDateFormat.parse(date);
             }
         } catch (ParseException e) {
             throw new RuntimeException(e);
@@ -32,14 +32,13 @@ import java.util.*;
  */
 public class DateCollectionStringConverter implements AttributeConverter<Collection<Date>, String[]> {
 
-    private SimpleDateFormat simpleDateFormat;
+    private final ThreadLocal<SimpleDateFormat> format;
     private final Class<? extends Collection> collectionClass;
 
 
     public DateCollectionStringConverter(String userDefinedFormat,Class<? extends Collection> collectionClass) {
         this.collectionClass = collectionClass;
-        simpleDateFormat = new SimpleDateFormat(userDefinedFormat);
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        this.format = DateStringConverter.utcFormat(userDefinedFormat);
     }
 
     @Override
@@ -48,6 +47,7 @@ public class DateCollectionStringConverter implements AttributeConverter<Collect
             return null;
         }
         String[] values = new String[(value.size())];
+        SimpleDateFormat simpleDateFormat = format.get();
         int i = 0;
         for (Date date : value) {
             values[i++] = simpleDateFormat.format(date);
@@ -72,6 +72,7 @@ public class DateCollectionStringConverter implements AttributeConverter<Collect
             return null;
         }
         try {
+            SimpleDateFormat simpleDateFormat = format.get();
             for (String value : dateValues) {
                 values.add(simpleDateFormat.parse(value));
             }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.typeconversion;
+
+import java.util.Date;
+
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+
+/**
+ * Stores dates as epoch milliseconds, for drivers that carry numbers to the database in binary form.
+ *
+ * Dates stored as ISO-8601 strings by the default {@link DateStringConverter} are read as well, so that
+ * existing data remains readable.
+ */
+public class DateNativeConverter implements AttributeConverter<Date, Object> {
+
+    private final DateStringConverter isoConverter = new DateStringConverter(DateString.ISO_8601);
+
+    @Override
+    public Long toGraphProperty(Date value) {
+        if (value == null) return null;
+        return value.getTime();
+    }
+
+    @Override
+    public Date toEntityAttribute(Object value) {
+        if (value == null) return null;
+        if (value instanceof Number) {
+            return new Date(((Number) value).longValue());
+        }
+        return isoConverter.toEntityAttribute(value.toString());
+    }
+}
@@ -16,7 +16,9 @@ package org.neo4j.ogm.typeconversion;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * By default the OGM will map date objects to UTC-based ISO8601 compliant
@@ -34,27 +36,43 @@ import java.util.TimeZone;
  */
 public class DateStringConverter implements AttributeConverter<Date, String> {
 
-    private String format;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final Map<String, ThreadLocal<SimpleDateFormat>> UTC_FORMATS = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<SimpleDateFormat> format;
 
     public DateStringConverter(String userDefinedFormat) {
-        this.format = userDefinedFormat;
+        this.format = utcFormat(userDefinedFormat);
+    }
+
+    /**
+     * A {@link SimpleDateFormat} is not thread safe, so each thread gets its own, created on first use
+     * and reused for every value it converts after that. The converters of every property with the same pattern
+     * share these formats, so a thread holds one format per pattern rather than one per converter.
+     *
+     * @param format the date format pattern
+     * @return the UTC date format of the current thread
+     */
+    static ThreadLocal<SimpleDateFormat> utcFormat(String format) {
+        return UTC_FORMATS.computeIfAbsent(format, pattern -> ThreadLocal.withInitial(() -> {
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern);
+            simpleDateFormat.setTimeZone(UTC);
+            return simpleDateFormat;
+        }));
     }
 
     @Override
     public String toGraphProperty(Date value) {
         if (value == null) return null;
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return simpleDateFormat.format(value);
+        return format.get().format(value);
     }
 
     @Override
     public Date toEntityAttribute(String value) {
         if (value == null) return null;
         try {
-            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-            simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-            return simpleDateFormat.parse(value);
+            return format.get().parse(value);
         } catch (ParseException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.typeconversion;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+
+/**
+ * By default the OGM will map {@link Instant} objects to UTC-based ISO8601 compliant String values, in the
+ * same format as {@link java.util.Date} objects, e.g. "2017-01-01T10:15:30.000Z". Digits are only added to the
+ * milliseconds when the instant is more precise.
+ *
+ * The formatters are immutable and shared, so no objects other than the result are created per value.
+ */
+public class InstantStringConverter implements AttributeConverter<Instant, String> {
+
+    private static final DateTimeFormatter FORMAT = new DateTimeFormatterBuilder()
+            .appendPattern("uuuu-MM-dd'T'HH:mm:ss")
+            .appendFraction(ChronoField.NANO_OF_SECOND, 3, 9, true)
+            .appendOffset("+HH:MM", "Z")
+            .toFormatter()
+            .withZone(ZoneOffset.UTC);
+
+    @Override
+    public String toGraphProperty(Instant value) {
+        if (value == null) return null;
+        return FORMAT.format(value);
+    }
+
+    @Override
+    public Instant toEntityAttribute(String value) {
+        if (value == null) return null;
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(value, Instant::from);
+    }
+}
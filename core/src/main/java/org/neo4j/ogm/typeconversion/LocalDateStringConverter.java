@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.typeconversion;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * By default the OGM will map {@link LocalDate} objects to ISO8601 compliant String values, e.g. "2017-01-01".
+ */
+public class LocalDateStringConverter implements AttributeConverter<LocalDate, String> {
+
+    @Override
+    public String toGraphProperty(LocalDate value) {
+        if (value == null) return null;
+        return DateTimeFormatter.ISO_LOCAL_DATE.format(value);
+    }
+
+    @Override
+    public LocalDate toEntityAttribute(String value) {
+        if (value == null) return null;
+        return DateTimeFormatter.ISO_LOCAL_DATE.parse(value, LocalDate::from);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.typeconversion;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+
+/**
+ * By default the OGM will map {@link LocalDateTime} objects to ISO8601 compliant String values without an offset,
+ * e.g. "2017-01-01T10:15:30.000". As for dates, at least the milliseconds are written, so that values of the same
+ * precision sort in chronological order.
+ */
+public class LocalDateTimeStringConverter implements AttributeConverter<LocalDateTime, String> {
+
+    private static final DateTimeFormatter FORMAT = new DateTimeFormatterBuilder()
+            .appendPattern("uuuu-MM-dd'T'HH:mm:ss")
+            .appendFraction(ChronoField.NANO_OF_SECOND, 3, 9, true)
+            .toFormatter();
+
+    @Override
+    public String toGraphProperty(LocalDateTime value) {
+        if (value == null) return null;
+        return FORMAT.format(value);
+    }
+
+    @Override
+    public LocalDateTime toEntityAttribute(String value) {
+        if (value == null) return null;
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse(value, LocalDateTime::from);
+    }
+}
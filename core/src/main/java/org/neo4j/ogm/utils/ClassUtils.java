@@ -16,6 +16,7 @@ package org.neo4j.ogm.utils;
 import java.io.File;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.classloader.ClassLoaderResolver;
 import org.neo4j.ogm.classloader.MetaDataClassLoader;
@@ -33,7 +34,7 @@ public abstract class ClassUtils {
     private static final Logger logger = LoggerFactory.getLogger( ClassUtils.class );
 
 
-    private static Map<String, Class<?>> descriptorTypeMappings = new HashMap<>();
+    private static Map<String, Class<?>> descriptorTypeMappings = new ConcurrentHashMap<>();
 
     @SuppressWarnings("serial")
     private static final Map<String, Class<?>> PRIMITIVE_TYPE_MAP = new HashMap<String, Class<?>>() {{
@@ -55,10 +56,13 @@ public abstract class ClassUtils {
      * @return reified class for the parameter or null
      */
     public static Class<?> getType(String descriptor) {
-        if (descriptorTypeMappings.containsKey(descriptor)) {
-            return descriptorTypeMappings.get(descriptor);
+        if (descriptor == null) {
+            return null;
+        }
+        Class<?> type = descriptorTypeMappings.get(descriptor);
+        if (type != null) {
+            return type;
         }
-        Class<?> type;
         try {
             type = computeType(descriptor);
         }
@@ -66,7 +70,9 @@ public abstract class ClassUtils {
             //return null and swallow the exception
             return null;
         }
-        descriptorTypeMappings.put(descriptor, type);
+        if (type != null) {
+            descriptorTypeMappings.put(descriptor, type);
+        }
         return type;
     }
 
@@ -15,6 +15,7 @@
 package org.neo4j.ogm.utils;
 
 import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.PropertyList;
 
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +27,14 @@ public class PropertyUtils {
 
         Map map = new HashMap();
 
+        if (propertyList instanceof PropertyList) {
+            PropertyList properties = (PropertyList) propertyList;
+            for (int i = 0; i < properties.size(); i++) {
+                map.put(properties.key(i), properties.value(i));
+            }
+            return map;
+        }
+
         for (Property<String, Object> property : propertyList) {
             map.put(property.getKey(), property.getValue());
         }
@@ -37,6 +37,17 @@ public class ConfigurationTest {
         configuration.setEncryptionLevel("REQUIRED");
         configuration.setTrustStrategy("TRUST_SIGNED_CERTIFICATES");
         configuration.setTrustCertFile("/tmp/cert");
+        configuration.setQueryLogSlowThreshold(500);
+        configuration.setQueryLogSampleRate(0.25);
+        configuration.setQueryLogParametersMaxLength(1024);
+        configuration.setHttpAsync(true);
+        configuration.setHttpCompression("gzip");
+        configuration.setEmbeddedNative(true);
+        configuration.setMappingParallelism(8);
+        configuration.setMappingParallelThreshold(5000);
+        configuration.setIdentityMapReferences("weak");
+        configuration.setIdentityMapCapacity(10000);
+        configuration.setMappingNativeTypes(true);
 
         assertEquals("assert", configuration.getAutoIndex());
         assertEquals("dir", configuration.getDumpDir());
@@ -48,6 +59,17 @@ public class ConfigurationTest {
         assertEquals("REQUIRED", configuration.getEncryptionLevel());
         assertEquals("TRUST_SIGNED_CERTIFICATES", configuration.getTrustStrategy());
         assertEquals("/tmp/cert", configuration.getTrustCertFile());
+        assertEquals(500, configuration.getQueryLogSlowThreshold());
+        assertEquals(0.25, configuration.getQueryLogSampleRate(), 0.0);
+        assertEquals(1024, configuration.getQueryLogParametersMaxLength());
+        assertTrue(configuration.getHttpAsync());
+        assertEquals("gzip", configuration.getHttpCompression());
+        assertTrue(configuration.getEmbeddedNative());
+        assertEquals(8, configuration.getMappingParallelism());
+        assertEquals(5000, configuration.getMappingParallelThreshold());
+        assertEquals("weak", configuration.getIdentityMapReferences());
+        assertEquals(10000, configuration.getIdentityMapCapacity());
+        assertTrue(configuration.getMappingNativeTypes());
     }
 
     @Test
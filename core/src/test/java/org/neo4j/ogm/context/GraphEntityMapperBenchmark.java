@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+
+/**
+ * Measures the time taken to map a graph model of users of the cineasts domain, hydrating their nodes with 1 to 32
+ * threads. Each round maps into a new mapping context, so every node is hydrated and registered.
+ *
+ * Run it from the core module once the test classes are compiled, optionally passing the number of nodes
+ * (default 200000):
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) org.neo4j.ogm.context.GraphEntityMapperBenchmark 200000
+ * </pre>
+ */
+public class GraphEntityMapperBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int[] PARALLELISM = {1, 2, 4, 8, 16, 32};
+
+    public static void main(String[] args) {
+        int nodes = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+
+        MetaData metaData = new MetaData("org.neo4j.ogm.domain.cineasts.annotated");
+        DefaultGraphModel graphModel = graphModel(nodes);
+
+        System.out.printf("%d nodes, %d available processors%n", nodes, Runtime.getRuntime().availableProcessors());
+        double sequential = 0;
+        for (int parallelism : PARALLELISM) {
+            ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+            GraphEntityMapper mapper = null;
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS + 1; round++) {
+                mapper = new GraphEntityMapper(metaData, new MappingContext(metaData), pool, 1);
+                long start = System.nanoTime();
+                int mapped = mapper.map(User.class, graphModel).size();
+                long elapsed = System.nanoTime() - start;
+                if (mapped != nodes) {
+                    throw new IllegalStateException("Mapped " + mapped + " of " + nodes + " nodes");
+                }
+                // the first round warms up the pool and the JIT
+                if (round > 0) {
+                    best = Math.min(best, elapsed);
+                }
+            }
+            double millis = best / 1e6;
+            if (parallelism == 1) {
+                sequential = millis;
+            }
+            System.out.printf("parallelism %2d: %8.1f ms, speed-up %.2f%n", parallelism, millis, sequential / millis);
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static DefaultGraphModel graphModel(int nodes) {
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        for (long i = 0; i < nodes; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("login", "user" + i);
+            properties.put("name", "User " + i);
+            properties.put("password", "secret");
+            properties.put("nicknames", new String[]{"u" + i, "user-" + i});
+            properties.put("uuid", new UUID(0, i).toString());
+
+            NodeModel node = new NodeModel();
+            node.setId(i);
+            node.setLabels(new String[]{"User"});
+            node.setProperties(properties);
+            graphModel.getNodes().add(node);
+        }
+        return graphModel;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.domain.policy.Person;
+import org.neo4j.ogm.domain.policy.Policy;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+public class GraphEntityMapperTest {
+
+    private static final int PEOPLE = 500;
+
+    private MetaData metaData;
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        metaData = new MetaData("org.neo4j.ogm.domain.policy");
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void shouldHydrateNodesInParallelLikeSequentially() {
+        MappingContext sequentialContext = new MappingContext(metaData);
+        MappingContext parallelContext = new MappingContext(metaData);
+
+        List<Person> sequential = new GraphEntityMapper(metaData, sequentialContext).map(Person.class, graphModel());
+        List<Person> parallel = new GraphEntityMapper(metaData, parallelContext, pool, 1).map(Person.class, graphModel());
+
+        assertEquals(PEOPLE, sequential.size());
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            Person expected = sequential.get(i);
+            Person actual = parallel.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(1, actual.getWritten().size());
+            assertEquals(expected.getWritten().iterator().next().getId(), actual.getWritten().iterator().next().getId());
+            assertSame(actual, parallelContext.getNodeEntity(actual.getId()));
+        }
+        assertEquals(sequentialContext.getRelationships(), parallelContext.getRelationships());
+    }
+
+    @Test
+    public void shouldReuseEntitiesAlreadyInTheMappingContextWhenHydratingInParallel() {
+        MappingContext mappingContext = new MappingContext(metaData);
+        Person existing = new Person("existing");
+        existing.setId(0L);
+        mappingContext.addNodeEntity(existing, 0L);
+
+        List<Person> people = new GraphEntityMapper(metaData, mappingContext, pool, 1).map(Person.class, graphModel());
+
+        assertSame(existing, people.get(0));
+        assertEquals("existing", people.get(0).getName());
+        assertEquals("person 1", people.get(1).getName());
+    }
+
+    @Test
+    public void shouldSkipNodesOfUnknownClassesWhenHydratingInParallel() {
+        DefaultGraphModel graphModel = graphModel();
+        graphModel.getNodes().add(node(-1L, "Unknown", "unknown"));
+
+        List<Person> people = new GraphEntityMapper(metaData, new MappingContext(metaData), pool, 1).map(Person.class, graphModel);
+
+        assertEquals(PEOPLE, people.size());
+    }
+
+    @Test
+    public void shouldReadNodesOnTheCallingThreadWhenHydratingInParallel() {
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        for (long i = 0; i < PEOPLE; i++) {
+            graphModel.getNodes().add(new ThreadBoundNode(node(i, "Person", "person " + i)));
+        }
+
+        List<Person> people = new GraphEntityMapper(metaData, new MappingContext(metaData), pool, 1).map(Person.class, graphModel);
+
+        assertEquals(PEOPLE, people.size());
+        assertEquals("person 1", people.get(1).getName());
+    }
+
+    private static DefaultGraphModel graphModel() {
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        for (long i = 0; i < PEOPLE; i++) {
+            graphModel.getNodes().add(node(i, "Person", "person " + i));
+            graphModel.getNodes().add(node(PEOPLE + i, "Policy", "policy " + i));
+
+            RelationshipModel writes = new RelationshipModel();
+            writes.setId(i);
+            writes.setType("WRITES_POLICY");
+            writes.setStartNode(i);
+            writes.setEndNode(PEOPLE + i);
+            graphModel.getRelationships().add(writes);
+        }
+        return graphModel;
+    }
+
+    private static NodeModel node(Long id, String label, String name) {
+        NodeModel node = new NodeModel();
+        node.setId(id);
+        node.setLabels(new String[]{label});
+        node.setProperties(Collections.<String, Object>singletonMap("name", name));
+        return node;
+    }
+
+    /**
+     * A node that can only be read on the thread that created it, like the nodes of the embedded driver, which
+     * read their labels and properties in the transaction of that thread.
+     */
+    private static class ThreadBoundNode implements Node {
+
+        private final Node node;
+        private final Thread owner = Thread.currentThread();
+
+        ThreadBoundNode(Node node) {
+            this.node = node;
+        }
+
+        @Override
+        public String[] getLabels() {
+            return owned().getLabels();
+        }
+
+        @Override
+        public String[] getRemovedLabels() {
+            return owned().getRemovedLabels();
+        }
+
+        @Override
+        public Long getId() {
+            return node.getId();
+        }
+
+        @Override
+        public List<Property<String, Object>> getPropertyList() {
+            return owned().getPropertyList();
+        }
+
+        @Override
+        public String getPrimaryIndex() {
+            return owned().getPrimaryIndex();
+        }
+
+        private Node owned() {
+            if (Thread.currentThread() != owner) {
+                throw new IllegalStateException("Read on " + Thread.currentThread().getName());
+            }
+            return node;
+        }
+    }
+}
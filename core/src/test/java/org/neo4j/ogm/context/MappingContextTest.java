@@ -15,14 +15,21 @@ package org.neo4j.ogm.context;
 
 import static org.junit.Assert.*;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.context.register.ReferenceType;
+import org.neo4j.ogm.domain.cineasts.minimum.Actor;
+import org.neo4j.ogm.domain.cineasts.minimum.Movie;
+import org.neo4j.ogm.domain.cineasts.minimum.Role;
 import org.neo4j.ogm.domain.policy.Person;
 import org.neo4j.ogm.domain.policy.Policy;
+import org.neo4j.ogm.entity.io.FieldWriter;
+import org.neo4j.ogm.metadata.ClassInfo;
 
 /**
  * @author Vince Bickers
@@ -31,11 +38,13 @@ import org.neo4j.ogm.domain.policy.Policy;
  */
 public class MappingContextTest {
 
+    private MetaData metaData;
     private MappingContext mappingContext;
 
     @Before
     public void setUp() {
-        mappingContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.policy", "org.neo4j.ogm.context"));
+        metaData = new MetaData("org.neo4j.ogm.domain.policy", "org.neo4j.ogm.context");
+        mappingContext = new MappingContext(metaData);
     }
 
     @Test
@@ -163,4 +172,143 @@ public class MappingContextTest {
         assertFalse(mappingContext.isDirty(immigration));
     }
 
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntitiesBeyondCapacity() {
+        MappingContext boundedContext = new MappingContext(metaData, false, ReferenceType.STRONG, 2);
+
+        Person jim = person("jim", 1L);
+        Person rik = person("rik", 2L);
+        Person ann = person("ann", 3L);
+        boundedContext.addNodeEntity(jim, jim.getId());
+        boundedContext.addNodeEntity(rik, rik.getId());
+        boundedContext.addNodeEntity(ann, ann.getId());
+        boundedContext.addRelationship(new MappedRelationship(jim.getId(), "INFLUENCES", rik.getId(), Person.class, Person.class));
+        boundedContext.getNodeEntity(jim.getId());
+
+        boundedContext.trim();
+
+        assertNull(boundedContext.getNodeEntity(rik.getId()));
+        assertSame(jim, boundedContext.getNodeEntity(jim.getId()));
+        assertSame(ann, boundedContext.getNodeEntity(ann.getId()));
+        assertEquals(2, boundedContext.getEntities(Person.class).size());
+        assertTrue(boundedContext.getRelationships().isEmpty());
+        assertNull(boundedContext.changedProperties(rik));
+        assertEquals(1, boundedContext.evictions());
+    }
+
+    @Test
+    public void shouldNotEvictEntitiesWithUnsavedChanges() {
+        MappingContext boundedContext = new MappingContext(metaData, false, ReferenceType.STRONG, 1);
+
+        Person jim = person("jim", 1L);
+        Person rik = person("rik", 2L);
+        boundedContext.addNodeEntity(jim, jim.getId());
+        boundedContext.addNodeEntity(rik, rik.getId());
+        jim.setName("James");
+
+        boundedContext.trim();
+
+        assertSame(jim, boundedContext.getNodeEntity(jim.getId()));
+        assertNull(boundedContext.getNodeEntity(rik.getId()));
+        assertTrue(boundedContext.isDirty(jim));
+        assertEquals(1, boundedContext.evictions());
+    }
+
+    @Test
+    public void shouldRemoveWeaklyHeldEntitiesOnceCollected() throws InterruptedException {
+        MappingContext weakContext = new MappingContext(metaData, false, ReferenceType.WEAK, 0);
+
+        Person jim = person("jim", 1L);
+        weakContext.addNodeEntity(jim, jim.getId());
+        WeakReference<Person> rik = new WeakReference<>(person("rik", 2L));
+        weakContext.addNodeEntity(rik.get(), 2L);
+        weakContext.addRelationship(new MappedRelationship(1L, "INFLUENCES", 2L, Person.class, Person.class));
+
+        System.gc();
+        assertNotNull("Entities registered by the current operation should not be collected", weakContext.getNodeEntity(2L));
+
+        weakContext.trim();
+        for (int i = 0; i < 50 && rik.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        weakContext.trim();
+
+        assertNull(rik.get());
+        assertNull(weakContext.getNodeEntity(2L));
+        assertSame(jim, weakContext.getNodeEntity(jim.getId()));
+        assertEquals(1, weakContext.getEntities(Person.class).size());
+        assertTrue(weakContext.getRelationships().isEmpty());
+        assertEquals(1, weakContext.evictions());
+    }
+
+    @Test
+    public void shouldSkipCollectedRelationshipEntitiesWhenRemovingTheirStartNode() throws InterruptedException {
+        MetaData cineasts = new MetaData("org.neo4j.ogm.domain.cineasts.minimum");
+        MappingContext weakContext = new MappingContext(cineasts, false, ReferenceType.WEAK, 0);
+
+        Actor keanu = withId(cineasts, new Actor("Keanu"), 1L);
+        Movie matrix = withId(cineasts, new Movie("The Matrix"), 2L);
+        weakContext.addNodeEntity(keanu, 1L);
+        weakContext.addNodeEntity(matrix, 2L);
+        WeakReference<Role> neo = new WeakReference<>(withId(cineasts, new Role("Neo", keanu, matrix), 3L));
+        weakContext.addRelationshipEntity(neo.get(), 3L);
+
+        weakContext.trim();
+        for (int i = 0; i < 50 && neo.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(neo.get());
+
+        weakContext.removeNodeEntity(keanu, 1L);
+
+        assertNull(weakContext.getNodeEntity(1L));
+        assertNull(weakContext.getRelationshipEntity(3L));
+        assertSame(matrix, weakContext.getNodeEntity(2L));
+    }
+
+    @Test
+    public void shouldReportWhatTheContextHolds() {
+        Person jim = person("jim", 1L);
+        Policy healthcare = new Policy("healthcare");
+        healthcare.setId(2L);
+        mappingContext.addNodeEntity(jim, jim.getId());
+        mappingContext.addNodeEntity(healthcare, healthcare.getId());
+        mappingContext.addRelationship(new MappedRelationship(jim.getId(), "INFLUENCES", healthcare.getId(), Person.class, Policy.class));
+
+        MappingContextStatistics statistics = mappingContext.statistics();
+
+        assertEquals(1, statistics.getContexts());
+        assertEquals(2, statistics.getNodeEntities());
+        assertEquals(0, statistics.getRelationshipEntities());
+        assertEquals(1, statistics.getMappedRelationships());
+        assertEquals(2, statistics.getMemoEntries());
+        assertEquals(0, statistics.getLabelHistories());
+        assertEquals(Integer.valueOf(1), statistics.getEntitiesByType().get(Person.class));
+        assertEquals(Integer.valueOf(1), statistics.getEntitiesByType().get(Policy.class));
+        assertTrue(statistics.getEstimatedBytes() > 0);
+
+        MappingContextStatistics total = statistics.plus(statistics);
+        assertEquals(2, total.getContexts());
+        assertEquals(4, total.getNodeEntities());
+        assertEquals(Integer.valueOf(2), total.getEntitiesByType().get(Person.class));
+        assertEquals(2 * statistics.getEstimatedBytes(), total.getEstimatedBytes());
+
+        mappingContext.clear();
+        assertEquals(0, mappingContext.statistics().getNodeEntities());
+        assertEquals(0, mappingContext.statistics().getMemoEntries());
+    }
+
+    private static <T> T withId(MetaData metaData, T entity, Long id) {
+        ClassInfo classInfo = metaData.classInfo(entity);
+        FieldWriter.write(classInfo.getField(classInfo.identityField()), entity, id);
+        return entity;
+    }
+
+    private static Person person(String name, Long id) {
+        Person person = new Person(name);
+        person.setId(id);
+        return person;
+    }
 }
@@ -13,13 +13,17 @@
 
 package org.neo4j.ogm.context;
 
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.domain.education.School;
 import org.neo4j.ogm.domain.education.Teacher;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -57,6 +61,27 @@ public class ObjectMemoTest {
         assertTrue(mappingContext.isDirty(teacher));
     }
 
+    @Test
+    public void testChangedPropertiesDetected() {
+        Teacher teacher = new Teacher("Miss White");
+
+        teacher.setId(115L);
+        mappingContext.addNodeEntity(teacher, teacher.getId());
+        assertEquals(Collections.emptySet(), mappingContext.changedProperties(teacher));
+
+        teacher.setName("Mrs Jones");
+        assertEquals(Collections.singleton("name"), mappingContext.changedProperties(teacher));
+    }
+
+    @Test
+    public void testAllPropertiesRegardedAsChangedWhenNotMemoised() {
+        Teacher teacher = new Teacher("Miss White");
+        assertNull(mappingContext.changedProperties(teacher));
+
+        teacher.setId(116L);
+        assertNull(mappingContext.changedProperties(teacher));
+    }
+
     @Test
     public void testRelatedObjectChangeDoesNotAffectNodeMemoisation() {
         Teacher teacher = new Teacher("Miss White");
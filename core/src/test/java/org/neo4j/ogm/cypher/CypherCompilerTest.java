@@ -44,6 +44,7 @@ import org.neo4j.ogm.domain.education.Teacher;
 import org.neo4j.ogm.domain.forum.Forum;
 import org.neo4j.ogm.domain.forum.ForumTopicLink;
 import org.neo4j.ogm.domain.forum.Topic;
+import org.neo4j.ogm.domain.mappings.Venue;
 import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.social.Individual;
@@ -153,6 +154,37 @@ public class CypherCompilerTest {
         assertTrue(createRelStatements.contains("UNWIND {rows} as row MATCH (startNode) WHERE ID(startNode) = row.startNodeId MATCH (endNode) WHERE ID(endNode) = row.endNodeId MERGE (startNode)-[rel:`SCHOOL`]->(endNode) RETURN row.relRef as ref, ID(rel) as id, row.type as type"));
     }
 
+    @Test
+    public void createNewNodesAndRelationshipsInOneStatement() {
+
+        School waller = new School("Waller");
+        Teacher mary = new Teacher("Mary");
+
+        mary.setSchool(waller);
+
+        Compiler compiler = mapAndCompile(mary);
+        assertTrue(compiler.hasStatementsDependentOnNewNodes());
+
+        List<Statement> statements = compiler.createNodesAndRelationshipsStatements();
+        assertEquals(1, statements.size());
+        String cypher = statements.get(0).getStatement();
+        assertTrue(cypher.startsWith("WITH [] as nodeIds, [] as rels UNWIND {nodes0} as row "));
+        assertTrue(cypher.contains("UNWIND {rels0} as row OPTIONAL MATCH (startNode) WHERE ID(startNode) = CASE WHEN row.startNodeIndex IS NULL THEN row.startNodeId ELSE nodeIds[row.startNodeIndex] END "
+                + "OPTIONAL MATCH (endNode) WHERE ID(endNode) = CASE WHEN row.endNodeIndex IS NULL THEN row.endNodeId ELSE nodeIds[row.endNodeIndex] END "
+                + "FOREACH (ignored IN CASE WHEN startNode IS NULL OR endNode IS NULL THEN [] ELSE [1] END | MERGE (startNode)-[rel:`SCHOOL`]->(endNode)) "
+                + "WITH nodeIds, rels, row, startNode, endNode OPTIONAL MATCH (startNode)-[rel:`SCHOOL`]->(endNode) "
+                + "WITH nodeIds, rels, row.relRef as relRef, min(ID(rel)) as relId "
+                + "WITH nodeIds, rels, collect(CASE WHEN relId IS NULL THEN null ELSE {ref: relRef, id: relId, type: 'rel'} END) as ids "));
+        assertTrue(cypher.endsWith("RETURN result.ref as ref, result.id as id, result.type as type"));
+
+        Map<String, Object> parameters = statements.get(0).getParameters();
+        List nodeRefs = (List) parameters.get("nodeRefs");
+        assertEquals(2, nodeRefs.size());
+        Map rel = (Map) ((List) parameters.get("rels0")).get(0);
+        assertEquals(nodeRefs.get((Integer) rel.get("startNodeIndex")), (long) -System.identityHashCode(mary));
+        assertEquals(nodeRefs.get((Integer) rel.get("endNodeIndex")), (long) -System.identityHashCode(waller));
+    }
+
     @Test
     public void expectNoChangesWhenDomainUnchanged() {
 
@@ -859,6 +891,100 @@ public class CypherCompilerTest {
         }
     }
 
+    @Test
+    public void updateOnlyChangedPropertiesOfExistingNode() {
+        Individual individual = new Individual();
+        individual.setId(5L);
+        individual.setName("Alice");
+        individual.setAge(30);
+        mappingContext.addNodeEntity(individual, 5L);
+
+        individual.setAge(31);
+
+        Compiler compiler = mapAndCompile(individual);
+        List<Statement> statements = compiler.updateNodesStatements();
+        assertEquals(1, statements.size());
+        assertEquals("UNWIND {rows} as row MATCH (n) WHERE ID(n)=row.nodeId SET n:`Individual` SET n += row.props RETURN row.nodeId as ref, ID(n) as id, row.type as type",
+                statements.get(0).getStatement());
+        List rows = (List) statements.get(0).getParameters().get("rows");
+        assertEquals(Collections.singletonMap("age", 31), ((Map) rows.get(0)).get("props"));
+    }
+
+    @Test
+    public void removePropertiesOfExistingNodesSetToNull() {
+        Individual alice = new Individual();
+        alice.setId(5L);
+        alice.setName("Alice");
+        alice.setAge(30);
+        mappingContext.addNodeEntity(alice, 5L);
+
+        Individual bob = new Individual();
+        bob.setId(6L);
+        bob.setName("Bob");
+        bob.setAge(40);
+        mappingContext.addNodeEntity(bob, 6L);
+
+        alice.setName(null);
+        bob.setAge(41);
+        alice.setFriends(Collections.singletonList(bob));
+
+        Compiler compiler = mapAndCompile(alice);
+        List<String> statements = cypherStatements(compiler.updateNodesStatements());
+        assertEquals(2, statements.size());
+        assertTrue(statements.contains("UNWIND {rows} as row MATCH (n) WHERE ID(n)=row.nodeId SET n:`Individual` SET n += row.props REMOVE n.`name` RETURN row.nodeId as ref, ID(n) as id, row.type as type"));
+        assertTrue(statements.contains("UNWIND {rows} as row MATCH (n) WHERE ID(n)=row.nodeId SET n:`Individual` SET n += row.props RETURN row.nodeId as ref, ID(n) as id, row.type as type"));
+    }
+
+    @Test
+    public void updateOnlyChangedPropertiesOfExistingRelationshipEntity() {
+        Forum forum = new Forum();
+        forum.setId(1L);
+        Topic topic = new Topic();
+        topic.setTopicId(2L);
+        ForumTopicLink link = new ForumTopicLink();
+        link.setId(3L);
+        link.setForum(forum);
+        link.setTopic(topic);
+        link.setTimestamp(1647209L);
+        forum.setTopicsInForum(Arrays.asList(link));
+
+        mappingContext.addNodeEntity(forum, 1L);
+        mappingContext.addNodeEntity(topic, 2L);
+        mappingContext.addRelationshipEntity(link, 3L);
+        mappingContext.addRelationship(new MappedRelationship(1L, "HAS_TOPIC", 2L, 3L, Forum.class, ForumTopicLink.class));
+
+        Compiler compiler = mapAndCompile(forum);
+        assertTrue(compiler.updateRelationshipStatements().isEmpty());
+
+        link.setTimestamp(1647210L);
+
+        compiler = mapAndCompile(forum);
+        List<Statement> statements = compiler.updateRelationshipStatements();
+        assertEquals(1, statements.size());
+        List rows = (List) statements.get(0).getParameters().get("rows");
+        assertEquals(Collections.singletonMap("timestamp", 1647210L), ((Map) rows.get(0)).get("props"));
+    }
+
+    @Test
+    public void updateChangedPropertyReadThroughGetterNamedDifferently() {
+        MetaData metaData = new MetaData("org.neo4j.ogm.domain.mappings");
+        MappingContext context = new MappingContext(metaData);
+        Venue venue = new Venue();
+        venue.setNodeId(7L);
+        venue.setName("Roundhouse");
+        venue.setPostCode("NW1 8EH");
+        context.addNodeEntity(venue, 7L);
+
+        venue.setPostCode("NW1 8EJ");
+
+        Compiler compiler = new EntityGraphMapper(metaData, context).map(venue).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        List<Statement> statements = compiler.updateNodesStatements();
+        assertEquals(1, statements.size());
+        List rows = (List) statements.get(0).getParameters().get("rows");
+        assertEquals(Collections.singletonMap("postcode", "NW1 8EJ"), ((Map) rows.get(0)).get("props"));
+    }
+
     private Compiler mapAndCompile(Object object) {
         CompileContext context = this.mapper.map(object);
         Compiler compiler =  context.getCompiler();
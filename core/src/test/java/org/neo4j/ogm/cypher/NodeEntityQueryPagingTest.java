@@ -17,7 +17,10 @@ import static org.junit.Assert.assertEquals;
 import java.util.Arrays;
 
 import org.junit.Test;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
 
 /**
@@ -29,59 +32,114 @@ public class NodeEntityQueryPagingTest {
 
     @Test
     public void testFindAll() {
-        check("MATCH p=()-->() WITH p SKIP 2 LIMIT 2 RETURN p", query.findAll().setPagination(new Pagination(1, 2)).getStatement());
+        check("MATCH p=()-->() WITH p SKIP { `_skip` } LIMIT { `_limit` } RETURN p", query.findAll().setPagination(new Pagination(1, 2)).getStatement());
     }
 
     @Test
     public void testFindById() {
-        check("MATCH (n) WHERE ID(n) IN { ids } WITH n SKIP 2 LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)", query.findAll(Arrays.asList(23L, 24L), 1).setPagination(new Pagination(1, 2)).getStatement());
+        check("MATCH (n) WHERE ID(n) IN { ids } WITH n SKIP { `_skip` } LIMIT { `_limit` } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)", query.findAll(Arrays.asList(23L, 24L), 1).setPagination(new Pagination(1, 2)).getStatement());
     }
 
     @Test
     public void testFindByType() {
-        check("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)", query.findByType("Raptor", 1).setPagination(new Pagination(2, 2)).getStatement());
+        PagingAndSortingQuery pagedQuery = query.findByType("Raptor", 1).setPagination(new Pagination(2, 2));
+        check("MATCH (n:`Raptor`) WITH n SKIP { `_skip` } LIMIT { `_limit` } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)", pagedQuery.getStatement());
+        assertEquals(4, pagedQuery.getParameters().get("_skip"));
+        assertEquals(2, pagedQuery.getParameters().get("_limit"));
+    }
+
+    @Test
+    public void testStatementIsTheSameForEveryPage() {
+        check(query.findByType("Raptor", 1).setPagination(new Pagination(0, 10)).getStatement(),
+                query.findByType("Raptor", 1).setPagination(new Pagination(500, 25)).getStatement());
     }
 
     @Test
     public void testFindByProperty() {
-        check("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 0 LIMIT 2 MATCH p=(n)-[*0..2]-(m) RETURN p, ID(n)", query.findByType("Raptor", new Filters().add(new Filter("name", "velociraptor")), 2).setPagination(new Pagination(0, 2)).getStatement());
+        check("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP { `_skip` } LIMIT { `_limit` } MATCH p=(n)-[*0..2]-(m) RETURN p, ID(n)", query.findByType("Raptor", new Filters().add(new Filter("name", "velociraptor")), 2).setPagination(new Pagination(0, 2)).getStatement());
     }
 
     @Test
     public void testFindByIdDepthZero() {
-        check("MATCH (n) WHERE ID(n) IN { ids } WITH n SKIP 1 LIMIT 1 RETURN n", query.findAll(Arrays.asList(23L, 24L), 0).setPagination(new Pagination(1, 1)).getStatement());
+        check("MATCH (n) WHERE ID(n) IN { ids } WITH n SKIP { `_skip` } LIMIT { `_limit` } RETURN n", query.findAll(Arrays.asList(23L, 24L), 0).setPagination(new Pagination(1, 1)).getStatement());
     }
 
     @Test
     public void testFindByTypeDepthZero() {
-        check("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 RETURN n", query.findByType("Raptor", 0).setPagination(new Pagination(2, 2)).getStatement());
+        check("MATCH (n:`Raptor`) WITH n SKIP { `_skip` } LIMIT { `_limit` } RETURN n", query.findByType("Raptor", 0).setPagination(new Pagination(2, 2)).getStatement());
     }
 
     @Test
     public void testByPropertyDepthZero() {
-        check("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 0 LIMIT 2 RETURN n", query.findByType("Raptor", new Filters().add(new Filter("name", "velociraptor")), 0).setPagination(new Pagination(0, 2)).getStatement());
+        check("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP { `_skip` } LIMIT { `_limit` } RETURN n", query.findByType("Raptor", new Filters().add(new Filter("name", "velociraptor")), 0).setPagination(new Pagination(0, 2)).getStatement());
     }
 
     @Test
     public void testFindByIdDepthInfinite() {
-        check("MATCH (n) WHERE ID(n) IN { ids } WITH n SKIP 2 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)", query.findAll(Arrays.asList(23L, 24L), -1).setPagination(new Pagination(1, 2)).getStatement());
+        check("MATCH (n) WHERE ID(n) IN { ids } WITH n SKIP { `_skip` } LIMIT { `_limit` } MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)", query.findAll(Arrays.asList(23L, 24L), -1).setPagination(new Pagination(1, 2)).getStatement());
     }
 
     @Test
     public void testFindByTypeDepthInfinite() {
-        check("MATCH (n:`Raptor`) WITH n SKIP 6 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)", query.findByType("Raptor", -1).setPagination(new Pagination(3, 2)).getStatement());
+        check("MATCH (n:`Raptor`) WITH n SKIP { `_skip` } LIMIT { `_limit` } MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)", query.findByType("Raptor", -1).setPagination(new Pagination(3, 2)).getStatement());
     }
 
     @Test
     public void testFindByPropertyDepthInfinite() {
-        check("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` }  WITH n SKIP 0 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)", query.findByType("Raptor", new Filters().add(new Filter("name", "velociraptor")), -1).setPagination(new Pagination(0, 2)).getStatement());
+        check("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` }  WITH n SKIP { `_skip` } LIMIT { `_limit` } MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)", query.findByType("Raptor", new Filters().add(new Filter("name", "velociraptor")), -1).setPagination(new Pagination(0, 2)).getStatement());
     }
 
     @Test
     public void testFindByTypeAndOffset() {
         Pagination pagination = new Pagination(1,5);
         pagination.setOffset(3);
-        check("MATCH (n:`Raptor`) WITH n SKIP 3 LIMIT 5 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)", query.findByType("Raptor", 1).setPagination(pagination).getStatement());
+        PagingAndSortingQuery pagedQuery = query.findByType("Raptor", 1).setPagination(pagination);
+        check("MATCH (n:`Raptor`) WITH n SKIP { `_skip` } LIMIT { `_limit` } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)", pagedQuery.getStatement());
+        assertEquals(3, pagedQuery.getParameters().get("_skip"));
+        assertEquals(5, pagedQuery.getParameters().get("_limit"));
+    }
+
+    @Test
+    public void testFindByTypeWithKeysetPagination() {
+        check("MATCH (n:`Raptor`) WITH n ORDER BY ID(n) LIMIT { `_limit` } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)", query.findByType("Raptor", 1).setPagination(new KeysetPagination(2)).getStatement());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeysetPaginationRejectsOffset() {
+        new KeysetPagination(2).setOffset(3);
+    }
+
+    @Test
+    public void testFindByTypeDepthZeroWithKeysetPagination() {
+        check("MATCH (n:`Raptor`) WITH n ORDER BY ID(n) LIMIT { `_limit` } RETURN n, ID(n)", query.findByType("Raptor", 0).setPagination(new KeysetPagination(2)).getStatement());
+    }
+
+    @Test
+    public void testFindByTypeWithKeysetPaginationCursor() {
+        String cursor = KeysetPagination.cursor(42L, Arrays.<Object>asList("Rex"));
+        PagingAndSortingQuery pagedQuery = query.findByType("Raptor", 1)
+                .setSortOrder(new SortOrder().add("name"))
+                .setPagination(new KeysetPagination(2, cursor));
+        check("MATCH (n:`Raptor`) WITH n WHERE ((n.name > { `_cursor_0` }) OR (n.name = { `_cursor_0` } AND ID(n) > { `_cursor_id` })) " +
+                "WITH n ORDER BY n.name,ID(n) LIMIT { `_limit` } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)", pagedQuery.getStatement());
+        assertEquals("Rex", pagedQuery.getParameters().get("_cursor_0"));
+        assertEquals(42L, pagedQuery.getParameters().get("_cursor_id"));
+    }
+
+    @Test
+    public void testFindByPropertyDepthZeroWithKeysetPaginationCursor() {
+        String cursor = KeysetPagination.cursor(42L, Arrays.<Object>asList("Rex"));
+        check("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n WHERE ((n.name < { `_cursor_0` }) OR (n.name = { `_cursor_0` } AND ID(n) > { `_cursor_id` })) " +
+                "WITH n ORDER BY n.name DESC,ID(n) LIMIT { `_limit` } RETURN n, ID(n)",
+                query.findByType("Raptor", new Filters().add(new Filter("name", "velociraptor")), 0)
+                        .setSortOrder(new SortOrder().add(SortOrder.Direction.DESC, "name"))
+                        .setPagination(new KeysetPagination(2, cursor)).getStatement());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testKeysetCursorMustMatchSortOrder() {
+        String cursor = KeysetPagination.cursor(42L, Arrays.<Object>asList("Rex"));
+        query.findByType("Raptor", 1).setPagination(new KeysetPagination(2, cursor)).getStatement();
     }
 
     private void check(String expected, String actual) {
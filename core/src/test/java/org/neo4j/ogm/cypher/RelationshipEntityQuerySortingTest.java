@@ -41,10 +41,8 @@ public class RelationshipEntityQuerySortingTest {
 	public void testFindAllCollection() throws Exception {
 		sortOrder.add("distance");
 		String statement = query.findAll(Arrays.asList(1L, 2L, 3L), 1).setSortOrder(sortOrder).getStatement();
-		String expected = "MATCH ()-[r0]-() WHERE ID(r0) IN {ids}  WITH r0,startnode(r0) AS n, endnode(r0) AS m ORDER BY r0.distance " +
-				"MATCH p1 = (n)-[*0..1]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-				"MATCH p2 = (m)-[*0..1]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths WITH ID(r0) AS rId,startPaths + endPaths  AS paths " +
-				"UNWIND paths AS p RETURN DISTINCT p, rId";
+		String expected = "MATCH (n)-[r0]->(m) WHERE ID(r0) IN {ids} WITH r0,n,m ORDER BY r0.distance " +
+				"UNWIND [n, m] AS e WITH DISTINCT e MATCH p=(e)-[*0..1]-() RETURN p";
 		assertEquals(expected, statement);
 	}
 
@@ -52,9 +50,8 @@ public class RelationshipEntityQuerySortingTest {
 	public void testFindByLabel() throws Exception {
 		sortOrder.add("distance");
 		String statement = query.findByType("ORBITS", 3).setSortOrder(sortOrder).getStatement();
-		String expected = "MATCH ()-[r0:`ORBITS`]-()  WITH r0,startnode(r0) AS n, endnode(r0) AS m " +
-				"ORDER BY r0.distance MATCH p1 = (n)-[*0..3]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-				"MATCH p2 = (m)-[*0..3]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId";
+		String expected = "MATCH (n)-[r0:`ORBITS`]->(m) WITH r0,n,m ORDER BY r0.distance " +
+				"UNWIND [n, m] AS e MATCH p=(e)-[*0..3]-() RETURN p, ID(r0)";
 		assertEquals(expected, statement);
 	}
 
@@ -62,11 +59,8 @@ public class RelationshipEntityQuerySortingTest {
 	public void testFindByProperty() throws Exception {
 		filters.add("distance", 60.2);
 		sortOrder.add("aphelion");
-		String expected = "MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` = { `distance_0` }  " +
-				"WITH r0,startnode(r0) AS n, endnode(r0) AS m ORDER BY r0.aphelion " +
-				"MATCH p1 = (n)-[*0..1]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-				"MATCH p2 = (m)-[*0..1]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-				"WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId";
+		String expected = "MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` = { `distance_0` } WITH r0,n,m ORDER BY r0.aphelion " +
+				"UNWIND [n, m] AS e MATCH p=(e)-[*0..1]-() RETURN p, ID(r0)";
 		assertEquals(expected, query.findByType("ORBITS", filters, 1).setSortOrder(sortOrder).getStatement());
 	}
 
@@ -74,11 +68,8 @@ public class RelationshipEntityQuerySortingTest {
 	public void testMultipleSortOrders() {
 		sortOrder.add(SortOrder.Direction.DESC, "distance", "aphelion");
 		String statement = query.findByType("ORBITS", 3).setSortOrder(sortOrder).getStatement();
-		String expected = "MATCH ()-[r0:`ORBITS`]-()  WITH r0,startnode(r0) AS n, " +
-				"endnode(r0) AS m ORDER BY r0.distance DESC,r0.aphelion DESC " +
-				"MATCH p1 = (n)-[*0..3]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-				"MATCH p2 = (m)-[*0..3]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-				"WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId";
+		String expected = "MATCH (n)-[r0:`ORBITS`]->(m) WITH r0,n,m ORDER BY r0.distance DESC,r0.aphelion DESC " +
+				"UNWIND [n, m] AS e MATCH p=(e)-[*0..3]-() RETURN p, ID(r0)";
 		assertEquals(expected, statement);
 	}
 
@@ -86,10 +77,8 @@ public class RelationshipEntityQuerySortingTest {
 	public void testDifferentSortDirections() {
 		sortOrder.add(SortOrder.Direction.DESC, "type").add("name");
 		String statement = query.findByType("ORBITS", 3).setSortOrder(sortOrder).getStatement();
-		String expected = "MATCH ()-[r0:`ORBITS`]-()  WITH r0,startnode(r0) AS n, endnode(r0) AS m " +
-				"ORDER BY r0.type DESC,r0.name MATCH p1 = (n)-[*0..3]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-				"MATCH p2 = (m)-[*0..3]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths WITH ID(r0) AS rId,startPaths + endPaths  AS paths " +
-				"UNWIND paths AS p RETURN DISTINCT p, rId";
+		String expected = "MATCH (n)-[r0:`ORBITS`]->(m) WITH r0,n,m ORDER BY r0.type DESC,r0.name " +
+				"UNWIND [n, m] AS e MATCH p=(e)-[*0..3]-() RETURN p, ID(r0)";
 		assertEquals(expected, statement);
 	}
 }
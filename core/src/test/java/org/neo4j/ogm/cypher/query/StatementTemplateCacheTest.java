@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.query;
+
+import static org.junit.Assert.*;
+import static org.neo4j.ogm.cypher.query.StatementTemplateCache.shape;
+
+import org.junit.Test;
+import org.neo4j.ogm.cypher.BooleanOperator;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.session.request.FilteredQuery;
+import org.neo4j.ogm.session.request.FilteredQueryBuilder;
+
+public class StatementTemplateCacheTest {
+
+	@Test
+	public void shouldBuildEachShapeOnce() {
+		StatementTemplateCache cache = new StatementTemplateCache(16);
+
+		assertEquals("MATCH (n:`Person`)", cache.get(shape("test", "Person"), () -> "MATCH (n:`Person`)"));
+		assertEquals("MATCH (n:`Person`)", cache.get(shape("test", "Person"), () -> {
+			throw new AssertionError("template should have been cached");
+		}));
+		assertEquals("MATCH (n:`Movie`)", cache.get(shape("test", "Movie"), () -> "MATCH (n:`Movie`)"));
+
+		assertEquals(1, cache.hits());
+		assertEquals(2, cache.misses());
+		assertEquals(1.0 / 3, cache.hitRatio(), 0.0001);
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void shouldNotGrowBeyondCapacity() {
+		StatementTemplateCache cache = new StatementTemplateCache(10);
+		for (int i = 0; i < 100; i++) {
+			cache.get(shape("test", i), () -> "RETURN 1");
+		}
+		assertTrue(cache.size() <= 10);
+		assertEquals(0.0, cache.hitRatio(), 0.0);
+	}
+
+	@Test
+	public void shouldReuseFilteredQueryTextButNotParameters() {
+		FilteredQuery first = FilteredQueryBuilder.buildNodeQuery("Person", filters("Alice", 30));
+		FilteredQuery second = FilteredQueryBuilder.buildNodeQuery("Person", filters("Bob", 40));
+
+		assertEquals("MATCH (n:`Person`) WHERE n.`name` = { `name_0` } AND n.`age` > { `age_1` } ", first.statement());
+		assertEquals(first.statement(), second.statement());
+		assertEquals("Alice", first.parameters().get("name_0"));
+		assertEquals("Bob", second.parameters().get("name_0"));
+		assertEquals(40, second.parameters().get("age_1"));
+	}
+
+	@Test
+	public void shouldDistinguishFilteredQueriesOfDifferentShapes() {
+		Filter negated = new Filter("name", "Alice");
+		negated.setNegated(true);
+
+		FilteredQuery plain = FilteredQueryBuilder.buildNodeQuery("Person", new Filters().add(new Filter("name", "Alice")));
+		FilteredQuery not = FilteredQueryBuilder.buildNodeQuery("Person", new Filters().add(negated));
+
+		assertEquals("MATCH (n:`Person`) WHERE n.`name` = { `name_0` } ", plain.statement());
+		assertEquals("MATCH (n:`Person`) WHERE NOT(n.`name` = { `name_0` } ) ", not.statement());
+	}
+
+	private static Filters filters(String name, int age) {
+		Filter ageFilter = new Filter("age", ComparisonOperator.GREATER_THAN, age);
+		ageFilter.setBooleanOperator(BooleanOperator.AND);
+		return new Filters().add(new Filter("name", name)).add(ageFilter);
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.domain.convertible.bytes;
+
+import java.util.Date;
+
+/**
+ * Uses the default converters for its byte array and date properties.
+ */
+public class Attachment {
+
+    private Long id;
+    private String name;
+    private byte[] content;
+    private Byte[] thumbnail;
+    private Date uploaded;
+
+    public Attachment() {
+    }
+
+    public Attachment(String name, byte[] content, Byte[] thumbnail, Date uploaded) {
+        this.name = name;
+        this.content = content;
+        this.thumbnail = thumbnail;
+        this.uploaded = uploaded;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public Byte[] getThumbnail() {
+        return thumbnail;
+    }
+
+    public Date getUploaded() {
+        return uploaded;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.domain.convertible.date;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class Appointment {
+
+    private Long id;
+
+    // uses the default converters of the java.time types
+    private Instant booked;
+    private LocalDate day;
+    private LocalDateTime start;
+
+    public Appointment() {
+    }
+
+    public Appointment(Instant booked, LocalDate day, LocalDateTime start) {
+        this.booked = booked;
+        this.day = day;
+        this.start = start;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getBooked() {
+        return booked;
+    }
+
+    public void setBooked(Instant booked) {
+        this.booked = booked;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public void setStart(LocalDateTime start) {
+        this.start = start;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.domain.mappings;
+
+import org.neo4j.ogm.annotation.Property;
+
+public class Venue extends Entity {
+
+    private String name;
+    private String postCode;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Property(name = "postcode")
+    public String getPostCode() {
+        return postCode;
+    }
+
+    @Property(name = "postcode")
+    public void setPostCode(String postCode) {
+        this.postCode = postCode;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.domain.social;
+
+import org.neo4j.ogm.annotation.Index;
+
+/**
+ * POJO to test loading by a primary index whose values are longs, like graph ids.
+ */
+public class Citizen {
+
+    private Long id;
+
+    @Index(unique = true, primary = true)
+    private Long passportNumber;
+
+    private String name;
+
+    public Citizen() {
+    }
+
+    public Citizen(Long passportNumber, String name) {
+        this.passportNumber = passportNumber;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getPassportNumber() {
+        return passportNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
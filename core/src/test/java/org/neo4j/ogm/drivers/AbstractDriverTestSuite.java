@@ -34,8 +34,13 @@ import org.neo4j.ogm.domain.social.User;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.exception.TransactionException;
 import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.request.RowDataStatement;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.transaction.Transaction;
 
@@ -46,7 +51,7 @@ import org.neo4j.ogm.transaction.Transaction;
 public abstract class AbstractDriverTestSuite {
 
     private SessionFactory sessionFactory = new SessionFactory("org.neo4j.ogm.domain.social");
-    private Session session;
+    protected Session session;
 
     public abstract void setUpTest();
 
@@ -272,6 +277,41 @@ public abstract class AbstractDriverTestSuite {
         assertEquals(0, session.loadAll(User.class).size());
     }
 
+    @Test
+    public void shouldReturnRowsOfAllStatementsOfARequestInOrder() {
+        assertEquals(Arrays.asList("Bilbo", "Frodo", "Sam"), names(executeStatements()));
+        assertEquals(3, session.countEntitiesOfType(User.class));
+    }
+
+    @Test
+    public void shouldReturnRowsOfAllStatementsOfARequestInOrderWithinTransaction() {
+        try (Transaction tx = session.beginTransaction()) {
+            List<String> names = names(executeStatements());
+            tx.commit();
+            assertEquals(Arrays.asList("Bilbo", "Frodo", "Sam"), names);
+        }
+        assertEquals(3, session.countEntitiesOfType(User.class));
+    }
+
+    protected Response<RowModel> executeStatements() {
+        List<Statement> statements = new ArrayList<>();
+        statements.add(new RowDataStatement("CREATE (u:User {name: {name}}) RETURN u.name AS name", Utils.map("name", "Bilbo")));
+        statements.add(new RowDataStatement("MATCH (u:User {name: 'Bilbo'}) CREATE (f:User {name: {name}}) RETURN f.name AS name", Utils.map("name", "Frodo")));
+        statements.add(new RowDataStatement("CREATE (u:User {name: {name}}) RETURN u.name AS name", Utils.map("name", "Sam")));
+        return Components.driver().request().execute((DefaultRequest) () -> statements);
+    }
+
+    protected static List<String> names(Response<RowModel> response) {
+        List<String> names = new ArrayList<>();
+        try (Response<RowModel> rows = response) {
+            RowModel row;
+            while ((row = rows.next()) != null) {
+                names.add((String) row.getValues()[0]);
+            }
+        }
+        return names;
+    }
+
     /**
      * @see issue 119
      */
@@ -13,12 +13,23 @@
 
 package org.neo4j.ogm.drivers.bolt;
 
+import static org.junit.Assert.*;
 import static org.junit.Assume.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Test;
 import org.neo4j.ogm.drivers.AbstractDriverTestSuite;
 import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.domain.social.User;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.request.RowDataStatement;
 import org.neo4j.ogm.testutil.TestServer;
 
 
@@ -55,4 +66,18 @@ public class BoltDriverTest extends AbstractDriverTestSuite {
 	@Override
 	public void tearDownTest() {
 	}
+
+	@Test
+	public void shouldCommitStatementsOfARequestTogether() {
+		List<Statement> statements = new ArrayList<>();
+		statements.add(new RowDataStatement("CREATE (u:User {name: {name}}) RETURN u.name AS name", Utils.map("name", "Bilbo")));
+		statements.add(new RowDataStatement("MATCH (u:User) WHERE u.name ~ 'Bilbo' RETURN u", Utils.map()));
+		try {
+			names(Components.driver().request().execute((DefaultRequest) () -> statements));
+			fail("Expected a CypherException but got none");
+		} catch (CypherException ce) {
+			assertTrue(ce.getCode().contains("Neo.ClientError.Statement"));
+		}
+		assertEquals(0, session.countEntitiesOfType(User.class));
+	}
 }
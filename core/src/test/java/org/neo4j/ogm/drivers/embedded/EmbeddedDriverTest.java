@@ -13,14 +13,28 @@
 
 package org.neo4j.ogm.drivers.embedded;
 
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.kernel.impl.factory.GraphDatabaseFacade;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.drivers.AbstractDriverTestSuite;
 import org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver;
 import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.drivers.embedded.response.EmbeddedNode;
+import org.neo4j.ogm.drivers.embedded.response.EmbeddedRelationship;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Utils;
 
 /**
  * @author vince
@@ -51,4 +65,36 @@ public class EmbeddedDriverTest extends AbstractDriverTestSuite {
     @Override
     public void tearDownTest() {
     }
+
+    @Test
+    public void shouldAdaptNativeNodesAndRelationshipsWithoutCopyingThem() {
+        session.query("CREATE (:User {name:'Bilbo', rings:[1, 2]})-[:FRIEND {since:1937}]->(:User:Hobbit {name:'Frodo'})", Utils.map());
+
+        DefaultGraphModelRequest request = new DefaultGraphModelRequest("MATCH p=(:User {name:'Bilbo'})-->() RETURN p", Utils.map());
+        try (Response<GraphModel> response = Components.driver().request().execute(request)) {
+            GraphModel graphModel = response.next();
+            assertEquals(2, graphModel.getNodes().size());
+            for (Node node : graphModel.getNodes()) {
+                assertTrue(node instanceof EmbeddedNode);
+                EmbeddedNode embeddedNode = (EmbeddedNode) node;
+                if ("Bilbo".equals(embeddedNode.property("name"))) {
+                    assertArrayEquals(new String[] {"User"}, node.getLabels());
+                    assertEquals(Arrays.asList(1L, 2L), embeddedNode.property("rings"));
+                    assertEquals(2, node.getPropertyList().size());
+                } else {
+                    assertEquals(2, node.getLabels().length);
+                    Property<String, Object> name = node.getPropertyList().get(0);
+                    assertEquals("name", name.getKey());
+                    assertEquals("Frodo", name.getValue());
+                }
+                assertNull(embeddedNode.property("age"));
+            }
+
+            Edge edge = graphModel.getRelationships().iterator().next();
+            assertTrue(edge instanceof EmbeddedRelationship);
+            assertEquals("FRIEND", edge.getType());
+            assertEquals(1937L, ((EmbeddedRelationship) edge).property("since"));
+            assertNull(response.next());
+        }
+    }
 }
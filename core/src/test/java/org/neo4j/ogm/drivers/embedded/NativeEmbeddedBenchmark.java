@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.drivers.embedded;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+
+/**
+ * Measures the throughput of loading, updating and deleting entities with the embedded driver, executing Cypher
+ * and with its Core API requests enabled, on the same impermanent database. The entities form chains of friends
+ * ten long, so loading beyond depth 0 returns their neighbours too.
+ *
+ * Run it from the core module once the test classes are compiled, optionally passing the number of entities (default 1000):
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) org.neo4j.ogm.drivers.embedded.NativeEmbeddedBenchmark 1000
+ * </pre>
+ */
+public class NativeEmbeddedBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int BATCH_SIZE = 100;
+    private static final int CHAIN_LENGTH = 10;
+
+    public static void main(String[] args) {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        Configuration configuration = new Configuration()
+                .setDriverClassName("org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver");
+        Components.configure(configuration);
+        try {
+            SessionFactory sessionFactory = new SessionFactory("org.neo4j.ogm.domain.social");
+            List<Long> ids = createUsers(sessionFactory.openSession(), users);
+
+            System.out.printf("%10s %12s %12s %12s %12s %12s%n", "mode", "load/s", "load d2/s", "loadAll/s", "save/s", "delete/s");
+            for (int round = 0; round < ROUNDS; round++) {
+                for (boolean embeddedNative : new boolean[] { false, true }) {
+                    configuration.setEmbeddedNative(embeddedNative);
+                    Session session = sessionFactory.openSession();
+                    System.out.printf("%10s %12.0f %12.0f %12.0f %12.0f %12.0f%n", embeddedNative ? "native" : "cypher",
+                            load(session, ids, 1), load(session, ids, 2), loadAll(session, ids), save(session, ids), delete(session, users));
+                }
+            }
+        } finally {
+            Components.destroy();
+        }
+    }
+
+    private static List<Long> createUsers(Session session, int count) {
+        List<Individual> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Individual user = individual("user " + i);
+            if (i % CHAIN_LENGTH > 0) {
+                user.getFriends().add(users.get(i - 1));
+                users.get(i - 1).getFriends().add(user);
+            }
+            users.add(user);
+        }
+        for (int i = 0; i < count; i += CHAIN_LENGTH) {
+            session.save(users.get(i));
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Individual user : users) {
+            ids.add(user.getId());
+        }
+        return ids;
+    }
+
+    private static double load(Session session, List<Long> ids, int depth) {
+        long start = System.nanoTime();
+        for (Long id : ids) {
+            session.clear();
+            session.load(Individual.class, id, depth);
+        }
+        return rate(ids.size(), start);
+    }
+
+    private static double loadAll(Session session, List<Long> ids) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            session.clear();
+            session.loadAll(Individual.class, ids.subList(i, Math.min(ids.size(), i + BATCH_SIZE)));
+        }
+        return rate(ids.size(), start);
+    }
+
+    private static double save(Session session, List<Long> ids) {
+        session.clear();
+        List<Individual> users = new ArrayList<>(session.loadAll(Individual.class, ids, 0));
+        long start = System.nanoTime();
+        for (Individual user : users) {
+            user.setName(user.getName() + "'");
+            session.save(user, 0);
+        }
+        return rate(users.size(), start);
+    }
+
+    private static double delete(Session session, int count) {
+        List<Individual> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Individual user = individual("temporary " + i);
+            session.save(user);
+            users.add(user);
+        }
+        long start = System.nanoTime();
+        for (Individual user : users) {
+            session.delete(user);
+        }
+        return rate(users.size(), start);
+    }
+
+    private static Individual individual(String name) {
+        Individual individual = new Individual();
+        individual.setName(name);
+        individual.setFriends(new ArrayList<>());
+        return individual;
+    }
+
+    private static double rate(int operations, long start) {
+        return operations * 1e9 / (System.nanoTime() - start);
+    }
+}
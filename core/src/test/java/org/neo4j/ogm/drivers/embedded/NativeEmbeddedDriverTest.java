@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.drivers.embedded;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.domain.social.Citizen;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.domain.social.User;
+import org.neo4j.ogm.drivers.AbstractDriverTestSuite;
+import org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver;
+import org.neo4j.ogm.drivers.embedded.request.NativeEmbeddedRequest;
+import org.neo4j.ogm.instrumentation.Counter;
+import org.neo4j.ogm.instrumentation.InMemoryInstrumentation;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.instrumentation.Phase;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.request.NativeRequest;
+import org.neo4j.ogm.request.QueryLogger;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.StatementShapes;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.transaction.DefaultTransactionManager;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Runs the driver test suite against the embedded driver with its Core API requests enabled, and checks they
+ * behave as the Cypher statements they replace.
+ */
+public class NativeEmbeddedDriverTest extends AbstractDriverTestSuite {
+
+    @BeforeClass
+    public static void configure() {
+        Components.configure("embedded-native.driver.properties");
+    }
+
+    @AfterClass
+    public static void reset() {
+        Components.destroy();
+    }
+
+    @Override
+    public void setUpTest() {
+    }
+
+    @Override
+    public void tearDownTest() {
+    }
+
+    @Test
+    public void shouldUseNativeRequests() {
+        assertTrue(Components.driver().request() instanceof NativeRequest);
+    }
+
+    @Test
+    public void shouldExpandNodesAsCypherDoes() {
+        Map<String, Object> ids = session.query("CREATE (a:User {name:'a'})-[:FRIEND]->(b:User {name:'b'})-[:FRIEND]->(c:User {name:'c'})" +
+                "-[:FRIEND]->(d:User {name:'d'}), (c)-[:FRIEND]->(a), (b)-[:FRIEND]->(b), (d)-[:FRIEND]->(e:Other {name:'e'}) " +
+                "RETURN ID(a) AS a, ID(e) AS e", Utils.map()).queryResults().iterator().next();
+        Long a = ((Number) ids.get("a")).longValue();
+        Long e = ((Number) ids.get("e")).longValue();
+
+        for (List<Long> nodeIds : Arrays.asList(Collections.singletonList(a), Arrays.asList(a, e), Collections.singletonList(-1L))) {
+            for (String label : Arrays.asList(null, "User")) {
+                for (int depth : new int[] {0, 1, 2, 3, 4, -1}) {
+                    String description = nodeIds + " :" + label + " depth " + depth;
+                    assertEquals(description, cypher(nodeIds, label, depth), expand(nodeIds, label, depth));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldLoadWithoutCypher() {
+        User bilbo = new User("Bilbo Baggins");
+        User frodo = new User("Frodo Baggins");
+        bilbo.befriend(frodo);
+        session.save(bilbo);
+        session.clear();
+
+        statementShapes().reset();
+        User loaded = session.load(User.class, bilbo.getId());
+        Collection<User> all = session.loadAll(User.class, Arrays.asList(bilbo.getId(), frodo.getId()), 0);
+
+        assertEquals(0, statementShapes().statements());
+        assertEquals("Bilbo Baggins", loaded.getName());
+        assertEquals("Frodo Baggins", loaded.getFriends().get(0).getName());
+        assertEquals(2, all.size());
+    }
+
+    @Test
+    public void shouldLoadEntitiesWithAPrimaryIndexWithCypher() {
+        Citizen alice = new Citizen(100001L, "Alice");
+        Citizen bob = new Citizen(100002L, "Bob");
+        session.save(alice);
+        session.save(bob);
+        session.clear();
+
+        // a primary index of longs cannot be told apart from graph ids, so these are left to Cypher
+        statementShapes().reset();
+        Collection<Citizen> all = session.loadAll(Citizen.class, Arrays.asList(alice.getId(), bob.getId()), 0);
+
+        assertEquals(1, statementShapes().statements());
+        assertEquals(2, all.size());
+    }
+
+    @Test
+    public void shouldUpdateExistingNodesWithoutCypher() {
+        Individual individual = new Individual();
+        individual.setName("Gary");
+        individual.setMaxTemp(30.5);
+        session.save(individual);
+
+        individual.setName("Garry");
+        individual.setAge(42);
+        individual.setMaxTemp(null);
+        individual.setLongCollection(Arrays.asList(1L, 2L));
+        individual.setPrimitiveIntArray(new int[] {3, 4});
+        statementShapes().reset();
+        session.save(individual);
+        assertEquals(0, statementShapes().statements());
+
+        GraphDatabaseService database = ((EmbeddedDriver) Components.driver()).getGraphDatabaseService();
+        try (org.neo4j.graphdb.Transaction tx = database.beginTx()) {
+            Node node = database.getNodeById(individual.getId());
+            assertEquals("Garry", node.getProperty("name"));
+            assertEquals(42L, node.getProperty("age"));
+            assertFalse(node.hasProperty("maxTemp"));
+            assertArrayEquals(new long[] {1L, 2L}, (long[]) node.getProperty("longCollection"));
+            assertArrayEquals(new long[] {3L, 4L}, (long[]) node.getProperty("primitiveIntArray"));
+            tx.success();
+        }
+
+        session.clear();
+        Individual loaded = session.load(Individual.class, individual.getId());
+        assertEquals("Garry", loaded.getName());
+        assertEquals(42, loaded.getAge());
+        assertNull(loaded.getMaxTemp());
+        assertEquals(Arrays.asList(1L, 2L), loaded.getLongCollection());
+        assertArrayEquals(new int[] {3, 4}, loaded.getPrimitiveIntArray());
+    }
+
+    @Test
+    public void shouldRollbackNativeUpdates() {
+        Individual individual = new Individual();
+        individual.setName("Gary");
+        session.save(individual);
+
+        try (Transaction tx = session.beginTransaction()) {
+            individual.setName("Garry");
+            session.save(individual);
+            assertEquals("Garry", session.query("MATCH (n) RETURN n.name AS name", Utils.map()).queryResults().iterator().next().get("name"));
+            tx.rollback();
+        }
+
+        session.clear();
+        assertEquals("Gary", session.load(Individual.class, individual.getId()).getName());
+    }
+
+    @Test
+    public void shouldDeleteNodesWithTheirRelationshipsWithoutCypher() {
+        User bilbo = new User("Bilbo Baggins");
+        User frodo = new User("Frodo Baggins");
+        bilbo.befriend(frodo);
+        session.save(bilbo);
+
+        statementShapes().reset();
+        session.delete(bilbo);
+        assertEquals(0, statementShapes().statements());
+
+        assertNull(session.load(User.class, bilbo.getId()));
+        assertEquals(1, session.countEntitiesOfType(User.class));
+        assertEquals(0, ((Number) session.query("MATCH ()-[r]-() RETURN COUNT(r) AS c", Utils.map())
+                .queryResults().iterator().next().get("c")).intValue());
+    }
+
+    @Test
+    public void shouldInstrumentNativeRequests() {
+        SessionFactory sessionFactory = new SessionFactory("org.neo4j.ogm.domain.social");
+        InMemoryInstrumentation instrumentation = new InMemoryInstrumentation();
+        sessionFactory.setInstrumentation(instrumentation);
+        Session instrumented = sessionFactory.openSession();
+        Individual individual = new Individual();
+        individual.setName("Gary");
+        instrumented.save(individual);
+        instrumented.clear();
+        instrumentation.reset();
+
+        Individual loaded = instrumented.load(Individual.class, individual.getId());
+        loaded.setName("Garry");
+        instrumented.save(loaded);
+        instrumented.delete(loaded);
+
+        for (Operation operation : Arrays.asList(Operation.LOAD, Operation.SAVE, Operation.DELETE)) {
+            assertEquals(operation.name(), 1, instrumentation.counter(operation, Counter.STATEMENTS));
+            assertEquals(operation.name(), 1, instrumentation.histogram(operation, Phase.NETWORK).count());
+            assertTrue(operation.name(), instrumentation.histogram(operation, Phase.EXECUTE).count() > 0);
+        }
+        assertEquals(1, instrumentation.histogram(Operation.LOAD, Phase.HYDRATION).count());
+        assertTrue(instrumentation.histogram(Operation.SAVE, Phase.COMPILE).count() > 0);
+    }
+
+    @Test
+    public void shouldLogNativeRequests() {
+        Long id = ((Number) session.query("CREATE (n:User {name:'Bilbo'}) RETURN ID(n) AS id", Utils.map())
+                .queryResults().iterator().next().get("id")).longValue();
+        final List<String> logged = new ArrayList<>();
+        QueryLogger queryLogger = new QueryLogger(new Configuration()) {
+            @Override
+            public void log(List<? extends Statement> statements, long startNanos) {
+                for (Statement statement : statements) {
+                    logged.add(statement.getStatement() + " " + statement.getParameters());
+                }
+            }
+        };
+        EmbeddedDriver driver = (EmbeddedDriver) Components.driver();
+        NativeRequest request = new NativeEmbeddedRequest(driver.getGraphDatabaseService(), new DefaultTransactionManager(null, driver), queryLogger);
+
+        request.expand(Collections.singletonList(id), "User", 2).close();
+        request.deleteNodes(Collections.singletonList(id));
+
+        assertEquals(Arrays.asList("Core API expand to depth 2 of :User {ids=[" + id + "]}", "Core API delete of nodes {ids=[" + id + "]}"), logged);
+    }
+
+    private Set<String> expand(List<Long> nodeIds, String label, int depth) {
+        NativeRequest request = (NativeRequest) Components.driver().request();
+        try (Response<GraphModel> response = request.expand(nodeIds, label, depth)) {
+            return contents(response);
+        }
+    }
+
+    private Set<String> cypher(List<Long> nodeIds, String label, int depth) {
+        String match = label == null ? "MATCH (n)" : "MATCH (n:`" + label + "`)";
+        String statement = depth == 0
+                ? match + " WHERE ID(n) IN { ids } RETURN n"
+                : match + " WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*0.." + (depth < 0 ? "" : depth) + "]-(m) RETURN p";
+        try (Response<GraphModel> response = Components.driver().request().execute(new DefaultGraphModelRequest(statement, Utils.map("ids", nodeIds)))) {
+            return contents(response);
+        }
+    }
+
+    private static Set<String> contents(Response<GraphModel> response) {
+        Set<String> contents = new HashSet<>();
+        GraphModel graphModel;
+        while ((graphModel = response.next()) != null) {
+            for (org.neo4j.ogm.model.Node node : graphModel.getNodes()) {
+                contents.add("node " + node.getId());
+            }
+            for (Edge edge : graphModel.getRelationships()) {
+                contents.add("relationship " + edge.getId() + " " + edge.getStartNode() + "->" + edge.getEndNode());
+            }
+        }
+        return contents;
+    }
+
+    private static StatementShapes statementShapes() {
+        return ((EmbeddedDriver) Components.driver()).statementShapes();
+    }
+}
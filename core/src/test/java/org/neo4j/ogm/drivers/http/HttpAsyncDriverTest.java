@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.drivers.AbstractDriverTestSuite;
+import org.neo4j.ogm.drivers.http.request.AsyncHttpRequest;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.testutil.TestServer;
+
+/**
+ * Runs the driver test suite against the HTTP driver with its non-blocking client enabled.
+ */
+public class HttpAsyncDriverTest extends AbstractDriverTestSuite {
+
+    private static TestServer testServer;
+
+    @BeforeClass
+    public static void configure() {
+        Components.configure("ogm-http-async.properties");
+        testServer = new TestServer.Builder().build();
+    }
+
+    @AfterClass
+    public static void reset() {
+        testServer.shutdown();
+        Components.destroy();
+    }
+
+    @Before
+    public void setUpTest() {
+    }
+
+    @Override
+    public void tearDownTest() {
+    }
+
+    @Test
+    public void shouldExecuteManyRequestsConcurrently() {
+        Request request = Components.driver().request();
+        assertTrue(request instanceof AsyncHttpRequest);
+
+        List<CompletableFuture<Response<RowModel>>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(((AsyncHttpRequest) request).executeAsync(
+                    new DefaultRowModelRequest("RETURN {i} AS i", Collections.singletonMap("i", i))));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            try (Response<RowModel> response = futures.get(i).join()) {
+                assertEquals(i, ((Number) response.next().getValues()[0]).intValue());
+            }
+        }
+    }
+}
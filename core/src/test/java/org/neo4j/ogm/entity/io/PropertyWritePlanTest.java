@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.entity.io;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.metadata.ClassInfo;
+
+public class PropertyWritePlanTest {
+
+    private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.social");
+    private static final ClassInfo individualInfo = metaData.classInfo(Individual.class.getName());
+
+    @Test
+    public void shouldCompileOnePlanPerClass() {
+        assertSame(EntityAccessManager.getPropertyWritePlan(individualInfo), EntityAccessManager.getPropertyWritePlan(individualInfo));
+    }
+
+    @Test
+    public void shouldFindStepsByKeyWhetherOrNotTheKeyIsTheSameInstance() {
+        PropertyWritePlan plan = EntityAccessManager.getPropertyWritePlan(individualInfo);
+        PropertyWritePlan.Step step = plan.step("name");
+        assertTrue(step.hasWriter());
+        assertSame(step, plan.step(new String("name")));
+    }
+
+    @Test
+    public void shouldRememberKeysWithoutWriters() {
+        PropertyWritePlan plan = EntityAccessManager.getPropertyWritePlan(individualInfo);
+        PropertyWritePlan.Step step = plan.step("notAProperty");
+        assertFalse(step.hasWriter());
+        assertSame(step, plan.step("notAProperty"));
+    }
+
+    @Test
+    public void shouldNotGrowThePlanWithKeysWithoutWriters() {
+        PropertyWritePlan plan = new PropertyWritePlan(individualInfo);
+        int size = plan.size();
+        for (int i = 0; i < PropertyWritePlan.MAX_MISSES * 2; i++) {
+            assertFalse(plan.step("unknown" + i).hasWriter());
+        }
+        assertEquals(size, plan.size());
+        assertEquals(PropertyWritePlan.MAX_MISSES, plan.misses());
+        assertTrue(plan.step("name").hasWriter());
+    }
+
+    @Test
+    public void shouldCoerceScalarValues() {
+        PropertyWritePlan plan = EntityAccessManager.getPropertyWritePlan(individualInfo);
+        Individual individual = new Individual();
+        plan.step("age").write(individual, 42L);
+        plan.step("bankBalance").write(individual, 99.5d);
+        plan.step("code").write(individual, 3L);
+        plan.step("numberOfPets").write(individual, 2L);
+        plan.step("maxTemp").write(individual, 30L);
+
+        assertEquals(42, individual.getAge());
+        assertEquals(99.5f, individual.getBankBalance(), 0);
+        assertEquals(3, individual.getCode());
+        assertEquals(Integer.valueOf(2), individual.getNumberOfPets());
+        assertEquals(Double.valueOf(30), individual.getMaxTemp());
+    }
+
+    @Test
+    public void shouldMergeArraysAndCollectionsWithTheirElementType() {
+        PropertyWritePlan plan = EntityAccessManager.getPropertyWritePlan(individualInfo);
+        Individual individual = new Individual();
+        plan.step("floatCollection").write(individual, Arrays.asList(1.5d, 2.5d));
+        plan.step("primitiveIntArray").write(individual, new long[] {1, 2});
+        plan.step("longCollection").write(individual, Arrays.asList(1, 2));
+        plan.step("longCollection").write(individual, Arrays.asList(2, 3));
+
+        assertEquals(Arrays.asList(1.5f, 2.5f), individual.getFloatCollection());
+        assertArrayEquals(new int[] {1, 2}, individual.getPrimitiveIntArray());
+        // merged with the values already held, without duplicates
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L, 3L)), new HashSet<>(individual.getLongCollection()));
+        assertEquals(3, individual.getLongCollection().size());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.instrumentation;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class InstrumentationScopeTest {
+
+    @Test
+    public void shouldNotMeasureAnythingWithoutAnOpenScope() {
+        assertNull(InstrumentationScope.open(Instrumentation.NONE, Operation.LOAD));
+        assertFalse(InstrumentationScope.isActive());
+        assertEquals(InstrumentationScope.NOT_STARTED, InstrumentationScope.start());
+    }
+
+    @Test
+    public void shouldReportPhasesCountersAndTotalToTheInstrumentation() {
+        InMemoryInstrumentation instrumentation = new InMemoryInstrumentation();
+
+        try (InstrumentationScope scope = InstrumentationScope.open(instrumentation, Operation.SAVE)) {
+            assertTrue(InstrumentationScope.isActive());
+            long start = InstrumentationScope.start();
+            InstrumentationScope.stop(Phase.COMPILE, start);
+            InstrumentationScope.count(Counter.STATEMENTS, 2);
+            InstrumentationScope.count(Counter.STATEMENTS, 3);
+        }
+
+        assertFalse(InstrumentationScope.isActive());
+        assertEquals(1, instrumentation.histogram(Operation.SAVE, Phase.COMPILE).count());
+        assertEquals(1, instrumentation.histogram(Operation.SAVE, Phase.TOTAL).count());
+        assertEquals(5, instrumentation.counter(Operation.SAVE, Counter.STATEMENTS));
+        assertEquals(0, instrumentation.histogram(Operation.LOAD, Phase.TOTAL).count());
+    }
+
+    @Test
+    public void shouldJoinTheScopeAlreadyOpenOnTheThread() {
+        InMemoryInstrumentation instrumentation = new InMemoryInstrumentation();
+
+        try (InstrumentationScope scope = InstrumentationScope.open(instrumentation, Operation.DELETE)) {
+            assertNull(InstrumentationScope.open(instrumentation, Operation.QUERY));
+            InstrumentationScope.count(Counter.ROWS, 1);
+        }
+
+        assertEquals(1, instrumentation.counter(Operation.DELETE, Counter.ROWS));
+        assertEquals(0, instrumentation.counter(Operation.QUERY, Counter.ROWS));
+        assertEquals(1, instrumentation.histogram(Operation.DELETE, Phase.TOTAL).count());
+    }
+
+    @Test
+    public void shouldDeductNestedPhasesFromTheEnclosingPhase() throws InterruptedException {
+        final long[] timings = new long[Phase.values().length];
+        Instrumentation instrumentation = new Instrumentation() {
+            @Override
+            public void timing(Operation operation, Phase phase, long nanos) {
+                timings[phase.ordinal()] += nanos;
+            }
+
+            @Override
+            public void count(Operation operation, Counter counter, long amount) {
+            }
+        };
+
+        try (InstrumentationScope scope = InstrumentationScope.open(instrumentation, Operation.LOAD)) {
+            long hydration = InstrumentationScope.start();
+            long network = InstrumentationScope.start();
+            Thread.sleep(50);
+            InstrumentationScope.stop(Phase.NETWORK, network);
+            InstrumentationScope.stop(Phase.HYDRATION, hydration);
+        }
+
+        assertTrue(timings[Phase.NETWORK.ordinal()] >= 50_000_000L);
+        assertTrue(timings[Phase.HYDRATION.ordinal()] < timings[Phase.NETWORK.ordinal()]);
+        assertTrue(timings[Phase.TOTAL.ordinal()] >= timings[Phase.NETWORK.ordinal()] + timings[Phase.HYDRATION.ordinal()]);
+    }
+
+    @Test
+    public void shouldTimeWorkAsAPhase() {
+        InMemoryInstrumentation instrumentation = new InMemoryInstrumentation();
+
+        try (InstrumentationScope scope = InstrumentationScope.open(instrumentation, Operation.LOAD)) {
+            assertEquals("result", InstrumentationScope.time(Phase.EXECUTE, () -> InstrumentationScope.time(Phase.HYDRATION, () -> "result")));
+            try {
+                InstrumentationScope.time(Phase.CONTEXT_UPDATE, () -> {
+                    throw new IllegalStateException();
+                });
+                fail("Should have thrown");
+            } catch (IllegalStateException expected) {
+            }
+        }
+
+        assertEquals(1, instrumentation.histogram(Operation.LOAD, Phase.EXECUTE).count());
+        assertEquals(1, instrumentation.histogram(Operation.LOAD, Phase.HYDRATION).count());
+        assertEquals(1, instrumentation.histogram(Operation.LOAD, Phase.CONTEXT_UPDATE).count());
+        assertEquals("result", InstrumentationScope.time(Phase.EXECUTE, () -> "result"));
+    }
+
+    @Test
+    public void shouldEstimatePercentilesFromTheHistogram() {
+        InMemoryInstrumentation instrumentation = new InMemoryInstrumentation();
+        for (int i = 1; i <= 100; i++) {
+            instrumentation.timing(Operation.QUERY, Phase.NETWORK, i * 1000L);
+        }
+
+        InMemoryInstrumentation.Histogram histogram = instrumentation.histogram(Operation.QUERY, Phase.NETWORK);
+        assertEquals(100, histogram.count());
+        assertEquals(5050000L, histogram.total());
+        assertEquals(100000L, histogram.max());
+
+        long median = histogram.percentile(50);
+        assertTrue(median >= 50000L && median < 100000L);
+        assertEquals(100000L, histogram.percentile(100));
+
+        instrumentation.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentile(99));
+    }
+}
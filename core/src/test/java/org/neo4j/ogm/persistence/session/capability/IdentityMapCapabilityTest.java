@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.OperationScope;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class IdentityMapCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Session session;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.cineasts.annotated");
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+        for (int i = 0; i < 5; i++) {
+            session.save(new User("user" + i, "User " + i, "password"));
+        }
+        Components.getConfiguration().setIdentityMapReferences("weak").setIdentityMapCapacity(3);
+    }
+
+    @After
+    public void clearDatabase() {
+        Components.getConfiguration().setIdentityMapReferences("strong").setIdentityMapCapacity(0);
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldEvictEntitiesBeyondCapacityOnceTheLoadingOperationHasCompleted() {
+        Session boundedSession = sessionFactory.openSession();
+        MappingContext context = ((Neo4jSession) boundedSession).context();
+
+        Collection<User> users = boundedSession.loadAll(User.class);
+        assertEquals(5, users.size());
+        assertEquals(5, context.getEntities(User.class).size());
+
+        assertEquals(5, boundedSession.countEntitiesOfType(User.class));
+        assertEquals(3, context.getEntities(User.class).size());
+        assertEquals(2, context.evictions());
+    }
+
+    @Test
+    public void shouldOnlyTrimTheContextBeforeAnOperationThatIsNotPartOfAnother() {
+        Neo4jSession boundedSession = (Neo4jSession) sessionFactory.openSession();
+        MappingContext context = boundedSession.context();
+
+        try (OperationScope scope = boundedSession.operation(Operation.LOAD)) {
+            boundedSession.loadAll(User.class);
+            boundedSession.countEntitiesOfType(User.class);
+            assertEquals(5, context.getEntities(User.class).size());
+        }
+
+        boundedSession.countEntitiesOfType(User.class);
+        assertEquals(3, context.getEntities(User.class).size());
+    }
+
+    @Test
+    public void shouldKeepEntitiesWithUnsavedChanges() {
+        Session boundedSession = sessionFactory.openSession();
+        MappingContext context = ((Neo4jSession) boundedSession).context();
+
+        List<User> users = new ArrayList<>(boundedSession.loadAll(User.class));
+        for (User user : users) {
+            user.setName(user.getName() + " changed");
+        }
+        boundedSession.countEntitiesOfType(User.class);
+        assertEquals(5, context.getEntities(User.class).size());
+        assertEquals(0, context.evictions());
+
+        boundedSession.save(users);
+        boundedSession.countEntitiesOfType(User.class);
+        assertEquals(3, context.getEntities(User.class).size());
+        assertEquals("User 0 changed", sessionFactory.openSession().load(User.class, "user0").getName());
+    }
+}
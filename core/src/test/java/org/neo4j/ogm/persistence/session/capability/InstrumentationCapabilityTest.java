@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.instrumentation.Counter;
+import org.neo4j.ogm.instrumentation.InMemoryInstrumentation;
+import org.neo4j.ogm.instrumentation.Operation;
+import org.neo4j.ogm.instrumentation.Phase;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class InstrumentationCapabilityTest extends MultiDriverTestClass {
+
+    private InMemoryInstrumentation instrumentation;
+    private Session session;
+
+    @Before
+    public void init() {
+        SessionFactory sessionFactory = new SessionFactory("org.neo4j.ogm.domain.music");
+        instrumentation = new InMemoryInstrumentation();
+        sessionFactory.setInstrumentation(instrumentation);
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+        instrumentation.reset();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldReportThePhasesOfASave() {
+        Artist artist = new Artist("Aerosmith");
+        artist.addAlbum(new Album("Nine Lives"));
+
+        session.save(artist);
+
+        assertEquals(1, instrumentation.histogram(Operation.SAVE, Phase.TOTAL).count());
+        assertTrue(instrumentation.histogram(Operation.SAVE, Phase.COMPILE).count() > 0);
+        assertEquals(2, instrumentation.histogram(Operation.SAVE, Phase.EXECUTE).count()); // the request and the commit
+        assertEquals(1, instrumentation.histogram(Operation.SAVE, Phase.NETWORK).count());
+        assertTrue(instrumentation.histogram(Operation.SAVE, Phase.CONTEXT_UPDATE).count() > 0);
+        assertEquals(1, instrumentation.counter(Operation.SAVE, Counter.STATEMENTS));
+        assertEquals(3, instrumentation.counter(Operation.SAVE, Counter.ROWS)); // two nodes and a relationship
+
+        assertEquals(0, instrumentation.histogram(Operation.LOAD, Phase.TOTAL).count());
+    }
+
+    @Test
+    public void shouldReportThePhasesOfLoadQueryAndDelete() {
+        Artist artist = new Artist("Def Leppard");
+        artist.addAlbum(new Album("Hysteria"));
+        session.save(artist);
+        session.clear();
+        instrumentation.reset();
+
+        Artist loaded = session.load(Artist.class, artist.getId());
+        assertNotNull(loaded);
+        assertEquals(1, instrumentation.histogram(Operation.LOAD, Phase.TOTAL).count());
+        assertEquals(1, instrumentation.histogram(Operation.LOAD, Phase.COMPILE).count());
+        assertEquals(1, instrumentation.histogram(Operation.LOAD, Phase.EXECUTE).count());
+        assertEquals(1, instrumentation.histogram(Operation.LOAD, Phase.NETWORK).count());
+        assertTrue(instrumentation.histogram(Operation.LOAD, Phase.ADAPTATION).count() > 0);
+        assertEquals(1, instrumentation.histogram(Operation.LOAD, Phase.HYDRATION).count());
+        assertEquals(1, instrumentation.counter(Operation.LOAD, Counter.STATEMENTS));
+        assertTrue(instrumentation.counter(Operation.LOAD, Counter.ROWS) > 0);
+
+        session.query(Artist.class, "MATCH (a:Artist) RETURN a", Collections.<String, Object>emptyMap());
+        session.countEntitiesOfType(Artist.class);
+        assertEquals(2, instrumentation.histogram(Operation.QUERY, Phase.TOTAL).count());
+        assertEquals(2, instrumentation.counter(Operation.QUERY, Counter.STATEMENTS));
+
+        session.delete(loaded);
+        assertEquals(1, instrumentation.histogram(Operation.DELETE, Phase.TOTAL).count());
+        assertEquals(1, instrumentation.histogram(Operation.DELETE, Phase.EXECUTE).count());
+        assertEquals(1, instrumentation.histogram(Operation.DELETE, Phase.CONTEXT_UPDATE).count());
+        assertEquals(1, instrumentation.counter(Operation.DELETE, Counter.STATEMENTS));
+    }
+
+    @Test
+    public void shouldNotInstrumentSessionsWithoutInstrumentation() {
+        Session uninstrumented = new SessionFactory("org.neo4j.ogm.domain.music").openSession();
+        uninstrumented.save(new Artist("Bon Jovi"));
+        uninstrumented.loadAll(Artist.class);
+
+        for (Operation operation : Operation.values()) {
+            assertEquals(0, instrumentation.histogram(operation, Phase.TOTAL).count());
+        }
+    }
+}
@@ -18,6 +18,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -29,13 +30,19 @@ import java.util.List;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.neo4j.ogm.config.Components;
 import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
 import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.request.StatementShapes;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
@@ -699,5 +706,87 @@ public class LoadCapabilityTest extends MultiDriverTestClass {
 
     }
 
+    @Test
+    public void shouldIterateAllPagesUsingKeysetPagination() {
+        session.save(new Artist("Led Zeppelin"));
+        session.save(new Artist("Bon Jovi"));
+        session.save(new Artist("Abba"));
+        session.save(new Artist("Abba"));
+
+        List<String> artistNames = new ArrayList<>();
+        KeysetPagination page = new KeysetPagination(2);
+        int pages = 0;
+        while (true) {
+            session.clear();
+            Collection<Artist> artists = session.loadAll(Artist.class, new SortOrder().add("name"), page, 0);
+            for (Artist artist : artists) {
+                artistNames.add(artist.getName());
+            }
+            pages++;
+            if (!page.hasNext()) {
+                break;
+            }
+            page = page.next();
+        }
+
+        assertEquals(3, pages);
+        assertEquals(Arrays.asList("Abba", "Abba", "Bon Jovi", "Led Zeppelin", "The Beatles"), artistNames);
+    }
+
+    @Test
+    public void shouldIterateFilteredPagesUsingKeysetPaginationAtDepthOne() {
+        session.save(new Artist("Led Zeppelin"));
+        session.save(new Artist("Bon Jovi"));
+
+        KeysetPagination page = new KeysetPagination(1);
+        Collection<Artist> artists = session.loadAll(Artist.class, new Filter("name", ComparisonOperator.STARTING_WITH, "The"), new SortOrder().add(SortOrder.Direction.DESC, "name"), page);
+        assertEquals(1, artists.size());
+        Artist beatles = artists.iterator().next();
+        assertEquals("The Beatles", beatles.getName());
+        assertEquals(1, beatles.getAlbums().size());
+        assertTrue(page.hasNext());
+
+        page = page.next();
+        artists = session.loadAll(Artist.class, new Filter("name", ComparisonOperator.STARTING_WITH, "The"), new SortOrder().add(SortOrder.Direction.DESC, "name"), page);
+        assertEquals(0, artists.size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    public void shouldRejectKeysetPaginationWhenLoadingByIdOrInstance() {
+        Collection<Artist> artists = session.loadAll(Artist.class);
+        List<Long> ids = new ArrayList<>();
+        for (Artist artist : artists) {
+            ids.add(artist.getId());
+        }
+        try {
+            session.loadAll(Artist.class, ids, new KeysetPagination(1));
+            fail("Keyset pagination should not be accepted when loading by id");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Keyset pagination is not supported when loading by id", e.getMessage());
+        }
+        try {
+            session.loadAll(artists, new KeysetPagination(1));
+            fail("Keyset pagination should not be accepted when loading by instance");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Keyset pagination is not supported when loading by instance", e.getMessage());
+        }
+    }
 
+    @Test
+    public void shouldUseTheSameStatementForEveryPage() {
+        session.save(new Artist("Led Zeppelin"));
+        session.save(new Artist("Bon Jovi"));
+
+        statementShapes().reset();
+        for (int page = 0; page < 3; page++) {
+            assertEquals(1, session.loadAll(Artist.class, new SortOrder().add("name"), new Pagination(page, 1)).size());
+        }
+        assertEquals(3, statementShapes().statements());
+        assertEquals(1, statementShapes().distinctShapes());
+    }
+
+    private static StatementShapes statementShapes() {
+        return ((AbstractConfigurableDriver) Components.driver()).statementShapes();
+    }
 }
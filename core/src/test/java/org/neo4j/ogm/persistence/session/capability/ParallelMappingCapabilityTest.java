@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.junit.Assert.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class ParallelMappingCapabilityTest extends MultiDriverTestClass {
+
+    private static final int ALBUMS = 50;
+
+    private SessionFactory sessionFactory;
+    private Session session;
+
+    @Before
+    public void init() {
+        Components.getConfiguration().setMappingParallelism(4).setMappingParallelThreshold(1);
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.music");
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        Artist artist = new Artist("Iron Maiden");
+        for (int i = 0; i < ALBUMS; i++) {
+            artist.addAlbum(new Album("Album " + i));
+        }
+        session.save(artist);
+        session.clear();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+        sessionFactory.close();
+        Components.getConfiguration().setMappingParallelism(1).setMappingParallelThreshold(10000);
+    }
+
+    @Test
+    public void shouldMapResultsInParallel() {
+        Collection<Album> albums = session.loadAll(Album.class);
+        assertEquals(ALBUMS, names(albums).size());
+
+        Artist artist = session.loadAll(Artist.class).iterator().next();
+        assertEquals("Iron Maiden", artist.getName());
+        assertEquals(ALBUMS, artist.getAlbums().size());
+
+        session.clear();
+        Iterable<Album> queried = session.query(Album.class, "MATCH (a:`l'album`) RETURN a", Collections.<String, Object>emptyMap());
+        assertEquals(names(albums), names(queried));
+    }
+
+    @Test
+    public void shouldMapResultsInParallelInATransaction() {
+        try (Transaction tx = session.beginTransaction()) {
+            Artist artist = session.loadAll(Artist.class).iterator().next();
+            assertEquals(ALBUMS, artist.getAlbums().size());
+            for (Album album : artist.getAlbums()) {
+                assertTrue(album.getName().startsWith("Album "));
+                assertSame(artist, album.getArtist());
+            }
+            tx.commit();
+        }
+    }
+
+    private static Set<String> names(Iterable<Album> albums) {
+        Set<String> names = new HashSet<>();
+        for (Album album : albums) {
+            names.add(album.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.context.ProjectionMapper;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.cineasts.annotated.Rating;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.exception.MappingException;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class ProjectionCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private UUID aliceUuid;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.cineasts.annotated");
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        User alice = new User("alice", "Alice", "password");
+        aliceUuid = alice.getUuid();
+        Movie pulpFiction = new Movie("Pulp Fiction", 1994);
+        Movie matrix = new Movie("The Matrix", 1999);
+        alice.setRatings(new HashSet<>(Arrays.asList(rating(alice, pulpFiction, 5), rating(alice, matrix, 3))));
+        session.save(alice);
+        session.save(new Movie("Casablanca", 1942));
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldProjectPropertiesOntoAnInterface() {
+        Session projections = sessionFactory.openSession();
+        List<MovieTitle> titles = new ArrayList<>(projections.loadProjections(Movie.class, MovieTitle.class,
+                new Filters(), new SortOrder().add("title"), null));
+
+        assertEquals(3, titles.size());
+        assertEquals("Casablanca", titles.get(0).getTitle());
+        assertEquals(1942, titles.get(0).getYear());
+        assertEquals("The Matrix", titles.get(2).getTitle());
+        assertTrue(((Neo4jSession) projections).context().getEntities(Movie.class).isEmpty());
+    }
+
+    @Test
+    public void shouldProjectRelationshipEntitiesAndTheirNodes() {
+        assumeTrue(Components.neo4jVersion() >= 3.1);
+        Collection<UserRatings> users = session.loadProjections(User.class, UserRatings.class);
+
+        assertEquals(1, users.size());
+        UserRatings alice = users.iterator().next();
+        assertNotNull(alice.id);
+        assertEquals("Alice", alice.name);
+        assertEquals(aliceUuid, alice.uuid);
+        assertEquals(2, alice.ratings.size());
+        int stars = 0;
+        for (RatingSummary rating : alice.ratings) {
+            stars += rating.stars;
+            assertTrue(rating.movie.getTitle().equals("Pulp Fiction") || rating.movie.getTitle().equals("The Matrix"));
+        }
+        assertEquals(8, stars);
+    }
+
+    @Test
+    public void shouldProjectRelatedNodes() {
+        assumeTrue(Components.neo4jVersion() >= 3.1);
+        Collection<MovieRaters> movies = session.loadProjections(Movie.class, MovieRaters.class,
+                new Filters().add(new Filter("title", "Pulp Fiction")));
+
+        assertEquals(1, movies.size());
+        MovieRaters movie = movies.iterator().next();
+        assertEquals(1, movie.ratings.size());
+        assertEquals("alice", movie.ratings.get(0).user.login);
+        assertEquals(5, movie.ratings.get(0).stars);
+    }
+
+    @Test
+    public void shouldFilterSortAndPageProjections() {
+        Filters filters = new Filters().add(new Filter("year", ComparisonOperator.GREATER_THAN, 1950));
+        SortOrder sortOrder = new SortOrder().add(SortOrder.Direction.DESC, "year");
+
+        Collection<MovieTitle> first = session.loadProjections(Movie.class, MovieTitle.class, filters, sortOrder, new Pagination(0, 1));
+        Collection<MovieTitle> second = session.loadProjections(Movie.class, MovieTitle.class, filters, sortOrder, new Pagination(1, 1));
+
+        assertEquals(1, first.size());
+        assertEquals("The Matrix", first.iterator().next().getTitle());
+        assertEquals(1, second.size());
+        assertEquals("Pulp Fiction", second.iterator().next().getTitle());
+    }
+
+    @Test(expected = MappingException.class)
+    public void shouldRejectPropertiesTheEntityDoesNotHave() {
+        session.loadProjections(Movie.class, UserRatings.class);
+    }
+
+    @Test(expected = MappingException.class)
+    public void shouldRejectRelatedValuesBeforeNeo4j31() {
+        new ProjectionMapper<>(((Neo4jSession) session).metaData(), User.class, UserRatings.class, 3.0);
+    }
+
+    private static Rating rating(User user, Movie movie, int stars) {
+        Rating rating = new Rating();
+        rating.setUser(user);
+        rating.setMovie(movie);
+        rating.setStars(stars);
+        return rating;
+    }
+
+    public interface MovieTitle {
+
+        String getTitle();
+
+        int getYear();
+    }
+
+    static class UserRatings {
+
+        Long id;
+        String name;
+        UUID uuid;
+        Collection<RatingSummary> ratings = Collections.emptyList();
+    }
+
+    static class RatingSummary {
+
+        int stars;
+        MovieTitle movie;
+    }
+
+    static class MovieRaters {
+
+        String title;
+        List<Rater> ratings;
+    }
+
+    static class Rater {
+
+        int stars;
+        UserLogin user;
+    }
+
+    static class UserLogin {
+
+        String login;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.junit.Assert.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.cineasts.annotated.Rating;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.exception.ReadOnlySessionException;
+import org.neo4j.ogm.exception.TransactionException;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class ReadOnlySessionCapabilityTest extends MultiDriverTestClass {
+
+    private Session session;
+    private Session readOnlySession;
+
+    @Before
+    public void init() {
+        SessionFactory sessionFactory = new SessionFactory("org.neo4j.ogm.domain.cineasts.annotated");
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        User user = new User("alice", "Alice", "password");
+        Movie movie = new Movie("Pulp Fiction", 1994);
+        Rating rating = new Rating();
+        rating.setUser(user);
+        rating.setMovie(movie);
+        rating.setStars(5);
+        user.setRatings(new HashSet<>(Collections.singleton(rating)));
+        session.save(user);
+
+        readOnlySession = sessionFactory.openReadOnlySession();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldLoadEntitiesWithoutTrackingTheirState() {
+        User user = readOnlySession.load(User.class, "alice");
+
+        assertEquals("Alice", user.getName());
+        assertEquals(1, user.getRatings().size());
+        Rating rating = user.getRatings().iterator().next();
+        assertEquals(5, rating.getStars());
+        assertEquals("Pulp Fiction", rating.getMovie().getTitle());
+
+        Neo4jSession neo4jSession = (Neo4jSession) readOnlySession;
+        assertTrue(neo4jSession.isReadOnly());
+        assertTrue(neo4jSession.context().isReadOnly());
+        assertTrue(neo4jSession.context().getRelationships().isEmpty());
+        assertNull(neo4jSession.context().changedProperties(user));
+    }
+
+    @Test
+    public void shouldKeepTheIdentityOfLoadedEntities() {
+        User user = readOnlySession.load(User.class, "alice");
+        Collection<User> users = readOnlySession.loadAll(User.class);
+
+        assertEquals(1, users.size());
+        assertSame(user, users.iterator().next());
+    }
+
+    @Test
+    public void shouldRejectSaves() {
+        User user = readOnlySession.load(User.class, "alice");
+        user.setName("Bob");
+        try {
+            readOnlySession.save(user);
+            fail("A read-only session should not save");
+        } catch (ReadOnlySessionException e) {
+            assertEquals("Entities cannot be saved or deleted in a read-only session", e.getMessage());
+        }
+        assertEquals("Alice", session.load(User.class, "alice").getName());
+    }
+
+    @Test
+    public void shouldRejectDeletes() {
+        User user = readOnlySession.load(User.class, "alice");
+        try {
+            readOnlySession.delete(user);
+            fail("A read-only session should not delete");
+        } catch (ReadOnlySessionException e) {
+            assertEquals("Entities cannot be saved or deleted in a read-only session", e.getMessage());
+        }
+        try {
+            readOnlySession.purgeDatabase();
+            fail("A read-only session should not purge the database");
+        } catch (ReadOnlySessionException e) {
+            assertEquals("Entities cannot be saved or deleted in a read-only session", e.getMessage());
+        }
+        assertEquals(1, session.countEntitiesOfType(User.class));
+    }
+
+    @Test
+    public void shouldRejectQueriesModifyingTheGraph() {
+        Result result = readOnlySession.query("MATCH (u:User) RETURN count(u) AS users", Collections.emptyMap());
+        assertEquals(1L, ((Number) result.queryResults().iterator().next().get("users")).longValue());
+
+        try {
+            readOnlySession.query("CREATE (u:User {login: 'bob'})", Collections.emptyMap());
+            fail("A read-only session should not modify the graph");
+        } catch (ReadOnlySessionException e) {
+            assertEquals("Cypher query must not modify the graph in a read-only session", e.getMessage());
+        }
+        assertEquals(1, session.countEntitiesOfType(User.class));
+    }
+
+    @Test
+    public void shouldBeginReadOnlyTransactions() {
+        try (Transaction tx = readOnlySession.beginTransaction()) {
+            assertTrue(tx.isReadOnly());
+            assertEquals("Alice", readOnlySession.load(User.class, "alice").getName());
+        }
+        try {
+            readOnlySession.beginTransaction(Transaction.Type.READ_WRITE);
+            fail("A read-only session should not begin a READ_WRITE transaction");
+        } catch (TransactionException e) {
+            assertEquals("A read-only session can only begin READ_ONLY transactions", e.getMessage());
+        }
+    }
+}
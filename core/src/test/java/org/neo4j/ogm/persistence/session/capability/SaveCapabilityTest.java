@@ -17,24 +17,33 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.compiler.CompileContext;
+import org.neo4j.ogm.config.Components;
 import org.neo4j.ogm.context.EntityGraphMapper;
 import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
 import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.request.StatementShapes;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Luanne Misquitta
@@ -61,6 +70,76 @@ public class SaveCapabilityTest extends MultiDriverTestClass{
         session.purgeDatabase();
     }
 
+    @Test
+    public void shouldSaveNewNodesAndRelationshipsInOneStatement() {
+        Album nineLives = new Album("Nine Lives");
+        aerosmith.addAlbum(nineLives);
+
+        statementShapes().reset();
+        session.save(aerosmith);
+        assertEquals(1, statementShapes().statements());
+
+        session.clear();
+        Artist loaded = session.load(Artist.class, aerosmith.getId());
+        assertEquals(1, loaded.getAlbums().size());
+        assertEquals(nineLives.getId(), loaded.getAlbums().iterator().next().getId());
+    }
+
+    @Test
+    public void shouldSaveNewNodesWhenARelatedNodeHasBeenDeletedSinceItWasLoaded() {
+        session.save(aerosmith);
+        session.clear();
+        Artist loaded = session.load(Artist.class, aerosmith.getId());
+
+        Session otherSession = new SessionFactory("org.neo4j.ogm.domain.music").openSession();
+        otherSession.query("MATCH (n) WHERE ID(n) = {id} DETACH DELETE n", Collections.singletonMap("id", aerosmith.getId()));
+
+        Album nineLives = new Album("Nine Lives");
+        loaded.addAlbum(nineLives);
+        try (Transaction tx = session.beginTransaction()) {
+            session.save(loaded);
+            tx.commit();
+        }
+
+        assertNotNull(nineLives.getId());
+        session.clear();
+        assertEquals(0, session.countEntitiesOfType(Artist.class));
+        Album album = session.load(Album.class, nineLives.getId());
+        assertEquals("Nine Lives", album.getName());
+        assertNull(album.getArtist());
+    }
+
+    @Test
+    public void shouldMapOneIdToANewRelationshipMatchingParallelRelationships() {
+        Album nineLives = new Album("Nine Lives");
+        Studio fantasy = new Studio("Fantasy");
+        session.save(nineLives);
+        session.save(fantasy);
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("album", nineLives.getId());
+        params.put("studio", fantasy.getId());
+        Map<String, Object> ids = session.query("MATCH (a), (s) WHERE ID(a) = {album} AND ID(s) = {studio} "
+                + "CREATE (a)-[r1:`RECORDED-AT` {year: 1997}]->(s), (a)-[r2:`RECORDED-AT` {year: 1997}]->(s) "
+                + "RETURN ID(r1) as r1, ID(r2) as r2", params).iterator().next();
+        session.clear();
+
+        Album loaded = session.load(Album.class, nineLives.getId(), 0);
+        Recording recording = new Recording(loaded, session.load(Studio.class, fantasy.getId(), 0), 1997);
+        loaded.setRecording(recording);
+        loaded.setArtist(aerosmith);
+        aerosmith.addAlbum(loaded);
+        session.save(loaded);
+
+        assertNotNull(aerosmith.getId());
+        Long r1 = ((Number) ids.get("r1")).longValue();
+        Long r2 = ((Number) ids.get("r2")).longValue();
+        assertTrue(recording.getId().equals(r1) || recording.getId().equals(r2));
+        Long other = recording.getId().equals(r1) ? r2 : r1;
+        assertNull(((Neo4jSession) session).context().getRelationshipEntity(other));
+        assertEquals(2L, session.queryForObject(Long.class, "MATCH ()-[r:`RECORDED-AT`]->() RETURN count(r)", Collections.<String, Object>emptyMap()).longValue());
+    }
+
     /**
      * @see Issue #84
      */
@@ -191,4 +270,7 @@ public class SaveCapabilityTest extends MultiDriverTestClass{
 
     }
 
+    private static StatementShapes statementShapes() {
+        return ((AbstractConfigurableDriver) Components.driver()).statementShapes();
+    }
 }
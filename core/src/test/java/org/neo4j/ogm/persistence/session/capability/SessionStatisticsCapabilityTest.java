@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.context.MappingContextStatistics;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.cineasts.annotated.Rating;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class SessionStatisticsCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Session session;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.cineasts.annotated");
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        User user = new User("alice", "Alice", "password");
+        Rating rating = new Rating();
+        rating.setUser(user);
+        rating.setMovie(new Movie("Pulp Fiction", 1994));
+        rating.setStars(5);
+        user.setRatings(new HashSet<>(Collections.singleton(rating)));
+        session.save(user);
+        session.clear();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldReportTheEntitiesHeldBySessions() {
+        Session readingSession = sessionFactory.openSession();
+        readingSession.load(User.class, "alice");
+
+        MappingContextStatistics statistics = readingSession.statistics();
+        assertEquals(2, statistics.getNodeEntities());
+        assertEquals(1, statistics.getRelationshipEntities());
+        assertEquals(3, statistics.getMemoEntries());
+        assertFalse(statistics.getMappedRelationships() == 0);
+        assertEquals(Integer.valueOf(1), statistics.getEntitiesByType().get(User.class));
+        assertEquals(Integer.valueOf(1), statistics.getEntitiesByType().get(Movie.class));
+        assertEquals(Integer.valueOf(1), statistics.getEntitiesByType().get(Rating.class));
+        assertTrue(statistics.getEstimatedBytes() > 0);
+
+        MappingContextStatistics total = sessionFactory.statistics();
+        assertEquals(2, total.getContexts());
+        assertEquals(2, total.getNodeEntities());
+        assertEquals(statistics.getEstimatedBytes(), total.getEstimatedBytes());
+
+        readingSession.clear();
+        assertEquals(0, readingSession.statistics().getNodeEntities());
+        assertEquals(0, sessionFactory.statistics().getEstimatedBytes());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.cineasts.annotated.Rating;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.StatelessSession;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class StatelessSessionCapabilityTest extends MultiDriverTestClass {
+
+    private Session session;
+    private StatelessSession statelessSession;
+
+    @Before
+    public void init() {
+        SessionFactory sessionFactory = new SessionFactory("org.neo4j.ogm.domain.cineasts.annotated");
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+        statelessSession = sessionFactory.openStatelessSession(3);
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldInsertNodeEntitiesInBatchesAndReturnTheirIds() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            users.add(new User("user" + i, "User " + i, "password"));
+        }
+
+        List<Long> ids = statelessSession.insert(users);
+
+        assertEquals(10, ids.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(ids.get(i), users.get(i).getId());
+            User loaded = session.load(User.class, "user" + i);
+            assertEquals(ids.get(i), loaded.getId());
+            assertEquals(users.get(i).getUuid(), loaded.getUuid());
+        }
+    }
+
+    @Test
+    public void shouldInsertRelationshipEntitiesBetweenInsertedNodes() {
+        User user = new User("alice", "Alice", "password");
+        Movie movie = new Movie("Pulp Fiction", 1994);
+        statelessSession.insert(Arrays.asList(user, movie));
+
+        Rating rating = new Rating();
+        rating.setUser(user);
+        rating.setMovie(movie);
+        rating.setStars(5);
+        List<Long> ids = statelessSession.insert(Collections.singletonList(rating));
+
+        assertEquals(ids.get(0), rating.getId());
+        User loaded = session.load(User.class, "alice");
+        assertEquals(1, loaded.getRatings().size());
+        Rating loadedRating = loaded.getRatings().iterator().next();
+        assertEquals(5, loadedRating.getStars());
+        assertEquals("Pulp Fiction", loadedRating.getMovie().getTitle());
+    }
+
+    @Test
+    public void shouldInsertWithinAnOpenTransaction() {
+        try (Transaction tx = statelessSession.beginTransaction()) {
+            statelessSession.insert(Arrays.asList(new Movie("Alien", 1979), new Movie("Aliens", 1986), new Movie("Alien 3", 1992),
+                    new Movie("Alien Resurrection", 1997)));
+            tx.rollback();
+        }
+
+        assertEquals(0, session.countEntitiesOfType(Movie.class));
+    }
+
+    @Test
+    public void shouldNotInsertEntitiesThatAlreadyHaveAnId() {
+        Movie movie = new Movie("Heat", 1995);
+        session.save(movie);
+
+        try {
+            statelessSession.insert(Collections.singletonList(movie));
+            fail("Should not insert an existing entity");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().contains("Only new entities"));
+        }
+    }
+
+    @Test
+    public void shouldLoadPagesIntoNewInstances() {
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            movies.add(new Movie("Movie " + i, 2000 + i));
+        }
+        statelessSession.insert(movies);
+
+        List<Movie> exported = new ArrayList<>();
+        KeysetPagination page = new KeysetPagination(2);
+        exported.addAll(statelessSession.loadAll(Movie.class, new SortOrder().add("year"), page));
+        while (page.hasNext()) {
+            page = page.next();
+            exported.addAll(statelessSession.loadAll(Movie.class, new SortOrder().add("year"), page));
+        }
+
+        assertEquals(5, exported.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Movie " + i, exported.get(i).getTitle());
+        }
+
+        Collection<Movie> again = statelessSession.loadAll(Movie.class, new SortOrder().add("year"), new KeysetPagination(1));
+        assertNotSame(exported.get(0), again.iterator().next());
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.neo4j.ogm.annotation.typeconversion.DateString;
 import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.domain.convertible.date.Appointment;
 import org.neo4j.ogm.domain.convertible.date.Memo;
 import org.neo4j.ogm.domain.convertible.enums.Education;
 import org.neo4j.ogm.domain.convertible.enums.Gender;
@@ -32,6 +33,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.Assert.*;
@@ -188,6 +192,24 @@ public class ConvertibleIntegrationTest extends MultiDriverTestClass {
         assertEquals(new Date(0).getTime(), memo.getClosed().getTime());
     }
 
+    @Test
+    public void shouldSaveAndRetrieveJavaTimeValues() {
+        Instant booked = Instant.ofEpochSecond(1483228800L, 123456789);
+        LocalDate day = LocalDate.of(2017, 3, 1);
+        LocalDateTime start = LocalDateTime.of(2017, 3, 1, 10, 15);
+        session.save(new Appointment(booked, day, start));
+        session.clear();
+
+        Appointment appointment = session.loadAll(Appointment.class, new Filter("day", day)).iterator().next();
+        assertEquals(booked, appointment.getBooked());
+        assertEquals(day, appointment.getDay());
+        assertEquals(start, appointment.getStart());
+
+        Map<String, Object> row = session.query("MATCH (a:Appointment) RETURN a.booked AS booked, a.day AS day", Collections.emptyMap()).iterator().next();
+        assertEquals("2017-01-01T00:00:00.123456789Z", row.get("booked"));
+        assertEquals("2017-03-01", row.get("day"));
+    }
+
     /**
      * @see Issue #77
      */
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.persistence.types.convertible;
+
+import static org.junit.Assert.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.domain.convertible.bytes.Attachment;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class NativeTypesConversionTest extends MultiDriverTestClass {
+
+    private static final byte[] CONTENT = {1, 2, 3, -128, 127};
+    private static final Date UPLOADED = new Date(1483228800000L);
+
+    private Session session;
+    private Set<Class<?>> nativeTypes;
+
+    @Before
+    public void init() {
+        Components.getConfiguration().setMappingNativeTypes(true);
+        session = new SessionFactory("org.neo4j.ogm.domain.convertible.bytes").openSession();
+        session.purgeDatabase();
+        nativeTypes = Components.driver().nativeTypes();
+    }
+
+    @After
+    public void clearDatabase() {
+        Components.getConfiguration().setMappingNativeTypes(false);
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldSaveAndLoadByteArraysAndDates() {
+        session.save(new Attachment("report", CONTENT, new Byte[] {4, 5}, UPLOADED));
+        session.clear();
+
+        Attachment attachment = session.loadAll(Attachment.class).iterator().next();
+        assertArrayEquals(CONTENT, attachment.getContent());
+        assertArrayEquals(new Byte[] {4, 5}, attachment.getThumbnail());
+        assertEquals(UPLOADED, attachment.getUploaded());
+    }
+
+    @Test
+    public void shouldStoreTheTypesTheDriverCarriesNatively() {
+        session.save(new Attachment("report", CONTENT, new Byte[] {4, 5}, UPLOADED));
+
+        Map<String, Object> row = session.query("MATCH (a:Attachment) RETURN a.content AS content, a.uploaded AS uploaded",
+                Collections.<String, Object>emptyMap()).iterator().next();
+
+        assertEquals(nativeTypes.contains(Date.class), row.get("uploaded") instanceof Number);
+        assertEquals(nativeTypes.contains(byte[].class), !(row.get("content") instanceof String));
+    }
+
+    @Test
+    public void shouldReadValuesStoredAsStrings() {
+        session.query("CREATE (:Attachment {name: 'legacy', content: 'AQID', thumbnail: 'BAU=', uploaded: '2017-01-01T00:00:00.000Z'})",
+                Utils.map());
+
+        Attachment attachment = session.loadAll(Attachment.class).iterator().next();
+        assertArrayEquals(new byte[] {1, 2, 3}, attachment.getContent());
+        assertArrayEquals(new Byte[] {4, 5}, attachment.getThumbnail());
+        assertEquals(UPLOADED, attachment.getUploaded());
+    }
+
+    @Test
+    public void shouldFilterOnDates() {
+        session.save(new Attachment("old", CONTENT, null, new Date(UPLOADED.getTime() - 1000)));
+        session.save(new Attachment("new", CONTENT, null, UPLOADED));
+
+        Collection<Attachment> attachments = session.loadAll(Attachment.class,
+                new Filter("uploaded", ComparisonOperator.GREATER_THAN_EQUAL, UPLOADED));
+        assertEquals(1, attachments.size());
+        assertEquals("new", attachments.iterator().next().getName());
+    }
+}
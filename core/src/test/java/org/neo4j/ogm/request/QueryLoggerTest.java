@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.request;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+
+public class QueryLoggerTest {
+
+    @Test
+    public void shouldRenderStatementWithParameters() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("name", "Aerosmith");
+        parameters.put("ids", Arrays.asList(1L, 2L));
+        parameters.put("scores", new int[]{3, 4});
+
+        String rendered = render(256, new DefaultRowModelRequest("MATCH (n) WHERE n.name = {name} RETURN n", parameters));
+
+        assertEquals("MATCH (n) WHERE n.name = {name} RETURN n with params {name=Aerosmith, ids=[1, 2], scores=[3, 4]}", rendered);
+    }
+
+    @Test
+    public void shouldTruncateLargeParameters() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("nodeRef", -i);
+            rows.add(row);
+        }
+
+        String rendered = render(40, new DefaultRowModelRequest("UNWIND {rows} as row CREATE (n)", Collections.singletonMap("rows", rows)));
+
+        assertEquals("UNWIND {rows} as row CREATE (n) with params {rows=[{nodeRef=0}, {nodeRef=-1}, {nodeR...", rendered);
+    }
+
+    @Test
+    public void shouldRenderStatementsOfARequestTogether() {
+        String rendered = render(256,
+                new DefaultRowModelRequest("MATCH (n) RETURN n", Collections.<String, Object>emptyMap()),
+                new DefaultRowModelRequest("MATCH (n) WHERE ID(n) = {id} DELETE n", Collections.singletonMap("id", 1L)));
+
+        assertEquals("MATCH (n) RETURN n; MATCH (n) WHERE ID(n) = {id} DELETE n with params {id=1}", rendered);
+    }
+
+    @Test
+    public void shouldNotTimeStatementsWhenNeitherSlowNorSampledStatementsAreLogged() {
+        assertFalse(new QueryLogger(new Configuration().setQueryLogSlowThreshold(-1).setQueryLogSampleRate(0)).isTiming());
+    }
+
+    private static String render(int maxLength, Statement... statements) {
+        return new QueryLogger.Rendering(Arrays.asList(statements), maxLength).toString();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.response.model;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class NameTableTest {
+
+    @Test
+    public void shouldReturnTheSameInstanceForEqualNames() {
+        NameTable names = new NameTable(10);
+        String first = names.intern(new String("Person"));
+
+        assertSame(first, names.intern(new String("Person")));
+        assertNull(names.intern((String) null));
+    }
+
+    @Test
+    public void shouldPreferRegisteredNames() {
+        NameTable names = new NameTable(10);
+        String registered = new String("FRIEND_OF");
+        names.register(registered);
+
+        assertSame(registered, names.intern(new String("FRIEND_OF")));
+    }
+
+    @Test
+    public void shouldNotAdmitNamesBeyondItsCapacity() {
+        NameTable names = new NameTable(1);
+        String registered = new String("name");
+        names.register(registered);
+        names.register(new String("age"));
+        assertEquals(2, names.size());
+
+        String unknown = new String("height");
+        assertSame(unknown, names.intern(unknown));
+        assertNotSame(unknown, names.intern(new String("height")));
+        assertSame(registered, names.intern(new String("name")));
+        assertEquals(2, names.size());
+    }
+
+    @Test
+    public void shouldInternLabelsAndTypesOfAGraphModel() {
+        NameTable names = new NameTable(10);
+        String label = names.intern(new String("Person"));
+        String type = names.intern(new String("KNOWS"));
+
+        NodeModel node = new NodeModel();
+        node.setId(1L);
+        node.setLabels(new String[]{new String("Person")});
+        RelationshipModel relationship = new RelationshipModel();
+        relationship.setId(2L);
+        relationship.setType(new String("KNOWS"));
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        graphModel.getNodes().add(node);
+        graphModel.getRelationships().add(relationship);
+
+        names.intern(graphModel);
+
+        assertSame(label, node.getLabels()[0]);
+        assertSame(type, relationship.getType());
+    }
+
+    @Test
+    public void shouldInternTheKeysOfPropertiesReadFromTheDatabase() {
+        String key = new String("NameTableTest.key");
+        NameTable.names().register(key);
+        PropertyList properties = new PropertyList(Collections.singletonMap(new String("NameTableTest.key"), 1L));
+
+        assertSame(key, properties.key(0));
+    }
+}
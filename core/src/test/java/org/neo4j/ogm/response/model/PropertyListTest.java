@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.response.model;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.model.Property;
+
+public class PropertyListTest {
+
+    @Test
+    public void shouldHoldPropertiesOfAMapByIndexAndKey() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "Frodo");
+        map.put("age", 50L);
+
+        PropertyList properties = new PropertyList(map);
+
+        assertEquals(2, properties.size());
+        assertEquals("name", properties.key(0));
+        assertEquals("Frodo", properties.value(0));
+        assertEquals(50L, properties.value("age"));
+        assertEquals(1, properties.indexOfKey("age"));
+        assertEquals(-1, properties.indexOfKey("height"));
+        assertNull(properties.value("height"));
+    }
+
+    @Test
+    public void shouldGrowWhenPropertiesAreAppended() {
+        PropertyList properties = new PropertyList();
+        for (int i = 0; i < 10; i++) {
+            properties.append("key" + i, i);
+        }
+
+        assertEquals(10, properties.size());
+        assertEquals(9, properties.value("key9"));
+    }
+
+    @Test
+    public void shouldSupportTheListOperationsOfThePropertyModels() {
+        PropertyList properties = new PropertyList();
+        properties.add(new PropertyModel<>("name", (Object) "Sam"));
+        properties.add(0, new PropertyModel<>("age", (Object) 38L));
+        properties.add(new PropertyModel<>("home", (Object) "Shire"));
+
+        assertEquals(new PropertyModel<>("age", 38L), properties.get(0));
+        assertEquals(Arrays.asList("age", "name", "home"), keys(properties));
+
+        properties.remove(1);
+        assertEquals(Arrays.asList("age", "home"), keys(properties));
+
+        properties.set(1, new PropertyModel<>("home", (Object) "Bag End"));
+        assertEquals("Bag End", properties.value("home"));
+
+        properties.clear();
+        assertTrue(properties.isEmpty());
+    }
+
+    @Test
+    public void shouldCopyOtherListsButReuseAPropertyList() {
+        List<Property<String, Object>> list = new ArrayList<>();
+        list.add(new PropertyModel<>("name", (Object) "Pippin"));
+
+        PropertyList copy = PropertyList.of(list);
+        assertEquals("Pippin", copy.value("name"));
+        assertSame(copy, PropertyList.of(copy));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldNotReadBeyondTheLastProperty() {
+        PropertyList properties = new PropertyList(4);
+        properties.append("name", "Merry");
+        properties.value(1);
+    }
+
+    private static List<String> keys(PropertyList properties) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < properties.size(); i++) {
+            keys.add(properties.key(i));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.config.Components;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+
+/**
+ * Compares the statements loading relationship entities with the path collecting statements they replaced, on
+ * RATED relationships between users and movies of the cineasts domain. Every user rates the same number of movies,
+ * so each user's neighbourhood is shared by all of their ratings.
+ *
+ * Both forms are executed on the same embedded database and their results read into graph models, without mapping
+ * them to entities. Run it from the core module once the test classes are compiled, optionally passing the number of
+ * users and the number of ratings per user (default 1000 and 20):
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) org.neo4j.ogm.session.request.strategy.impl.RelationshipQueryBenchmark 1000 20
+ * </pre>
+ */
+public class RelationshipQueryBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int MOVIES = 500;
+    private static final int BATCH_SIZE = 100;
+
+    private static final String LEGACY_FIND_BY_TYPE = "MATCH ()-[r0:`RATED`]-()  WITH r0,startnode(r0) AS n, endnode(r0) AS m%s " +
+            "MATCH p1 = (n)-[*0..1]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
+            "MATCH p2 = (m)-[*0..1]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
+            "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId";
+    private static final String LEGACY_FIND_ALL_BY_TYPE = "MATCH ()-[r0:`RATED`]-() WHERE ID(r0) IN {ids}  " +
+            "WITH r0,startnode(r0) AS n, endnode(r0) AS m " +
+            "MATCH p1 = (n)-[*0..1]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
+            "MATCH p2 = (m)-[*1..1]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
+            "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId";
+
+    public static void main(String[] args) {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int ratingsPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Components.configure(new Configuration().setDriverClassName("org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver"));
+        try {
+            // the session provides the transaction manager used by the driver's requests
+            Session session = new SessionFactory("org.neo4j.ogm.domain.cineasts.annotated").openSession();
+            List<Long> ids = createRatings(session, users, ratingsPerUser);
+            RelationshipQueryStatements<Long> statements = new RelationshipQueryStatements<>();
+            String pagination = new Pagination(0, BATCH_SIZE).toString();
+
+            System.out.printf("%8s %14s %14s %14s %14s%n", "form", "loadAll ms", "loadAll rows", "byIds ms", "paged ms");
+            for (int round = 0; round < ROUNDS; round++) {
+                long[] legacyAll = loadAll(String.format(LEGACY_FIND_BY_TYPE, ""));
+                long legacyByIds = loadByIds(LEGACY_FIND_ALL_BY_TYPE, ids);
+                long legacyPaged = loadPages(String.format(LEGACY_FIND_BY_TYPE, pagination), ids.size());
+                System.out.printf("%8s %14d %14d %14d %14d%n", "legacy", legacyAll[0], legacyAll[1], legacyByIds, legacyPaged);
+
+                long[] all = loadAll(statements.findByType("RATED", 1).getStatement());
+                long byIds = loadByIds(statements.findAllByType("RATED", ids, 1).getStatement(), ids);
+                PagingAndSortingQuery paged = statements.findByType("RATED", 1).setPagination(new Pagination(0, BATCH_SIZE));
+                long pages = loadPages(paged.getStatement(), ids.size());
+                System.out.printf("%8s %14d %14d %14d %14d%n", "directed", all[0], all[1], byIds, pages);
+            }
+        } finally {
+            Components.destroy();
+        }
+    }
+
+    private static List<Long> createRatings(Session session, int users, int ratingsPerUser) {
+        session.query("UNWIND range(0, {movies} - 1) AS i CREATE (:Movie {title: 'movie ' + i})", Utils.map("movies", MOVIES));
+        session.query("UNWIND range(0, {users} - 1) AS i CREATE (u:User {name: 'user ' + i}) " +
+                        "WITH u, i MATCH (m:Movie) WHERE m.title IN [j IN range(0, {ratings} - 1) | 'movie ' + ((i * 7 + j * 13) % {movies})] " +
+                        "CREATE (u)-[:RATED {stars: 1 + (i + ID(m)) % 5}]->(m)",
+                Utils.map("users", users, "ratings", ratingsPerUser, "movies", MOVIES));
+
+        List<Long> ids = new ArrayList<>();
+        for (Map<String, Object> row : session.query("MATCH ()-[r:RATED]->() RETURN ID(r) AS id", Utils.map())) {
+            ids.add(((Number) row.get("id")).longValue());
+        }
+        return ids;
+    }
+
+    private static long[] loadAll(String statement) {
+        long start = System.nanoTime();
+        long rows = drain(statement, Utils.map());
+        return new long[] { (System.nanoTime() - start) / 1000000, rows };
+    }
+
+    private static long loadByIds(String statement, List<Long> ids) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            drain(statement, Utils.map("ids", ids.subList(i, Math.min(ids.size(), i + BATCH_SIZE))));
+        }
+        return (System.nanoTime() - start) / 1000000;
+    }
+
+    private static long loadPages(String statement, int count) {
+        long start = System.nanoTime();
+        for (int page = 0; page * BATCH_SIZE < count; page++) {
+            Map<String, Object> parameters = new Pagination(page, BATCH_SIZE).parameters();
+            try (Response<GraphRowListModel> response = Components.driver().request()
+                    .execute(new DefaultGraphRowListModelRequest(statement, parameters))) {
+                while (response.next() != null) {
+                    // read every row
+                }
+            }
+        }
+        return (System.nanoTime() - start) / 1000000;
+    }
+
+    private static long drain(String statement, Map<String, ?> parameters) {
+        long rows = 0;
+        try (Response<GraphModel> response = Components.driver().request().execute(new DefaultGraphModelRequest(statement, parameters))) {
+            while (response.next() != null) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -37,21 +37,15 @@ public class RelationshipQueryStatementsTest {
 
     @Test
     public void testFindOne() throws Exception {
-        assertEquals("MATCH ()-[r0]-() WHERE ID(r0)={id}  " +
-                "WITH STARTNODE(r0) AS n, ENDNODE(r0) AS m MATCH p1 = (n)-[*0..2]-() " +
-                "WITH COLLECT(DISTINCT p1) AS startPaths, m MATCH p2 = (m)-[*0..2]-() " +
-                "WITH startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH startPaths + endPaths AS paths UNWIND paths AS p RETURN DISTINCT p",
+        assertEquals("MATCH (n)-[r0]->(m) WHERE ID(r0)={id} WITH r0,n,m " +
+                "UNWIND [n, m] AS e WITH DISTINCT e MATCH p=(e)-[*0..2]-() RETURN p",
                 query.findOne(0L, 2).getStatement());
     }
 
     @Test
     public void testFindAllCollection() throws Exception {
-        assertEquals("MATCH ()-[r0]-() WHERE ID(r0) IN {ids}  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m " +
-                "MATCH p1 = (n)-[*0..1]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-                "MATCH p2 = (m)-[*0..1]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n)-[r0]->(m) WHERE ID(r0) IN {ids} WITH r0,n,m " +
+                "UNWIND [n, m] AS e WITH DISTINCT e MATCH p=(e)-[*0..1]-() RETURN p",
                 query.findAll(Arrays.asList(1L, 2L, 3L), 1).getStatement());
     }
 
@@ -62,11 +56,8 @@ public class RelationshipQueryStatementsTest {
 
     @Test
     public void testFindByLabel() throws Exception {
-        assertEquals("MATCH ()-[r0:`ORBITS`]-()  WITH r0,startnode(r0) AS n, endnode(r0) AS m " +
-                "MATCH p1 = (n)-[*0..3]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-                "MATCH p2 = (m)-[*0..3]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p " +
-                "RETURN DISTINCT p, rId", query.findByType("ORBITS", 3).getStatement());
+        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..3]-() RETURN p, ID(r0)", query.findByType("ORBITS", 3).getStatement());
     }
 
     /**
@@ -75,23 +66,15 @@ public class RelationshipQueryStatementsTest {
      */
     @Test
     public void testFindAllByTypeCollection() throws Exception {
-        assertEquals("MATCH ()-[r0:`ORBITS`]-() WHERE ID(r0) IN {ids}  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m MATCH p1 = (n)-[*0..1]-() " +
-                "WITH r0, COLLECT(DISTINCT p1) AS startPaths, m MATCH p2 = (m)-[*1..1]-() " +
-                "WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths " +
-                "UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE ID(r0) IN {ids} WITH r0,n,m " +
+                "UNWIND [n, m] AS e WITH DISTINCT e MATCH p=(e)-[*0..1]-() RETURN p",
                 query.findAllByType("ORBITS", Arrays.asList(1L, 2L, 3L), 1).getStatement());
     }
 
     @Test
     public void testFindByProperty() throws Exception {
-        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` = { `distance_0` }  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m MATCH p1 = (n)-[*0..4]-() " +
-                "WITH r0, COLLECT(DISTINCT p1) AS startPaths, m MATCH p2 = (m)-[*0..4]-() " +
-                "WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths " +
-                "UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` = { `distance_0` } WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(new Filter("distance", 60.2)), 4).getStatement());
     }
 
@@ -149,12 +132,8 @@ public class RelationshipQueryStatementsTest {
         planetFilter.setRelationshipType("ORBITS");
         planetFilter.setRelationshipDirection("OUTGOING");
         planetFilter.setComparisonOperator(ComparisonOperator.EQUALS);
-        assertEquals("MATCH (n:`Planet`) WHERE n.`name` = { `world_name_0` } " +
-                "MATCH (n)-[r0:`ORBITS`]->(m)  WITH r0,startnode(r0) AS n, endnode(r0) AS m " +
-                "MATCH p1 = (n)-[*0..4]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-                "MATCH p2 = (m)-[*0..4]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths " +
-                "UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n:`Planet`) WHERE n.`name` = { `world_name_0` } MATCH (n)-[r0:`ORBITS`]->(m) WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(planetFilter), 4).getStatement());
     }
 
@@ -172,11 +151,8 @@ public class RelationshipQueryStatementsTest {
         planetFilter.setRelationshipType("ORBITS");
         planetFilter.setRelationshipDirection("INCOMING");
         planetFilter.setComparisonOperator(ComparisonOperator.EQUALS);
-        assertEquals("MATCH (m:`Planet`) WHERE m.`name` = { `world_name_0` } MATCH (n)-[r0:`ORBITS`]->(m)  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m MATCH p1 = (n)-[*0..4]-() " +
-                "WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-                "MATCH p2 = (m)-[*0..4]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (m:`Planet`) WHERE m.`name` = { `world_name_0` } MATCH (n)-[r0:`ORBITS`]->(m) WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(planetFilter), 4).getStatement());
     }
 
@@ -205,12 +181,8 @@ public class RelationshipQueryStatementsTest {
         planetMoonsFilter.setBooleanOperator(BooleanOperator.AND);
         planetMoonsFilter.setComparisonOperator(ComparisonOperator.EQUALS);
 
-        assertEquals("MATCH (n:`Planet`) WHERE n.`name` = { `world_name_0` } AND n.`moons` = { `moons_moons_1` } " +
-                        "MATCH (n)-[r0:`ORBITS`]->(m)  WITH r0,startnode(r0) AS n, endnode(r0) AS m " +
-                        "MATCH p1 = (n)-[*0..4]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-                        "MATCH p2 = (m)-[*0..4]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                        "WITH ID(r0) AS rId,startPaths + endPaths  AS paths " +
-                        "UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n:`Planet`) WHERE n.`name` = { `world_name_0` } AND n.`moons` = { `moons_moons_1` } MATCH (n)-[r0:`ORBITS`]->(m) WITH r0,n,m " +
+                        "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(planetNameFilter, planetMoonsFilter), 4).getStatement());
     }
 
@@ -239,11 +211,8 @@ public class RelationshipQueryStatementsTest {
         planetFilter.setRelationshipDirection("INCOMING");
         planetFilter.setComparisonOperator(ComparisonOperator.EQUALS);
 
-        assertEquals("MATCH (n:`Moon`) WHERE n.`name` = { `world_name_0` } MATCH (m:`Planet`) WHERE m.`colour` = { `colour_colour_1` } " +
-                "MATCH (n)-[r0:`ORBITS`]->(m)  WITH r0,startnode(r0) AS n, endnode(r0) AS m " +
-                "MATCH p1 = (n)-[*0..4]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
-                "MATCH p2 = (m)-[*0..4]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n:`Moon`) WHERE n.`name` = { `world_name_0` } MATCH (m:`Planet`) WHERE m.`colour` = { `colour_colour_1` } MATCH (n)-[r0:`ORBITS`]->(m) WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(moonFilter, planetFilter), 4).getStatement());
     }
 
@@ -256,11 +225,8 @@ public class RelationshipQueryStatementsTest {
         Filter distance = new Filter("distance", 60.2);
         Filter time = new Filter("time", 3600);
         time.setBooleanOperator(BooleanOperator.AND);
-        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` = { `distance_0` } AND r0.`time` = { `time_1` }  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m MATCH p1 = (n)-[*0..4]-() " +
-                "WITH r0, COLLECT(DISTINCT p1) AS startPaths, m MATCH p2 = (m)-[*0..4]-() " +
-                "WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` = { `distance_0` } AND r0.`time` = { `time_1` } WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(distance, time), 4).getStatement());
     }
 
@@ -273,11 +239,8 @@ public class RelationshipQueryStatementsTest {
         Filter distance = new Filter("distance", 60.2);
         Filter time = new Filter("time", 3600);
         time.setBooleanOperator(BooleanOperator.OR);
-        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` = { `distance_0` } OR r0.`time` = { `time_1` }  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m MATCH p1 = (n)-[*0..4]-() " +
-                "WITH r0, COLLECT(DISTINCT p1) AS startPaths, m MATCH p2 = (m)-[*0..4]-() " +
-                "WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` = { `distance_0` } OR r0.`time` = { `time_1` } WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(distance, time), 4).getStatement());
     }
 
@@ -291,11 +254,8 @@ public class RelationshipQueryStatementsTest {
         distance.setComparisonOperator(ComparisonOperator.LESS_THAN);
         Filter time = new Filter("time", 3600);
         time.setBooleanOperator(BooleanOperator.AND);
-        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` < { `distance_0` } AND r0.`time` = { `time_1` }  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m MATCH p1 = (n)-[*0..4]-() " +
-                "WITH r0, COLLECT(DISTINCT p1) AS startPaths, m MATCH p2 = (m)-[*0..4]-() " +
-                "WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` < { `distance_0` } AND r0.`time` = { `time_1` } WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(distance, time), 4).getStatement());
     }
 
@@ -309,11 +269,8 @@ public class RelationshipQueryStatementsTest {
         Filter time = new Filter("time", 3600);
         time.setBooleanOperator(BooleanOperator.OR);
         time.setComparisonOperator(ComparisonOperator.GREATER_THAN);
-        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` = { `distance_0` } OR r0.`time` > { `time_1` }  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m MATCH p1 = (n)-[*0..4]-() " +
-                "WITH r0, COLLECT(DISTINCT p1) AS startPaths, m MATCH p2 = (m)-[*0..4]-() " +
-                "WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`distance` = { `distance_0` } OR r0.`time` > { `time_1` } WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(distance, time), 4).getStatement());
     }
 
@@ -333,12 +290,8 @@ public class RelationshipQueryStatementsTest {
         planetFilter.setComparisonOperator(ComparisonOperator.EQUALS);
         Filter time = new Filter("time", 3600);
         time.setBooleanOperator(BooleanOperator.AND);
-        assertEquals("MATCH (n:`Planet`) WHERE n.`name` = { `world_name_0` } " +
-                "MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`time` = { `time_1` }  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m MATCH p1 = (n)-[*0..4]-() " +
-                "WITH r0, COLLECT(DISTINCT p1) AS startPaths, m MATCH p2 = (m)-[*0..4]-() " +
-                "WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (n:`Planet`) WHERE n.`name` = { `world_name_0` } MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`time` = { `time_1` } WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(planetFilter, time), 4).getStatement());
     }
 
@@ -358,12 +311,8 @@ public class RelationshipQueryStatementsTest {
         planetFilter.setRelationshipDirection("INCOMING");
         planetFilter.setComparisonOperator(ComparisonOperator.EQUALS);
         Filter time = new Filter("time", 3600);
-        assertEquals("MATCH (m:`Planet`) WHERE m.`name` = { `world_name_0` } " +
-                "MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`time` = { `time_1` }  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m MATCH p1 = (n)-[*0..4]-() " +
-                "WITH r0, COLLECT(DISTINCT p1) AS startPaths, m MATCH p2 = (m)-[*0..4]-() " +
-                "WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
-                "WITH ID(r0) AS rId,startPaths + endPaths  AS paths UNWIND paths AS p RETURN DISTINCT p, rId",
+        assertEquals("MATCH (m:`Planet`) WHERE m.`name` = { `world_name_0` } MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`time` = { `time_1` } WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)",
                 query.findByType("ORBITS", new Filters().add(planetFilter, time), 4).getStatement());
     }
 
@@ -396,12 +345,8 @@ public class RelationshipQueryStatementsTest {
         Filter time = new Filter("time", 3600);
         time.setBooleanOperator(BooleanOperator.AND);
 
-        assertEquals("MATCH (n:`Moon`) WHERE n.`name` = { `world_name_0` } MATCH (m:`Planet`) WHERE m.`colour` = { `colour_colour_1` } " +
-                "MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`time` = { `time_2` }  " +
-                "WITH r0,startnode(r0) AS n, endnode(r0) AS m MATCH p1 = (n)-[*0..4]-() " +
-                "WITH r0, COLLECT(DISTINCT p1) AS startPaths, m MATCH p2 = (m)-[*0..4]-() " +
-                "WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths WITH ID(r0) AS rId,startPaths + endPaths  AS paths " +
-                "UNWIND paths AS p RETURN DISTINCT p, rId", query.findByType("ORBITS", new Filters().add(moonFilter, planetFilter, time), 4).getStatement());
+        assertEquals("MATCH (n:`Moon`) WHERE n.`name` = { `world_name_0` } MATCH (m:`Planet`) WHERE m.`colour` = { `colour_colour_1` } MATCH (n)-[r0:`ORBITS`]->(m) WHERE r0.`time` = { `time_2` } WITH r0,n,m " +
+                "UNWIND [n, m] AS e MATCH p=(e)-[*0..4]-() RETURN p, ID(r0)", query.findByType("ORBITS", new Filters().add(moonFilter, planetFilter, time), 4).getStatement());
     }
 
     /**
@@ -24,6 +24,9 @@ import org.neo4j.ogm.metadata.MethodInfo;
 
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -271,4 +274,31 @@ public class DateConversionTest {
         AttributeConverter attributeConverter = methodInfo.getPropertyConverter();
         assertEquals(null, attributeConverter.toGraphProperty(null));
     }
+
+    @Test
+    public void assertDateConversionIsThreadSafe() throws Exception {
+        AttributeConverter attributeConverter = memoInfo.propertyField("recorded").getPropertyConverter();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final long offset = t * 86400000L;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        Date date = new Date(offset + i * 1000L);
+                        Object value = attributeConverter.toGraphProperty(date);
+                        if (!date.equals(attributeConverter.toEntityAttribute(value))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
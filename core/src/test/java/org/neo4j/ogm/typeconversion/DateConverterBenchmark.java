@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.typeconversion;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+
+/**
+ * Measures the time and the memory allocated to write and read back dates with the default date converter, with
+ * the converter it replaced, which created a new {@link SimpleDateFormat} for every value, and with the converter
+ * of {@link Instant} values.
+ *
+ * Run it from the core module once the test classes are compiled, optionally passing the number of values
+ * (default 1000000):
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) org.neo4j.ogm.typeconversion.DateConverterBenchmark 1000000
+ * </pre>
+ */
+public class DateConverterBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int values = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+
+        Date[] dates = new Date[values];
+        Instant[] instants = new Instant[values];
+        for (int i = 0; i < values; i++) {
+            dates[i] = new Date(1483228800000L + i * 1000L);
+            instants[i] = dates[i].toInstant();
+        }
+
+        System.out.printf("%d values written and read back%n", values);
+        measure("new SimpleDateFormat per value", new AllocatingDateStringConverter(DateString.ISO_8601), dates);
+        measure("DateStringConverter", new DateStringConverter(DateString.ISO_8601), dates);
+        measure("InstantStringConverter", new InstantStringConverter(), instants);
+    }
+
+    private static <T> void measure(String name, AttributeConverter<T, String> converter, T[] values) {
+        long best = Long.MAX_VALUE;
+        long allocated = 0;
+        for (int round = 0; round < ROUNDS + 1; round++) {
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            for (T value : values) {
+                if (!value.equals(converter.toEntityAttribute(converter.toGraphProperty(value)))) {
+                    throw new IllegalStateException(name + " did not read back " + value);
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            // the first round warms up the JIT
+            if (round > 0 && elapsed < best) {
+                best = elapsed;
+                allocated = allocatedBytes() - bytes;
+            }
+        }
+        System.out.printf("%-32s %8.1f ms, %6d bytes allocated per value%n", name, best / 1e6, allocated / values.length);
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * The date converter as it was, creating a date format for each value.
+     */
+    private static class AllocatingDateStringConverter implements AttributeConverter<Date, String> {
+
+        private final String format;
+
+        AllocatingDateStringConverter(String format) {
+            this.format = format;
+        }
+
+        @Override
+        public String toGraphProperty(Date value) {
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
+            simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+            return simpleDateFormat.format(value);
+        }
+
+        @Override
+        public Date toEntityAttribute(String value) {
+            try {
+                SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
+                simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+                return simpleDateFormat.parse(value);
+            } catch (ParseException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.typeconversion;
+
+import static org.junit.Assert.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import org.junit.Test;
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MethodInfo;
+
+public class JavaTimeConversionTest {
+
+    private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.convertible.date");
+    private static final ClassInfo appointmentInfo = metaData.classInfo("Appointment");
+
+    @Test
+    public void assertFieldInstantConversionToISO8601FormatByDefault() {
+        FieldInfo fieldInfo = appointmentInfo.propertyField("booked");
+        assertTrue(fieldInfo.hasPropertyConverter());
+        AttributeConverter attributeConverter = fieldInfo.getPropertyConverter();
+        assertEquals(InstantStringConverter.class, attributeConverter.getClass());
+        assertEquals("1970-01-01T00:00:00.000Z", attributeConverter.toGraphProperty(Instant.EPOCH));
+        assertEquals(Instant.EPOCH, attributeConverter.toEntityAttribute("1970-01-01T00:00:00.000Z"));
+    }
+
+    @Test
+    public void assertMethodInstantConversionToISO8601FormatByDefault() {
+        MethodInfo methodInfo = appointmentInfo.propertyGetter("booked");
+        assertTrue(methodInfo.hasPropertyConverter());
+        assertEquals(InstantStringConverter.class, methodInfo.getPropertyConverter().getClass());
+    }
+
+    @Test
+    public void assertInstantsAreWrittenInTheSameFormatAsDates() {
+        InstantStringConverter instantConverter = new InstantStringConverter();
+        DateStringConverter dateConverter = (DateStringConverter) ConvertibleTypes.getDateConverter();
+        Instant instant = Instant.ofEpochMilli(1234567890123L);
+        assertEquals(dateConverter.toGraphProperty(new Date(instant.toEpochMilli())), instantConverter.toGraphProperty(instant));
+        assertEquals("2009-02-13T23:31:30.123Z", instantConverter.toGraphProperty(instant));
+    }
+
+    @Test
+    public void assertInstantConversionKeepsNanoseconds() {
+        InstantStringConverter converter = new InstantStringConverter();
+        Instant instant = Instant.ofEpochSecond(1234567890L, 123456789);
+        assertEquals("2009-02-13T23:31:30.123456789Z", converter.toGraphProperty(instant));
+        assertEquals(instant, converter.toEntityAttribute(converter.toGraphProperty(instant)));
+    }
+
+    @Test
+    public void assertInstantsWithOffsetsAndWithoutFractionsAreRead() {
+        InstantStringConverter converter = new InstantStringConverter();
+        assertEquals(Instant.EPOCH, converter.toEntityAttribute("1970-01-01T01:00:00+01:00"));
+        assertEquals(Instant.EPOCH, converter.toEntityAttribute("1970-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void assertFieldLocalDateConversionToISO8601FormatByDefault() {
+        FieldInfo fieldInfo = appointmentInfo.propertyField("day");
+        assertTrue(fieldInfo.hasPropertyConverter());
+        AttributeConverter attributeConverter = fieldInfo.getPropertyConverter();
+        assertEquals(LocalDateStringConverter.class, attributeConverter.getClass());
+        assertEquals("2017-03-01", attributeConverter.toGraphProperty(LocalDate.of(2017, 3, 1)));
+        assertEquals(LocalDate.of(2017, 3, 1), attributeConverter.toEntityAttribute("2017-03-01"));
+    }
+
+    @Test
+    public void assertFieldLocalDateTimeConversionToISO8601FormatByDefault() {
+        FieldInfo fieldInfo = appointmentInfo.propertyField("start");
+        assertTrue(fieldInfo.hasPropertyConverter());
+        AttributeConverter attributeConverter = fieldInfo.getPropertyConverter();
+        assertEquals(LocalDateTimeStringConverter.class, attributeConverter.getClass());
+        LocalDateTime start = LocalDateTime.of(2017, 3, 1, 10, 15);
+        assertEquals("2017-03-01T10:15:00.000", attributeConverter.toGraphProperty(start));
+        assertEquals(start, attributeConverter.toEntityAttribute("2017-03-01T10:15:00.000"));
+        assertEquals(start, attributeConverter.toEntityAttribute("2017-03-01T10:15"));
+    }
+
+    @Test
+    public void assertNullsAreConverted() {
+        assertNull(new InstantStringConverter().toGraphProperty(null));
+        assertNull(new InstantStringConverter().toEntityAttribute(null));
+        assertNull(new LocalDateStringConverter().toGraphProperty(null));
+        assertNull(new LocalDateStringConverter().toEntityAttribute(null));
+        assertNull(new LocalDateTimeStringConverter().toGraphProperty(null));
+        assertNull(new LocalDateTimeStringConverter().toEntityAttribute(null));
+    }
+}
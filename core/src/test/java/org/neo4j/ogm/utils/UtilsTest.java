@@ -18,6 +18,7 @@ import org.neo4j.ogm.session.Utils;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author Luanne Misquitta
@@ -49,5 +50,25 @@ public class UtilsTest {
         assertEquals(0, Utils.coerceTypes(short.class, null));
     }
 
+    @Test
+    public void coercionsShouldBeSelectedOncePerType() {
+        assertSame(Utils.coercion(int.class), Utils.coercion(int.class));
+        assertEquals(42, Utils.coercion(int.class).apply(42L));
+        assertEquals(0, Utils.coercion(int.class).apply(null));
+        assertEquals(1.5f, Utils.coercion(Float.class).apply(1.5d));
+        assertNull(Utils.coercion(Float.class).apply(null));
+        assertEquals('a', Utils.coercion(char.class).apply("a"));
+    }
+
+    @Test
+    public void typesThatAreNotCoercedShouldKeepTheirValues() {
+        Object value = "value";
+        assertSame(value, Utils.coercion(String.class).apply(value));
+        assertSame(value, Utils.coerceTypes(Object.class, value));
+    }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void coercionsShouldRejectOverflows() {
+        Utils.coercion(int.class).apply(Long.MAX_VALUE);
+    }
 }
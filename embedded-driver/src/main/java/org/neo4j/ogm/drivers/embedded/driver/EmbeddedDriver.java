@@ -22,6 +22,10 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
 import org.neo4j.graphdb.GraphDatabaseService;
@@ -30,6 +34,7 @@ import org.neo4j.graphdb.factory.HighlyAvailableGraphDatabaseFactory;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.driver.AbstractConfigurableDriver;
 import org.neo4j.ogm.drivers.embedded.request.EmbeddedRequest;
+import org.neo4j.ogm.drivers.embedded.request.NativeEmbeddedRequest;
 import org.neo4j.ogm.drivers.embedded.transaction.EmbeddedTransaction;
 import org.neo4j.ogm.exception.ConnectionException;
 import org.neo4j.ogm.request.Request;
@@ -136,7 +141,19 @@ public class EmbeddedDriver extends AbstractConfigurableDriver {
 
     @Override
     public Request request() {
-        return new EmbeddedRequest(graphDatabaseService, transactionManager);
+        if (configuration != null && configuration.getEmbeddedNative()) {
+            return new NativeEmbeddedRequest(graphDatabaseService, transactionManager, queryLogger, statementShapes);
+        }
+        return new EmbeddedRequest(graphDatabaseService, transactionManager, queryLogger, statementShapes);
+    }
+
+    /**
+     * Values are handed to the database as they are, so byte arrays are stored without encoding and dates
+     * as epoch milliseconds.
+     */
+    @Override
+    public Set<Class<?>> nativeTypes() {
+        return new HashSet<>(Arrays.asList(Date.class, byte[].class, Byte[].class));
     }
 
     private org.neo4j.graphdb.Transaction nativeTransaction() {
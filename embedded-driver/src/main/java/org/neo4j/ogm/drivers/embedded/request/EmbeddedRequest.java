@@ -14,8 +14,11 @@
 package org.neo4j.ogm.drivers.embedded.request;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -52,10 +55,22 @@ public class EmbeddedRequest implements Request {
     private final GraphDatabaseService graphDatabaseService;
     private final Logger logger = LoggerFactory.getLogger(EmbeddedRequest.class);
     private final TransactionManager transactionManager;
+    private final QueryLogger queryLogger;
+    private final StatementShapes statementShapes;
 
     public EmbeddedRequest(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager) {
+        this(graphDatabaseService, transactionManager, QueryLogger.defaultLogger());
+    }
+
+    public EmbeddedRequest(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager, QueryLogger queryLogger) {
+        this(graphDatabaseService, transactionManager, queryLogger, new StatementShapes());
+    }
+
+    public EmbeddedRequest(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager, QueryLogger queryLogger, StatementShapes statementShapes) {
         this.graphDatabaseService = graphDatabaseService;
         this.transactionManager = transactionManager;
+        this.queryLogger = queryLogger;
+        this.statementShapes = statementShapes;
     }
 
     @Override
@@ -146,8 +161,9 @@ public class EmbeddedRequest implements Request {
             String params = mapper.writeValueAsString(statement.getParameters());
             TypeReference<HashMap<String,Object>> typeRef = new TypeReference<HashMap<String,Object>>() {};
             HashMap<String, Object> parameterMap = mapper.readValue(params.getBytes(), typeRef);
+            restoreByteArrays(statement.getParameters(), parameterMap);
 
-            logger.info("Request: {} with params {}", cypher, parameterMap);
+            statementShapes.record(cypher);
 
             // If we don't have a current transactional context for this operation
             // we must create one, and mark the transaction as autoCommit. This will ensure the
@@ -166,7 +182,13 @@ public class EmbeddedRequest implements Request {
                     throw new TransactionException("Transaction is already closed");
                 }
             }
-            return graphDatabaseService.execute(cypher, parameterMap);
+            long start = System.nanoTime();
+            Result result = graphDatabaseService.execute(cypher, parameterMap);
+            if (queryLogger.isTiming()) {
+                result.hasNext(); // produce the first row, so the time logged includes the execution
+            }
+            queryLogger.log(statement, start);
+            return result;
 
         }
         catch (QueryExecutionException qee) {
@@ -182,4 +204,38 @@ public class EmbeddedRequest implements Request {
 
     }
 
+    /**
+     * The parameters are passed through JSON so that the database receives the same types as it would over http,
+     * but JSON renders byte arrays as Base64 strings. The embedded database stores byte arrays natively, so
+     * the byte arrays of the original parameters are put back in place of those strings.
+     *
+     * @param original the parameters of the statement
+     * @param converted the parameters read back from their JSON form, which have the same structure
+     */
+    @SuppressWarnings("unchecked")
+    private static void restoreByteArrays(Object original, Object converted) {
+        if (original instanceof Map && converted instanceof Map) {
+            Map<Object, Object> convertedMap = (Map<Object, Object>) converted;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) original).entrySet()) {
+                String key = String.valueOf(entry.getKey());
+                if (entry.getValue() instanceof byte[]) {
+                    convertedMap.put(key, entry.getValue());
+                } else {
+                    restoreByteArrays(entry.getValue(), convertedMap.get(key));
+                }
+            }
+        } else if (converted instanceof List) {
+            List<Object> convertedList = (List<Object>) converted;
+            Iterator<?> values = original instanceof Iterable ? ((Iterable<?>) original).iterator()
+                    : original instanceof Object[] ? Arrays.asList((Object[]) original).iterator() : null;
+            for (int i = 0; values != null && values.hasNext() && i < convertedList.size(); i++) {
+                Object value = values.next();
+                if (value instanceof byte[]) {
+                    convertedList.set(i, value);
+                } else {
+                    restoreByteArrays(value, convertedList.get(i));
+                }
+            }
+        }
+    }
 }
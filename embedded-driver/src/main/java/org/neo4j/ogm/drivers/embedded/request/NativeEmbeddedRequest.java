@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.embedded.request;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.NotFoundException;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.drivers.embedded.response.EmbeddedGraphModelAdapter;
+import org.neo4j.ogm.drivers.embedded.transaction.EmbeddedTransaction;
+import org.neo4j.ogm.exception.TransactionException;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.request.NativeRequest;
+import org.neo4j.ogm.request.QueryLogger;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.StatementShapes;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.transaction.TransactionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EmbeddedRequest} that loads, updates and deletes nodes through the Core API.
+ *
+ * Cypher statements are still executed as they are by {@link EmbeddedRequest}. The native operations build the
+ * same graph models and have the same effect on the database as the statements they replace, without the cost
+ * of converting parameters, parsing and planning a statement and adapting its result rows.
+ */
+public class NativeEmbeddedRequest extends EmbeddedRequest implements NativeRequest {
+
+    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+
+    private final GraphDatabaseService graphDatabaseService;
+    private final TransactionManager transactionManager;
+    private final QueryLogger queryLogger;
+    private final Logger logger = LoggerFactory.getLogger(NativeEmbeddedRequest.class);
+
+    public NativeEmbeddedRequest(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager, QueryLogger queryLogger) {
+        this(graphDatabaseService, transactionManager, queryLogger, new StatementShapes());
+    }
+
+    public NativeEmbeddedRequest(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager, QueryLogger queryLogger, StatementShapes statementShapes) {
+        super(graphDatabaseService, transactionManager, queryLogger, statementShapes);
+        this.graphDatabaseService = graphDatabaseService;
+        this.transactionManager = transactionManager;
+        this.queryLogger = queryLogger;
+    }
+
+    @Override
+    public Response<GraphModel> expand(Collection<Long> ids, String label, int depth) {
+        logger.debug("Expanding nodes {} to depth {}", ids, depth);
+        EmbeddedTransaction tx = currentTransaction();
+        try {
+            long start = System.nanoTime();
+            GraphModel graphModel = expandNodes(ids, label, depth);
+            queryLogger.log(new Operation("Core API expand to depth " + depth + (label == null ? "" : " of :" + label), ids), start);
+            return new GraphModelResponse(graphModel, transactionManager);
+        } catch (RuntimeException e) {
+            tx.rollback();
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNodes(Collection<? extends org.neo4j.ogm.model.Node> nodes) {
+        logger.debug("Updating {} nodes", nodes.size());
+        inTransaction(() -> {
+            long start = System.nanoTime();
+            List<Long> ids = new ArrayList<>(nodes.size());
+            for (org.neo4j.ogm.model.Node node : nodes) {
+                Node nativeNode = nodeById(node.getId());
+                if (nativeNode != null) {
+                    update(nativeNode, node);
+                }
+                ids.add(node.getId());
+            }
+            queryLogger.log(new Operation("Core API update of nodes", ids), start);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteNodes(Collection<Long> ids) {
+        logger.debug("Deleting nodes {}", ids);
+        inTransaction(() -> {
+            long start = System.nanoTime();
+            for (Long id : ids) {
+                Node node = nodeById(id);
+                if (node != null) {
+                    for (Relationship relationship : node.getRelationships()) {
+                        relationship.delete();
+                    }
+                    node.delete();
+                }
+            }
+            queryLogger.log(new Operation("Core API delete of nodes", ids), start);
+            return null;
+        });
+    }
+
+    /**
+     * Visits the neighbourhood of the nodes breadth first. A path of at most <code>depth</code> relationships from
+     * one of the nodes reaches every node at that distance or less, and crosses every relationship that has at least
+     * one end nearer than that distance.
+     */
+    private GraphModel expandNodes(Collection<Long> ids, String label, int depth) {
+
+        EmbeddedGraphModelAdapter adapter = new EmbeddedGraphModelAdapter();
+        GraphModel graphModel = new DefaultGraphModel();
+        Set<Long> nodeIdentities = new HashSet<>();
+        Set<Long> edgeIdentities = new HashSet<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        Map<Long, Integer> distances = new HashMap<>();
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Node node = nodeById(id);
+            if (node != null && (label == null || node.hasLabel(Label.label(label)))) {
+                distances.put(node.getId(), 0);
+                queue.add(node);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            adapter.buildNode(node, graphModel, nodeIdentities);
+            int distance = distances.get(node.getId());
+            if (depth >= 0 && distance >= depth) {
+                continue;
+            }
+            for (Relationship relationship : node.getRelationships()) {
+                if (edgeIdentities.add(relationship.getId())) {
+                    relationships.add(relationship);
+                }
+                Node other = relationship.getOtherNode(node);
+                if (!distances.containsKey(other.getId())) {
+                    distances.put(other.getId(), distance + 1);
+                    queue.add(other);
+                }
+            }
+        }
+
+        edgeIdentities.clear();
+        for (Relationship relationship : relationships) {
+            adapter.buildRelationship(relationship, graphModel, nodeIdentities, edgeIdentities);
+        }
+        return graphModel;
+    }
+
+    private void update(Node nativeNode, org.neo4j.ogm.model.Node node) {
+        String[] removedLabels = node.getRemovedLabels();
+        if (removedLabels != null) {
+            for (String removedLabel : removedLabels) {
+                nativeNode.removeLabel(Label.label(removedLabel));
+            }
+        }
+        for (String label : node.getLabels()) {
+            nativeNode.addLabel(Label.label(label));
+        }
+        for (Property<String, Object> property : node.getPropertyList()) {
+            if (property.getValue() == null) {
+                nativeNode.removeProperty(property.getKey());
+            } else {
+                nativeNode.setProperty(property.getKey(), propertyValue(property.getValue()));
+            }
+        }
+    }
+
+    private Node nodeById(Long id) {
+        try {
+            return graphDatabaseService.getNodeById(id);
+        } catch (NotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts a value to the type Cypher would have stored it as: integral numbers as longs, other numbers
+     * as doubles, byte arrays as they are and other collections as arrays. Other values are converted in the same way as statement parameters.
+     */
+    private static Object propertyValue(Object value) {
+        if (value instanceof String || value instanceof Boolean || value instanceof Long || value instanceof Double
+                || value instanceof byte[]) {
+            return value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof Character) {
+            return value.toString();
+        }
+        if (value instanceof Collection || value.getClass().isArray()) {
+            return arrayValue(value);
+        }
+        Object converted = mapper.convertValue(value, Object.class);
+        if (converted == null || converted instanceof Map) {
+            throw new IllegalArgumentException("Unable to store a value of " + value.getClass() + " as a property");
+        }
+        return propertyValue(converted);
+    }
+
+    private static Object arrayValue(Object value) {
+        List<Object> elements = new ArrayList<>();
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                elements.add(propertyValue(element));
+            }
+        } else {
+            for (int i = 0; i < Array.getLength(value); i++) {
+                elements.add(propertyValue(Array.get(value, i)));
+            }
+        }
+        if (elements.isEmpty()) {
+            return new String[0];
+        }
+        Class<?> elementType = elements.get(0).getClass();
+        Object array = Array.newInstance(primitiveType(elementType), elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            if (elements.get(i).getClass() != elementType) {
+                throw new IllegalArgumentException("Unable to store a collection of mixed types as a property");
+            }
+            Array.set(array, i, elements.get(i));
+        }
+        return array;
+    }
+
+    private static Class<?> primitiveType(Class<?> type) {
+        if (type == Long.class) {
+            return long.class;
+        }
+        if (type == Double.class) {
+            return double.class;
+        }
+        if (type == Boolean.class) {
+            return boolean.class;
+        }
+        return type;
+    }
+
+    /**
+     * Executes the work in the current transaction, or in a transaction of its own committed when the work completes,
+     * in the same way as the statements executed by {@link EmbeddedRequest}.
+     */
+    private <T> T inTransaction(Supplier<T> work) {
+        EmbeddedTransaction tx = currentTransaction();
+        T result;
+        try {
+            result = work.get();
+        } catch (RuntimeException e) {
+            tx.rollback();
+            throw e;
+        }
+        if (tx.isAutoCommit()) {
+            tx.commit();
+            tx.close();
+        }
+        return result;
+    }
+
+    /**
+     * @return the current transaction, or a new one marked as autoCommit if there is none
+     */
+    private EmbeddedTransaction currentTransaction() {
+        EmbeddedTransaction tx = (EmbeddedTransaction) transactionManager.getCurrentTransaction();
+        if (tx == null) {
+            transactionManager.openTransaction();
+            tx = (EmbeddedTransaction) transactionManager.getCurrentTransaction();
+            tx.setAutoCommit(true);
+        } else if (!tx.transactionIsOpen()) {
+            throw new TransactionException("Transaction is already closed");
+        }
+        return tx;
+    }
+
+    /**
+     * Describes a native operation to the {@link QueryLogger}, in place of the statement it replaces.
+     */
+    private static class Operation implements Statement {
+
+        private final String description;
+        private final Map<String, Object> parameters;
+
+        Operation(String description, Collection<Long> ids) {
+            this.description = description;
+            this.parameters = Collections.singletonMap("ids", ids);
+        }
+
+        @Override
+        public String getStatement() {
+            return description;
+        }
+
+        @Override
+        public Map<String, Object> getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public String[] getResultDataContents() {
+            return new String[0];
+        }
+
+        @Override
+        public boolean isIncludeStats() {
+            return false;
+        }
+    }
+
+    /**
+     * Holds the graph model of an expansion, whose nodes and relationships are read from the database until the
+     * response is closed. Like {@link org.neo4j.ogm.drivers.embedded.response.EmbeddedResponse}, it commits an
+     * autoCommit transaction when closed.
+     */
+    private static class GraphModelResponse implements Response<GraphModel> {
+
+        private final TransactionManager transactionManager;
+        private GraphModel graphModel;
+
+        GraphModelResponse(GraphModel graphModel, TransactionManager transactionManager) {
+            this.graphModel = graphModel;
+            this.transactionManager = transactionManager;
+        }
+
+        @Override
+        public GraphModel next() {
+            GraphModel next = graphModel;
+            graphModel = null;
+            return next;
+        }
+
+        @Override
+        public void close() {
+            EmbeddedTransaction tx = (EmbeddedTransaction) transactionManager.getCurrentTransaction();
+            if (tx != null && tx.isAutoCommit()) {
+                tx.commit();
+                tx.close();
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            return new String[] {"p"};
+        }
+    }
+}
@@ -15,18 +15,39 @@ package org.neo4j.ogm.drivers.embedded.response;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.result.adapter.GraphModelAdapter;
 
 /**
  * This adapter will transform an embedded response into a json response
  *
+ * The graph models it builds hold {@link EmbeddedNode} and {@link EmbeddedRelationship} views of the native
+ * nodes and relationships rather than copies of them, so they must be read before the response is closed.
+ *
  * @author vince
  */
 public class EmbeddedGraphModelAdapter extends GraphModelAdapter {
 
 	private EmbeddedEntityAdapter entityAdapter = new EmbeddedEntityAdapter();
 
+	@Override
+	public void buildNode(Object node, GraphModel graphModel, Set nodeIdentities) {
+		if (nodeIdentities.add(nodeId(node))) {
+			graphModel.getNodes().add(new EmbeddedNode((Node) node));
+		}
+	}
+
+	@Override
+	public void buildRelationship(Object relationship, GraphModel graphModel, Set nodeIdentities, Set edgeIdentities) {
+		if (edgeIdentities.add(relationshipId(relationship))) {
+			graphModel.getRelationships().add(new EmbeddedRelationship((Relationship) relationship));
+		}
+	}
+
 	@Override
 	public boolean isPath(Object value) {
 		return entityAdapter.isPath(value);
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.embedded.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.graphdb.Label;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.NameTable;
+
+/**
+ * A {@link Node} reading its labels and properties from a native node the first time they are requested.
+ *
+ * It can only be read while the transaction in which the native node was obtained is open. The embedded driver
+ * only uses it in graph models that the OGM maps to entities before closing their response.
+ */
+public class EmbeddedNode implements Node {
+
+	private final org.neo4j.graphdb.Node node;
+	private String[] labels;
+	private List<Property<String, Object>> properties;
+
+	public EmbeddedNode(org.neo4j.graphdb.Node node) {
+		this.node = node;
+	}
+
+	@Override
+	public String[] getLabels() {
+		if (labels == null) {
+			List<String> names = new ArrayList<>();
+			for (Label label : node.getLabels()) {
+				names.add(NameTable.names().intern(label.name()));
+			}
+			labels = names.toArray(new String[names.size()]);
+		}
+		return labels;
+	}
+
+	@Override
+	public String[] getRemovedLabels() {
+		return null;
+	}
+
+	@Override
+	public Long getId() {
+		return node.getId();
+	}
+
+	@Override
+	public List<Property<String, Object>> getPropertyList() {
+		if (properties == null) {
+			properties = EmbeddedProperty.properties(node);
+		}
+		return properties;
+	}
+
+	@Override
+	public String getPrimaryIndex() {
+		return null;
+	}
+
+	/**
+	 * @param key the property key
+	 * @return the value of the property, or null if the node does not have it
+	 */
+	public Object property(String key) {
+		return EmbeddedProperty.value(node, key);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		return node.getId() == ((EmbeddedNode) o).node.getId();
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(node.getId());
+	}
+}
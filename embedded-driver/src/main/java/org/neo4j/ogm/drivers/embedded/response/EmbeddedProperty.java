@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.embedded.response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.NameTable;
+import org.neo4j.ogm.response.model.PropertyModel;
+import org.neo4j.ogm.result.adapter.AdapterUtils;
+
+/**
+ * A property of a native node or relationship, read from it together with all the other properties of the container.
+ *
+ * Array values are returned as iterables, as they are by the {@link PropertyModel}s built by the other adapters.
+ */
+public class EmbeddedProperty implements Property<String, Object> {
+
+	private final String key;
+	private final Object value;
+
+	public EmbeddedProperty(String key, Object value) {
+		this.key = key;
+		this.value = iterable(value);
+	}
+
+	/**
+	 * @param container a native node or relationship
+	 * @return all the properties of the container, read in one call
+	 */
+	public static List<Property<String, Object>> properties(PropertyContainer container) {
+		Map<String, Object> values = container.getAllProperties();
+		List<Property<String, Object>> properties = new ArrayList<>(values.size());
+		NameTable names = NameTable.names();
+		for (Map.Entry<String, Object> entry : values.entrySet()) {
+			properties.add(new EmbeddedProperty(names.intern(entry.getKey()), entry.getValue()));
+		}
+		return properties;
+	}
+
+	/**
+	 * @param container a native node or relationship
+	 * @param key the property key
+	 * @return the value of the property, with arrays other than byte arrays returned as iterables, or null if the container does not have it
+	 */
+	public static Object value(PropertyContainer container, String key) {
+		return iterable(container.getProperty(key, null));
+	}
+
+	private static Object iterable(Object value) {
+		if (value != null && value.getClass().isArray() && !(value instanceof byte[])) {
+			return AdapterUtils.convertToIterable(value);
+		}
+		return value;
+	}
+
+	@Override
+	public String getKey() {
+		return key;
+	}
+
+	@Override
+	public Object getValue() {
+		return value;
+	}
+
+	@Override
+	public Object asParameter() {
+		return PropertyModel.with(key, getValue()).asParameter();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s : %s", key, asParameter());
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.embedded.response;
+
+import java.util.List;
+
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.NameTable;
+
+/**
+ * An {@link Edge} reading its type, ends and properties from a native relationship when they are requested; the type and
+ * properties are read once.
+ *
+ * Like {@link EmbeddedNode}, it can only be read while the transaction in which the relationship was obtained is open.
+ */
+public class EmbeddedRelationship implements Edge {
+
+	private final Relationship relationship;
+	private String type;
+	private List<Property<String, Object>> properties;
+
+	public EmbeddedRelationship(Relationship relationship) {
+		this.relationship = relationship;
+	}
+
+	@Override
+	public String getType() {
+		if (type == null) {
+			type = NameTable.names().intern(relationship.getType().name());
+		}
+		return type;
+	}
+
+	@Override
+	public Long getStartNode() {
+		return relationship.getStartNode().getId();
+	}
+
+	@Override
+	public Long getEndNode() {
+		return relationship.getEndNode().getId();
+	}
+
+	@Override
+	public Long getId() {
+		return relationship.getId();
+	}
+
+	@Override
+	public List<Property<String, Object>> getPropertyList() {
+		if (properties == null) {
+			properties = EmbeddedProperty.properties(relationship);
+		}
+		return properties;
+	}
+
+	/**
+	 * @param key the property key
+	 * @return the value of the property, or null if the relationship does not have it
+	 */
+	public Object property(String key) {
+		return EmbeddedProperty.value(relationship, key);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		return relationship.getId() == ((EmbeddedRelationship) o).relationship.getId();
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(relationship.getId());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("(%d)-[%s]->(%d)", getStartNode(), getType(), getEndNode());
+	}
+}
@@ -26,9 +26,17 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.util.EntityUtils;
 import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.drivers.http.request.AsyncHttpRequest;
 import org.neo4j.ogm.drivers.http.request.HttpRequest;
 import org.neo4j.ogm.drivers.http.request.HttpRequestException;
 import org.neo4j.ogm.drivers.http.transaction.HttpTransaction;
@@ -41,6 +49,8 @@ import org.slf4j.LoggerFactory;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * @author vince
@@ -50,7 +60,9 @@ public final class HttpDriver extends AbstractConfigurableDriver
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpDriver.class);
 
-    private CloseableHttpClient httpClient;
+    private volatile CloseableHttpClient httpClient;
+    private volatile CloseableHttpAsyncClient httpAsyncClient;
+    private volatile ScheduledExecutorService retryScheduler;
 
     public HttpDriver() {}
 
@@ -65,6 +77,13 @@ public final class HttpDriver extends AbstractConfigurableDriver
             if (httpClient != null) {
                 httpClient.close();
             }
+            if (httpAsyncClient != null) {
+                httpAsyncClient.close();
+            }
+            if (retryScheduler != null) {
+                // retries still pending run and fail, as the client has been closed, rather than leave requests waiting
+                retryScheduler.shutdown();
+            }
         } catch (Exception e) {
             LOGGER.warn( "Unexpected Exception when closing http client httpClient: ", e );
         }
@@ -73,10 +92,13 @@ public final class HttpDriver extends AbstractConfigurableDriver
     @Override
     public Request request() {
         Transaction tx = transactionManager.getCurrentTransaction();
+        if (configuration.getHttpAsync()) {
+            return new AsyncHttpRequest(httpAsyncClient(), retryScheduler, requestUrl(), configuration.getCredentials(), tx != null && tx.isReadOnly(), queryLogger, configuration.getHttpCompression(), statementShapes);
+        }
         if (tx == null) {
-            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials());
+            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials(), false, queryLogger, configuration.getHttpCompression(), statementShapes);
         } else {
-            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials(), tx.isReadOnly());
+            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials(), tx.isReadOnly(), queryLogger, configuration.getHttpCompression(), statementShapes);
         }
     }
 
@@ -168,52 +190,117 @@ public final class HttpDriver extends AbstractConfigurableDriver
         return false; // its read-write by default
     }
 
-    private synchronized CloseableHttpClient httpClient()  {
+    private CloseableHttpClient httpClient() {
+        CloseableHttpClient client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = httpClient;
+                if (client == null) {
+                    httpClient = client = newHttpClient();
+                }
+            }
+        }
+        return client;
+    }
+
+    private CloseableHttpAsyncClient httpAsyncClient() {
+        CloseableHttpAsyncClient client = httpAsyncClient;
+        if (client == null) {
+            synchronized (this) {
+                client = httpAsyncClient;
+                if (client == null) {
+                    // retries only schedule new attempts, which return immediately, so a single thread is sufficient
+                    retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "neo4j-ogm-http-retry");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    client = newHttpAsyncClient();
+                    client.start();
+                    httpAsyncClient = client;
+                }
+            }
+        }
+        return client;
+    }
 
-        if (httpClient == null) {   // most of the time this will be false, branch-prediction will be very fast and the lock released immediately
+    private CloseableHttpClient newHttpClient() {
 
-            try {
-                HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
+        try {
+            HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
 
-                SSLContext sslContext = SSLContext.getDefault();
+            SSLContext sslContext = sslContext();
 
-                if (configuration.getTrustStrategy() != null) {
+            // setup the default or custom ssl context
+            httpClientBuilder.setSSLContext(sslContext);
 
-                    if (configuration.getTrustStrategy().equals("ACCEPT_UNSIGNED")) {
-                        sslContext = new SSLContextBuilder().loadTrustMaterial(null, (arg0, arg1) -> true).build();
+            HostnameVerifier hostnameVerifier = SSLConnectionSocketFactory.getDefaultHostnameVerifier();
 
-                        LOGGER.warn("Certificate validation has been disabled");
-                    }
-                }
+            SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(sslContext, hostnameVerifier);
+            Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("https", sslSocketFactory)
+                    .build();
+
+            // allows multi-threaded use
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+
+            Integer connectionPoolSize = configuration.getConnectionPoolSize();
 
-                // setup the default or custom ssl context
-                httpClientBuilder.setSSLContext(sslContext);
+            connectionManager.setMaxTotal(connectionPoolSize);
+            connectionManager.setDefaultMaxPerRoute(connectionPoolSize);
 
-                HostnameVerifier hostnameVerifier = SSLConnectionSocketFactory.getDefaultHostnameVerifier();
+            httpClientBuilder.setConnectionManager(connectionManager);
 
-                SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(sslContext, hostnameVerifier);
-                Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
-                        .register("http", PlainConnectionSocketFactory.getSocketFactory())
-                        .register("https", sslSocketFactory)
-                        .build();
+            return httpClientBuilder.build();
 
-                // allows multi-threaded use
-                PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private CloseableHttpAsyncClient newHttpAsyncClient() {
 
-                Integer connectionPoolSize = configuration.getConnectionPoolSize();
+        try {
+            SSLContext sslContext = sslContext();
+            HostnameVerifier hostnameVerifier = SSLConnectionSocketFactory.getDefaultHostnameVerifier();
 
-                connectionManager.setMaxTotal(connectionPoolSize);
-                connectionManager.setDefaultMaxPerRoute(connectionPoolSize);
+            Registry<SchemeIOSessionStrategy> sessionStrategyRegistry = RegistryBuilder.<SchemeIOSessionStrategy>create()
+                    .register("http", NoopIOSessionStrategy.INSTANCE)
+                    .register("https", new SSLIOSessionStrategy(sslContext, hostnameVerifier))
+                    .build();
 
-                httpClientBuilder.setConnectionManager(connectionManager);
+            // requests beyond the size of the pool wait for a connection without holding a thread
+            PoolingNHttpClientConnectionManager connectionManager =
+                    new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(), sessionStrategyRegistry);
 
-                httpClient = httpClientBuilder.build();
+            Integer connectionPoolSize = configuration.getConnectionPoolSize();
 
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+            connectionManager.setMaxTotal(connectionPoolSize);
+            connectionManager.setDefaultMaxPerRoute(connectionPoolSize);
+
+            return HttpAsyncClients.custom()
+                    .setSSLContext(sslContext)
+                    .setConnectionManager(connectionManager)
+                    .build();
+
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
+    }
+
+    private SSLContext sslContext() throws Exception {
+
+        SSLContext sslContext = SSLContext.getDefault();
 
-        return httpClient;
+        if (configuration.getTrustStrategy() != null) {
+
+            if (configuration.getTrustStrategy().equals("ACCEPT_UNSIGNED")) {
+                sslContext = new SSLContextBuilder().loadTrustMaterial(null, (arg0, arg1) -> true).build();
+
+                LOGGER.warn("Certificate validation has been disabled");
+            }
+        }
+        return sslContext;
     }
 }
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.request;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.ConnectionClosedException;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.StatusLine;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.util.EntityUtils;
+import org.neo4j.ogm.config.Credentials;
+import org.neo4j.ogm.drivers.http.response.GraphModelResponse;
+import org.neo4j.ogm.drivers.http.response.GraphRowsModelResponse;
+import org.neo4j.ogm.drivers.http.response.RestModelResponse;
+import org.neo4j.ogm.drivers.http.response.RowModelResponse;
+import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.instrumentation.Counter;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.*;
+import org.neo4j.ogm.response.EmptyResponse;
+import org.neo4j.ogm.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Request} that sends statements to the transactional endpoint with a non-blocking HTTP client.
+ *
+ * No thread is held while a request is in flight, so a single connection pool can serve many concurrent
+ * transactional endpoint calls. Each <code>executeAsync</code> method returns as soon as the request has been
+ * handed to the client; the {@link Request} methods wait for the outcome and behave as {@link HttpRequest} does.
+ * Since the session only uses the {@link Request} methods, and transactions are still begun, committed and rolled
+ * back with the blocking client, requests made through a session remain serial.
+ *
+ * When the server closes a connection without responding, the request is sent again after an exponentially
+ * increasing delay, which is scheduled on the driver's retry scheduler rather than slept, up to
+ * {@link #DEFAULT_RETRIES} times.
+ */
+public class AsyncHttpRequest implements Request {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHttpRequest.class);
+
+    public static final int DEFAULT_RETRIES = 3;
+    public static final long INITIAL_BACKOFF_IN_MILLI = 100;
+    public static final long MAX_BACKOFF_IN_MILLI = 2000;
+
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    private final CloseableHttpAsyncClient httpClient;
+    private final ScheduledExecutorService retryScheduler;
+    private final String url;
+    private final Credentials credentials;
+    private final boolean readOnly;
+    private final QueryLogger queryLogger;
+    private final String compression;
+    private final StatementShapes statementShapes;
+
+    public AsyncHttpRequest(CloseableHttpAsyncClient httpClient, ScheduledExecutorService retryScheduler, String url, Credentials credentials, boolean readOnly, QueryLogger queryLogger, String compression, StatementShapes statementShapes) {
+        this.httpClient = httpClient;
+        this.retryScheduler = retryScheduler;
+        this.url = url;
+        this.credentials = credentials;
+        this.readOnly = readOnly;
+        this.queryLogger = queryLogger;
+        this.compression = compression;
+        this.statementShapes = statementShapes;
+    }
+
+    @Override
+    public Response<GraphModel> execute(GraphModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return new EmptyResponse();
+        }
+        return new GraphModelResponse(join(send(Collections.singletonList(request), HttpRequest.cypherRequest(request, statementShapes))));
+    }
+
+    @Override
+    public Response<RowModel> execute(RowModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return new EmptyResponse();
+        }
+        return new RowModelResponse(join(send(Collections.singletonList(request), HttpRequest.cypherRequest(request, statementShapes))));
+    }
+
+    @Override
+    public Response<RowModel> execute(DefaultRequest query) {
+        StatementsEntity entity = HttpRequest.cypherRequest(new Statements(query.getStatements()), statementShapes);
+        return new RowModelResponse(join(send(query.getStatements(), entity)));
+    }
+
+    @Override
+    public Response<GraphRowListModel> execute(GraphRowListModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return new EmptyResponse();
+        }
+        return new GraphRowsModelResponse(join(send(Collections.singletonList(request), HttpRequest.cypherRequest(request, statementShapes))));
+    }
+
+    @Override
+    public Response<RestModel> execute(RestModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return new EmptyResponse();
+        }
+        return new RestModelResponse(join(send(Collections.singletonList(request), HttpRequest.cypherRequest(request, statementShapes))));
+    }
+
+    public CompletableFuture<Response<GraphModel>> executeAsync(GraphModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return CompletableFuture.completedFuture(new EmptyResponse());
+        }
+        return send(Collections.singletonList(request), HttpRequest.cypherRequest(request, statementShapes)).thenApply(GraphModelResponse::new);
+    }
+
+    public CompletableFuture<Response<RowModel>> executeAsync(RowModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return CompletableFuture.completedFuture(new EmptyResponse());
+        }
+        return send(Collections.singletonList(request), HttpRequest.cypherRequest(request, statementShapes)).thenApply(RowModelResponse::new);
+    }
+
+    public CompletableFuture<Response<RowModel>> executeAsync(DefaultRequest query) {
+        StatementsEntity entity = HttpRequest.cypherRequest(new Statements(query.getStatements()), statementShapes);
+        return send(query.getStatements(), entity).thenApply(RowModelResponse::new);
+    }
+
+    public CompletableFuture<Response<GraphRowListModel>> executeAsync(GraphRowListModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return CompletableFuture.completedFuture(new EmptyResponse());
+        }
+        return send(Collections.singletonList(request), HttpRequest.cypherRequest(request, statementShapes)).thenApply(GraphRowsModelResponse::new);
+    }
+
+    public CompletableFuture<Response<RestModel>> executeAsync(RestModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return CompletableFuture.completedFuture(new EmptyResponse());
+        }
+        return send(Collections.singletonList(request), HttpRequest.cypherRequest(request, statementShapes)).thenApply(RestModelResponse::new);
+    }
+
+    private CompletableFuture<HttpResponse> send(List<? extends Statement> statements, StatementsEntity entity) {
+
+        assert (url != null);
+
+        HttpPost request = new HttpPost(url);
+
+        // the non-blocking client reads the body from a buffer rather than having it written to the connection
+        byte[] body = entity.toByteArray();
+        InstrumentationScope.count(Counter.REQUEST_BYTES, body.length);
+        request.setEntity(CompressingEntity.compress(new ByteArrayEntity(body, ContentType.APPLICATION_JSON), compression));
+        request.setHeader("X-WRITE", readOnly ? "0" : "1");
+        HttpRequest.prepare(request, credentials);
+        request.setHeader(ACCEPT_ENCODING, CompressingEntity.GZIP + "," + CompressingEntity.DEFLATE);
+
+        LOGGER.debug("Thread: {}, request: {}", Thread.currentThread().getId(), request);
+
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        attempt(request, 0, result);
+        return result.whenComplete((response, failure) -> queryLogger.log(statements, start));
+    }
+
+    private void attempt(HttpPost request, int retries, CompletableFuture<HttpResponse> result) {
+
+        try {
+            dispatch(request, retries, result);
+        } catch (RuntimeException e) {
+            // the client has been closed
+            result.completeExceptionally(e);
+        }
+    }
+
+    private void dispatch(HttpPost request, int retries, CompletableFuture<HttpResponse> result) {
+
+        httpClient.execute(request, new FutureCallback<HttpResponse>() {
+
+            @Override
+            public void completed(HttpResponse response) {
+                try {
+                    StatusLine statusLine = response.getStatusLine();
+                    HttpEntity responseEntity = response.getEntity();
+
+                    if (statusLine.getStatusCode() >= 300) {
+                        String responseText = statusLine.getReasonPhrase();
+                        if (responseEntity != null) {
+                            responseText = HttpRequest.parseError(EntityUtils.toString(responseEntity));
+                            LOGGER.warn("Thread: {}, response: {}", Thread.currentThread().getId(), responseText);
+                        }
+                        throw new HttpResponseException(statusLine.getStatusCode(), responseText);
+                    }
+                    if (responseEntity == null) {
+                        throw new ClientProtocolException("Response contains no content");
+                    }
+                    response.setEntity(CompressingEntity.decompress(responseEntity));
+                    result.complete(response);
+                } catch (Exception e) {
+                    failed(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                if (isRetryable(ex) && retries < DEFAULT_RETRIES) {
+                    long backoff = backoff(retries);
+                    LOGGER.warn("Thread: {}, No response from server:  Retrying in {} milliseconds, retries left: {}", Thread.currentThread().getId(), backoff, DEFAULT_RETRIES - retries - 1);
+                    try {
+                        retryScheduler.schedule(() -> attempt(request, retries + 1, result), backoff, TimeUnit.MILLISECONDS);
+                    } catch (RejectedExecutionException e) {
+                        // the driver has been closed
+                        result.completeExceptionally(new HttpRequestException(request, ex));
+                    }
+                } else if (ex instanceof ClientProtocolException) {
+                    result.completeExceptionally(new ConnectionException(request.getURI().toString(), ex));
+                } else if (ex instanceof RuntimeException) {
+                    result.completeExceptionally(ex);
+                } else {
+                    result.completeExceptionally(new HttpRequestException(request, ex));
+                }
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+    }
+
+    /**
+     * @param retries the number of retries already made
+     * @return the delay in milliseconds before the next retry
+     */
+    public static long backoff(int retries) {
+        return Math.min(MAX_BACKOFF_IN_MILLI, INITIAL_BACKOFF_IN_MILLI << Math.min(retries, 30));
+    }
+
+    private static boolean isRetryable(Exception ex) {
+        return ex instanceof NoHttpResponseException || ex instanceof ConnectionClosedException;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.request;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.entity.DeflateDecompressingEntity;
+import org.apache.http.client.entity.GzipDecompressingEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.protocol.HTTP;
+
+/**
+ * Compresses the body of a request with gzip or deflate as it is written to the connection.
+ *
+ * The blocking client decompresses responses itself. The non-blocking client does not, so the driver
+ * uses {@link #decompress(HttpEntity)} on the responses it receives.
+ */
+public class CompressingEntity extends HttpEntityWrapper {
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final String encoding;
+
+    /**
+     * @param entity the entity to compress
+     * @param encoding {@link #GZIP} or {@link #DEFLATE}
+     */
+    public CompressingEntity(HttpEntity entity, String encoding) {
+        super(entity);
+        if (!GZIP.equals(encoding) && !DEFLATE.equals(encoding)) {
+            throw new IllegalArgumentException("Unsupported content encoding: " + encoding);
+        }
+        this.encoding = encoding;
+    }
+
+    /**
+     * @param entity the entity to compress
+     * @param compression the configured compression, which may be null or "none"
+     * @return the entity compressed with the given compression, or the entity itself if there is none
+     */
+    public static HttpEntity compress(HttpEntity entity, String compression) {
+        if (compression == null || compression.equalsIgnoreCase("none")) {
+            return entity;
+        }
+        return new CompressingEntity(entity, compression.toLowerCase());
+    }
+
+    /**
+     * @param entity the entity of a response
+     * @return an entity that decompresses the content of the given entity, if it is gzip or deflate encoded
+     */
+    public static HttpEntity decompress(HttpEntity entity) {
+        Header contentEncoding = entity.getContentEncoding();
+        if (contentEncoding != null) {
+            String value = contentEncoding.getValue().trim();
+            if (value.equalsIgnoreCase(GZIP) || value.equalsIgnoreCase("x-gzip")) {
+                return new GzipDecompressingEntity(entity);
+            }
+            if (value.equalsIgnoreCase(DEFLATE)) {
+                return new DeflateDecompressingEntity(entity);
+            }
+        }
+        return entity;
+    }
+
+    @Override
+    public Header getContentEncoding() {
+        return new BasicHeader(HTTP.CONTENT_ENCODING, encoding);
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isChunked() {
+        return true;
+    }
+
+    /**
+     * @return the compressed body. This buffers the compressed content, which {@link #writeTo(OutputStream)} does not.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writeTo(bytes);
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        // closing the compressing stream finishes it, but the connection's stream is not ours to close
+        OutputStream target = new FilterOutputStream(outputStream) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        if (GZIP.equals(encoding)) {
+            try (GZIPOutputStream compressed = new GZIPOutputStream(target, BUFFER_SIZE)) {
+                wrappedEntity.writeTo(compressed);
+            }
+        } else {
+            Deflater deflater = new Deflater();
+            try (DeflaterOutputStream compressed = new DeflaterOutputStream(target, deflater, BUFFER_SIZE)) {
+                wrappedEntity.writeTo(compressed);
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
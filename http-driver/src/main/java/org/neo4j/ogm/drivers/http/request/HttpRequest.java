@@ -15,9 +15,9 @@ package org.neo4j.ogm.drivers.http.request;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.HttpEntity;
@@ -28,7 +28,6 @@ import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.protocol.HTTP;
@@ -39,7 +38,6 @@ import org.neo4j.ogm.drivers.http.response.GraphRowsModelResponse;
 import org.neo4j.ogm.drivers.http.response.RestModelResponse;
 import org.neo4j.ogm.drivers.http.response.RowModelResponse;
 import org.neo4j.ogm.exception.ConnectionException;
-import org.neo4j.ogm.exception.ResultProcessingException;
 import org.neo4j.ogm.config.ObjectMapperFactory;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
@@ -59,22 +57,39 @@ import org.slf4j.LoggerFactory;
 public class HttpRequest implements Request {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpRequest.class);
-    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.objectMapper();
 
     private final String url;
     private final CloseableHttpClient httpClient;
     private final Credentials credentials;
     private final boolean readOnly;
+    private final QueryLogger queryLogger;
+    private final String compression;
+    private final StatementShapes statementShapes;
 
     public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials) {
         this(httpClient, url, credentials, false);
     }
 
     public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly) {
+        this(httpClient, url, credentials, readOnly, QueryLogger.defaultLogger());
+    }
+
+    public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly, QueryLogger queryLogger) {
+        this(httpClient, url, credentials, readOnly, queryLogger, null);
+    }
+
+    public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly, QueryLogger queryLogger, String compression) {
+        this(httpClient, url, credentials, readOnly, queryLogger, compression, new StatementShapes());
+    }
+
+    public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly, QueryLogger queryLogger, String compression, StatementShapes statementShapes) {
         this.httpClient = httpClient;
         this.url = url;
         this.credentials = credentials;
         this.readOnly = readOnly;
+        this.queryLogger = queryLogger;
+        this.compression = compression;
+        this.statementShapes = statementShapes;
     }
 
     @Override
@@ -82,8 +97,8 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new GraphModelResponse(executeRequest( cypher ));
+            StatementsEntity entity = cypherRequest(request, statementShapes);
+            return new GraphModelResponse(executeRequest(Collections.singletonList(request), entity));
         }
     }
 
@@ -92,8 +107,8 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new RowModelResponse(executeRequest(cypher));
+            StatementsEntity entity = cypherRequest(request, statementShapes);
+            return new RowModelResponse(executeRequest(Collections.singletonList(request), entity));
 
         }
     }
@@ -101,8 +116,8 @@ public class HttpRequest implements Request {
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
         Statements statements = new Statements(query.getStatements());
-        String cypher = cypherRequest(statements);
-        return new RowModelResponse(executeRequest(cypher));
+        StatementsEntity entity = cypherRequest(statements, statementShapes);
+        return new RowModelResponse(executeRequest(query.getStatements(), entity));
 
     }
 
@@ -111,8 +126,8 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new GraphRowsModelResponse(executeRequest(cypher));
+            StatementsEntity entity = cypherRequest(request, statementShapes);
+            return new GraphRowsModelResponse(executeRequest(Collections.singletonList(request), entity));
 
         }
 
@@ -124,34 +139,29 @@ public class HttpRequest implements Request {
             return new EmptyResponse();
         }
         else {
-            String cypher = cypherRequest(request);
-            return new RestModelResponse(executeRequest(cypher));
+            StatementsEntity entity = cypherRequest(request, statementShapes);
+            return new RestModelResponse(executeRequest(Collections.singletonList(request), entity));
         }
     }
 
 
-    // we use the OBJECT_MAPPER to create the request string from the statement.
+    // the request body is written as JSON from the statements as it is sent.
     // this driver is the only one that needs to do this, because the request format
     // is different for each type of request - GraphModelRequest/RowModelRequest, etc
-    private String cypherRequest(Statement statement) {
+    static StatementsEntity cypherRequest(Statement statement, StatementShapes statementShapes) {
         List<Statement> statementList = new ArrayList<>();
         statementList.add(statement);
-        try {
-            return OBJECT_MAPPER.writeValueAsString(new Statements(statementList));
-        } catch (JsonProcessingException jpe) {
-            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
-        }
+        return cypherRequest(new Statements(statementList), statementShapes);
     }
 
-    private String cypherRequest(Statements statements) {
-        try {
-            return OBJECT_MAPPER.writeValueAsString(statements);
-        } catch (JsonProcessingException jpe) {
-            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
+    static StatementsEntity cypherRequest(Statements statements, StatementShapes statementShapes) {
+        for (Statement statement : statements.getStatements()) {
+            statementShapes.record(statement.getStatement());
         }
+        return new StatementsEntity(statements);
     }
 
-    private CloseableHttpResponse executeRequest(String cypher) throws HttpRequestException {
+    private CloseableHttpResponse executeRequest(List<? extends Statement> statements, StatementsEntity entity) throws HttpRequestException {
 
         String url = this.url;
 
@@ -159,12 +169,13 @@ public class HttpRequest implements Request {
 
         HttpPost request = new HttpPost(url);
 
-        request.setEntity(new StringEntity(cypher, "UTF-8"));
+        request.setEntity(CompressingEntity.compress(entity, compression));
         request.setHeader("X-WRITE", readOnly ? "0" : "1");
 
-        LOGGER.info("Thread: {}, url: {}, request: {}", Thread.currentThread().getId(), url, cypher);
-
-        return execute(httpClient, request, credentials);
+        long start = System.nanoTime();
+        CloseableHttpResponse response = execute(httpClient, request, credentials);
+        queryLogger.log(statements, start);
+        return response;
     }
 
     public static CloseableHttpResponse execute(CloseableHttpClient httpClient, HttpRequestBase request, Credentials credentials) throws HttpRequestException {
@@ -174,12 +185,7 @@ public class HttpRequest implements Request {
 
         CloseableHttpResponse response;
 
-        request.setHeader(new BasicHeader(HTTP.CONTENT_TYPE, "application/json;charset=UTF-8"));
-        request.setHeader(new BasicHeader(HTTP.USER_AGENT, "neo4j-ogm.java/2.0"));
-        request.setHeader(new BasicHeader("Accept", "application/json;charset=UTF-8"));
-
-
-        HttpAuthorization.authorize(request, credentials);
+        prepare(request, credentials);
 
         // use defaults: 3 retries, 2 second wait between attempts
         RetryOnExceptionStrategy retryStrategy = new RetryOnExceptionStrategy();
@@ -239,6 +245,14 @@ public class HttpRequest implements Request {
         throw new RuntimeException("Fatal Exception: Should not have occurred!");
     }
 
+    static void prepare(HttpRequestBase request, Credentials credentials) {
+        request.setHeader(new BasicHeader(HTTP.CONTENT_TYPE, "application/json;charset=UTF-8"));
+        request.setHeader(new BasicHeader(HTTP.USER_AGENT, "neo4j-ogm.java/2.0"));
+        request.setHeader(new BasicHeader("Accept", "application/json;charset=UTF-8"));
+
+        HttpAuthorization.authorize(request, credentials);
+    }
+
     static class RetryOnExceptionStrategy {
 
         public static final int DEFAULT_RETRIES = 3;
@@ -287,7 +301,7 @@ public class HttpRequest implements Request {
         }
     }
 
-    private static String parseError(String results) {
+    static String parseError(String results) {
         try {
             ObjectMapper mapper = ObjectMapperFactory.objectMapper();
             JsonNode responseNode = mapper.readTree(results);
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.request;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.exception.ResultProcessingException;
+import org.neo4j.ogm.instrumentation.Counter;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
+import org.neo4j.ogm.request.Statements;
+
+/**
+ * An {@link org.apache.http.HttpEntity} that writes the JSON for a set of statements directly to the connection.
+ *
+ * The statements and their parameters are serialised with a {@link JsonGenerator} as the request is sent, using
+ * chunked transfer encoding, so the request body is never held in memory as a whole. The entity is repeatable: it
+ * is serialised again if the request has to be retried.
+ */
+public class StatementsEntity extends AbstractHttpEntity {
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.objectMapper();
+
+    private final Statements statements;
+
+    public StatementsEntity(Statements statements) {
+        this.statements = statements;
+        setContentType(ContentType.APPLICATION_JSON.toString());
+        setChunked(true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * @return the request body. This buffers the serialised statements, which {@link #writeTo(OutputStream)} does not.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        return new ByteArrayInputStream(toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        if (InstrumentationScope.isActive()) {
+            CountingOutputStream counter = new CountingOutputStream(outputStream);
+            write(counter);
+            InstrumentationScope.count(Counter.REQUEST_BYTES, counter.count);
+        } else {
+            write(outputStream);
+        }
+    }
+
+    /**
+     * @return the serialised statements
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            write(bytes);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void write(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = ObjectMapperFactory.jsonFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            OBJECT_MAPPER.writeValue(generator, statements);
+        } catch (JsonProcessingException jpe) {
+            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -19,14 +19,18 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.util.TokenBuffer;
-import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.HttpResponse;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.instrumentation.Counter;
+import org.neo4j.ogm.instrumentation.InstrumentationScope;
 import org.neo4j.ogm.model.QueryStatistics;
 import org.neo4j.ogm.response.model.QueryStatisticsModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -43,7 +47,7 @@ public abstract class AbstractHttpResponse<T> {
 	private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
 	private final TokenBuffer buffer;
 	private final Class<T> resultClass;
-	private final CloseableHttpResponse httpResponse;
+	private final HttpResponse httpResponse;
 
 	private String[] columns;
 	private QueryStatistics queryStatistics;
@@ -51,12 +55,14 @@ public abstract class AbstractHttpResponse<T> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger( AbstractHttpResponse.class );
 
-	public AbstractHttpResponse(CloseableHttpResponse httpResponse, Class<T> resultClass) {
+	public AbstractHttpResponse(HttpResponse httpResponse, Class<T> resultClass) {
 
 		this.resultClass = resultClass;
 		try {
 			this.httpResponse = httpResponse;
-			this.results = httpResponse.getEntity().getContent();
+			this.results = InstrumentationScope.isActive()
+					? new CountingInputStream(httpResponse.getEntity().getContent())
+					: httpResponse.getEntity().getContent();
 			JsonParser parser = ObjectMapperFactory.jsonFactory().createParser(results);
 			buffer = new TokenBuffer(parser);
 			//Copy the contents of the response into the token buffer.
@@ -146,9 +152,55 @@ public abstract class AbstractHttpResponse<T> {
 		try {
 			LOGGER.debug("Thread {}: Releasing HttpResponse", Thread.currentThread().getId());
 			results.close();
-			httpResponse.close();
+			if (httpResponse instanceof Closeable) {
+				((Closeable) httpResponse).close();
+			}
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
 	}
+
+	/**
+	 * Reports the number of bytes read from the response body to the instrumentation when it is closed.
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count += n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+
+		@Override
+		public void close() throws IOException {
+			InstrumentationScope.count(Counter.RESPONSE_BYTES, count);
+			count = 0;
+			super.close();
+		}
+	}
 }
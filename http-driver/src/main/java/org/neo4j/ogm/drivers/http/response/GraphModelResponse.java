@@ -13,9 +13,10 @@
 
 package org.neo4j.ogm.drivers.http.response;
 
-import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.HttpResponse;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.NameTable;
 import org.neo4j.ogm.result.ResultGraphModel;
 
 /**
@@ -25,7 +26,7 @@ import org.neo4j.ogm.result.ResultGraphModel;
 public class GraphModelResponse extends AbstractHttpResponse<ResultGraphModel> implements Response<GraphModel> {
 
 
-    public GraphModelResponse(CloseableHttpResponse httpResponse) {
+    public GraphModelResponse(HttpResponse httpResponse) {
         super(httpResponse, ResultGraphModel.class);
     }
 
@@ -34,7 +35,9 @@ public class GraphModelResponse extends AbstractHttpResponse<ResultGraphModel> i
         ResultGraphModel graphModel = nextDataRecord("graph");
 
         if (graphModel != null) {
-            return graphModel.queryResults();
+            GraphModel model = graphModel.queryResults();
+            NameTable.names().intern(model);
+            return model;
         }
         return null;
     }
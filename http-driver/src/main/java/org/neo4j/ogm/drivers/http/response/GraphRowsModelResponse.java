@@ -13,11 +13,12 @@
 
 package org.neo4j.ogm.drivers.http.response;
 
-import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.HttpResponse;
 import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.model.GraphRowModel;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
+import org.neo4j.ogm.response.model.NameTable;
 import org.neo4j.ogm.result.ResultGraphRowListModel;
 
 /**
@@ -26,7 +27,7 @@ import org.neo4j.ogm.result.ResultGraphRowListModel;
  */
 public class GraphRowsModelResponse extends AbstractHttpResponse<ResultGraphRowListModel> implements Response<GraphRowListModel> {
 
-	public GraphRowsModelResponse(CloseableHttpResponse httpResponse) {
+	public GraphRowsModelResponse(HttpResponse httpResponse) {
 		super(httpResponse, ResultGraphRowListModel.class);
 	}
 
@@ -37,6 +38,7 @@ public class GraphRowsModelResponse extends AbstractHttpResponse<ResultGraphRowL
 		if (graphRowModel != null) {
 			DefaultGraphRowListModel graphRowListModel = new DefaultGraphRowListModel();
 			for (GraphRowModel model : graphRowModel.getData()) {
+				NameTable.names().intern(model.getGraph());
 				graphRowListModel.add(model);
 			}
 			return graphRowListModel;
@@ -19,6 +19,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.neo4j.ogm.response.model.NameTable;
 import org.neo4j.ogm.response.model.NodeModel;
 import org.neo4j.ogm.response.model.RelationshipModel;
 import org.neo4j.ogm.result.adapter.ResultAdapter;
@@ -69,14 +70,14 @@ public class RestModelAdapter implements ResultAdapter<Object[], Map<String,Obje
 				NodeModel nodeModel = new NodeModel();
 				nodeModel.setId(((Number) entityMetadata.get("id")).longValue());
 				nodeModel.setProperties((Map) entity.get("data"));
-				nodeModel.setLabels(labels);
+				nodeModel.setLabels(NameTable.names().intern(labels));
 				return nodeModel;
 			} else if (entityMetadata.containsKey("type")) {
 				String relationshipType = (String) entityMetadata.get("type");
 				RelationshipModel relationshipModel = new RelationshipModel();
 				relationshipModel.setId(((Number) entityMetadata.get("id")).longValue());
 				relationshipModel.setProperties((Map) entity.get("data"));
-				relationshipModel.setType(relationshipType);
+				relationshipModel.setType(NameTable.names().intern(relationshipType));
 				String startURL = (String) entity.get("start");
 				String endURL = (String) entity.get("end");
 				relationshipModel.setStartNode(Long.valueOf(startURL.substring(startURL.lastIndexOf("/") + 1)));
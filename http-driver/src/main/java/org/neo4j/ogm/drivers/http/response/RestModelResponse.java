@@ -12,7 +12,7 @@
  */
 package org.neo4j.ogm.drivers.http.response;
 
-import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.HttpResponse;
 import org.neo4j.ogm.model.RestModel;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.DefaultRestModel;
@@ -28,7 +28,7 @@ public class RestModelResponse extends AbstractHttpResponse<ResultRestModel> imp
 
 	private RestModelAdapter restModelAdapter = new RestModelAdapter();
 
-	public RestModelResponse(CloseableHttpResponse httpResponse) {
+	public RestModelResponse(HttpResponse httpResponse) {
 		super(httpResponse, ResultRestModel.class);
 		restModelAdapter.setColumns(columns());
 	}
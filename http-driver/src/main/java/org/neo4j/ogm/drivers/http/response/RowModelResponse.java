@@ -13,7 +13,7 @@
 
 package org.neo4j.ogm.drivers.http.response;
 
-import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.HttpResponse;
 import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.DefaultRowModel;
@@ -25,7 +25,7 @@ import org.neo4j.ogm.result.ResultRowModel;
  */
 public class RowModelResponse extends AbstractHttpResponse<ResultRowModel> implements Response<RowModel> {
 
-    public RowModelResponse(CloseableHttpResponse httpResponse) {
+    public RowModelResponse(HttpResponse httpResponse) {
         super(httpResponse, ResultRowModel.class);
     }
 
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.drivers.http.request;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.neo4j.ogm.drivers.http.request.AsyncHttpRequest;
+
+public class AsyncHttpRequestTest {
+
+    @Test
+    public void shouldDoubleBackoffUpToMaximum() {
+        assertEquals(100, AsyncHttpRequest.backoff(0));
+        assertEquals(200, AsyncHttpRequest.backoff(1));
+        assertEquals(400, AsyncHttpRequest.backoff(2));
+        assertEquals(1600, AsyncHttpRequest.backoff(4));
+        assertEquals(AsyncHttpRequest.MAX_BACKOFF_IN_MILLI, AsyncHttpRequest.backoff(5));
+        assertEquals(AsyncHttpRequest.MAX_BACKOFF_IN_MILLI, AsyncHttpRequest.backoff(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.drivers.http.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.drivers.http.request.CompressingEntity;
+import org.neo4j.ogm.drivers.http.request.HttpRequest;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.QueryLogger;
+import org.neo4j.ogm.request.Statements;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Measures the throughput of the HTTP driver against a {@link StubServer} with and without compression, for
+ * requests and responses of different sizes. The response has as many rows as the request.
+ *
+ * Run it from the http-driver module once the test classes are compiled, optionally passing the simulated
+ * bandwidth in bytes per second (default 12500000, a 100 Mbit/s link; 0 for an unthrottled loopback):
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) org.neo4j.drivers.http.request.HttpCompressionBenchmark 12500000
+ * </pre>
+ */
+public class HttpCompressionBenchmark {
+
+    private static final int[] ROWS = { 10, 1000, 10000, 100000 };
+    private static final String[] COMPRESSION = { "none", CompressingEntity.GZIP, CompressingEntity.DEFLATE };
+    private static final long MIN_DURATION_NANOS = 2000000000L;
+
+    public static void main(String[] args) throws Exception {
+        long bytesPerSecond = args.length > 0 ? Long.parseLong(args[0]) : 12500000;
+
+        System.out.printf("%8s %10s %12s %12s %10s %12s%n", "rows", "encoding", "payload KB", "wire KB", "req/s", "payload MB/s");
+        for (int rows : ROWS) {
+            DefaultRequest request = HttpCompressionTest.request(rows);
+            byte[] payload = ObjectMapperFactory.objectMapper().writeValueAsBytes(new Statements(request.getStatements()));
+            String response = response(rows);
+            try (StubServer server = new StubServer(response, bytesPerSecond);
+                 CloseableHttpClient plainClient = HttpClients.custom().disableContentCompression().build();
+                 CloseableHttpClient compressingClient = HttpClients.createDefault()) {
+                for (String compression : COMPRESSION) {
+                    // without compression, the client does not ask for compressed responses either
+                    CloseableHttpClient httpClient = compression.equals("none") ? plainClient : compressingClient;
+                    HttpRequest httpRequest = new HttpRequest(httpClient, server.url(), null, false, QueryLogger.defaultLogger(), compression);
+                    run(httpRequest, request, 5);
+
+                    long wireBefore = server.wireBytes();
+                    long start = System.nanoTime();
+                    int count = 0;
+                    while (System.nanoTime() - start < MIN_DURATION_NANOS) {
+                        run(httpRequest, request, 1);
+                        count++;
+                    }
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    long payloadBytes = payload.length + response.length();
+                    System.out.printf("%8d %10s %12d %12d %10.1f %12.2f%n", rows, compression,
+                            payloadBytes / 1024, (server.wireBytes() - wireBefore) / count / 1024,
+                            count / seconds, payloadBytes * count / seconds / 1e6);
+                }
+            }
+        }
+    }
+
+    private static void run(HttpRequest httpRequest, DefaultRequest request, int times) {
+        for (int i = 0; i < times; i++) {
+            try (Response<RowModel> response = httpRequest.execute(request)) {
+                while (response.next() != null) {
+                    // consume the rows
+                }
+            }
+        }
+    }
+
+    private static String response(int rows) {
+        StringBuilder sb = new StringBuilder("{\"results\":[{\"columns\":[\"n\"],\"data\":[");
+        List<String> data = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            data.add("{\"row\":[{\"name\":\"Node " + i + "\"}]}");
+        }
+        return sb.append(String.join(",", data)).append("]}],\"errors\":[]}").toString();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.drivers.http.request;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.drivers.http.request.AsyncHttpRequest;
+import org.neo4j.ogm.drivers.http.request.CompressingEntity;
+import org.neo4j.ogm.drivers.http.request.HttpRequest;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.QueryLogger;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.StatementShapes;
+import org.neo4j.ogm.request.Statements;
+import org.neo4j.ogm.response.Response;
+
+public class HttpCompressionTest {
+
+    private static final String RESPONSE = "{\"results\":[{\"columns\":[\"n\"],\"data\":[{\"row\":[42]}]}],\"errors\":[]}";
+
+    private StubServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new StubServer(RESPONSE);
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void shouldRoundTripCompressedEntities() throws Exception {
+        String json = "{\"statements\":[]}";
+        for (String encoding : new String[] { CompressingEntity.GZIP, CompressingEntity.DEFLATE }) {
+            HttpEntity compressed = CompressingEntity.compress(new StringEntity(json, ContentType.APPLICATION_JSON), encoding);
+            assertEquals(encoding, compressed.getContentEncoding().getValue());
+
+            ByteArrayOutputStream wire = new ByteArrayOutputStream();
+            compressed.writeTo(wire);
+            assertArrayEquals(wire.toByteArray(), IOUtils.toByteArray(compressed.getContent()));
+            assertEquals(json, IOUtils.toString(CompressingEntity.decompress(compressed).getContent(), "UTF-8"));
+        }
+    }
+
+    @Test
+    public void shouldNotCompressWithoutEncoding() {
+        HttpEntity entity = new StringEntity("{}", ContentType.APPLICATION_JSON);
+        assertSame(entity, CompressingEntity.compress(entity, null));
+        assertSame(entity, CompressingEntity.compress(entity, "none"));
+        assertSame(entity, CompressingEntity.decompress(entity));
+    }
+
+    @Test
+    public void shouldSendCompressedRequestsAndReadCompressedResponses() throws Exception {
+        DefaultRequest request = request(100);
+        String expected = ObjectMapperFactory.objectMapper().writeValueAsString(new Statements(request.getStatements()));
+
+        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
+            for (String encoding : new String[] { CompressingEntity.GZIP, CompressingEntity.DEFLATE }) {
+                HttpRequest httpRequest = new HttpRequest(httpClient, server.url(), null, false, QueryLogger.defaultLogger(), encoding);
+                try (Response<RowModel> response = httpRequest.execute(request)) {
+                    assertEquals(42, response.next().getValues()[0]);
+                }
+                assertEquals(encoding, server.lastContentEncoding());
+                assertEquals(expected, server.lastRequestBody());
+            }
+        }
+    }
+
+    @Test
+    public void shouldSendCompressedRequestsAndReadCompressedResponsesAsynchronously() throws Exception {
+        DefaultRequest request = request(100);
+        String expected = ObjectMapperFactory.objectMapper().writeValueAsString(new Statements(request.getStatements()));
+
+        ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor();
+        try (CloseableHttpAsyncClient httpClient = HttpAsyncClients.createDefault()) {
+            httpClient.start();
+            AsyncHttpRequest httpRequest = new AsyncHttpRequest(httpClient, retryScheduler, server.url(), null, false, QueryLogger.defaultLogger(), CompressingEntity.GZIP, new StatementShapes());
+            try (Response<RowModel> response = httpRequest.execute(request)) {
+                assertEquals(42, response.next().getValues()[0]);
+            }
+            assertEquals(CompressingEntity.GZIP, server.lastContentEncoding());
+            assertEquals(expected, server.lastRequestBody());
+        } finally {
+            retryScheduler.shutdown();
+        }
+    }
+
+    static DefaultRequest request(int rows) {
+        List<Map<String, Object>> rowList = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            rowList.add(Collections.singletonMap("name", "Node " + i));
+        }
+        Map<String, Object> parameters = Collections.singletonMap("rows", rowList);
+        Statement statement = new Statement() {
+            @Override
+            public String getStatement() {
+                return "UNWIND {rows} AS row CREATE (n:Node) SET n = row RETURN count(n) AS n";
+            }
+
+            @Override
+            public Map<String, Object> getParameters() {
+                return parameters;
+            }
+
+            @Override
+            public String[] getResultDataContents() {
+                return new String[] { "row" };
+            }
+
+            @Override
+            public boolean isIncludeStats() {
+                return false;
+            }
+        };
+        return () -> Collections.singletonList(statement);
+    }
+}
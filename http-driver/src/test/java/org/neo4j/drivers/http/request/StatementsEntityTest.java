@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.drivers.http.request;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.drivers.http.request.StatementsEntity;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.Statements;
+
+public class StatementsEntityTest {
+
+    @Test
+    public void shouldWriteStatementsAsChunkedJson() throws Exception {
+        Statements statements = statements(1000);
+        StatementsEntity entity = new StatementsEntity(statements);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+
+        String expected = ObjectMapperFactory.objectMapper().writeValueAsString(statements);
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertTrue(entity.isChunked());
+        assertEquals(-1, entity.getContentLength());
+        assertEquals("application/json; charset=UTF-8", entity.getContentType().getValue());
+    }
+
+    @Test
+    public void shouldBeRepeatable() throws Exception {
+        StatementsEntity entity = new StatementsEntity(statements(10));
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        entity.writeTo(first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        entity.writeTo(second);
+
+        assertTrue(entity.isRepeatable());
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+        assertArrayEquals(first.toByteArray(), IOUtils.toByteArray(entity.getContent()));
+    }
+
+    private static Statements statements(int rows) {
+        List<Map<String, Object>> rowList = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", i);
+            row.put("name", "name-" + i + "-é");
+            rowList.add(row);
+        }
+        Map<String, Object> parameters = Collections.singletonMap("rows", rowList);
+        List<Statement> statementList = new ArrayList<>();
+        statementList.add(new Statement() {
+            @Override
+            public String getStatement() {
+                return "UNWIND {rows} AS row CREATE (n:Node) SET n = row";
+            }
+
+            @Override
+            public Map<String, Object> getParameters() {
+                return parameters;
+            }
+
+            @Override
+            public String[] getResultDataContents() {
+                return new String[] { "row" };
+            }
+
+            @Override
+            public boolean isIncludeStats() {
+                return false;
+            }
+        });
+        return new Statements(statementList);
+    }
+}
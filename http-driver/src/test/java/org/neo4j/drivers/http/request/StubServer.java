@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.drivers.http.request;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CountingInputStream;
+import org.apache.http.Header;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+
+/**
+ * A local HTTP server standing in for the transactional endpoint. It decodes compressed request bodies, answers
+ * every request with the same JSON document, compressing it with gzip if the client accepts it, and records the
+ * number of bytes that crossed the wire.
+ *
+ * A bandwidth can be set to simulate a slow link: each exchange is then delayed by the time its compressed
+ * size would take to transfer.
+ */
+public class StubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final byte[] responseBody;
+    private final long bytesPerSecond;
+
+    private final AtomicLong wireBytes = new AtomicLong();
+    private volatile String lastRequestBody;
+    private volatile String lastContentEncoding;
+
+    public StubServer(String responseJson) throws IOException {
+        this(responseJson, 0);
+    }
+
+    /**
+     * @param responseJson the body of every response
+     * @param bytesPerSecond the simulated bandwidth, or 0 for none
+     */
+    public StubServer(String responseJson, long bytesPerSecond) throws IOException {
+        this.responseBody = responseJson.getBytes("UTF-8");
+        this.bytesPerSecond = bytesPerSecond;
+        this.server = ServerBootstrap.bootstrap()
+                .setListenerPort(0)
+                .registerHandler("*", (request, response, context) -> {
+                    CountingInputStream raw = new CountingInputStream(((HttpEntityEnclosingRequest) request).getEntity().getContent());
+                    Header contentEncoding = request.getFirstHeader("Content-Encoding");
+                    lastContentEncoding = contentEncoding == null ? null : contentEncoding.getValue();
+                    lastRequestBody = IOUtils.toString(decode(raw, lastContentEncoding), "UTF-8");
+
+                    Header acceptEncoding = request.getFirstHeader("Accept-Encoding");
+                    byte[] body = responseBody;
+                    if (acceptEncoding != null && acceptEncoding.getValue().contains("gzip")) {
+                        body = gzip(responseBody);
+                        response.setHeader("Content-Encoding", "gzip");
+                    }
+                    response.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+
+                    long transferred = raw.getByteCount() + body.length;
+                    wireBytes.addAndGet(transferred);
+                    simulateTransfer(transferred);
+                })
+                .create();
+        server.start();
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getLocalPort() + "/db/data/transaction/commit";
+    }
+
+    public String lastRequestBody() {
+        return lastRequestBody;
+    }
+
+    public String lastContentEncoding() {
+        return lastContentEncoding;
+    }
+
+    /**
+     * @return the number of request and response body bytes sent over the connection, as encoded
+     */
+    public long wireBytes() {
+        return wireBytes.get();
+    }
+
+    @Override
+    public void close() {
+        server.shutdown(0, TimeUnit.SECONDS);
+    }
+
+    private void simulateTransfer(long bytes) {
+        if (bytesPerSecond > 0) {
+            try {
+                TimeUnit.MICROSECONDS.sleep(bytes * 1000000 / bytesPerSecond);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static InputStream decode(InputStream in, String contentEncoding) throws IOException {
+        if ("gzip".equals(contentEncoding)) {
+            return new GZIPInputStream(in);
+        }
+        if ("deflate".equals(contentEncoding)) {
+            return new InflaterInputStream(in);
+        }
+        return in;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}